@@ -0,0 +1,7 @@
+-- Migration: Add course_share_code_seq for share code allocation
+-- Reason: Share codes are a Feistel permutation of a sequence; each node reserves blocks of 100
+-- Date: 2026-10-18
+
+-- INCREMENT BY 는 ShareCodeGenerator.BLOCK_SIZE 와 같아야 함
+CREATE SEQUENCE IF NOT EXISTS course_share_code_seq
+START WITH 0 MINVALUE 0 INCREMENT BY 100;
@@ -0,0 +1,9 @@
+-- Migration: Add trigram index on courses.name for course search
+-- Reason: GET /api/courses/search filters with ILIKE / <% (word similarity), served by a GIN pg_trgm index
+-- Date: 2026-10-18
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_courses_name_trgm
+ON courses USING GIN (name gin_trgm_ops)
+WHERE is_active;
@@ -0,0 +1,7 @@
+-- Migration: Add plain GIST index on courses.route for vector tiles
+-- Reason: /tiles/courses/{z}/{x}/{y}.mvt filters with route && tile envelope (geometry bbox operator)
+-- Date: 2026-10-18
+
+CREATE INDEX IF NOT EXISTS idx_courses_route_geom
+ON courses USING GIST (route)
+WHERE is_active;
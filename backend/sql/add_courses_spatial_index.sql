@@ -0,0 +1,20 @@
+-- Migration: Add courses.start_point and GIST indexes for nearby course discovery
+-- Reason: KNN (<->) / ST_DWithin queries on geography need spatial indexes
+-- Date: 2026-10-18
+
+ALTER TABLE courses
+ADD COLUMN IF NOT EXISTS start_point GEOMETRY(POINT, 4326);
+
+UPDATE courses
+SET start_point = ST_StartPoint(route)
+WHERE start_point IS NULL AND route IS NOT NULL;
+
+-- 시작점 기준 검색 (활성 코스만)
+CREATE INDEX IF NOT EXISTS idx_courses_start_point_geog
+ON courses USING GIST ((CAST(start_point AS geography)))
+WHERE is_active;
+
+-- 경로 기준 검색 (코스가 지나가는 곳)
+CREATE INDEX IF NOT EXISTS idx_courses_route_geog
+ON courses USING GIST ((CAST(route AS geography)))
+WHERE is_active;
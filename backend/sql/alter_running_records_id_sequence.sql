@@ -0,0 +1,15 @@
+-- Migration: Switch running_records.id from IDENTITY to a pooled sequence
+-- Reason: IDENTITY ids disable Hibernate JDBC insert batching (bulk import)
+-- Date: 2026-10-18
+--
+-- 애플리케이션 시작 전에 실행해야 합니다.
+-- (먼저 시작하면 ddl-auto=update 가 running_records_seq 를 1 부터 만들어 기존 id 와 겹침)
+
+ALTER TABLE running_records
+ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS running_records_seq INCREMENT BY 50;
+
+-- Hibernate pooled optimizer (allocationSize = 50) 는 nextval 값을 블록의 끝으로 보고
+-- (nextval - 49) ~ nextval 을 할당하므로, 첫 nextval 이 MAX(id) + 50 이 되도록 맞춤
+SELECT setval('running_records_seq', COALESCE((SELECT MAX(id) FROM running_records), 0) + 50, false);
@@ -0,0 +1,24 @@
+-- Migration: Move refresh tokens from profiles to a hashed, per-device refresh_tokens table
+-- Reason: refresh looked up profiles.refresh_token (VARCHAR(512), no index) and allowed one session per user;
+--         tokens are now stored as SHA-256 (bytea, unique index), rotated on every refresh, one row chain per device
+-- Date: 2026-10-19
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+  id BIGSERIAL PRIMARY KEY,
+  token_hash BYTEA NOT NULL,
+  profile_id UUID NOT NULL REFERENCES profiles(id) ON DELETE CASCADE,
+  device_id VARCHAR(64) NOT NULL,
+  family_id UUID NOT NULL,
+  expires_at TIMESTAMPTZ NOT NULL,
+  rotated_at TIMESTAMPTZ,
+  created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+  CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_profile_device ON refresh_tokens (profile_id, device_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+
+-- 기존 단일 세션 컬럼 제거 (배포 후 기존 Refresh Token 은 무효 - 다시 로그인 필요)
+ALTER TABLE profiles DROP COLUMN IF EXISTS refresh_token;
+ALTER TABLE profiles DROP COLUMN IF EXISTS refresh_token_expires_at;
@@ -0,0 +1,52 @@
+package io.jongbeom.backend.activity;
+
+import java.util.Locale;
+
+/**
+ * 지원하는 활동 파일 형식
+ */
+public enum ActivityFormat {
+
+    GPX(".gpx"),
+    TCX(".tcx"),
+    FIT(".fit");
+
+    private final String extension;
+
+    ActivityFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 파일 이름(확장자)으로 형식 판별
+     *
+     * @param fileName 파일 이름
+     * @return 형식 (지원하지 않으면 null)
+     */
+    public static ActivityFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        for (ActivityFormat format : values()) {
+            if (lower.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 형식에 맞는 파서 생성 (포인트 수 제한)
+     *
+     * @param maxPoints 트랙 최대 포인트 수
+     */
+    public ActivityParser newParser(int maxPoints) {
+        return switch (this) {
+            case GPX -> new GpxParser(maxPoints);
+            case TCX -> new TcxParser(maxPoints);
+            case FIT -> new FitParser(maxPoints);
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package io.jongbeom.backend.activity;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 활동 파일 파서
+ *
+ * 구현체는 입력 스트림을 한 번만 순차적으로 읽어야 합니다. (전체 문서를 메모리에 올리지 않음)
+ */
+public interface ActivityParser {
+
+    /**
+     * 활동 파일 파싱
+     *
+     * @param in 파일 입력 스트림
+     * @return 파싱된 트랙
+     * @throws IOException 읽기 실패 또는 잘못된 형식
+     */
+    ActivityTrack parse(InputStream in) throws IOException;
+}
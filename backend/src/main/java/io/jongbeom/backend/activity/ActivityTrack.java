@@ -0,0 +1,203 @@
+package io.jongbeom.backend.activity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 외부 활동 파일(GPX/TCX/FIT)에서 읽은 트랙
+ *
+ * 포인트를 원시 배열에 누적하여 파일 하나를 파싱할 때 객체 생성을 최소화합니다.
+ * 고도가 없으면 NaN, 심박수/케이던스가 없으면 0, 시각을 모르면 -1 로 저장합니다.
+ * (내보내기 시에도 같은 모델을 사용)
+ */
+public class ActivityTrack {
+
+    private final int maxPoints;
+    private String name;
+    private int size;
+    private double[] longitudes = new double[256];
+    private double[] latitudes = new double[256];
+    private long[] timestamps = new long[256];
+    private double[] altitudes = new double[256];
+    private int[] heartRates = new int[256];
+    private int[] cadences = new int[256];
+    private boolean hasAltitude;
+    private boolean hasHeartRate;
+    private boolean hasCadence;
+
+    public ActivityTrack() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxPoints 최대 포인트 수 (넘으면 addPoint 에서 IllegalArgumentException)
+     */
+    public ActivityTrack(int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * 포인트 추가
+     *
+     * @param longitude 경도
+     * @param latitude 위도
+     * @param timestamp 측정 시각 (epoch millis, 모르면 -1)
+     * @param altitude 고도 (미터, 없으면 NaN)
+     * @param heartRate 심박수 (없으면 0)
+     * @param cadence 케이던스 (없으면 0)
+     */
+    public void addPoint(double longitude, double latitude, long timestamp,
+                         double altitude, int heartRate, int cadence) {
+        if (size == maxPoints) {
+            throw new IllegalArgumentException("GPS 포인트가 너무 많습니다. (최대 " + maxPoints + "개)");
+        }
+        if (size == longitudes.length) {
+            int capacity = size * 2;
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            altitudes = Arrays.copyOf(altitudes, capacity);
+            heartRates = Arrays.copyOf(heartRates, capacity);
+            cadences = Arrays.copyOf(cadences, capacity);
+        }
+
+        longitudes[size] = longitude;
+        latitudes[size] = latitude;
+        timestamps[size] = timestamp;
+        altitudes[size] = altitude;
+        heartRates[size] = heartRate;
+        cadences[size] = cadence;
+        size++;
+
+        hasAltitude |= !Double.isNaN(altitude);
+        hasHeartRate |= heartRate > 0;
+        hasCadence |= cadence > 0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double longitude(int index) {
+        return longitudes[index];
+    }
+
+    public double latitude(int index) {
+        return latitudes[index];
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double altitude(int index) {
+        return altitudes[index];
+    }
+
+    public int heartRate(int index) {
+        return heartRates[index];
+    }
+
+    public int cadence(int index) {
+        return cadences[index];
+    }
+
+    public boolean hasAltitude() {
+        return hasAltitude;
+    }
+
+    public boolean hasHeartRate() {
+        return hasHeartRate;
+    }
+
+    public boolean hasCadence() {
+        return hasCadence;
+    }
+
+    public long firstTimestamp() {
+        return timestamps[0];
+    }
+
+    public long lastTimestamp() {
+        return timestamps[size - 1];
+    }
+
+    /**
+     * [ [lng, lat], ... ] 형식 좌표 목록
+     */
+    public List<List<Double>> coordinates() {
+        List<List<Double>> coordinates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            coordinates.add(List.of(longitudes[i], latitudes[i]));
+        }
+        return coordinates;
+    }
+
+    public List<Long> timestampList() {
+        List<Long> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(timestamps[i]);
+        }
+        return list;
+    }
+
+    /**
+     * 고도 목록 (측정값이 없으면 null)
+     */
+    public List<Double> altitudeList() {
+        if (!hasAltitude) {
+            return null;
+        }
+        List<Double> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(Double.isNaN(altitudes[i]) ? null : altitudes[i]);
+        }
+        return list;
+    }
+
+    /**
+     * 심박수 목록 (측정값이 없으면 null)
+     */
+    public List<Integer> heartRateList() {
+        return hasHeartRate ? toList(heartRates) : null;
+    }
+
+    /**
+     * 케이던스 목록 (측정값이 없으면 null)
+     */
+    public List<Integer> cadenceList() {
+        return hasCadence ? toList(cadences) : null;
+    }
+
+    /**
+     * 평균 심박수 (측정값이 없으면 null)
+     */
+    public Integer averageHeartRate() {
+        long sum = 0;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (heartRates[i] > 0) {
+                sum += heartRates[i];
+                count++;
+            }
+        }
+        return count > 0 ? (int) Math.round((double) sum / count) : null;
+    }
+
+    private List<Integer> toList(int[] values) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(values[i] > 0 ? values[i] : null);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,224 @@
+package io.jongbeom.backend.activity;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Garmin FIT 바이너리 파서 (record 메시지 전용 최소 구현)
+ *
+ * 정의(definition) 메시지로 로컬 메시지 레이아웃을 기록해두고,
+ * 데이터 메시지 중 record(global 20)의 timestamp, position_lat/long, (enhanced_)altitude,
+ * heart_rate, cadence 필드만 읽고 나머지 필드는 건너뜁니다.
+ * 압축 타임스탬프 헤더와 개발자 필드를 지원합니다. (CRC 검증은 하지 않음)
+ */
+public class FitParser implements ActivityParser {
+
+    private static final int MESG_RECORD = 20;
+
+    private static final int FIELD_TIMESTAMP = 253;
+    private static final int FIELD_POSITION_LAT = 0;
+    private static final int FIELD_POSITION_LONG = 1;
+    private static final int FIELD_ALTITUDE = 2;
+    private static final int FIELD_HEART_RATE = 3;
+    private static final int FIELD_CADENCE = 4;
+    private static final int FIELD_ENHANCED_ALTITUDE = 78;
+
+    /**
+     * FIT 기준 시각 (1989-12-31T00:00:00Z) 의 epoch seconds
+     */
+    private static final long FIT_EPOCH_OFFSET = 631065600L;
+
+    private static final double SEMICIRCLES_TO_DEGREES = 180.0 / 2147483648.0;
+
+    private final int maxPoints;
+    private final MessageDefinition[] definitions = new MessageDefinition[16];
+    private InputStream in;
+    private long remaining;
+    private long lastTimestamp = -1;
+
+    public FitParser() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxPoints 트랙 최대 포인트 수
+     */
+    public FitParser(int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    @Override
+    public ActivityTrack parse(InputStream input) throws IOException {
+        this.in = input instanceof BufferedInputStream ? input : new BufferedInputStream(input);
+        ActivityTrack track = new ActivityTrack(maxPoints);
+
+        // 파일 헤더
+        int headerSize = readByte();
+        this.remaining = Long.MAX_VALUE;
+        skip(3); // protocol version, profile version
+        long dataSize = readUnsigned(4, true);
+        if (readByte() != '.' || readByte() != 'F' || readByte() != 'I' || readByte() != 'T') {
+            throw new IOException("FIT 파일이 아닙니다.");
+        }
+        skip(headerSize - 12);
+
+        this.remaining = dataSize;
+        while (remaining > 0) {
+            int header = readByte();
+
+            if ((header & 0x80) != 0) {
+                // 압축 타임스탬프 헤더
+                MessageDefinition definition = definition((header >> 5) & 0x03);
+                int offset = header & 0x1F;
+                if (lastTimestamp >= 0) {
+                    long base = lastTimestamp & ~0x1FL;
+                    long timestamp = base + offset;
+                    if (offset < (lastTimestamp & 0x1F)) {
+                        timestamp += 0x20;
+                    }
+                    lastTimestamp = timestamp;
+                }
+                readData(definition, track, true);
+            } else if ((header & 0x40) != 0) {
+                readDefinition(header & 0x0F, (header & 0x20) != 0);
+            } else {
+                readData(definition(header & 0x0F), track, false);
+            }
+        }
+
+        return track;
+    }
+
+    private void readDefinition(int localType, boolean hasDeveloperData) throws IOException {
+        skip(1); // reserved
+        boolean bigEndian = readByte() == 1;
+        int globalNumber = (int) readUnsigned(2, !bigEndian);
+        int fieldCount = readByte();
+
+        int[] numbers = new int[fieldCount];
+        int[] sizes = new int[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            numbers[i] = readByte();
+            sizes[i] = readByte();
+            skip(1); // base type
+        }
+
+        int developerSize = 0;
+        if (hasDeveloperData) {
+            int developerCount = readByte();
+            for (int i = 0; i < developerCount; i++) {
+                skip(1);
+                developerSize += readByte();
+                skip(1);
+            }
+        }
+
+        definitions[localType] = new MessageDefinition(globalNumber, bigEndian, numbers, sizes, developerSize);
+    }
+
+    private void readData(MessageDefinition definition, ActivityTrack track, boolean compressedTimestamp)
+            throws IOException {
+        boolean isRecord = definition.globalNumber == MESG_RECORD;
+        long timestamp = compressedTimestamp ? lastTimestamp : -1;
+        long lat = Integer.MAX_VALUE;
+        long lon = Integer.MAX_VALUE;
+        double altitude = Double.NaN;
+        int heartRate = 0;
+        int cadence = 0;
+
+        for (int i = 0; i < definition.numbers.length; i++) {
+            int number = definition.numbers[i];
+            int size = definition.sizes[i];
+
+            if (number == FIELD_TIMESTAMP && size == 4) {
+                long value = readUnsigned(4, !definition.bigEndian);
+                if (value != 0xFFFFFFFFL) {
+                    timestamp = value;
+                    lastTimestamp = value;
+                }
+            } else if (!isRecord) {
+                skip(size);
+            } else if ((number == FIELD_POSITION_LAT || number == FIELD_POSITION_LONG) && size == 4) {
+                long value = (int) readUnsigned(4, !definition.bigEndian);
+                if (number == FIELD_POSITION_LAT) {
+                    lat = value;
+                } else {
+                    lon = value;
+                }
+            } else if (number == FIELD_ALTITUDE && size == 2) {
+                long value = readUnsigned(2, !definition.bigEndian);
+                if (value != 0xFFFFL && Double.isNaN(altitude)) {
+                    altitude = value / 5.0 - 500;
+                }
+            } else if (number == FIELD_ENHANCED_ALTITUDE && size == 4) {
+                long value = readUnsigned(4, !definition.bigEndian);
+                if (value != 0xFFFFFFFFL) {
+                    altitude = value / 5.0 - 500;
+                }
+            } else if ((number == FIELD_HEART_RATE || number == FIELD_CADENCE) && size == 1) {
+                int value = readByte();
+                if (value != 0xFF) {
+                    if (number == FIELD_HEART_RATE) {
+                        heartRate = value;
+                    } else {
+                        cadence = value;
+                    }
+                }
+            } else {
+                skip(size);
+            }
+        }
+        skip(definition.developerSize);
+
+        if (isRecord && timestamp >= 0 && lat != Integer.MAX_VALUE && lon != Integer.MAX_VALUE) {
+            track.addPoint(
+                    lon * SEMICIRCLES_TO_DEGREES,
+                    lat * SEMICIRCLES_TO_DEGREES,
+                    (timestamp + FIT_EPOCH_OFFSET) * 1000,
+                    altitude,
+                    heartRate,
+                    cadence);
+        }
+    }
+
+    private MessageDefinition definition(int localType) throws IOException {
+        MessageDefinition definition = definitions[localType];
+        if (definition == null) {
+            throw new IOException("정의되지 않은 FIT 로컬 메시지 타입: " + localType);
+        }
+        return definition;
+    }
+
+    private int readByte() throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("FIT 파일이 예상보다 짧습니다.");
+        }
+        remaining--;
+        return b;
+    }
+
+    private long readUnsigned(int size, boolean littleEndian) throws IOException {
+        long value = 0;
+        for (int i = 0; i < size; i++) {
+            long b = readByte();
+            value = littleEndian ? value | (b << (8 * i)) : (value << 8) | b;
+        }
+        return value;
+    }
+
+    private void skip(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readByte();
+        }
+    }
+
+    /**
+     * 로컬 메시지 타입별 필드 레이아웃
+     */
+    private record MessageDefinition(int globalNumber, boolean bigEndian,
+                                     int[] numbers, int[] sizes, int developerSize) {
+    }
+}
@@ -0,0 +1,92 @@
+package io.jongbeom.backend.activity;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * GeoJSON Feature(LineString) 트랙 작성기
+ *
+ * 고도가 있으면 좌표를 [lng, lat, ele] 로 쓰고,
+ * 포인트별 시각/심박수는 togeojson 관례에 따라 coordTimes / heartRates 속성으로 기록합니다.
+ */
+public class GeoJsonTrackWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    /**
+     * 트랙을 GeoJSON Feature 로 작성
+     *
+     * @param track 트랙
+     * @param properties Feature 속성 (null 값은 생략)
+     * @param out 출력 대상 (닫지 않음)
+     */
+    public void write(ActivityTrack track, Map<String, Object> properties, Writer out) throws IOException {
+        try (JsonGenerator json = JSON_FACTORY.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeStringField("type", "Feature");
+
+            json.writeObjectFieldStart("properties");
+            if (track.getName() != null) {
+                json.writeStringField("name", track.getName());
+            }
+            for (Map.Entry<String, Object> entry : properties.entrySet()) {
+                if (entry.getValue() != null) {
+                    json.writeFieldName(entry.getKey());
+                    writeValue(json, entry.getValue());
+                }
+            }
+            if (track.size() > 0 && track.timestamp(0) >= 0) {
+                json.writeArrayFieldStart("coordTimes");
+                for (int i = 0; i < track.size(); i++) {
+                    json.writeString(Instant.ofEpochMilli(track.timestamp(i)).toString());
+                }
+                json.writeEndArray();
+            }
+            if (track.hasHeartRate()) {
+                json.writeArrayFieldStart("heartRates");
+                for (int i = 0; i < track.size(); i++) {
+                    if (track.heartRate(i) > 0) {
+                        json.writeNumber(track.heartRate(i));
+                    } else {
+                        json.writeNull();
+                    }
+                }
+                json.writeEndArray();
+            }
+            json.writeEndObject();
+
+            json.writeObjectFieldStart("geometry");
+            json.writeStringField("type", "LineString");
+            json.writeArrayFieldStart("coordinates");
+            for (int i = 0; i < track.size(); i++) {
+                json.writeStartArray();
+                json.writeNumber(track.longitude(i));
+                json.writeNumber(track.latitude(i));
+                if (track.hasAltitude() && !Double.isNaN(track.altitude(i))) {
+                    json.writeNumber(track.altitude(i));
+                }
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+
+            json.writeEndObject();
+        }
+    }
+
+    private void writeValue(JsonGenerator json, Object value) throws IOException {
+        if (value instanceof Integer || value instanceof Long) {
+            json.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Number) {
+            json.writeNumber(((Number) value).doubleValue());
+        } else {
+            json.writeString(value.toString());
+        }
+    }
+}
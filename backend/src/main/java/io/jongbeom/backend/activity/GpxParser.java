@@ -0,0 +1,73 @@
+package io.jongbeom.backend.activity;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * GPX 1.1 트랙 파서
+ *
+ * trk/trkseg/trkpt 의 좌표, ele, time 과
+ * Garmin TrackPointExtension 의 hr, cad 를 읽습니다. (시간이 없는 포인트는 제외)
+ */
+public class GpxParser extends XmlActivityParser {
+
+    public GpxParser() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxPoints 트랙 최대 포인트 수
+     */
+    public GpxParser(int maxPoints) {
+        super(maxPoints);
+    }
+
+    @Override
+    protected ActivityTrack parse(XMLStreamReader reader) throws XMLStreamException {
+        ActivityTrack track = new ActivityTrack(maxPoints);
+
+        boolean inPoint = false;
+        double lat = 0;
+        double lon = 0;
+        long time = -1;
+        double altitude = Double.NaN;
+        int heartRate = 0;
+        int cadence = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if ("trkpt".equals(name)) {
+                    inPoint = true;
+                    lat = parseDouble(reader.getAttributeValue(null, "lat"));
+                    lon = parseDouble(reader.getAttributeValue(null, "lon"));
+                    time = -1;
+                    altitude = Double.NaN;
+                    heartRate = 0;
+                    cadence = 0;
+                } else if (inPoint) {
+                    switch (name) {
+                        case "ele" -> altitude = parseDouble(reader.getElementText());
+                        case "time" -> time = parseTime(reader.getElementText());
+                        case "hr" -> heartRate = parseInt(reader.getElementText());
+                        case "cad" -> cadence = parseInt(reader.getElementText());
+                        default -> { }
+                    }
+                } else if ("name".equals(name) && track.getName() == null) {
+                    track.setName(reader.getElementText().trim());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "trkpt".equals(reader.getLocalName())) {
+                inPoint = false;
+                if (time >= 0) {
+                    track.addPoint(lon, lat, time, altitude, heartRate, cadence);
+                }
+            }
+        }
+
+        return track;
+    }
+}
@@ -0,0 +1,92 @@
+package io.jongbeom.backend.activity;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+
+/**
+ * GPX 1.1 트랙 작성기
+ *
+ * 포인트를 순서대로 바로 출력하며, 심박수/케이던스는 Garmin TrackPointExtension 으로 기록합니다.
+ */
+public class GpxWriter {
+
+    private static final String GPX_NS = "http://www.topografix.com/GPX/1/1";
+    private static final String TPX_NS = "http://www.garmin.com/xmlschemas/TrackPointExtension/v1";
+
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * 트랙을 GPX 문서로 작성
+     *
+     * @param track 트랙
+     * @param out 출력 대상 (닫지 않음)
+     */
+    public void write(ActivityTrack track, Writer out) throws IOException {
+        try {
+            XMLStreamWriter xml = OUTPUT_FACTORY.createXMLStreamWriter(out);
+
+            xml.writeStartDocument("UTF-8", "1.0");
+            xml.writeStartElement("gpx");
+            xml.writeDefaultNamespace(GPX_NS);
+            xml.writeNamespace("gpxtpx", TPX_NS);
+            xml.writeAttribute("version", "1.1");
+            xml.writeAttribute("creator", "RunRun");
+
+            xml.writeStartElement("trk");
+            if (track.getName() != null) {
+                writeElement(xml, "name", track.getName());
+            }
+            xml.writeStartElement("trkseg");
+
+            boolean hasExtension = track.hasHeartRate() || track.hasCadence();
+            for (int i = 0; i < track.size(); i++) {
+                xml.writeStartElement("trkpt");
+                xml.writeAttribute("lat", Double.toString(track.latitude(i)));
+                xml.writeAttribute("lon", Double.toString(track.longitude(i)));
+
+                if (!Double.isNaN(track.altitude(i))) {
+                    writeElement(xml, "ele", Double.toString(track.altitude(i)));
+                }
+                if (track.timestamp(i) >= 0) {
+                    writeElement(xml, "time", Instant.ofEpochMilli(track.timestamp(i)).toString());
+                }
+                if (hasExtension && (track.heartRate(i) > 0 || track.cadence(i) > 0)) {
+                    xml.writeStartElement("extensions");
+                    xml.writeStartElement("gpxtpx", "TrackPointExtension", TPX_NS);
+                    if (track.heartRate(i) > 0) {
+                        xml.writeStartElement("gpxtpx", "hr", TPX_NS);
+                        xml.writeCharacters(Integer.toString(track.heartRate(i)));
+                        xml.writeEndElement();
+                    }
+                    if (track.cadence(i) > 0) {
+                        xml.writeStartElement("gpxtpx", "cad", TPX_NS);
+                        xml.writeCharacters(Integer.toString(track.cadence(i)));
+                        xml.writeEndElement();
+                    }
+                    xml.writeEndElement();
+                    xml.writeEndElement();
+                }
+
+                xml.writeEndElement();
+            }
+
+            xml.writeEndElement(); // trkseg
+            xml.writeEndElement(); // trk
+            xml.writeEndElement(); // gpx
+            xml.writeEndDocument();
+            xml.flush();
+        } catch (XMLStreamException e) {
+            throw new IOException("GPX 작성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeElement(XMLStreamWriter xml, String name, String value) throws XMLStreamException {
+        xml.writeStartElement(name);
+        xml.writeCharacters(value);
+        xml.writeEndElement();
+    }
+}
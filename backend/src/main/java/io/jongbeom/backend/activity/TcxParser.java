@@ -0,0 +1,85 @@
+package io.jongbeom.backend.activity;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Garmin TCX 파서
+ *
+ * Trackpoint 의 Time, Position, AltitudeMeters, HeartRateBpm/Value, Cadence 를 읽습니다.
+ * (위치가 없는 Trackpoint 는 제외)
+ */
+public class TcxParser extends XmlActivityParser {
+
+    public TcxParser() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param maxPoints 트랙 최대 포인트 수
+     */
+    public TcxParser(int maxPoints) {
+        super(maxPoints);
+    }
+
+    @Override
+    protected ActivityTrack parse(XMLStreamReader reader) throws XMLStreamException {
+        ActivityTrack track = new ActivityTrack(maxPoints);
+
+        boolean inPoint = false;
+        boolean inHeartRate = false;
+        double lat = Double.NaN;
+        double lon = Double.NaN;
+        long time = -1;
+        double altitude = Double.NaN;
+        int heartRate = 0;
+        int cadence = 0;
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if ("Trackpoint".equals(name)) {
+                    inPoint = true;
+                    lat = Double.NaN;
+                    lon = Double.NaN;
+                    time = -1;
+                    altitude = Double.NaN;
+                    heartRate = 0;
+                    cadence = 0;
+                } else if (inPoint) {
+                    switch (name) {
+                        case "Time" -> time = parseTime(reader.getElementText());
+                        case "LatitudeDegrees" -> lat = parseDouble(reader.getElementText());
+                        case "LongitudeDegrees" -> lon = parseDouble(reader.getElementText());
+                        case "AltitudeMeters" -> altitude = parseDouble(reader.getElementText());
+                        case "HeartRateBpm" -> inHeartRate = true;
+                        case "Value" -> {
+                            if (inHeartRate) {
+                                heartRate = parseInt(reader.getElementText());
+                            }
+                        }
+                        case "Cadence", "RunCadence" -> cadence = parseInt(reader.getElementText());
+                        default -> { }
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                String name = reader.getLocalName();
+
+                if ("HeartRateBpm".equals(name)) {
+                    inHeartRate = false;
+                } else if ("Trackpoint".equals(name)) {
+                    inPoint = false;
+                    if (time >= 0 && !Double.isNaN(lat) && !Double.isNaN(lon)) {
+                        track.addPoint(lon, lat, time, altitude, heartRate, cadence);
+                    }
+                }
+            }
+        }
+
+        return track;
+    }
+}
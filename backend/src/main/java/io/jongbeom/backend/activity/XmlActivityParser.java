@@ -0,0 +1,62 @@
+package io.jongbeom.backend.activity;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * XML 기반 활동 파일(GPX/TCX) 공통 StAX 파서
+ *
+ * 요소 이름은 네임스페이스를 무시하고 local name 으로 비교합니다.
+ */
+abstract class XmlActivityParser implements ActivityParser {
+
+    /**
+     * 트랙 최대 포인트 수
+     */
+    protected final int maxPoints;
+
+    protected XmlActivityParser(int maxPoints) {
+        this.maxPoints = maxPoints;
+    }
+
+    @Override
+    public ActivityTrack parse(InputStream in) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // XXE 방지
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                return parse(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | DateTimeParseException | IllegalArgumentException e) {
+            throw new IOException("활동 파일 파싱 실패: " + e.getMessage(), e);
+        }
+    }
+
+    protected abstract ActivityTrack parse(XMLStreamReader reader) throws XMLStreamException;
+
+    /**
+     * ISO 8601 시각을 epoch millis 로 변환
+     */
+    protected static long parseTime(String text) {
+        return OffsetDateTime.parse(text.trim()).toInstant().toEpochMilli();
+    }
+
+    protected static double parseDouble(String text) {
+        return Double.parseDouble(text.trim());
+    }
+
+    protected static int parseInt(String text) {
+        return (int) Math.round(Double.parseDouble(text.trim()));
+    }
+}
@@ -0,0 +1,141 @@
+package io.jongbeom.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 작업용 스레드 풀 설정
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 활동 파일(GPX/TCX/FIT) 파싱 풀
+     *
+     * 큐가 가득 차면 제출한 스레드(가져오기 작업)가 직접 파싱하여 자연스럽게 속도를 조절합니다.
+     */
+    @Bean(name = "activityParserExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor activityParserExecutor(
+            @Value("${running-record.import.parser-threads:0}") int parserThreads,
+            @Value("${running-record.import.queue-capacity:64}") int queueCapacity) {
+        int threads = parserThreads > 0 ? parserThreads : Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("activity-parser-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 기록 분석 풀 (최고 기록 백필 등 CPU 위주 작업)
+     */
+    @Bean(name = "analysisExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor analysisExecutor() {
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 4),
+                new CustomizableThreadFactory("record-analysis-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 장시간 백그라운드 작업 풀 (러닝 기록 가져오기, 최고 기록 백필)
+     *
+     * 동시에 실행되는 작업 수를 제한하고, 대기열이 가득 차면 즉시 거절합니다.
+     */
+    @Bean(name = "backgroundJobExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor backgroundJobExecutor() {
+        return new ThreadPoolExecutor(
+                2, 2,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(16),
+                new CustomizableThreadFactory("background-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 히트맵 타일 갱신 풀 (단일 스레드)
+     *
+     * 증분 갱신과 전체 재구성이 같은 타일 행을 동시에 수정하지 않도록 순서대로 처리합니다.
+     */
+    @Bean(name = "heatmapExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor heatmapExecutor() {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("heatmap-"));
+    }
+
+    /**
+     * 코스 썸네일 렌더링 풀 (단일 스레드)
+     *
+     * 대기열이 가득 차면 거절하고, 해당 썸네일은 처음 요청될 때 렌더링합니다.
+     */
+    @Bean(name = "thumbnailExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor thumbnailExecutor() {
+        return new ThreadPoolExecutor(
+                1, 1,
+                0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(256),
+                new CustomizableThreadFactory("thumbnail-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 비밀번호 해시(BCrypt) 풀
+     *
+     * 로그인 / 회원가입의 BCrypt 계산을 CPU 코어 수만큼으로 제한하여 요청 스레드가 CPU 를 모두 쓰지 않도록 합니다.
+     * 대기열이 가득 차면 즉시 거절합니다. (503)
+     */
+    @Bean(name = "passwordHashExecutor", destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor(
+            @Value("${auth.password.hash-threads:0}") int hashThreads,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity) {
+        int threads = hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors();
+
+        return new ThreadPoolExecutor(
+                threads, threads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 러닝 기록 비동기 저장 큐 작성 스레드 (단일 스레드, 주기적 배출)
+     */
+    @Bean(name = "recordIngestExecutor", destroyMethod = "shutdown")
+    public ScheduledThreadPoolExecutor recordIngestExecutor() {
+        return new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("record-ingest-"));
+    }
+
+    /**
+     * 코스 인기도 카운터 저장 스레드 (단일 스레드, 주기적 배출)
+     */
+    @Bean(name = "popularityFlushExecutor", destroyMethod = "shutdown")
+    public ScheduledThreadPoolExecutor popularityFlushExecutor() {
+        return new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("course-popularity-"));
+    }
+
+    /**
+     * 만료된 Refresh Token 정리 스레드 (단일 스레드, 주기적 배치 삭제)
+     */
+    @Bean(name = "refreshTokenPurgeExecutor", destroyMethod = "shutdown")
+    public ScheduledThreadPoolExecutor refreshTokenPurgeExecutor() {
+        return new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("refresh-token-purge-"));
+    }
+}
@@ -41,6 +41,8 @@ public class SecurityConfig {
                         // 공개 API (인증 불필요)
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/courses/share/**").permitAll()
+                        .requestMatchers("/api/courses/thumbnails/**").permitAll()
+                        .requestMatchers("/api/heatmap/**").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/error").permitAll()
 
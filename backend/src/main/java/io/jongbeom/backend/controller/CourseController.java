@@ -1,16 +1,35 @@
 package io.jongbeom.backend.controller;
 
 import io.jongbeom.backend.dto.CourseRequest;
+import io.jongbeom.backend.dto.CourseLeaderboardResponse;
+import io.jongbeom.backend.dto.CourseMarkerResponse;
 import io.jongbeom.backend.dto.CourseResponse;
+import io.jongbeom.backend.dto.CourseSearchPageResponse;
+import io.jongbeom.backend.dto.CourseSummaryResponse;
+import io.jongbeom.backend.dto.NearbyCoursePageResponse;
+import io.jongbeom.backend.dto.PopularCourseResponse;
+import io.jongbeom.backend.dto.SimilarCourseRequest;
+import io.jongbeom.backend.dto.SimilarCourseResponse;
+import io.jongbeom.backend.security.AuthenticatedUser;
+import io.jongbeom.backend.service.CourseDiscoveryService;
+import io.jongbeom.backend.service.CourseIndexService;
+import io.jongbeom.backend.service.CourseLeaderboardService;
+import io.jongbeom.backend.service.CoursePopularityService;
+import io.jongbeom.backend.service.CourseShareCache;
 import io.jongbeom.backend.service.CourseService;
+import io.jongbeom.backend.service.CourseSimilarityService;
+import io.jongbeom.backend.service.CourseThumbnailService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -20,6 +39,13 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseLeaderboardService courseLeaderboardService;
+    private final CourseDiscoveryService courseDiscoveryService;
+    private final CourseIndexService courseIndexService;
+    private final CourseShareCache courseShareCache;
+    private final CourseThumbnailService courseThumbnailService;
+    private final CourseSimilarityService courseSimilarityService;
+    private final CoursePopularityService coursePopularityService;
 
     /**
      * 코스 생성
@@ -29,10 +55,10 @@ public class CourseController {
             @Valid @RequestBody CourseRequest request,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        log.info("[API] 코스 생성 요청: email={}, name={}", email, request.getName());
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 코스 생성 요청: email={}, name={}", user.email(), request.getName());
 
-        CourseResponse response = courseService.createCourse(email, request);
+        CourseResponse response = courseService.createCourse(user.profileId(), request);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -41,15 +67,90 @@ public class CourseController {
      * 내 코스 목록 조회
      */
     @GetMapping
-    public ResponseEntity<List<CourseResponse>> getMyCourses(Authentication authentication) {
-        String email = authentication.getName();
-        log.info("[API] 코스 목록 조회 요청: email={}", email);
+    public ResponseEntity<List<CourseSummaryResponse>> getMyCourses(Authentication authentication) {
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 코스 목록 조회 요청: email={}", user.email());
 
-        List<CourseResponse> courses = courseService.getMyCourses(email);
+        List<CourseSummaryResponse> courses = courseService.getMyCourses(user.profileId());
 
         return ResponseEntity.ok(courses);
     }
 
+    /**
+     * 주변 코스 검색 (가까운 순, 커서 페이지네이션)
+     *
+     * GET /api/courses/nearby?lat=&lng=&radius=&minLength=&maxLength=&match=START|ROUTE&cursor=&size=
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<NearbyCoursePageResponse> getNearbyCourses(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5000") double radius,
+            @RequestParam(required = false) Integer minLength,
+            @RequestParam(required = false) Integer maxLength,
+            @RequestParam(defaultValue = "START") CourseDiscoveryService.MatchMode match,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        NearbyCoursePageResponse response = courseDiscoveryService.findNearby(
+                lat, lng, radius, minLength, maxLength, match, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 코스 이름 검색 (유사도 순, 위치가 있으면 시작점 반경 안에서 가까울수록 우선, 커서 페이지네이션)
+     *
+     * GET /api/courses/search?q=&lat=&lng=&radius=&cursor=&size=
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CourseSearchPageResponse> searchCourses(
+            @RequestParam String q,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "5000") double radius,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CourseSearchPageResponse response = courseDiscoveryService.search(q, lat, lng, radius, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 인기 코스 조회 (러닝 횟수 → 공유 링크 열람 수 → 조회 수 순)
+     *
+     * GET /api/courses/popular?limit=
+     */
+    @GetMapping("/popular")
+    public ResponseEntity<List<PopularCourseResponse>> getPopularCourses(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(coursePopularityService.getPopular(limit));
+    }
+
+    /**
+     * 지도 화면 범위 코스 조회 (메모리 공간 인덱스)
+     *
+     * GET /api/courses/viewport?west=&south=&east=&north=&mode=START|BBOX&minLength=&maxLength=&limit=
+     */
+    @GetMapping("/viewport")
+    public ResponseEntity<List<CourseMarkerResponse>> getCoursesInViewport(
+            @RequestParam double west,
+            @RequestParam double south,
+            @RequestParam double east,
+            @RequestParam double north,
+            @RequestParam(defaultValue = "START") CourseIndexService.ViewportMode mode,
+            @RequestParam(required = false) Integer minLength,
+            @RequestParam(required = false) Integer maxLength,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        List<CourseMarkerResponse> markers = courseIndexService.findInViewport(
+                west, south, east, north, mode, minLength, maxLength, limit);
+
+        return ResponseEntity.ok(markers);
+    }
+
     /**
      * 코스 상세 조회
      */
@@ -58,14 +159,59 @@ public class CourseController {
             @PathVariable String courseId,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        log.info("[API] 코스 상세 조회 요청: email={}, courseId={}", email, courseId);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 코스 상세 조회 요청: email={}, courseId={}", user.email(), courseId);
 
-        CourseResponse response = courseService.getCourseById(email, courseId);
+        CourseResponse response = courseService.getCourseById(user.profileId(), courseId);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 코스 리더보드 조회 (상위 기록 + 내 순위)
+     */
+    @GetMapping("/{courseId}/leaderboard")
+    public ResponseEntity<CourseLeaderboardResponse> getLeaderboard(
+            @PathVariable String courseId,
+            @RequestParam(defaultValue = "10") int limit,
+            Authentication authentication
+    ) {
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 코스 리더보드 조회 요청: email={}, courseId={}", user.email(), courseId);
+
+        CourseLeaderboardResponse response = courseLeaderboardService.getLeaderboard(user.profileId(), courseId, limit);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 코스와 경로가 거의 같은 코스 조회
+     *
+     * GET /api/courses/{courseId}/similar
+     */
+    @GetMapping("/{courseId}/similar")
+    public ResponseEntity<List<SimilarCourseResponse>> getSimilarCourses(
+            @PathVariable String courseId,
+            Authentication authentication
+    ) {
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 유사 코스 조회 요청: email={}, courseId={}", user.email(), courseId);
+
+        return ResponseEntity.ok(courseSimilarityService.findSimilar(user.profileId(), courseId));
+    }
+
+    /**
+     * 경로와 거의 같은 기존 코스 조회 (저장 / 경로 탐색 전 중복 확인)
+     *
+     * POST /api/courses/similar
+     */
+    @PostMapping("/similar")
+    public ResponseEntity<List<SimilarCourseResponse>> findSimilarCourses(
+            @Valid @RequestBody SimilarCourseRequest request
+    ) {
+        return ResponseEntity.ok(courseSimilarityService.findSimilarToRoute(request.getRouteGeoJson()));
+    }
+
     /**
      * 코스 삭제
      */
@@ -74,25 +220,47 @@ public class CourseController {
             @PathVariable String courseId,
             Authentication authentication
     ) {
-        String email = authentication.getName();
-        log.info("[API] 코스 삭제 요청: email={}, courseId={}", email, courseId);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[API] 코스 삭제 요청: email={}, courseId={}", user.email(), courseId);
 
-        courseService.deleteCourse(email, courseId);
+        courseService.deleteCourse(user.profileId(), courseId);
 
         return ResponseEntity.noContent().build();
     }
 
     /**
      * shareCode로 코스 조회 (공개 API - 인증 불필요)
+     *
+     * 직렬화된 응답 캐시 + 강한 ETag. If-None-Match 가 일치하면 본문 없이 304 를 반환합니다.
      */
     @GetMapping("/share/{shareCode}")
-    public ResponseEntity<CourseResponse> getCourseByShareCode(
+    public ResponseEntity<byte[]> getCourseByShareCode(
             @PathVariable String shareCode
     ) {
-        log.info("[API] shareCode로 코스 조회 요청: shareCode={}", shareCode);
+        log.debug("[API] shareCode로 코스 조회 요청: shareCode={}", shareCode);
 
-        CourseResponse response = courseService.getCourseByShareCode(shareCode);
+        CourseShareCache.SharedCourse course = courseShareCache.get(shareCode);
+        coursePopularityService.recordShareOpen(course.courseId());
 
-        return ResponseEntity.ok(response);
+        // ETag 가 If-None-Match 와 일치하면 HttpEntityMethodProcessor 가 304 로 응답
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(course.eTag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(course.json());
+    }
+
+    /**
+     * 코스 썸네일 PNG 조회 (공개 API - 인증 불필요)
+     *
+     * 키가 경로 내용의 해시이므로 같은 URL 의 이미지는 바뀌지 않아 1년간 캐시합니다.
+     */
+    @GetMapping("/thumbnails/{key}.png")
+    public ResponseEntity<byte[]> getThumbnail(@PathVariable String key) {
+        byte[] png = courseThumbnailService.getThumbnail(key);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .body(png);
     }
 }
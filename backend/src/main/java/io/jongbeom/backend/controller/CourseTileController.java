@@ -0,0 +1,44 @@
+package io.jongbeom.backend.controller;
+
+import io.jongbeom.backend.service.CourseTileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 코스 벡터 타일 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/tiles/courses")
+@RequiredArgsConstructor
+public class CourseTileController {
+
+    private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final CourseTileService courseTileService;
+
+    /**
+     * 코스 경로 벡터 타일 조회 (레이어 "courses": id, name, distance, duration)
+     *
+     * GET /tiles/courses/{z}/{x}/{y}.mvt
+     */
+    @GetMapping("/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y) {
+
+        byte[] tile = courseTileService.getTile(z, x, y);
+        return ResponseEntity.ok()
+                .contentType(MVT)
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(1)).cachePrivate())
+                .body(tile);
+    }
+}
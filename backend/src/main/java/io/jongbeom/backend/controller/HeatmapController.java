@@ -0,0 +1,42 @@
+package io.jongbeom.backend.controller;
+
+import io.jongbeom.backend.service.HeatmapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+/**
+ * 커뮤니티 히트맵 타일 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/heatmap")
+@RequiredArgsConstructor
+public class HeatmapController {
+
+    private final HeatmapService heatmapService;
+
+    /**
+     * 히트맵 PNG 타일 조회 (인증 불필요)
+     *
+     * GET /api/heatmap/{z}/{x}/{y}.png
+     */
+    @GetMapping("/{z}/{x}/{y}.png")
+    public ResponseEntity<byte[]> getTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y) {
+
+        byte[] png = heatmapService.getTile(z, x, y);
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(Duration.ofHours(1)).cachePublic())
+                .body(png);
+    }
+}
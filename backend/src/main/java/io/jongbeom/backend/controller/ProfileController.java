@@ -1,6 +1,7 @@
 package io.jongbeom.backend.controller;
 
 import io.jongbeom.backend.dto.ProfileResponse;
+import io.jongbeom.backend.security.AuthenticatedUser;
 import io.jongbeom.backend.service.ProfileService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,10 +32,10 @@ public class ProfileController {
      */
     @GetMapping("/me")
     public ResponseEntity<ProfileResponse> getMyProfile(Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+        UUID userId = AuthenticatedUser.from(authentication).profileId();
         logger.info("[API] 내 정보 조회: user_id={}", userId);
 
-        ProfileResponse response = profileService.getProfileById(UUID.fromString(userId));
+        ProfileResponse response = profileService.getProfileById(userId);
 
         return ResponseEntity.ok(response);
     }
@@ -51,14 +52,14 @@ public class ProfileController {
             Authentication authentication,
             @RequestBody Map<String, String> request) {
 
-        String userId = (String) authentication.getPrincipal();
+        UUID userId = AuthenticatedUser.from(authentication).profileId();
         logger.info("[API] 내 정보 수정: user_id={}", userId);
 
         String fullName = request.get("fullName");
         String phone = request.get("phone");
 
         ProfileResponse response = profileService.updateProfile(
-                UUID.fromString(userId),
+                userId,
                 fullName,
                 phone
         );
@@ -74,10 +75,10 @@ public class ProfileController {
      */
     @DeleteMapping("/me")
     public ResponseEntity<Map<String, String>> deactivateMyProfile(Authentication authentication) {
-        String userId = (String) authentication.getPrincipal();
+        UUID userId = AuthenticatedUser.from(authentication).profileId();
         logger.info("[API] 회원 탈퇴: user_id={}", userId);
 
-        profileService.deactivateProfile(UUID.fromString(userId));
+        profileService.deactivateProfile(userId);
 
         return ResponseEntity.ok(Map.of("message", "회원 탈퇴가 완료되었습니다."));
     }
@@ -1,13 +1,29 @@
 package io.jongbeom.backend.controller;
 
+import io.jongbeom.backend.dto.BestEffortResponse;
+import io.jongbeom.backend.dto.RunningRecordImportResponse;
+import io.jongbeom.backend.dto.RunningRecordIngestResponse;
 import io.jongbeom.backend.dto.RunningRecordRequest;
 import io.jongbeom.backend.dto.RunningRecordResponse;
+import io.jongbeom.backend.dto.RunningRecordSamplesResponse;
+import io.jongbeom.backend.security.AuthenticatedUser;
+import io.jongbeom.backend.service.BestEffortService;
+import io.jongbeom.backend.service.RunningRecordExportService;
+import io.jongbeom.backend.service.RunningRecordImportService;
+import io.jongbeom.backend.service.RunningRecordIngestService;
+import io.jongbeom.backend.service.RunningRecordSamplesService;
 import io.jongbeom.backend.service.RunningRecordService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -22,6 +38,11 @@ import java.util.UUID;
 public class RunningRecordController {
 
     private final RunningRecordService runningRecordService;
+    private final RunningRecordSamplesService runningRecordSamplesService;
+    private final RunningRecordImportService runningRecordImportService;
+    private final RunningRecordIngestService runningRecordIngestService;
+    private final RunningRecordExportService runningRecordExportService;
+    private final BestEffortService bestEffortService;
 
     /**
      * 러닝 기록 저장
@@ -33,13 +54,106 @@ public class RunningRecordController {
             @RequestBody RunningRecordRequest request,
             Authentication authentication) {
 
-        String email = authentication.getName();
-        log.info("[RunningRecordController] 러닝 기록 저장 요청 - Email: {}", email);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 저장 요청 - Email: {}", user.email());
 
-        RunningRecordResponse response = runningRecordService.createRecord(email, request);
+        RunningRecordResponse response = runningRecordService.createRecord(user.profileId(), request);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 러닝 기록 비동기 저장 (큐에 접수 후 202 + 핸들 반환)
+     *
+     * POST /api/running-records/async
+     */
+    @PostMapping("/async")
+    public ResponseEntity<RunningRecordIngestResponse> createRecordAsync(
+            @RequestBody RunningRecordRequest request,
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 비동기 저장 요청 - Email: {}", user.email());
+
+        RunningRecordIngestResponse response = runningRecordIngestService.enqueue(user.profileId(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 러닝 기록 비동기 저장 상태 조회
+     *
+     * GET /api/running-records/async/{handle}
+     */
+    @GetMapping("/async/{handle}")
+    public ResponseEntity<RunningRecordIngestResponse> getIngestStatus(
+            @PathVariable UUID handle,
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        return ResponseEntity.ok(runningRecordIngestService.getStatus(user.profileId(), handle));
+    }
+
+    /**
+     * 러닝 기록 일괄 가져오기 (GPX/TCX/FIT 파일 ZIP)
+     *
+     * POST /api/running-records/import (multipart: file)
+     * 작업은 백그라운드에서 처리되며 202 Accepted 와 작업 ID 를 반환합니다.
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<RunningRecordImportResponse> importRecords(
+            @RequestParam("file") MultipartFile file,
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 가져오기 요청 - Email: {}", user.email());
+
+        RunningRecordImportResponse response = runningRecordImportService.startImport(user.profileId(), file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * 러닝 기록 가져오기 진행 상황 조회
+     *
+     * GET /api/running-records/import/{jobId}
+     */
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<RunningRecordImportResponse> getImportStatus(
+            @PathVariable UUID jobId,
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+
+        RunningRecordImportResponse response = runningRecordImportService.getImportStatus(user.profileId(), jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 러닝 기록 전체 내보내기 (GPX 또는 GeoJSON 파일 ZIP)
+     *
+     * GET /api/running-records/export?format=gpx|geojson
+     * 기록을 한 건씩 읽어 바로 응답으로 스트리밍합니다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRecords(
+            @RequestParam(defaultValue = "gpx") String format,
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 내보내기 요청 - Email: {}, format: {}", user.email(), format);
+
+        RunningRecordExportService.ExportFormat exportFormat = RunningRecordExportService.ExportFormat.from(format);
+        UUID profileId = user.profileId();
+
+        StreamingResponseBody body = out -> runningRecordExportService.exportRecords(profileId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("running-records-" + exportFormat.name().toLowerCase() + ".zip")
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * 내 러닝 기록 목록 조회
      *
@@ -49,10 +163,10 @@ public class RunningRecordController {
     public ResponseEntity<List<RunningRecordResponse>> getMyRecords(
             Authentication authentication) {
 
-        String email = authentication.getName();
-        log.info("[RunningRecordController] 러닝 기록 목록 조회 - Email: {}", email);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 목록 조회 - Email: {}", user.email());
 
-        List<RunningRecordResponse> records = runningRecordService.getMyRecords(email);
+        List<RunningRecordResponse> records = runningRecordService.getMyRecords(user.profileId());
         return ResponseEntity.ok(records);
     }
 
@@ -62,13 +176,37 @@ public class RunningRecordController {
      * GET /api/running-records/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<RunningRecordResponse> getRecordById(@PathVariable Long id) {
+    public ResponseEntity<RunningRecordResponse> getRecordById(
+            @PathVariable Long id,
+            Authentication authentication) {
         log.info("[RunningRecordController] 러닝 기록 상세 조회 - ID: {}", id);
 
-        RunningRecordResponse record = runningRecordService.getRecordById(id);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        RunningRecordResponse record = runningRecordService.getRecordById(user.profileId(), id);
         return ResponseEntity.ok(record);
     }
 
+    /**
+     * 러닝 기록 샘플 조회 (차트용 시계열)
+     *
+     * GET /api/running-records/{id}/samples?from=0&to=1000&maxPoints=500
+     */
+    @GetMapping("/{id}/samples")
+    public ResponseEntity<RunningRecordSamplesResponse> getRecordSamples(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer from,
+            @RequestParam(required = false) Integer to,
+            @RequestParam(required = false) Integer maxPoints,
+            Authentication authentication) {
+        log.info("[RunningRecordController] 러닝 기록 샘플 조회 - ID: {}, from: {}, to: {}, maxPoints: {}",
+                id, from, to, maxPoints);
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        RunningRecordSamplesResponse samples =
+                runningRecordSamplesService.getSamples(user.profileId(), id, from, to, maxPoints);
+        return ResponseEntity.ok(samples);
+    }
+
     /**
      * 러닝 기록 삭제
      *
@@ -79,10 +217,10 @@ public class RunningRecordController {
             @PathVariable Long id,
             Authentication authentication) {
 
-        String email = authentication.getName();
-        log.info("[RunningRecordController] 러닝 기록 삭제 - ID: {}, Email: {}", id, email);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 기록 삭제 - ID: {}, Email: {}", id, user.email());
 
-        runningRecordService.deleteRecord(email, id);
+        runningRecordService.deleteRecord(user.profileId(), id);
         return ResponseEntity.noContent().build();
     }
 
@@ -95,11 +233,27 @@ public class RunningRecordController {
     public ResponseEntity<RunningRecordService.RunningStatistics> getStatistics(
             Authentication authentication) {
 
-        String email = authentication.getName();
-        log.info("[RunningRecordController] 러닝 통계 조회 - Email: {}", email);
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 러닝 통계 조회 - Email: {}", user.email());
 
         RunningRecordService.RunningStatistics statistics =
-                runningRecordService.getStatistics(email);
+                runningRecordService.getStatistics(user.profileId());
         return ResponseEntity.ok(statistics);
     }
+
+    /**
+     * 거리별 최고 기록 조회 (1km, 5km, 10km, 하프)
+     *
+     * GET /api/running-records/best-efforts
+     */
+    @GetMapping("/best-efforts")
+    public ResponseEntity<List<BestEffortResponse>> getBestEfforts(
+            Authentication authentication) {
+
+        AuthenticatedUser user = AuthenticatedUser.from(authentication);
+        log.info("[RunningRecordController] 최고 기록 조회 - Email: {}", user.email());
+
+        List<BestEffortResponse> bestEfforts = bestEffortService.getMyBestEfforts(user.profileId());
+        return ResponseEntity.ok(bestEfforts);
+    }
 }
@@ -0,0 +1,62 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.entity.BestEffort;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거리별 최고 기록 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestEffortResponse {
+
+    /**
+     * 측정 거리 종류 (ONE_K, FIVE_K, TEN_K, HALF_MARATHON)
+     */
+    private String type;
+
+    /**
+     * 측정 거리 (미터)
+     */
+    private Double distance;
+
+    /**
+     * 소요 시간 (초)
+     */
+    private Double duration;
+
+    /**
+     * 페이스 (초/km)
+     */
+    private Double pace;
+
+    /**
+     * 최고 기록을 낸 러닝 기록 ID
+     */
+    private Long recordId;
+
+    /**
+     * 최고 기록을 낸 러닝의 시작 시간
+     */
+    private LocalDateTime achievedAt;
+
+    public static BestEffortResponse from(BestEffort bestEffort) {
+        double distance = bestEffort.getEffortType().getDistance();
+
+        return BestEffortResponse.builder()
+                .type(bestEffort.getEffortType().name())
+                .distance(distance)
+                .duration(bestEffort.getDuration())
+                .pace(bestEffort.getDuration() / (distance / 1000))
+                .recordId(bestEffort.getRecord().getId())
+                .achievedAt(bestEffort.getAchievedAt())
+                .build();
+    }
+}
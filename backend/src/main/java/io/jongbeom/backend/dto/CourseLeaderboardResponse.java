@@ -0,0 +1,36 @@
+package io.jongbeom.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 코스 리더보드 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseLeaderboardResponse {
+
+    private UUID courseId;
+
+    /**
+     * 전체 참가자 수
+     */
+    private Long totalRunners;
+
+    /**
+     * 상위 기록 목록
+     */
+    private List<LeaderboardEntryResponse> entries;
+
+    /**
+     * 내 기록과 순위 (기록이 없으면 null)
+     */
+    private LeaderboardEntryResponse myEntry;
+}
@@ -0,0 +1,31 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.util.CourseSpatialIndex;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지도 화면 코스 마커 응답 DTO (시작점 + 길이)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseMarkerResponse {
+
+    private String id;
+    private Double startLongitude;
+    private Double startLatitude;
+    private Integer distance; // 코스 길이 (미터)
+
+    public static CourseMarkerResponse from(CourseSpatialIndex.Entry entry) {
+        return CourseMarkerResponse.builder()
+                .id(entry.id().toString())
+                .startLongitude(entry.startLongitude())
+                .startLatitude(entry.startLatitude())
+                .distance(entry.length())
+                .build();
+    }
+}
@@ -25,6 +25,8 @@ public class CourseResponse {
     private OffsetDateTime updatedAt;
     private Boolean isActive;
     private String shareCode; // 공유용 코드 (영문+숫자 8자리)
+    private String thumbnailKey; // 썸네일 콘텐츠 키 (GET /api/courses/thumbnails/{key}.png)
+    private ElevationProfileResponse elevationProfile; // 고도 프로필 (DEM 이 없으면 null)
 
     public static CourseResponse from(Course course) {
         GeoJsonWriter writer = new GeoJsonWriter();
@@ -40,6 +42,8 @@ public class CourseResponse {
                 .updatedAt(course.getUpdatedAt())
                 .isActive(course.getIsActive())
                 .shareCode(course.getShareCode())
+                .thumbnailKey(course.getThumbnailKey())
+                .elevationProfile(ElevationProfileResponse.from(course.getElevation()))
                 .build();
     }
 }
@@ -0,0 +1,43 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.repository.CourseSearchView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스 검색 결과 DTO (경로 GeoJSON 미포함)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSearchResponse {
+
+    private String id;
+    private String name;
+    private Integer distance; // 코스 길이 (미터)
+    private Integer duration; // 예상 소요 시간 (초)
+    private String shareCode;
+    private Double startLongitude;
+    private Double startLatitude;
+
+    /**
+     * 검색 위치에서의 거리 (미터, 위치 없이 검색하면 null)
+     */
+    private Double distanceFromHere;
+
+    public static CourseSearchResponse from(CourseSearchView view) {
+        return CourseSearchResponse.builder()
+                .id(view.getId().toString())
+                .name(view.getName())
+                .distance(view.getDistance())
+                .duration(view.getDuration())
+                .shareCode(view.getShareCode())
+                .startLongitude(view.getStartLongitude())
+                .startLatitude(view.getStartLatitude())
+                .distanceFromHere(view.getDistanceMeters())
+                .build();
+    }
+}
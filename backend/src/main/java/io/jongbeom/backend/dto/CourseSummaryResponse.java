@@ -0,0 +1,49 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.repository.CourseListView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * 코스 목록 항목 (전체 경로 대신 미리보기 경로만 포함, 상세 경로는 GET /api/courses/{id})
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseSummaryResponse {
+
+    private String id;
+    private String name;
+    private Integer distance;
+    private Integer duration;
+    private Integer waypointCount;
+    private Double elevationGain; // 누적 상승 (미터, DEM 이 없으면 null)
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+    private Boolean isActive;
+    private String shareCode;
+    private String previewPolyline; // Encoded Polyline (최대 64개 포인트)
+    private String thumbnailKey; // 썸네일 콘텐츠 키 (GET /api/courses/thumbnails/{key}.png)
+
+    public static CourseSummaryResponse of(CourseListView view, String previewPolyline, String thumbnailKey) {
+        return CourseSummaryResponse.builder()
+                .id(view.getId().toString())
+                .name(view.getName())
+                .distance(view.getDistance())
+                .duration(view.getDuration())
+                .waypointCount(view.getWaypointCount())
+                .elevationGain(view.getElevationGain())
+                .createdAt(view.getCreatedAt())
+                .updatedAt(view.getUpdatedAt())
+                .isActive(view.getIsActive())
+                .shareCode(view.getShareCode())
+                .previewPolyline(previewPolyline)
+                .thumbnailKey(thumbnailKey)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.entity.ElevationProfile;
+import io.jongbeom.backend.util.ElevationProfileCalculator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 고도 프로필 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ElevationProfileResponse {
+
+    /**
+     * 누적 상승 / 하강 (미터)
+     */
+    private Double gain;
+    private Double loss;
+
+    /**
+     * 최대 오르막 경사도 (%)
+     */
+    private Double maxGrade;
+
+    /**
+     * 고도 간격 (미터)
+     */
+    private Double interval;
+
+    /**
+     * interval 간격 고도 (미터, 0m 지점부터)
+     */
+    private double[] elevations;
+
+    /**
+     * 구간별 경사도 (%, elevations[i] → elevations[i + 1])
+     */
+    private double[] grades;
+
+    public static ElevationProfileResponse from(ElevationProfile profile) {
+        if (profile == null || profile.getGain() == null) {
+            return null;
+        }
+        double interval = ElevationProfileCalculator.PROFILE_INTERVAL;
+        double[] elevations = profile.elevations();
+        double[] grades = new double[Math.max(0, elevations.length - 1)];
+        for (int i = 0; i < grades.length; i++) {
+            grades[i] = Math.round((elevations[i + 1] - elevations[i]) / interval * 1000) / 10.0;
+        }
+        return ElevationProfileResponse.builder()
+                .gain(profile.getGain())
+                .loss(profile.getLoss())
+                .maxGrade(profile.getMaxGrade())
+                .interval(interval)
+                .elevations(elevations)
+                .grades(grades)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.entity.CourseBestTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코스 리더보드 항목 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardEntryResponse {
+
+    /**
+     * 순위 (1부터 시작)
+     */
+    private Long rank;
+
+    /**
+     * 러너 이름
+     */
+    private String name;
+
+    /**
+     * 소요 시간 (초)
+     */
+    private Integer duration;
+
+    /**
+     * 최고 기록을 낸 러닝 기록 ID (본인 항목에만 포함, 다른 러너 항목은 null)
+     */
+    private Long recordId;
+
+    /**
+     * 달성 시간 (러닝 시작 시간)
+     */
+    private LocalDateTime achievedAt;
+
+    /**
+     * 다른 러너에게도 보이는 항목 (러닝 기록 ID 제외)
+     */
+    public static LeaderboardEntryResponse of(long rank, CourseBestTime bestTime) {
+        return LeaderboardEntryResponse.builder()
+                .rank(rank)
+                .name(bestTime.getProfile().getFullName())
+                .duration(bestTime.getDuration())
+                .achievedAt(bestTime.getAchievedAt())
+                .build();
+    }
+
+    /**
+     * 본인 항목 (러닝 기록 ID 포함)
+     */
+    public static LeaderboardEntryResponse ofOwner(long rank, CourseBestTime bestTime) {
+        LeaderboardEntryResponse entry = of(rank, bestTime);
+        entry.setRecordId(bestTime.getRecord().getId());
+        return entry;
+    }
+}
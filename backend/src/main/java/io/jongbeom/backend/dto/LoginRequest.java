@@ -2,6 +2,7 @@ package io.jongbeom.backend.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,4 +20,7 @@ public class LoginRequest {
 
     @NotBlank(message = "비밀번호는 필수입니다")
     private String password;
+
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다")
+    private String deviceId; // 선택: 같은 기기로 다시 로그인하면 그 기기의 기존 세션만 교체
 }
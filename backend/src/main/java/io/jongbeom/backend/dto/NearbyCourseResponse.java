@@ -0,0 +1,49 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.repository.NearbyCourseView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주변 코스 응답 DTO (경로 GeoJSON 미포함 - 상세는 코스 조회 API 사용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NearbyCourseResponse {
+
+    private String id;
+    private String name;
+    private Integer distance; // 코스 길이 (미터)
+    private Integer duration; // 예상 소요 시간 (초)
+    private String shareCode;
+    private Double startLongitude;
+    private Double startLatitude;
+
+    /**
+     * 검색 위치에서의 거리 (미터)
+     */
+    private Double distanceFromHere;
+
+    /**
+     * 유사 코스 그룹 (같은 페이지에서 경로가 거의 같은 코스 중 가장 가까운 코스의 id)
+     */
+    private String groupId;
+
+    public static NearbyCourseResponse from(NearbyCourseView view) {
+        return NearbyCourseResponse.builder()
+                .id(view.getId().toString())
+                .name(view.getName())
+                .distance(view.getDistance())
+                .duration(view.getDuration())
+                .shareCode(view.getShareCode())
+                .startLongitude(view.getStartLongitude())
+                .startLatitude(view.getStartLatitude())
+                .distanceFromHere(view.getDistanceMeters())
+                .groupId(view.getId().toString())
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.entity.OffRouteInterval;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스 이탈 구간 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OffRouteIntervalResponse {
+
+    /**
+     * 이탈 시작 지점까지의 러닝 거리 (미터)
+     */
+    private Double startDistance;
+
+    /**
+     * 코스 복귀 지점까지의 러닝 거리 (미터)
+     */
+    private Double endDistance;
+
+    /**
+     * 이탈 시작 시각 (러닝 시작 기준 초)
+     */
+    private Double startOffset;
+
+    /**
+     * 코스 복귀 시각 (러닝 시작 기준 초)
+     */
+    private Double endOffset;
+
+    /**
+     * 구간 내 최대 이탈 거리 (미터)
+     */
+    private Double maxDeviation;
+
+    public static OffRouteIntervalResponse from(OffRouteInterval interval) {
+        return OffRouteIntervalResponse.builder()
+                .startDistance(interval.getStartDistance())
+                .endDistance(interval.getEndDistance())
+                .startOffset(interval.getStartOffset())
+                .endOffset(interval.getEndOffset())
+                .maxDeviation(interval.getMaxDeviation())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.repository.PopularCourseView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인기 코스 DTO (경로 GeoJSON 미포함)
+ *
+ * 카운트는 마지막 저장 시점 기준이며, 저장 주기(course.popularity.flush-interval-ms)만큼 늦을 수 있습니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PopularCourseResponse {
+
+    private String id;
+    private String name;
+    private Integer distance; // 코스 길이 (미터)
+    private Integer duration; // 예상 소요 시간 (초)
+    private String shareCode;
+    private String thumbnailKey;
+    private Long viewCount;
+    private Long shareOpenCount;
+    private Long runCount;
+
+    public static PopularCourseResponse from(PopularCourseView view) {
+        return PopularCourseResponse.builder()
+                .id(view.getId().toString())
+                .name(view.getName())
+                .distance(view.getDistance())
+                .duration(view.getDuration())
+                .shareCode(view.getShareCode())
+                .thumbnailKey(view.getThumbnailKey())
+                .viewCount(view.getViewCount())
+                .shareOpenCount(view.getShareOpenCount())
+                .runCount(view.getRunCount())
+                .build();
+    }
+}
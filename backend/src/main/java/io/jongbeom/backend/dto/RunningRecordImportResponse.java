@@ -0,0 +1,55 @@
+package io.jongbeom.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 러닝 기록 일괄 가져오기 작업 상태 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RunningRecordImportResponse {
+
+    private UUID jobId;
+
+    /**
+     * 작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 아카이브 내 활동 파일 수
+     */
+    private Integer totalFiles;
+
+    /**
+     * 처리한 파일 수 (성공 + 실패)
+     */
+    private Integer processedFiles;
+
+    /**
+     * 저장된 러닝 기록 수
+     */
+    private Integer importedRecords;
+
+    /**
+     * 실패한 파일 수
+     */
+    private Integer failedFiles;
+
+    /**
+     * 실패 사유 (최대 20건)
+     */
+    private List<String> errors;
+
+    private OffsetDateTime createdAt;
+    private OffsetDateTime finishedAt;
+}
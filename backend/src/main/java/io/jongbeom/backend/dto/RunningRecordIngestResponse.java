@@ -0,0 +1,38 @@
+package io.jongbeom.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 러닝 기록 비동기 저장 상태 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RunningRecordIngestResponse {
+
+    /**
+     * 저장 핸들
+     */
+    private UUID handle;
+
+    /**
+     * 상태 (QUEUED, SAVED, FAILED)
+     */
+    private String status;
+
+    /**
+     * 저장된 러닝 기록 ID (SAVED 인 경우)
+     */
+    private Long recordId;
+
+    /**
+     * 실패 사유 (FAILED 인 경우)
+     */
+    private String error;
+}
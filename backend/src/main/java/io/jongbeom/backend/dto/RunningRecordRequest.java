@@ -59,6 +59,27 @@ public class RunningRecordRequest {
      */
     private List<List<Double>> routeCoordinates;
 
+    /**
+     * 경로 좌표별 측정 시각 (epoch millis, 선택 사항)
+     * routeCoordinates와 같은 길이여야 구간 기록(splits)이 계산됩니다.
+     */
+    private List<Long> routeTimestamps;
+
+    /**
+     * 경로 좌표별 고도 (미터, 선택 사항)
+     */
+    private List<Double> routeAltitudes;
+
+    /**
+     * 경로 좌표별 심박수 (bpm, 선택 사항)
+     */
+    private List<Integer> routeHeartRates;
+
+    /**
+     * 경로 좌표별 케이던스 (spm, 선택 사항)
+     */
+    private List<Integer> routeCadences;
+
     /**
      * 메모 (선택 사항)
      */
@@ -94,6 +94,37 @@ public class RunningRecordResponse {
      */
     private Integer avgHeartRate;
 
+    /**
+     * 1km 구간 기록 (상세 조회 시에만 포함)
+     */
+    private List<RunningSplitResponse> splits;
+
+    /**
+     * 코스 커버율 (%, 코스 러닝인 경우)
+     */
+    private Double courseCoverage;
+
+    /**
+     * 코스 최대 이탈 거리 (미터)
+     */
+    private Double courseMaxDeviation;
+
+    /**
+     * 코스 이탈 구간 (상세 조회 시에만 포함)
+     */
+    private List<OffRouteIntervalResponse> offRouteIntervals;
+
+    /**
+     * 누적 상승 / 하강 (미터, DEM 이 없으면 null)
+     */
+    private Double elevationGain;
+    private Double elevationLoss;
+
+    /**
+     * 고도 프로필 (상세 조회 시에만 포함)
+     */
+    private ElevationProfileResponse elevationProfile;
+
     /**
      * 엔티티를 DTO로 변환
      */
@@ -114,9 +145,32 @@ public class RunningRecordResponse {
                 .weather(record.getWeather())
                 .calories(record.getCalories())
                 .avgHeartRate(record.getAvgHeartRate())
+                .courseCoverage(record.getCourseCoverage())
+                .courseMaxDeviation(record.getCourseMaxDeviation())
+                .elevationGain(record.getElevation() != null ? record.getElevation().getGain() : null)
+                .elevationLoss(record.getElevation() != null ? record.getElevation().getLoss() : null)
                 .build();
     }
 
+    /**
+     * 엔티티를 상세 조회용 DTO로 변환 (구간 기록, 코스 이탈 구간 포함)
+     */
+    public static RunningRecordResponse fromEntityWithDetails(RunningRecord record) {
+        RunningRecordResponse response = fromEntity(record);
+
+        List<RunningSplitResponse> splits = new ArrayList<>();
+        for (int i = 0; i < record.getSplits().size(); i++) {
+            splits.add(RunningSplitResponse.of(i + 1, record.getSplits().get(i)));
+        }
+        response.setSplits(splits);
+        response.setOffRouteIntervals(record.getOffRouteIntervals().stream()
+                .map(OffRouteIntervalResponse::from)
+                .toList());
+        response.setElevationProfile(ElevationProfileResponse.from(record.getElevation()));
+
+        return response;
+    }
+
     /**
      * LineString을 GeoJSON 문자열로 변환
      */
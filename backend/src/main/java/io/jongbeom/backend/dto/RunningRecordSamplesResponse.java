@@ -0,0 +1,61 @@
+package io.jongbeom.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 러닝 기록 샘플(차트용 시계열) 응답 DTO
+ *
+ * 요청 구간 [from, to) 에서 step 간격으로 추출한 값입니다.
+ * 측정되지 않은 컬럼은 null 입니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RunningRecordSamplesResponse {
+
+    private Long recordId;
+
+    /**
+     * 저장된 전체 샘플 개수
+     */
+    private Integer totalPoints;
+
+    /**
+     * 시작 인덱스
+     */
+    private Integer from;
+
+    /**
+     * 샘플 간격
+     */
+    private Integer step;
+
+    /**
+     * 첫 샘플 측정 시각 (epoch millis)
+     */
+    private Long startTimestamp;
+
+    /**
+     * 경과 시간 (밀리초)
+     */
+    private long[] elapsed;
+
+    /**
+     * 고도 (미터)
+     */
+    private double[] altitudes;
+
+    /**
+     * 심박수 (bpm)
+     */
+    private long[] heartRates;
+
+    /**
+     * 케이던스 (spm)
+     */
+    private long[] cadences;
+}
@@ -0,0 +1,46 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.entity.RunningSplit;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1km 구간 기록 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RunningSplitResponse {
+
+    /**
+     * 구간 번호 (1부터 시작)
+     */
+    private Integer kilometer;
+
+    /**
+     * 구간 거리 (미터, 마지막 구간은 1km 미만일 수 있음)
+     */
+    private Double distance;
+
+    /**
+     * 구간 소요 시간 (초)
+     */
+    private Double duration;
+
+    /**
+     * 구간 페이스 (초/km)
+     */
+    private Double pace;
+
+    public static RunningSplitResponse of(int kilometer, RunningSplit split) {
+        return RunningSplitResponse.builder()
+                .kilometer(kilometer)
+                .distance(split.getDistance())
+                .duration(split.getDuration())
+                .pace(split.getDistance() > 0 ? split.getDuration() / (split.getDistance() / 1000) : 0.0)
+                .build();
+    }
+}
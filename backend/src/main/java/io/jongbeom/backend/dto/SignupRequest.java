@@ -27,4 +27,7 @@ public class SignupRequest {
 
     @NotBlank(message = "전화번호는 필수입니다")
     private String phone;
+
+    @Size(max = 64, message = "기기 ID는 64자 이하여야 합니다")
+    private String deviceId; // 선택: 같은 기기로 다시 로그인하면 그 기기의 기존 세션만 교체
 }
@@ -0,0 +1,20 @@
+package io.jongbeom.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 경로로 유사 코스 검색 요청 DTO (코스 저장 / 경로 탐색 전 기존 코스 재사용 확인용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarCourseRequest {
+
+    @NotBlank(message = "경로 정보는 필수입니다.")
+    private String routeGeoJson; // GeoJSON LineString
+}
@@ -0,0 +1,39 @@
+package io.jongbeom.backend.dto;
+
+import io.jongbeom.backend.repository.SimilarCourseView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유사 코스 응답 DTO (경로는 shareCode 로 공유 코스 조회 API 사용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimilarCourseResponse {
+
+    private String id;
+    private String name;
+    private Integer distance; // 코스 길이 (미터)
+    private Integer duration; // 예상 소요 시간 (초)
+    private String shareCode;
+
+    /**
+     * 추정 경로 유사도 (0~1, MinHash Jaccard)
+     */
+    private Double similarity;
+
+    public static SimilarCourseResponse of(SimilarCourseView view, double similarity) {
+        return SimilarCourseResponse.builder()
+                .id(view.getId().toString())
+                .name(view.getName())
+                .distance(view.getDistance())
+                .duration(view.getDuration())
+                .shareCode(view.getShareCode())
+                .similarity(similarity)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 거리별 최고 기록 엔티티
+ *
+ * 러닝 기록 저장 시 갱신되므로 조회는 사용자당 최대 4행 조회로 끝납니다.
+ */
+@Entity
+@Table(name = "best_efforts",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"profile_id", "effort_type"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestEffort {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profile_id", nullable = false)
+    private Profile profile;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "effort_type", nullable = false, length = 20)
+    private BestEffortType effortType;
+
+    /**
+     * 소요 시간 (초)
+     */
+    @Column(nullable = false)
+    private Double duration;
+
+    /**
+     * 최고 기록을 낸 러닝 기록
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "record_id", nullable = false)
+    private RunningRecord record;
+
+    /**
+     * 최고 기록을 낸 러닝의 시작 시간
+     */
+    @Column(nullable = false)
+    private LocalDateTime achievedAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
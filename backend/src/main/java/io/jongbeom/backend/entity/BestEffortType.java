@@ -0,0 +1,25 @@
+package io.jongbeom.backend.entity;
+
+/**
+ * 최고 기록(best effort) 측정 거리
+ */
+public enum BestEffortType {
+
+    ONE_K(1000.0),
+    FIVE_K(5000.0),
+    TEN_K(10000.0),
+    HALF_MARATHON(21097.5);
+
+    private final double distance;
+
+    BestEffortType(double distance) {
+        this.distance = distance;
+    }
+
+    /**
+     * 측정 거리 (미터)
+     */
+    public double getDistance() {
+        return distance;
+    }
+}
@@ -9,8 +9,11 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.Point;
 
 import java.time.OffsetDateTime;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -32,9 +35,31 @@ public class Course {
     @Column(name = "route", columnDefinition = "GEOMETRY(LINESTRING, 4326)")
     private LineString route; // PostGIS: 실제 경로 라인 (Directions 5 API 결과)
 
+    @Column(name = "start_point", columnDefinition = "GEOMETRY(POINT, 4326)")
+    private Point startPoint; // PostGIS: 경로 시작점 (주변 코스 검색용, GIST 인덱스)
+
     @Column(name = "waypoints", columnDefinition = "GEOMETRY(MULTIPOINT, 4326)")
     private MultiPoint waypoints; // PostGIS: 경유지 포인트들
 
+    @Column(name = "preview_polyline", columnDefinition = "TEXT")
+    private String previewPolyline; // 목록 미리보기 경로 (Encoded Polyline, 최대 64개 포인트)
+
+    @Column(name = "thumbnail_key", length = 64)
+    private String thumbnailKey; // 썸네일 콘텐츠 키 (경로 SHA-256, GET /api/courses/thumbnails/{key}.png)
+
+    @Column(name = "route_signature")
+    private byte[] routeSignature; // 경로 MinHash 서명 (RouteFingerprint, 유사 코스 비교용)
+
+    @ElementCollection
+    @CollectionTable(name = "course_fingerprint_bands", joinColumns = @JoinColumn(name = "course_id"),
+            indexes = @Index(name = "idx_course_fingerprint_bands_key", columnList = "band_key"))
+    @Column(name = "band_key", nullable = false)
+    @Builder.Default
+    private Set<Long> fingerprintBands = new HashSet<>(); // LSH 밴드 키 (유사 코스 후보 검색용)
+
+    @Embedded
+    private ElevationProfile elevation; // 고도 프로필 (로컬 DEM, 생성 시 계산)
+
     @Column(name = "distance", nullable = false)
     private Integer distance; // 미터 단위
 
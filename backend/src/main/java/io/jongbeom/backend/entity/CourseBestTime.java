@@ -0,0 +1,61 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 코스별 사용자 최고 기록 엔티티 (리더보드)
+ *
+ * 코스당 사용자 1행만 유지하고 (course_id, duration, achieved_at) 인덱스로
+ * 상위 N명 조회와 순위 계산(COUNT)을 인덱스 범위 스캔으로 처리합니다.
+ */
+@Entity
+@Table(name = "course_best_times",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"course_id", "profile_id"}),
+        indexes = @Index(name = "idx_course_best_times_rank", columnList = "course_id, duration, achieved_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CourseBestTime {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id", nullable = false)
+    private Course course;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profile_id", nullable = false)
+    private Profile profile;
+
+    /**
+     * 소요 시간 (초)
+     */
+    @Column(nullable = false)
+    private Integer duration;
+
+    /**
+     * 최고 기록을 낸 러닝 기록
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "record_id", nullable = false)
+    private RunningRecord record;
+
+    /**
+     * 최고 기록을 낸 러닝의 시작 시간 (동일 기록일 때 먼저 달린 사람이 앞 순위)
+     */
+    @Column(name = "achieved_at", nullable = false)
+    private LocalDateTime achievedAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,49 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 코스 인기도 카운터 엔티티
+ *
+ * 조회 / 공유 링크 열람 / 러닝 횟수 누적값입니다.
+ * 요청 경로에서는 메모리 카운터만 올리고, CoursePopularityService 가 주기적으로 증가분을 UPSERT 합니다.
+ */
+@Entity
+@Table(name = "course_popularity",
+        indexes = @Index(name = "idx_course_popularity_rank", columnList = "run_count, share_open_count, view_count"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CoursePopularity {
+
+    @Id
+    @Column(name = "course_id")
+    private UUID courseId;
+
+    /**
+     * 코스 상세 조회 수
+     */
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    /**
+     * 공유 링크 열람 수
+     */
+    @Column(name = "share_open_count", nullable = false)
+    private Long shareOpenCount;
+
+    /**
+     * 이 코스로 저장된 러닝 기록 수
+     */
+    @Column(name = "run_count", nullable = false)
+    private Long runCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,76 @@
+package io.jongbeom.backend.entity;
+
+import io.jongbeom.backend.util.DeltaVarintCodec;
+import io.jongbeom.backend.util.ElevationProfileCalculator;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 고도 프로필 (코스 / 러닝 기록에 포함, 로컬 DEM 으로 생성 시 한 번 계산)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ElevationProfile {
+
+    /**
+     * 누적 상승 (미터)
+     */
+    @Column(name = "elevation_gain")
+    private Double gain;
+
+    /**
+     * 누적 하강 (미터)
+     */
+    @Column(name = "elevation_loss")
+    private Double loss;
+
+    /**
+     * 최대 오르막 경사도 (%, 100m 구간 기준)
+     */
+    @Column(name = "elevation_max_grade")
+    private Double maxGrade;
+
+    /**
+     * 100m 간격 고도 (데시미터, 압축)
+     */
+    @Column(name = "elevation_profile")
+    private byte[] profile;
+
+    /**
+     * 프로필 고도 개수
+     */
+    @Column(name = "elevation_samples")
+    private Integer sampleCount;
+
+    public static ElevationProfile of(ElevationProfileCalculator.Result result) {
+        double[] profile = result.profile();
+        long[] decimeters = new long[profile.length];
+        for (int i = 0; i < profile.length; i++) {
+            decimeters[i] = Math.round(profile[i] * 10);
+        }
+        return new ElevationProfile(result.gain(), result.loss(), result.maxGrade(),
+                DeltaVarintCodec.encode(decimeters), profile.length);
+    }
+
+    /**
+     * 100m 간격 고도 (미터)
+     */
+    public double[] elevations() {
+        if (profile == null || sampleCount == null) {
+            return new double[0];
+        }
+        long[] decimeters = DeltaVarintCodec.decode(profile, sampleCount);
+        double[] elevations = new double[decimeters.length];
+        for (int i = 0; i < decimeters.length; i++) {
+            elevations[i] = decimeters[i] / 10.0;
+        }
+        return elevations;
+    }
+}
@@ -0,0 +1,50 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 히트맵 러너별 타일 엔티티 (기준 줌 레벨)
+ *
+ * 한 러너의 기록이 타일의 각 칸을 지나간 횟수를 희소 형식으로 저장합니다.
+ * 공개 히트맵(heatmap_tiles)은 칸마다 서로 다른 러너 수를 세므로,
+ * 기록이 추가/삭제될 때 이 값이 0 ↔ 1 이상으로 바뀌는 칸만 러너 수를 갱신합니다.
+ */
+@Entity
+@Table(name = "heatmap_profile_tiles",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_heatmap_profile_tiles_profile_tile", columnNames = {"profile_id", "tile_key"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeatmapProfileTile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "profile_id", nullable = false)
+    private UUID profileId;
+
+    /**
+     * tileX << 32 | tileY
+     */
+    @Column(name = "tile_key", nullable = false)
+    private Long tileKey;
+
+    /**
+     * 지나간 칸 수
+     */
+    @Column(name = "cell_count", nullable = false)
+    private Integer cellCount;
+
+    /**
+     * 칸 번호 목록 + 칸별 지나간 기록 수 (cellCount * 2 개 값, DeltaVarintCodec 압축)
+     */
+    @Column(nullable = false)
+    private byte[] cells;
+}
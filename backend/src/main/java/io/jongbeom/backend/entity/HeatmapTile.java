@@ -0,0 +1,46 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 히트맵 타일 밀도 엔티티 (기준 줌 레벨)
+ *
+ * 타일 하나의 64x64 칸 카운트를 DeltaVarintCodec 으로 압축해 저장합니다.
+ * 낮은 줌 레벨은 렌더링 시 하위 타일을 합산하여 만듭니다.
+ */
+@Entity
+@Table(name = "heatmap_tiles", indexes = @Index(name = "idx_heatmap_tiles_xy", columnList = "tile_x, tile_y"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeatmapTile {
+
+    /**
+     * tileX << 32 | tileY
+     */
+    @Id
+    @Column(name = "tile_key")
+    private Long tileKey;
+
+    @Column(name = "tile_x", nullable = false)
+    private Integer tileX;
+
+    @Column(name = "tile_y", nullable = false)
+    private Integer tileY;
+
+    /**
+     * 칸별 지나간 러너 수 (64 * 64, 압축)
+     */
+    @Column(nullable = false)
+    private byte[] counts;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
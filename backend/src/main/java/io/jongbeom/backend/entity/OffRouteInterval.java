@@ -0,0 +1,49 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 코스 이탈 구간 (running_record_off_routes 테이블)
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OffRouteInterval {
+
+    /**
+     * 이탈 시작 지점까지의 러닝 거리 (미터)
+     */
+    @Column(name = "start_distance", nullable = false)
+    private Double startDistance;
+
+    /**
+     * 코스 복귀 지점까지의 러닝 거리 (미터)
+     */
+    @Column(name = "end_distance", nullable = false)
+    private Double endDistance;
+
+    /**
+     * 이탈 시작 시각 (러닝 시작 기준 초, 타임스탬프가 없으면 null)
+     */
+    @Column(name = "start_offset")
+    private Double startOffset;
+
+    /**
+     * 코스 복귀 시각 (러닝 시작 기준 초, 타임스탬프가 없으면 null)
+     */
+    @Column(name = "end_offset")
+    private Double endOffset;
+
+    /**
+     * 구간 내 코스와의 최대 거리 (미터)
+     */
+    @Column(name = "max_deviation", nullable = false)
+    private Double maxDeviation;
+}
@@ -36,12 +36,6 @@ public class Profile {
     @Column(name = "password_hash", nullable = false)
     private String passwordHash;
 
-    @Column(name = "refresh_token", length = 512)
-    private String refreshToken;
-
-    @Column(name = "refresh_token_expires_at")
-    private OffsetDateTime refreshTokenExpiresAt;
-
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
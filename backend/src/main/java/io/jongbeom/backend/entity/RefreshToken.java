@@ -0,0 +1,69 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Refresh Token 엔티티 (기기별 로그인 세션)
+ *
+ * 원문 토큰 대신 SHA-256 해시(32바이트)를 고유 인덱스로 저장하여 갱신 시 인덱스 한 번으로 조회합니다.
+ * 갱신할 때마다 새 토큰을 같은 familyId 로 발급하고 이전 토큰에는 rotatedAt 을 기록합니다.
+ * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 family 전체를 삭제합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_tokens_profile_device", columnList = "profile_id, device_id"),
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 토큰 SHA-256 해시
+     */
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "profile_id", nullable = false)
+    private Profile profile;
+
+    /**
+     * 기기 ID (클라이언트가 보내지 않으면 로그인마다 새로 생성)
+     */
+    @Column(name = "device_id", nullable = false, length = 64)
+    private String deviceId;
+
+    /**
+     * 로그인 한 번에서 이어지는 교체 체인 ID
+     */
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    /**
+     * 새 토큰으로 교체된 시각 (null 이면 현재 유효한 토큰)
+     */
+    @Column(name = "rotated_at")
+    private OffsetDateTime rotatedAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
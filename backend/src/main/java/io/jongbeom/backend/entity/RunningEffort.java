@@ -0,0 +1,33 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 러닝 기록 내 거리별 최고 구간 기록 (running_record_efforts 테이블)
+ *
+ * 기록 안에서 해당 거리를 가장 빨리 달린 구간의 소요 시간입니다.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningEffort {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "effort_type", nullable = false, length = 20)
+    private BestEffortType effortType;
+
+    /**
+     * 소요 시간 (초)
+     */
+    @Column(name = "duration", nullable = false)
+    private Double duration;
+}
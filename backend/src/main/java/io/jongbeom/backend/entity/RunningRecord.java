@@ -6,6 +6,9 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.locationtech.jts.geom.LineString;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * 러닝 기록 엔티티
@@ -24,8 +27,12 @@ import java.time.LocalDateTime;
 @Builder
 public class RunningRecord {
 
+    /**
+     * 시퀀스 기반 ID (allocationSize 단위로 미리 할당하여 INSERT 배치 처리 가능)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "running_records_seq")
+    @SequenceGenerator(name = "running_records_seq", sequenceName = "running_records_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -113,4 +120,52 @@ public class RunningRecord {
      * 평균 심박수 (선택 사항, bpm)
      */
     private Integer avgHeartRate;
+
+    /**
+     * 1km 구간 기록 (저장 시 타임스탬프가 있는 경로로부터 계산)
+     */
+    @ElementCollection
+    @CollectionTable(name = "running_record_splits", joinColumns = @JoinColumn(name = "record_id"))
+    @OrderColumn(name = "split_index")
+    @Builder.Default
+    private List<RunningSplit> splits = new ArrayList<>();
+
+    /**
+     * 거리별 최고 구간 기록 (1km, 5km, 10km, 하프)
+     */
+    @ElementCollection
+    @CollectionTable(name = "running_record_efforts", joinColumns = @JoinColumn(name = "record_id"))
+    @Builder.Default
+    private List<RunningEffort> efforts = new ArrayList<>();
+
+    /**
+     * 코스 커버율 (%, 코스를 따라 달린 경우에만 계산)
+     */
+    private Double courseCoverage;
+
+    /**
+     * 코스에서 가장 멀리 벗어난 거리 (미터)
+     */
+    private Double courseMaxDeviation;
+
+    /**
+     * 실제 경로 고도 프로필 (로컬 DEM, 생성 시 계산)
+     */
+    @Embedded
+    private ElevationProfile elevation;
+
+    /**
+     * 코스 이탈 구간
+     */
+    @ElementCollection
+    @CollectionTable(name = "running_record_off_routes", joinColumns = @JoinColumn(name = "record_id"))
+    @OrderColumn(name = "interval_index")
+    @Builder.Default
+    private List<OffRouteInterval> offRouteIntervals = new ArrayList<>();
+
+    /**
+     * 비동기 저장 핸들 (비동기 저장 시에만, 재시작 후 중복 저장 방지)
+     */
+    @Column(name = "ingest_handle", unique = true)
+    private UUID ingestHandle;
 }
@@ -0,0 +1,68 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 러닝 기록 포인트별 샘플 엔티티
+ *
+ * actualRoute의 각 좌표에 대응하는 시간/고도/심박수/케이던스를
+ * 컬럼별로 델타 + Varint 압축한 바이트 배열로 저장합니다. (DeltaVarintCodec)
+ * - 시간: 시작 시각으로부터의 경과 (밀리초)
+ * - 고도: 데시미터 (0.1m)
+ * - 심박수/케이던스: 측정값 (미측정 포인트는 0)
+ */
+@Entity
+@Table(name = "running_record_samples")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RunningRecordSamples {
+
+    @Id
+    @Column(name = "record_id")
+    private Long recordId;
+
+    /**
+     * 대상 러닝 기록 (PK 공유)
+     */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "record_id")
+    private RunningRecord record;
+
+    /**
+     * 샘플 포인트 개수
+     */
+    @Column(nullable = false)
+    private Integer pointCount;
+
+    /**
+     * 첫 샘플 측정 시각 (epoch millis)
+     */
+    @Column(nullable = false)
+    private Long startTimestamp;
+
+    /**
+     * 경과 시간 컬럼 (밀리초)
+     */
+    @Column(nullable = false)
+    private byte[] timeData;
+
+    /**
+     * 고도 컬럼 (데시미터, 선택 사항)
+     */
+    private byte[] altitudeData;
+
+    /**
+     * 심박수 컬럼 (bpm, 선택 사항)
+     */
+    private byte[] heartRateData;
+
+    /**
+     * 케이던스 컬럼 (spm, 선택 사항)
+     */
+    private byte[] cadenceData;
+}
@@ -0,0 +1,33 @@
+package io.jongbeom.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 러닝 기록의 1km 구간 기록 (running_record_splits 테이블)
+ *
+ * 마지막 구간은 1km 미만일 수 있습니다.
+ */
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RunningSplit {
+
+    /**
+     * 구간 거리 (미터)
+     */
+    @Column(name = "distance", nullable = false)
+    private Double distance;
+
+    /**
+     * 구간 소요 시간 (초)
+     */
+    @Column(name = "duration", nullable = false)
+    private Double duration;
+}
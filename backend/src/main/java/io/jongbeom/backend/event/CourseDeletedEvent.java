@@ -0,0 +1,11 @@
+package io.jongbeom.backend.event;
+
+import io.jongbeom.backend.entity.Course;
+
+/**
+ * 코스 삭제(비활성화) 이벤트 (커밋 이후 처리: 공간 인덱스, 캐시 무효화 등)
+ *
+ * @param course 삭제된 코스
+ */
+public record CourseDeletedEvent(Course course) {
+}
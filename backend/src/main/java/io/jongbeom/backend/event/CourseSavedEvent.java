@@ -0,0 +1,11 @@
+package io.jongbeom.backend.event;
+
+import io.jongbeom.backend.entity.Course;
+
+/**
+ * 코스 생성 이벤트 (커밋 이후 처리: 공간 인덱스 등)
+ *
+ * @param course 저장된 코스
+ */
+public record CourseSavedEvent(Course course) {
+}
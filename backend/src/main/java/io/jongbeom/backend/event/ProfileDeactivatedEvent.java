@@ -0,0 +1,11 @@
+package io.jongbeom.backend.event;
+
+import java.util.UUID;
+
+/**
+ * 회원 비활성화 이벤트 (커밋 이후 처리: 검증된 토큰 캐시 무효화)
+ *
+ * @param profileId 비활성화된 회원 ID
+ */
+public record ProfileDeactivatedEvent(UUID profileId) {
+}
@@ -0,0 +1,11 @@
+package io.jongbeom.backend.event;
+
+import io.jongbeom.backend.entity.RunningRecord;
+
+/**
+ * 러닝 기록 삭제 이벤트
+ *
+ * @param record 삭제된 러닝 기록 (경로 등 필드는 삭제 전 값)
+ */
+public record RunningRecordDeletedEvent(RunningRecord record) {
+}
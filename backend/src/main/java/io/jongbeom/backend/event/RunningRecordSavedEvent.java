@@ -0,0 +1,16 @@
+package io.jongbeom.backend.event;
+
+import io.jongbeom.backend.entity.RunningRecord;
+
+import java.util.List;
+
+/**
+ * 러닝 기록 저장 이벤트
+ *
+ * 단건 저장과 일괄 저장 모두 발행되며, 후처리(히트맵 등)는
+ * 트랜잭션 커밋 이후(@TransactionalEventListener AFTER_COMMIT)에 수행합니다.
+ *
+ * @param records 저장된 러닝 기록 목록
+ */
+public record RunningRecordSavedEvent(List<RunningRecord> records) {
+}
@@ -2,6 +2,7 @@ package io.jongbeom.backend.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -98,6 +100,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 무결성 제약 위반 처리
+     *
+     * 검증된 토큰 캐시로 인증된 요청이 그 사이 삭제된 회원으로 저장하면 profiles FK 위반이 나므로 404 로 응답합니다.
+     * 그 외 제약 위반은 서버 오류로 처리합니다.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        String cause = ex.getMostSpecificCause().getMessage();
+        if (cause == null || !cause.contains("is not present in table \"profiles\"")) {
+            return handleGeneralException(ex);
+        }
+        logger.warn("[예외] 존재하지 않는 회원으로 저장 시도: {}", cause);
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "USER_NOT_FOUND",
+                "존재하지 않는 회원입니다."
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 작업 대기열 초과 예외 처리 (백그라운드 작업 풀 포화)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, Object>> handleRejectedExecutionException(RejectedExecutionException ex) {
+        logger.warn("[예외] 작업 대기열 초과: {}", ex.getMessage());
+
+        Map<String, Object> errorResponse = createErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "SERVICE_BUSY",
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
     /**
      * Validation 예외 처리 (@Valid)
      */
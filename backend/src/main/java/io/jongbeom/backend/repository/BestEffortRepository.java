@@ -0,0 +1,39 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.BestEffort;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 최고 기록 레포지토리
+ */
+@Repository
+public interface BestEffortRepository extends JpaRepository<BestEffort, UUID> {
+
+    /**
+     * 특정 사용자의 최고 기록 조회
+     */
+    List<BestEffort> findByProfileId(UUID profileId);
+
+    /**
+     * 특정 러닝 기록이 보유한 최고 기록 조회 (행 잠금 - 기록 삭제 시 차순위 대체와 동시 갱신의 순서 보장)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BestEffort b WHERE b.record.id = :recordId")
+    List<BestEffort> findByRecordIdForUpdate(@Param("recordId") Long recordId);
+
+    /**
+     * 특정 사용자의 최고 기록 전체 삭제 (재계산용)
+     */
+    @Modifying
+    @Query("DELETE FROM BestEffort b WHERE b.profile.id = :profileId")
+    void deleteByProfileId(@Param("profileId") UUID profileId);
+}
@@ -0,0 +1,57 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.CourseBestTime;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 코스별 최고 기록(리더보드) 레포지토리
+ */
+@Repository
+public interface CourseBestTimeRepository extends JpaRepository<CourseBestTime, UUID> {
+
+    /**
+     * 코스 상위 기록 조회 (기록순, 동일 기록은 먼저 달성한 순)
+     */
+    @Query("SELECT b FROM CourseBestTime b JOIN FETCH b.profile WHERE b.course.id = :courseId " +
+           "ORDER BY b.duration ASC, b.achievedAt ASC")
+    List<CourseBestTime> findTopByCourseId(@Param("courseId") UUID courseId, Pageable pageable);
+
+    /**
+     * 코스 참가자 수
+     */
+    long countByCourseId(UUID courseId);
+
+    /**
+     * 주어진 기록보다 앞선 참가자 수 (순위 = 결과 + 1)
+     */
+    @Query("SELECT COUNT(b) FROM CourseBestTime b WHERE b.course.id = :courseId " +
+           "AND (b.duration < :duration OR (b.duration = :duration AND b.achievedAt < :achievedAt))")
+    long countAhead(
+            @Param("courseId") UUID courseId,
+            @Param("duration") Integer duration,
+            @Param("achievedAt") LocalDateTime achievedAt
+    );
+
+    /**
+     * 특정 사용자의 코스 최고 기록 조회
+     */
+    Optional<CourseBestTime> findByCourseIdAndProfileId(UUID courseId, UUID profileId);
+
+    /**
+     * 특정 러닝 기록이 보유한 코스 최고 기록 조회 (행 잠금 - 기록 삭제 시 차순위 대체와 동시 갱신의 순서 보장)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM CourseBestTime b WHERE b.record.id = :recordId")
+    Optional<CourseBestTime> findByRecordIdForUpdate(@Param("recordId") Long recordId);
+}
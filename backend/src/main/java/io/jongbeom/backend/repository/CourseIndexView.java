@@ -0,0 +1,25 @@
+package io.jongbeom.backend.repository;
+
+import java.util.UUID;
+
+/**
+ * 코스 공간 인덱스 적재용 프로젝션 (시작점 + 경로 bbox)
+ */
+public interface CourseIndexView {
+
+    UUID getId();
+
+    Double getStartLongitude();
+
+    Double getStartLatitude();
+
+    Double getMinLongitude();
+
+    Double getMinLatitude();
+
+    Double getMaxLongitude();
+
+    Double getMaxLatitude();
+
+    Integer getDistance();
+}
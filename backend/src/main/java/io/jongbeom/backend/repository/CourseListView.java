@@ -0,0 +1,34 @@
+package io.jongbeom.backend.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * 코스 목록용 프로젝션 (경로 / 경유지 지오메트리 제외)
+ */
+public interface CourseListView {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getDistance();
+
+    Integer getDuration();
+
+    Integer getWaypointCount();
+
+    Double getElevationGain();
+
+    OffsetDateTime getCreatedAt();
+
+    OffsetDateTime getUpdatedAt();
+
+    Boolean getIsActive();
+
+    String getShareCode();
+
+    String getPreviewPolyline();
+
+    String getThumbnailKey();
+}
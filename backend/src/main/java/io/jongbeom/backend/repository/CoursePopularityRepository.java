@@ -0,0 +1,30 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.CoursePopularity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 코스 인기도 카운터 레포지토리
+ *
+ * 카운터 증가분 저장은 CoursePopularityService 가 JDBC 배치 UPSERT 로 처리합니다.
+ */
+@Repository
+public interface CoursePopularityRepository extends JpaRepository<CoursePopularity, UUID> {
+
+    /**
+     * 인기 코스 조회 (러닝 횟수 → 공유 링크 열람 수 → 조회 수 순)
+     */
+    @Query("SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+           "c.shareCode AS shareCode, c.thumbnailKey AS thumbnailKey, " +
+           "p.viewCount AS viewCount, p.shareOpenCount AS shareOpenCount, p.runCount AS runCount " +
+           "FROM CoursePopularity p JOIN Course c ON c.id = p.courseId " +
+           "WHERE c.isActive = true " +
+           "ORDER BY p.runCount DESC, p.shareOpenCount DESC, p.viewCount DESC, c.id")
+    List<PopularCourseView> findPopular(Pageable pageable);
+}
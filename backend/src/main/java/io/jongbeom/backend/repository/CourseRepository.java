@@ -2,12 +2,21 @@ package io.jongbeom.backend.repository;
 
 import io.jongbeom.backend.entity.Course;
 import io.jongbeom.backend.entity.Profile;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, UUID> {
@@ -17,6 +26,17 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
      */
     List<Course> findByProfileAndIsActiveTrueOrderByCreatedAtDesc(Profile profile);
 
+    /**
+     * 특정 사용자의 활성화된 코스 목록 조회 (지오메트리 제외 프로젝션)
+     */
+    @Query("SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+           "function('ST_NumGeometries', c.waypoints) AS waypointCount, c.elevation.gain AS elevationGain, " +
+           "c.createdAt AS createdAt, c.updatedAt AS updatedAt, c.isActive AS isActive, " +
+           "c.shareCode AS shareCode, c.previewPolyline AS previewPolyline, c.thumbnailKey AS thumbnailKey " +
+           "FROM Course c WHERE c.profile.id = :profileId AND c.isActive = true " +
+           "ORDER BY c.createdAt DESC")
+    List<CourseListView> findListByProfileId(@Param("profileId") UUID profileId);
+
     /**
      * 특정 사용자의 모든 코스 조회
      */
@@ -31,4 +51,180 @@ public interface CourseRepository extends JpaRepository<Course, UUID> {
      * shareCode 존재 여부 확인
      */
     boolean existsByShareCode(String shareCode);
+
+    /**
+     * 썸네일 키로 활성 코스 하나 조회 (캐시 미스 시 렌더링용)
+     */
+    Optional<Course> findFirstByThumbnailKeyAndIsActiveTrue(String thumbnailKey);
+
+    /**
+     * 썸네일 키를 사용하는 활성 코스 존재 여부
+     */
+    boolean existsByThumbnailKeyAndIsActiveTrue(String thumbnailKey);
+
+    /**
+     * LSH 밴드 키가 하나라도 같은 활성 코스 조회 (유사 코스 후보)
+     */
+    @Query("SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+           "c.shareCode AS shareCode, c.routeSignature AS routeSignature " +
+           "FROM Course c " +
+           "WHERE c.isActive = true AND c.routeSignature IS NOT NULL " +
+           "AND c.id IN (SELECT b.id FROM Course b JOIN b.fingerprintBands k WHERE k IN :bandKeys)")
+    List<SimilarCourseView> findSimilarCandidates(@Param("bandKeys") Collection<Long> bandKeys, Pageable pageable);
+
+    /**
+     * 경로 지문이 없는 코스 ID 조회 (지문 백필용)
+     */
+    @Query("SELECT c.id FROM Course c WHERE c.routeSignature IS NULL AND c.route IS NOT NULL")
+    List<UUID> findIdsWithoutSignature();
+
+    /**
+     * 미리보기 경로 / 썸네일 키가 없는 코스 ID 조회 (미리보기 백필용)
+     */
+    @Query("SELECT c.id FROM Course c WHERE (c.previewPolyline IS NULL OR c.thumbnailKey IS NULL) AND c.route IS NOT NULL")
+    List<UUID> findIdsWithoutPreview();
+
+    /**
+     * 공유 코드 순번 블록 시작값 할당 (INCREMENT BY 블록 크기)
+     */
+    @Query(value = "SELECT nextval('course_share_code_seq')", nativeQuery = true)
+    long nextShareCodeBlock();
+
+    /**
+     * 시작점이 반경 안에 있는 활성 코스를 가까운 순으로 조회 (KNN, 키셋 페이지네이션)
+     *
+     * (afterDistance, afterId) 이후 결과만 반환합니다. 첫 페이지는 (-1, 00000000-0000-0000-0000-000000000000)
+     */
+    @Query(value = "SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+                   "c.share_code AS \"shareCode\", c.route_signature AS \"routeSignature\", ST_X(c.start_point) AS \"startLongitude\", ST_Y(c.start_point) AS \"startLatitude\", " +
+                   "CAST(c.start_point AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS \"distanceMeters\" " +
+                   "FROM courses c " +
+                   "WHERE c.is_active " +
+                   "AND ST_DWithin(CAST(c.start_point AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radius) " +
+                   "AND c.distance BETWEEN :minLength AND :maxLength " +
+                   "AND (CAST(c.start_point AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), c.id) " +
+                   "> (:afterDistance, CAST(:afterId AS uuid)) " +
+                   "ORDER BY \"distanceMeters\", c.id " +
+                   "LIMIT :size", nativeQuery = true)
+    List<NearbyCourseView> findNearbyByStartPoint(
+            @Param("lng") double lng,
+            @Param("lat") double lat,
+            @Param("radius") double radius,
+            @Param("minLength") int minLength,
+            @Param("maxLength") int maxLength,
+            @Param("afterDistance") double afterDistance,
+            @Param("afterId") String afterId,
+            @Param("size") int size
+    );
+
+    /**
+     * 경로가 반경 안을 지나가는 활성 코스를 가까운 순으로 조회 (KNN, 키셋 페이지네이션)
+     */
+    @Query(value = "SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+                   "c.share_code AS \"shareCode\", c.route_signature AS \"routeSignature\", ST_X(c.start_point) AS \"startLongitude\", ST_Y(c.start_point) AS \"startLatitude\", " +
+                   "CAST(c.route AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography) AS \"distanceMeters\" " +
+                   "FROM courses c " +
+                   "WHERE c.is_active " +
+                   "AND ST_DWithin(CAST(c.route AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radius) " +
+                   "AND c.distance BETWEEN :minLength AND :maxLength " +
+                   "AND (CAST(c.route AS geography) <-> CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), c.id) " +
+                   "> (:afterDistance, CAST(:afterId AS uuid)) " +
+                   "ORDER BY \"distanceMeters\", c.id " +
+                   "LIMIT :size", nativeQuery = true)
+    List<NearbyCourseView> findNearbyByRoute(
+            @Param("lng") double lng,
+            @Param("lat") double lat,
+            @Param("radius") double radius,
+            @Param("minLength") int minLength,
+            @Param("maxLength") int maxLength,
+            @Param("afterDistance") double afterDistance,
+            @Param("afterId") String afterId,
+            @Param("size") int size
+    );
+
+    /**
+     * 이름으로 활성 코스 검색 (pg_trgm, 유사도 순, 키셋 페이지네이션)
+     *
+     * (score, id) 가 (afterScore, afterId) 이후인 결과만 반환합니다. (score 내림차순, id 오름차순)
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+                   "c.share_code AS \"shareCode\", ST_X(c.start_point) AS \"startLongitude\", ST_Y(c.start_point) AS \"startLatitude\", " +
+                   "CAST(NULL AS double precision) AS \"distanceMeters\", " +
+                   "CAST(word_similarity(:q, c.name) AS double precision) AS score " +
+                   "FROM courses c " +
+                   "WHERE c.is_active AND (c.name ILIKE :pattern OR :q <% c.name)" +
+                   ") r " +
+                   "WHERE r.score < :afterScore OR (r.score = :afterScore AND r.id > CAST(:afterId AS uuid)) " +
+                   "ORDER BY r.score DESC, r.id " +
+                   "LIMIT :size", nativeQuery = true)
+    List<CourseSearchView> searchByName(
+            @Param("q") String q,
+            @Param("pattern") String pattern,
+            @Param("afterScore") double afterScore,
+            @Param("afterId") String afterId,
+            @Param("size") int size
+    );
+
+    /**
+     * 이름 + 시작점 반경으로 활성 코스 검색 (유사도를 거리로 감쇠: similarity / (1 + 거리 / decay))
+     */
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT c.id AS id, c.name AS name, c.distance AS distance, c.duration AS duration, " +
+                   "c.share_code AS \"shareCode\", ST_X(c.start_point) AS \"startLongitude\", ST_Y(c.start_point) AS \"startLatitude\", " +
+                   "ST_Distance(CAST(c.start_point AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) AS \"distanceMeters\", " +
+                   "word_similarity(:q, c.name) / (1 + ST_Distance(CAST(c.start_point AS geography), " +
+                   "CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography)) / :decay) AS score " +
+                   "FROM courses c " +
+                   "WHERE c.is_active AND (c.name ILIKE :pattern OR :q <% c.name) " +
+                   "AND ST_DWithin(CAST(c.start_point AS geography), CAST(ST_SetSRID(ST_MakePoint(:lng, :lat), 4326) AS geography), :radius)" +
+                   ") r " +
+                   "WHERE r.score < :afterScore OR (r.score = :afterScore AND r.id > CAST(:afterId AS uuid)) " +
+                   "ORDER BY r.score DESC, r.id " +
+                   "LIMIT :size", nativeQuery = true)
+    List<CourseSearchView> searchByNameNear(
+            @Param("q") String q,
+            @Param("pattern") String pattern,
+            @Param("lng") double lng,
+            @Param("lat") double lat,
+            @Param("radius") double radius,
+            @Param("decay") double decay,
+            @Param("afterScore") double afterScore,
+            @Param("afterId") String afterId,
+            @Param("size") int size
+    );
+
+    /**
+     * 활성 코스의 시작점 / 경로 bbox 순차 조회 (공간 인덱스 적재용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT c.id AS id, ST_X(c.start_point) AS \"startLongitude\", ST_Y(c.start_point) AS \"startLatitude\", " +
+                   "ST_XMin(c.route) AS \"minLongitude\", ST_YMin(c.route) AS \"minLatitude\", " +
+                   "ST_XMax(c.route) AS \"maxLongitude\", ST_YMax(c.route) AS \"maxLatitude\", c.distance AS distance " +
+                   "FROM courses c WHERE c.is_active AND c.start_point IS NOT NULL AND c.route IS NOT NULL",
+           nativeQuery = true)
+    Stream<CourseIndexView> streamActiveForIndex();
+
+    /**
+     * 활성 코스 경로 벡터 타일 생성 (Mapbox Vector Tile, 레이어 "courses")
+     *
+     * 경로를 EPSG:3857 로 변환해 tolerance(미터)로 단순화한 뒤 타일 좌표(extent 4096, buffer 64)로 자릅니다.
+     */
+    @Query(value = "WITH bounds AS (SELECT ST_TileEnvelope(:z, :x, :y) AS geom), " +
+                   "tile AS (" +
+                   "SELECT ST_AsMVTGeom(ST_Simplify(ST_Transform(c.route, 3857), :tolerance, true), bounds.geom, 4096, 64, true) AS geom, " +
+                   "CAST(c.id AS text) AS id, c.name AS name, c.distance AS distance, c.duration AS duration " +
+                   "FROM courses c, bounds " +
+                   "WHERE c.is_active AND c.route IS NOT NULL " +
+                   "AND c.route && ST_Transform(ST_Expand(bounds.geom, :margin), 4326)" +
+                   ") " +
+                   "SELECT ST_AsMVT(tile.*, 'courses', 4096, 'geom') FROM tile WHERE tile.geom IS NOT NULL",
+           nativeQuery = true)
+    byte[] findCourseTile(
+            @Param("z") int z,
+            @Param("x") int x,
+            @Param("y") int y,
+            @Param("tolerance") double tolerance,
+            @Param("margin") double margin
+    );
 }
@@ -0,0 +1,33 @@
+package io.jongbeom.backend.repository;
+
+import java.util.UUID;
+
+/**
+ * 코스 이름 검색 결과 프로젝션 (경로 geometry 제외)
+ */
+public interface CourseSearchView {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getDistance();
+
+    Integer getDuration();
+
+    String getShareCode();
+
+    Double getStartLongitude();
+
+    Double getStartLatitude();
+
+    /**
+     * 검색 위치에서의 거리 (미터, 위치 없이 검색하면 null)
+     */
+    Double getDistanceMeters();
+
+    /**
+     * 정렬 점수 (이름 유사도, 위치가 있으면 거리에 따라 감쇠)
+     */
+    Double getScore();
+}
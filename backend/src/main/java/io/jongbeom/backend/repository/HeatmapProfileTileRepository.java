@@ -0,0 +1,30 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.HeatmapProfileTile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 히트맵 러너별 타일 레포지토리
+ */
+@Repository
+public interface HeatmapProfileTileRepository extends JpaRepository<HeatmapProfileTile, Long> {
+
+    /**
+     * 러너의 타일 조회 (증분 갱신용)
+     */
+    List<HeatmapProfileTile> findByProfileIdAndTileKeyIn(UUID profileId, Collection<Long> tileKeys);
+
+    /**
+     * 전체 삭제 (재구성용)
+     */
+    @Modifying
+    @Query("DELETE FROM HeatmapProfileTile t")
+    void deleteAllTiles();
+}
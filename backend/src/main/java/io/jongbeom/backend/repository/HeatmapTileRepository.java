@@ -0,0 +1,35 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.HeatmapTile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 히트맵 타일 레포지토리
+ */
+@Repository
+public interface HeatmapTileRepository extends JpaRepository<HeatmapTile, Long> {
+
+    /**
+     * 타일 범위 조회 (낮은 줌 레벨 렌더링용)
+     */
+    @Query("SELECT t FROM HeatmapTile t WHERE t.tileX BETWEEN :minX AND :maxX AND t.tileY BETWEEN :minY AND :maxY")
+    List<HeatmapTile> findInRange(
+            @Param("minX") int minX,
+            @Param("maxX") int maxX,
+            @Param("minY") int minY,
+            @Param("maxY") int maxY
+    );
+
+    /**
+     * 전체 삭제 (재구성용)
+     */
+    @Modifying
+    @Query("DELETE FROM HeatmapTile t")
+    void deleteAllTiles();
+}
@@ -0,0 +1,30 @@
+package io.jongbeom.backend.repository;
+
+import java.util.UUID;
+
+/**
+ * 주변 코스 검색 결과 프로젝션 (경로 geometry 제외)
+ */
+public interface NearbyCourseView {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getDistance();
+
+    Integer getDuration();
+
+    String getShareCode();
+
+    byte[] getRouteSignature();
+
+    Double getStartLongitude();
+
+    Double getStartLatitude();
+
+    /**
+     * 검색 위치에서의 거리 (미터)
+     */
+    Double getDistanceMeters();
+}
@@ -0,0 +1,27 @@
+package io.jongbeom.backend.repository;
+
+import java.util.UUID;
+
+/**
+ * 인기 코스 목록 프로젝션 (경로 geometry 제외)
+ */
+public interface PopularCourseView {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getDistance();
+
+    Integer getDuration();
+
+    String getShareCode();
+
+    String getThumbnailKey();
+
+    Long getViewCount();
+
+    Long getShareOpenCount();
+
+    Long getRunCount();
+}
@@ -25,9 +25,9 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
     boolean existsByEmail(String email);
 
     /**
-     * Refresh Token으로 회원 찾기
-     * @param refreshToken Refresh Token
-     * @return Optional<Profile>
+     * 활성 회원 존재 여부 확인 (JWT 인증 시 탈퇴 / 비활성 회원 거절)
+     * @param id 회원 ID
+     * @return 활성 회원이면 true
      */
-    Optional<Profile> findByRefreshToken(String refreshToken);
+    boolean existsByIdAndIsActiveTrue(UUID id);
 }
@@ -0,0 +1,59 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Refresh Token 레포지토리
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * 토큰 해시로 조회 (token_hash 고유 인덱스)
+     */
+    Optional<RefreshToken> findByTokenHash(byte[] tokenHash);
+
+    /**
+     * 아직 교체되지 않은 토큰만 교체 처리 (동시에 같은 토큰으로 갱신하면 한 요청만 1 을 받음)
+     * 교체된 토큰은 재사용 감지용으로 retainUntil 까지만 남깁니다.
+     *
+     * @return 교체된 행 수 (0 이면 이미 사용된 토큰)
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.rotatedAt = :now, t.expiresAt = :retainUntil " +
+            "WHERE t.id = :id AND t.rotatedAt IS NULL")
+    int markRotated(
+            @Param("id") Long id,
+            @Param("now") OffsetDateTime now,
+            @Param("retainUntil") OffsetDateTime retainUntil
+    );
+
+    /**
+     * 교체 시각 조회 (markRotated 가 0 을 돌려준 뒤 최신 값을 다시 읽을 때)
+     */
+    @Query("SELECT t.rotatedAt FROM RefreshToken t WHERE t.id = :id")
+    Optional<OffsetDateTime> findRotatedAtById(@Param("id") Long id);
+
+    /**
+     * 교체 체인 전체 삭제 (재사용 감지 시)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.familyId = :familyId")
+    int deleteFamily(@Param("familyId") UUID familyId);
+
+    /**
+     * 기기의 기존 세션 삭제 (같은 기기로 다시 로그인할 때)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken t WHERE t.profile.id = :profileId AND t.deviceId = :deviceId")
+    int deleteByDevice(@Param("profileId") UUID profileId, @Param("deviceId") String deviceId);
+}
@@ -1,14 +1,27 @@
 package io.jongbeom.backend.repository;
 
+import io.jongbeom.backend.entity.BestEffortType;
 import io.jongbeom.backend.entity.RunningRecord;
 import io.jongbeom.backend.entity.Profile;
+import jakarta.persistence.QueryHint;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * 러닝 기록 레포지토리
@@ -55,5 +68,95 @@ public interface RunningRecordRepository extends JpaRepository<RunningRecord, Lo
      */
     @Query("SELECT r FROM RunningRecord r WHERE r.course.id = :courseId " +
            "ORDER BY r.createdAt DESC")
-    List<RunningRecord> findByCourseId(@Param("courseId") Long courseId);
+    List<RunningRecord> findByCourseId(@Param("courseId") UUID courseId);
+
+    /**
+     * 특정 사용자의 코스 기록 중 리더보드 자격이 있는 가장 빠른 기록 (삭제 기록 제외)
+     */
+    @Query("SELECT r FROM RunningRecord r WHERE r.course.id = :courseId AND r.profile.id = :profileId " +
+           "AND r.id <> :excludedId AND r.courseCoverage >= :minCoverage " +
+           "ORDER BY r.duration ASC, r.startTime ASC")
+    List<RunningRecord> findFastestOnCourse(
+            @Param("courseId") UUID courseId,
+            @Param("profileId") UUID profileId,
+            @Param("excludedId") Long excludedId,
+            @Param("minCoverage") double minCoverage,
+            Pageable pageable
+    );
+
+    /**
+     * 특정 사용자의 러닝 기록 + 샘플을 커서로 순차 조회 (내보내기용)
+     *
+     * 결과: [RunningRecord, RunningRecordSamples(nullable)]
+     * 트랜잭션 안에서 사용해야 하며, 호출자는 처리한 엔티티를 detach 하여 메모리를 일정하게 유지해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "50"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT r, s FROM RunningRecord r LEFT JOIN RunningRecordSamples s ON s.record = r " +
+           "WHERE r.profile.id = :profileId ORDER BY r.startTime")
+    Stream<Object[]> streamWithSamplesByProfileId(@Param("profileId") UUID profileId);
+
+    /**
+     * 특정 사용자의 거리별 최고 구간 기록 순 조회 (삭제 시 차순위 선정, 재계산용)
+     *
+     * 결과: [RunningRecord, Double duration]
+     */
+    @Query("SELECT r, e.duration FROM RunningRecord r JOIN r.efforts e " +
+           "WHERE r.profile.id = :profileId AND e.effortType = :effortType AND r.id <> :excludedId " +
+           "ORDER BY e.duration ASC")
+    List<Object[]> findFastestEfforts(
+            @Param("profileId") UUID profileId,
+            @Param("effortType") BestEffortType effortType,
+            @Param("excludedId") Long excludedId,
+            Pageable pageable
+    );
+
+    /**
+     * 최고 구간 기록이 계산되지 않은 기록 ID 조회 (백필용)
+     *
+     * 샘플(시간 정보)이 있고 1km 이상인 기록만 대상입니다.
+     */
+    @Query("SELECT r.id FROM RunningRecord r WHERE r.distance >= 1000 AND r.efforts IS EMPTY " +
+           "AND EXISTS (SELECT 1 FROM RunningRecordSamples s WHERE s.record = r)")
+    List<Long> findIdsWithoutEfforts();
+
+    /**
+     * 러닝 기록 + 샘플 조회 (ID 목록)
+     *
+     * 결과: [RunningRecord, RunningRecordSamples]
+     */
+    @Query("SELECT r, s FROM RunningRecord r JOIN RunningRecordSamples s ON s.record = r WHERE r.id IN :ids")
+    List<Object[]> findWithSamplesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 경로가 있는 기록을 가진 회원 ID 목록 (히트맵 재구성용)
+     */
+    @Query("SELECT DISTINCT r.profile.id FROM RunningRecord r WHERE r.actualRoute IS NOT NULL")
+    List<UUID> findProfileIdsWithRoute();
+
+    /**
+     * 회원의 기록 경로만 조회 (히트맵 재구성용)
+     */
+    @Query("SELECT r.actualRoute FROM RunningRecord r WHERE r.profile.id = :profileId AND r.actualRoute IS NOT NULL")
+    List<LineString> findRoutesByProfileId(@Param("profileId") UUID profileId);
+
+    /**
+     * 회원 본인의 기록 조회 (다른 회원의 기록이면 빈 값)
+     */
+    @Query("SELECT r FROM RunningRecord r WHERE r.id = :id AND r.profile.id = :profileId")
+    Optional<RunningRecord> findByIdAndProfileId(@Param("id") Long id, @Param("profileId") UUID profileId);
+
+    /**
+     * 비동기 저장 핸들로 기록 조회
+     */
+    Optional<RunningRecord> findByIngestHandle(UUID ingestHandle);
+
+    /**
+     * 이미 저장된 비동기 저장 핸들 조회 (재시작 후 큐 재처리 시 중복 방지)
+     */
+    @Query("SELECT r.ingestHandle FROM RunningRecord r WHERE r.ingestHandle IN :handles")
+    List<UUID> findExistingIngestHandles(@Param("handles") Collection<UUID> handles);
 }
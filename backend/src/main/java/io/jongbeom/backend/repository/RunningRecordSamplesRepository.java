@@ -0,0 +1,26 @@
+package io.jongbeom.backend.repository;
+
+import io.jongbeom.backend.entity.RunningRecordSamples;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 러닝 기록 샘플 레포지토리
+ */
+@Repository
+public interface RunningRecordSamplesRepository extends JpaRepository<RunningRecordSamples, Long> {
+
+    /**
+     * 사용자 본인 기록의 샘플 조회 (다른 사용자의 기록이면 빈 값)
+     */
+    @Query("SELECT s FROM RunningRecordSamples s WHERE s.recordId = :recordId AND s.record.profile.id = :profileId")
+    Optional<RunningRecordSamples> findByRecordIdAndProfileId(
+            @Param("recordId") Long recordId,
+            @Param("profileId") UUID profileId
+    );
+}
@@ -0,0 +1,21 @@
+package io.jongbeom.backend.repository;
+
+import java.util.UUID;
+
+/**
+ * 유사 코스 후보 프로젝션 (경로 geometry 제외, MinHash 서명 포함)
+ */
+public interface SimilarCourseView {
+
+    UUID getId();
+
+    String getName();
+
+    Integer getDistance();
+
+    Integer getDuration();
+
+    String getShareCode();
+
+    byte[] getRouteSignature();
+}
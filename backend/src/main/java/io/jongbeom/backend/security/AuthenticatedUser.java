@@ -0,0 +1,36 @@
+package io.jongbeom.backend.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+/**
+ * 인증된 사용자 (SecurityContext principal)
+ *
+ * JwtAuthenticationFilter 가 토큰의 user_id / email 클레임으로 만들며,
+ * 서비스는 profileId 로 바로 조회하거나 getReferenceById 로 참조합니다. (요청마다 findByEmail 없음)
+ * getName() 은 기존과 같이 email 을 반환합니다.
+ *
+ * @param profileId 회원 ID (user_id 클레임)
+ * @param email 이메일 (email 클레임)
+ */
+public record AuthenticatedUser(UUID profileId, String email) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 인증 객체에서 사용자 꺼내기
+     *
+     * @throws IllegalStateException JWT 로 인증되지 않은 요청일 때
+     */
+    public static AuthenticatedUser from(Authentication authentication) {
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new IllegalStateException("JWT 인증 정보가 없습니다.");
+        }
+        return user;
+    }
+}
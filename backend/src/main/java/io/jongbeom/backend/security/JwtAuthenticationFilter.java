@@ -1,5 +1,6 @@
 package io.jongbeom.backend.security;
 
+import io.jongbeom.backend.repository.ProfileRepository;
 import io.jongbeom.backend.service.JwtService;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
@@ -16,7 +17,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 @Component
@@ -24,10 +25,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ProfileRepository profileRepository;
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
+    public JwtAuthenticationFilter(
+            JwtService jwtService,
+            VerifiedTokenCache verifiedTokenCache,
+            ProfileRepository profileRepository) {
         this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.profileRepository = profileRepository;
     }
 
     @Override
@@ -48,30 +60,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // "Bearer " 제거하고 토큰만 추출
             String token = authHeader.substring(7);
 
-            // 토큰 검증
-            Claims claims = jwtService.verifyToken(token);
+            // 토큰 검증 (캐시에 있으면 파싱 / 서명 검증 생략)
+            VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+            if (verified == null) {
+                verified = verify(token);
+            }
 
-            if (claims != null) {
-                // user_id와 email 추출
-                String userId = claims.get("user_id", String.class);
-                String email = claims.get("email", String.class);
+            if (verified != null) {
+                AuthenticatedUser user = verified.user();
 
-                if (userId != null && email != null) {
-                    // Spring Security 인증 객체 생성
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    email,   // principal: email (Controller에서 getName()으로 접근)
-                                    null,    // credentials: 비밀번호는 필요 없음
-                                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
-                            );
+                // Spring Security 인증 객체 생성
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                user,    // principal: AuthenticatedUser (getName() 은 email)
+                                null,    // credentials: 비밀번호는 필요 없음
+                                USER_AUTHORITIES
+                        );
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                authentication.setDetails(detailsSource.buildDetails(request));
 
-                    // SecurityContext에 인증 정보 설정
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                // SecurityContext에 인증 정보 설정
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    logger.debug("[JWT 인증] 성공: user_id={}, email={}", userId, email);
-                }
+                logger.debug("[JWT 인증] 성공: user_id={}, email={}", user.profileId(), user.email());
             }
 
         } catch (Exception e) {
@@ -80,4 +91,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 토큰 서명 / 만료 검증 후 캐시에 저장 (검증 실패, Access Token 이 아님, 필수 클레임 없음, 탈퇴 / 비활성 회원이면 null)
+     *
+     * 활성 회원 확인은 캐시에 없을 때만 하므로 토큰당 한 번의 PK 조회입니다.
+     */
+    private VerifiedTokenCache.VerifiedToken verify(String token) {
+        Claims claims = jwtService.verifyToken(token);
+        if (claims == null || claims.getExpiration() == null) {
+            return null;
+        }
+        if (!JwtService.isTokenType(claims, JwtService.ACCESS_TOKEN_TYPE)) {
+            // Refresh Token 은 /api/auth/refresh 에서만 사용 (Bearer 인증으로 받지 않음)
+            logger.warn("[JWT 인증] Access Token 이 아닌 토큰");
+            return null;
+        }
+
+        String userId = claims.get("user_id", String.class);
+        String email = claims.get("email", String.class);
+        if (userId == null || email == null) {
+            return null;
+        }
+
+        UUID profileId = UUID.fromString(userId);
+        if (!profileRepository.existsByIdAndIsActiveTrue(profileId)) {
+            logger.warn("[JWT 인증] 탈퇴 또는 비활성 회원: user_id={}", profileId);
+            return null;
+        }
+
+        VerifiedTokenCache.VerifiedToken verified = new VerifiedTokenCache.VerifiedToken(
+                new AuthenticatedUser(profileId, email),
+                claims.getExpiration().getTime());
+        verifiedTokenCache.put(token, verified);
+        return verified;
+    }
 }
@@ -0,0 +1,119 @@
+package io.jongbeom.backend.security;
+
+import io.jongbeom.backend.event.ProfileDeactivatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증된 JWT 캐시
+ *
+ * 토큰의 SHA-256 해시 → 검증 결과를 토큰 만료 시각까지 보관하여,
+ * 같은 토큰으로 반복되는 요청에서 Base64 디코딩 / JSON 파싱 / 서명 검증을 생략합니다.
+ * 원문 토큰은 메모리에 남기지 않습니다.
+ *
+ * 인증 경로에서 락 없이 조회하도록 ConcurrentHashMap 을 사용합니다.
+ * 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 토큰은 캐시하지 않습니다. (매번 검증)
+ * 정리는 전체 순회이므로 sweep-interval-ms 에 한 번만 실행합니다. (가득 찬 상태의 미스마다 순회하지 않도록)
+ * 회원이 비활성화되면 커밋 후 그 회원의 항목을 지워 다음 요청부터 다시 검증(활성 회원 확인)하도록 합니다.
+ * (이 인스턴스의 캐시만 지우며, 다른 인스턴스는 토큰 만료까지 캐시된 결과를 사용할 수 있음)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ConcurrentHashMap<ByteBuffer, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweepMillis = new AtomicLong();
+    private final int maxEntries;
+    private final long sweepIntervalMillis;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-cache.max-entries:10000}") int maxEntries,
+            @Value("${jwt.verified-cache.sweep-interval-ms:1000}") long sweepIntervalMillis) {
+        this.maxEntries = maxEntries;
+        this.sweepIntervalMillis = sweepIntervalMillis;
+    }
+
+    /**
+     * 검증된 토큰 정보
+     *
+     * @param user 토큰의 사용자 (user_id / email 클레임)
+     * @param expiresAtMillis 토큰 만료 시각 (epoch ms)
+     */
+    public record VerifiedToken(AuthenticatedUser user, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시된 검증 결과 조회 (없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        ByteBuffer key = key(token);
+        VerifiedToken verified = cache.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            cache.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    /**
+     * 검증 결과 저장
+     */
+    public void put(String token, VerifiedToken verified) {
+        if (cache.size() >= maxEntries) {
+            if (!sweepExpired() || cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(key(token), verified);
+    }
+
+    /**
+     * 만료된 항목 정리 (sweep-interval-ms 에 한 스레드만 실행)
+     *
+     * @return 정리를 실행했으면 true
+     */
+    private boolean sweepExpired() {
+        long now = System.currentTimeMillis();
+        long last = lastSweepMillis.get();
+        if (now - last < sweepIntervalMillis || !lastSweepMillis.compareAndSet(last, now)) {
+            return false;
+        }
+        cache.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+        return true;
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    /**
+     * 비활성화된 회원의 검증 결과 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileDeactivated(ProfileDeactivatedEvent event) {
+        cache.values().removeIf(entry -> entry.user().profileId().equals(event.profileId()));
+    }
+
+    private static ByteBuffer key(String token) {
+        return ByteBuffer.wrap(SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -7,15 +7,12 @@ import io.jongbeom.backend.exception.InvalidCredentialsException;
 import io.jongbeom.backend.exception.InvalidTokenException;
 import io.jongbeom.backend.exception.UserNotFoundException;
 import io.jongbeom.backend.repository.ProfileRepository;
-import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -27,21 +24,31 @@ public class AuthService {
 
     private final ProfileRepository profileRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
-
-    public AuthService(ProfileRepository profileRepository, JwtService jwtService, PasswordEncoder passwordEncoder) {
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashService passwordHashService;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuthService(
+            ProfileRepository profileRepository,
+            JwtService jwtService,
+            RefreshTokenService refreshTokenService,
+            PasswordHashService passwordHashService,
+            TransactionTemplate transactionTemplate) {
         this.profileRepository = profileRepository;
         this.jwtService = jwtService;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashService = passwordHashService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
      * 회원가입
      *
+     * 비밀번호 해시는 DB 커넥션을 잡지 않은 상태에서 계산하고, 저장만 트랜잭션으로 묶습니다.
+     *
      * @param request 회원가입 요청 DTO
      * @return 인증 응답 (Access Token + Refresh Token + 회원 정보)
      */
-    @Transactional
     public AuthResponse signup(SignupRequest request) {
         logger.info("[회원가입] 시작: {}", request.getEmail());
 
@@ -51,9 +58,13 @@ public class AuthService {
             throw new DuplicateEmailException("이미 사용 중인 이메일입니다: " + request.getEmail());
         }
 
-        // 비밀번호 암호화
-        String hashedPassword = passwordEncoder.encode(request.getPassword());
+        // 비밀번호 암호화 (passwordHashExecutor)
+        String hashedPassword = passwordHashService.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> createProfile(request, hashedPassword));
+    }
 
+    private AuthResponse createProfile(SignupRequest request, String hashedPassword) {
         // 회원 생성
         Profile profile = Profile.builder()
                 .email(request.getEmail())
@@ -72,14 +83,9 @@ public class AuthService {
         tokenData.put("email", savedProfile.getEmail());
 
         String accessToken = jwtService.createAccessToken(tokenData, null);
-        String refreshToken = jwtService.createRefreshToken(tokenData);
 
-        // Refresh Token을 DB에 저장
-        savedProfile.setRefreshToken(refreshToken);
-        savedProfile.setRefreshTokenExpiresAt(
-                OffsetDateTime.of(jwtService.getRefreshTokenExpiresAt(), ZoneOffset.UTC)
-        );
-        profileRepository.save(savedProfile);
+        // Refresh Token 발급 (기기별 세션)
+        String refreshToken = refreshTokenService.issue(savedProfile, request.getDeviceId());
 
         logger.info("[회원가입] 완료: {} (ID: {})", savedProfile.getEmail(), savedProfile.getId());
 
@@ -92,10 +98,12 @@ public class AuthService {
     /**
      * 로그인
      *
+     * 비밀번호 검증은 트랜잭션 밖에서 하여 BCrypt 계산 동안 DB 커넥션을 잡고 있지 않습니다.
+     * 저장된 해시의 cost 가 현재 설정보다 낮으면 이번 로그인 비밀번호로 다시 해시해 저장합니다.
+     *
      * @param request 로그인 요청 DTO
      * @return 인증 응답 (Access Token + Refresh Token + 회원 정보)
      */
-    @Transactional
     public AuthResponse login(LoginRequest request) {
         logger.info("[로그인] 시작: {}", request.getEmail());
 
@@ -107,7 +115,7 @@ public class AuthService {
                 });
 
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.getPassword(), profile.getPasswordHash())) {
+        if (!passwordHashService.matches(request.getPassword(), profile.getPasswordHash())) {
             logger.warn("[로그인] 비밀번호 불일치: {}", request.getEmail());
             throw new InvalidCredentialsException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
@@ -118,20 +126,22 @@ public class AuthService {
             throw new InvalidCredentialsException("비활성화된 계정입니다.");
         }
 
+        // 해시 cost 상향 (설정이 올라간 뒤 처음 로그인할 때 한 번)
+        if (passwordHashService.needsRehash(profile.getPasswordHash())) {
+            profile.setPasswordHash(passwordHashService.encode(request.getPassword()));
+            profile = profileRepository.save(profile);
+            logger.info("[로그인] 비밀번호 해시 cost 상향: {}", profile.getEmail());
+        }
+
         // JWT 토큰 생성
         Map<String, Object> tokenData = new HashMap<>();
         tokenData.put("user_id", profile.getId().toString());
         tokenData.put("email", profile.getEmail());
 
         String accessToken = jwtService.createAccessToken(tokenData, null);
-        String refreshToken = jwtService.createRefreshToken(tokenData);
 
-        // Refresh Token을 DB에 저장
-        profile.setRefreshToken(refreshToken);
-        profile.setRefreshTokenExpiresAt(
-                OffsetDateTime.of(jwtService.getRefreshTokenExpiresAt(), ZoneOffset.UTC)
-        );
-        profileRepository.save(profile);
+        // Refresh Token 발급 (기기별 세션, 다른 기기의 세션은 유지)
+        String refreshToken = refreshTokenService.issue(profile, request.getDeviceId());
 
         logger.info("[로그인] 완료: {} (ID: {})", profile.getEmail(), profile.getId());
 
@@ -144,33 +154,24 @@ public class AuthService {
     /**
      * Refresh Token으로 Access Token 갱신
      *
+     * Refresh Token 도 매번 새로 발급되므로 클라이언트는 응답의 refreshToken 으로 교체해야 합니다.
+     * 이미 교체된 토큰을 다시 보내면 해당 기기의 세션이 폐기됩니다.
+     *
      * @param request Refresh Token 요청 DTO
      * @return 인증 응답 (새로운 Access Token + Refresh Token)
      */
-    @Transactional
+    @Transactional(noRollbackFor = InvalidTokenException.class)
     public AuthResponse refreshAccessToken(RefreshTokenRequest request) {
         logger.info("[토큰 갱신] 시작");
 
-        String refreshToken = request.getRefreshToken();
-
-        // Refresh Token 검증
-        Claims claims = jwtService.verifyToken(refreshToken);
-        if (claims == null) {
-            logger.warn("[토큰 갱신] 유효하지 않은 Refresh Token");
-            throw new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
-        }
+        // Refresh Token 검증 + 교체
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        Profile profile = rotation.profile();
 
-        // DB에서 Refresh Token 확인
-        Profile profile = profileRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> {
-                    logger.warn("[토큰 갱신] DB에 없는 Refresh Token");
-                    return new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
-                });
-
-        // Refresh Token 만료 확인
-        if (profile.getRefreshTokenExpiresAt().isBefore(OffsetDateTime.now())) {
-            logger.warn("[토큰 갱신] 만료된 Refresh Token: {}", profile.getEmail());
-            throw new InvalidTokenException("만료된 Refresh Token입니다. 다시 로그인해주세요.");
+        // 비활성 계정 확인
+        if (!profile.getIsActive()) {
+            logger.warn("[토큰 갱신] 비활성 계정: {}", profile.getEmail());
+            throw new InvalidTokenException("비활성화된 계정입니다.");
         }
 
         // 새로운 Access Token 생성
@@ -185,7 +186,7 @@ public class AuthService {
         // ProfileResponse 생성
         ProfileResponse profileResponse = toProfileResponse(profile);
 
-        return new AuthResponse(newAccessToken, refreshToken, profileResponse);
+        return new AuthResponse(newAccessToken, rotation.refreshToken(), profileResponse);
     }
 
     /**
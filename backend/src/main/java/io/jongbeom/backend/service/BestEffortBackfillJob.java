@@ -0,0 +1,95 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 최고 기록 백필 작업
+ *
+ * 구간 기록(efforts)이 없는 과거 기록을 청크로 나눠 analysisExecutor 에서 병렬로 계산한 뒤,
+ * 영향받은 사용자의 best_efforts 를 다시 구성합니다.
+ * best-effort.backfill-on-startup=true 이면 애플리케이션 시작 후 백그라운드에서 실행됩니다.
+ */
+@Component
+public class BestEffortBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(BestEffortBackfillJob.class);
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final RunningRecordRepository runningRecordRepository;
+    private final BestEffortService bestEffortService;
+    private final ThreadPoolExecutor analysisExecutor;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+    private final boolean backfillOnStartup;
+
+    public BestEffortBackfillJob(
+            RunningRecordRepository runningRecordRepository,
+            BestEffortService bestEffortService,
+            @Qualifier("analysisExecutor") ThreadPoolExecutor analysisExecutor,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor,
+            @Value("${best-effort.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.runningRecordRepository = runningRecordRepository;
+        this.bestEffortService = bestEffortService;
+        this.analysisExecutor = analysisExecutor;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backgroundJobExecutor.execute(this::backfill);
+        }
+    }
+
+    /**
+     * 백필 실행
+     *
+     * @return 최고 기록이 다시 구성된 사용자 수
+     */
+    public int backfill() {
+        List<Long> recordIds = runningRecordRepository.findIdsWithoutEfforts();
+        logger.info("[최고 기록 백필] 시작: records={}", recordIds.size());
+
+        // 1단계: 기록별 구간 기록 계산 (청크 단위 병렬)
+        List<CompletableFuture<Set<UUID>>> futures = new ArrayList<>();
+        for (int from = 0; from < recordIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = recordIds.subList(from, Math.min(from + CHUNK_SIZE, recordIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> bestEffortService.computeEfforts(chunk), analysisExecutor));
+        }
+
+        Set<UUID> profileIds = new HashSet<>();
+        for (CompletableFuture<Set<UUID>> future : futures) {
+            try {
+                profileIds.addAll(future.join());
+            } catch (RuntimeException e) {
+                logger.error("[최고 기록 백필] 청크 처리 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        // 2단계: 사용자별 최고 기록 재구성 (사용자 단위 병렬 - 같은 사용자 행은 한 스레드에서만 수정)
+        List<CompletableFuture<Void>> rebuilds = profileIds.stream()
+                .map(profileId -> CompletableFuture.runAsync(
+                        () -> bestEffortService.rebuildForProfile(profileId), analysisExecutor))
+                .toList();
+        CompletableFuture.allOf(rebuilds.toArray(new CompletableFuture[0])).join();
+
+        logger.info("[최고 기록 백필] 완료: records={}, profiles={}", recordIds.size(), profileIds.size());
+        return profileIds.size();
+    }
+}
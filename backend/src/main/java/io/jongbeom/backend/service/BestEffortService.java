@@ -0,0 +1,231 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.BestEffortResponse;
+import io.jongbeom.backend.entity.BestEffort;
+import io.jongbeom.backend.entity.BestEffortType;
+import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.entity.RunningEffort;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.entity.RunningRecordSamples;
+import io.jongbeom.backend.repository.BestEffortRepository;
+import io.jongbeom.backend.repository.ProfileRepository;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.util.BestEffortCalculator;
+import io.jongbeom.backend.util.DeltaVarintCodec;
+import io.jongbeom.backend.util.TimedTrack;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 거리별 최고 기록(best effort) 서비스
+ *
+ * 기록 저장 시 RunningRecord.efforts 로 사용자별 best_efforts 를 갱신하고,
+ * 기록 삭제 시에는 저장된 구간 기록 중 차순위로 대체합니다. (경로 재계산 없음)
+ *
+ * 갱신은 INSERT ... ON CONFLICT DO UPDATE ... WHERE 더 빠를 때 한 문장으로 처리하므로
+ * 같은 사용자의 기록이 동시에 저장되어도 (동기 저장 + 비동기 배출 / 가져오기) 고유 제약 위반이나 덮어쓰기가 없습니다.
+ * 삭제 시 대체는 대상 행을 잠근 뒤 수행하므로 동시 갱신과 순서대로 적용됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BestEffortService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO best_efforts (id, profile_id, effort_type, duration, record_id, achieved_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, LOCALTIMESTAMP) " +
+            "ON CONFLICT (profile_id, effort_type) DO UPDATE SET " +
+            "duration = EXCLUDED.duration, " +
+            "record_id = EXCLUDED.record_id, " +
+            "achieved_at = EXCLUDED.achieved_at, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "WHERE EXCLUDED.duration < best_efforts.duration";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BestEffortRepository bestEffortRepository;
+    private final RunningRecordRepository runningRecordRepository;
+    private final ProfileRepository profileRepository;
+
+    /**
+     * 새로 저장된 기록들로 사용자의 최고 기록 갱신
+     *
+     * @param profile 사용자 (참조 프록시 가능)
+     * @param records 저장된 러닝 기록 목록 (efforts 계산 완료)
+     */
+    @Transactional
+    public void applyRecords(Profile profile, List<RunningRecord> records) {
+        // 종류별로 이번 기록들 중 가장 빠른 구간만 후보로
+        Map<BestEffortType, RunningEffort> fastest = new EnumMap<>(BestEffortType.class);
+        Map<BestEffortType, RunningRecord> owners = new EnumMap<>(BestEffortType.class);
+        for (RunningRecord record : records) {
+            for (RunningEffort effort : record.getEfforts()) {
+                RunningEffort best = fastest.get(effort.getEffortType());
+                if (best == null || effort.getDuration() < best.getDuration()) {
+                    fastest.put(effort.getEffortType(), effort);
+                    owners.put(effort.getEffortType(), record);
+                }
+            }
+        }
+        if (fastest.isEmpty()) {
+            return;
+        }
+
+        // 기록 INSERT 를 먼저 내보내야 record_id 외래 키를 참조할 수 있음
+        runningRecordRepository.flush();
+
+        List<BestEffortType> types = new ArrayList<>(fastest.keySet());
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, types, types.size(), (ps, type) -> {
+            RunningRecord record = owners.get(type);
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, profile.getId());
+            ps.setString(3, type.name());
+            ps.setDouble(4, fastest.get(type).getDuration());
+            ps.setLong(5, record.getId());
+            ps.setObject(6, record.getStartTime());
+        });
+
+        int changed = Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+        if (changed > 0) {
+            log.info("[최고 기록] 갱신: profileId={}, types={}", profile.getId(), changed);
+        }
+    }
+
+    /**
+     * 삭제될 기록이 보유한 최고 기록을 차순위 기록으로 대체 (기록 삭제 전에 호출)
+     *
+     * @param record 삭제될 러닝 기록
+     */
+    @Transactional
+    public void onRecordDeleted(RunningRecord record) {
+        for (BestEffort bestEffort : bestEffortRepository.findByRecordIdForUpdate(record.getId())) {
+            List<Object[]> next = runningRecordRepository.findFastestEfforts(
+                    bestEffort.getProfile().getId(), bestEffort.getEffortType(), record.getId(), PageRequest.of(0, 1));
+
+            if (next.isEmpty()) {
+                bestEffortRepository.delete(bestEffort);
+            } else {
+                RunningRecord nextRecord = (RunningRecord) next.get(0)[0];
+                bestEffort.setRecord(nextRecord);
+                bestEffort.setDuration((Double) next.get(0)[1]);
+                bestEffort.setAchievedAt(nextRecord.getStartTime());
+            }
+        }
+    }
+
+    /**
+     * 내 최고 기록 조회
+     *
+     * @param profileId 사용자 ID
+     * @return 거리순 최고 기록 목록
+     */
+    @Transactional(readOnly = true)
+    public List<BestEffortResponse> getMyBestEfforts(UUID profileId) {
+        return bestEffortRepository.findByProfileId(profileId).stream()
+                .sorted(Comparator.comparing(BestEffort::getEffortType))
+                .map(BestEffortResponse::from)
+                .toList();
+    }
+
+    /**
+     * 저장된 샘플로 기록들의 구간 기록 계산 (백필용)
+     *
+     * @param recordIds 러닝 기록 ID 목록
+     * @return 구간 기록이 계산된 기록의 사용자 ID 목록
+     */
+    @Transactional
+    public Set<UUID> computeEfforts(List<Long> recordIds) {
+        Set<UUID> profileIds = new HashSet<>();
+
+        for (Object[] row : runningRecordRepository.findWithSamplesByIdIn(recordIds)) {
+            RunningRecord record = (RunningRecord) row[0];
+            RunningRecordSamples samples = (RunningRecordSamples) row[1];
+
+            TimedTrack track = toTimedTrack(record, samples);
+            if (track == null) {
+                continue;
+            }
+
+            List<RunningEffort> efforts = BestEffortCalculator.calculate(track);
+            if (!efforts.isEmpty()) {
+                record.setEfforts(new ArrayList<>(efforts));
+                profileIds.add(record.getProfile().getId());
+            }
+        }
+
+        return profileIds;
+    }
+
+    /**
+     * 사용자의 최고 기록을 구간 기록으로부터 다시 구성 (백필용)
+     *
+     * @param profileId 사용자 ID
+     */
+    @Transactional
+    public void rebuildForProfile(UUID profileId) {
+        bestEffortRepository.deleteByProfileId(profileId);
+        bestEffortRepository.flush();
+
+        Profile profile = profileRepository.getReferenceById(profileId);
+        List<BestEffort> rebuilt = new ArrayList<>();
+
+        for (BestEffortType type : BestEffortType.values()) {
+            List<Object[]> fastest = runningRecordRepository.findFastestEfforts(
+                    profileId, type, -1L, PageRequest.of(0, 1));
+            if (!fastest.isEmpty()) {
+                RunningRecord record = (RunningRecord) fastest.get(0)[0];
+                rebuilt.add(BestEffort.builder()
+                        .profile(profile)
+                        .effortType(type)
+                        .duration((Double) fastest.get(0)[1])
+                        .record(record)
+                        .achievedAt(record.getStartTime())
+                        .build());
+            }
+        }
+
+        bestEffortRepository.saveAll(rebuilt);
+    }
+
+    /**
+     * 경로 좌표 + 압축된 시간 컬럼으로 트랙 복원
+     */
+    private TimedTrack toTimedTrack(RunningRecord record, RunningRecordSamples samples) {
+        if (record.getActualRoute() == null) {
+            return null;
+        }
+
+        Coordinate[] coordinates = record.getActualRoute().getCoordinates();
+        if (coordinates.length != samples.getPointCount()) {
+            return null;
+        }
+
+        double[] longitudes = new double[coordinates.length];
+        double[] latitudes = new double[coordinates.length];
+        for (int i = 0; i < coordinates.length; i++) {
+            longitudes[i] = coordinates[i].getX();
+            latitudes[i] = coordinates[i].getY();
+        }
+
+        long[] timestamps = DeltaVarintCodec.decode(samples.getTimeData(), coordinates.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] += samples.getStartTimestamp();
+        }
+
+        return TimedTrack.of(longitudes, latitudes, timestamps);
+    }
+}
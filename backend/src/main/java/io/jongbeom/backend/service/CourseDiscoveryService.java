@@ -0,0 +1,202 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.CourseSearchPageResponse;
+import io.jongbeom.backend.dto.CourseSearchResponse;
+import io.jongbeom.backend.dto.NearbyCoursePageResponse;
+import io.jongbeom.backend.dto.NearbyCourseResponse;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.repository.CourseSearchView;
+import io.jongbeom.backend.repository.NearbyCourseView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주변 코스 / 코스 이름 검색 서비스
+ *
+ * PostGIS GIST 인덱스(geography)의 ST_DWithin 범위 필터 + KNN(<->) 정렬로 가까운 코스를 찾고,
+ * (거리, id) 키셋 커서로 페이지를 나눕니다. 경로 geometry 는 읽지 않습니다.
+ * 같은 페이지에서 경로 지문이 유사한 코스는 groupId 로 묶습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseDiscoveryService {
+
+    public static final double MAX_RADIUS = 50_000;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 50;
+
+    /**
+     * 위치 검색 시 이름 유사도 감쇠 거리 (미터) - 이 거리에서 점수가 절반
+     */
+    private static final double SEARCH_DISTANCE_DECAY = 5_000;
+
+    private static final String FIRST_CURSOR_ID = new UUID(0, 0).toString();
+
+    private final CourseRepository courseRepository;
+    private final CourseSimilarityService courseSimilarityService;
+
+    /**
+     * 검색 기준
+     */
+    public enum MatchMode {
+        /** 코스 시작점이 반경 안 */
+        START,
+        /** 코스 경로가 반경 안을 지나감 */
+        ROUTE
+    }
+
+    /**
+     * 주변 코스 검색
+     *
+     * @param latitude 검색 위치 위도
+     * @param longitude 검색 위치 경도
+     * @param radius 검색 반경 (미터)
+     * @param minLength 최소 코스 길이 (미터, null 이면 제한 없음)
+     * @param maxLength 최대 코스 길이 (미터, null 이면 제한 없음)
+     * @param match 검색 기준
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public NearbyCoursePageResponse findNearby(double latitude, double longitude, double radius,
+                                               Integer minLength, Integer maxLength,
+                                               MatchMode match, String cursor, int size) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("위치 좌표가 올바르지 않습니다.");
+        }
+        if (radius <= 0 || radius > MAX_RADIUS) {
+            throw new IllegalArgumentException("검색 반경은 0 초과 " + (int) MAX_RADIUS + "m 이하여야 합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int min = minLength != null ? minLength : 0;
+        int max = maxLength != null ? maxLength : Integer.MAX_VALUE;
+
+        double afterDistance = -1;
+        String afterId = FIRST_CURSOR_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            afterDistance = cursorValue(cursor);
+            afterId = cursorId(cursor);
+        }
+
+        List<NearbyCourseView> views = match == MatchMode.ROUTE
+                ? courseRepository.findNearbyByRoute(longitude, latitude, radius, min, max, afterDistance, afterId, pageSize)
+                : courseRepository.findNearbyByStartPoint(longitude, latitude, radius, min, max, afterDistance, afterId, pageSize);
+
+        String nextCursor = null;
+        if (views.size() == pageSize) {
+            NearbyCourseView last = views.get(views.size() - 1);
+            nextCursor = last.getDistanceMeters() + "_" + last.getId();
+        }
+
+        log.info("[주변 코스] lat={}, lng={}, radius={}, match={}, results={}", latitude, longitude, radius, match, views.size());
+        return NearbyCoursePageResponse.builder()
+                .courses(group(views))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 코스 이름 검색 (pg_trgm 유사도 순, 위치가 있으면 시작점 반경 필터 + 거리 감쇠, 커서 페이지네이션)
+     *
+     * @param query 검색어
+     * @param latitude 검색 위치 위도 (null 이면 위치 조건 없음)
+     * @param longitude 검색 위치 경도 (null 이면 위치 조건 없음)
+     * @param radius 검색 반경 (미터, 위치가 있을 때만 사용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기
+     */
+    @Transactional(readOnly = true)
+    public CourseSearchPageResponse search(String query, Double latitude, Double longitude, double radius,
+                                           String cursor, int size) {
+        String q = query != null ? query.strip() : "";
+        if (q.isEmpty() || q.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("검색어는 1자 이상 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+        }
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("위도와 경도는 함께 지정해야 합니다.");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("위치 좌표가 올바르지 않습니다.");
+        }
+        if (latitude != null && (radius <= 0 || radius > MAX_RADIUS)) {
+            throw new IllegalArgumentException("검색 반경은 0 초과 " + (int) MAX_RADIUS + "m 이하여야 합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        double afterScore = Double.MAX_VALUE;
+        String afterId = FIRST_CURSOR_ID;
+        if (cursor != null && !cursor.isBlank()) {
+            afterScore = cursorValue(cursor);
+            afterId = cursorId(cursor);
+        }
+
+        String pattern = "%" + q.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        List<CourseSearchView> views = latitude != null
+                ? courseRepository.searchByNameNear(q, pattern, longitude, latitude, radius, SEARCH_DISTANCE_DECAY,
+                        afterScore, afterId, pageSize)
+                : courseRepository.searchByName(q, pattern, afterScore, afterId, pageSize);
+
+        String nextCursor = null;
+        if (views.size() == pageSize) {
+            CourseSearchView last = views.get(views.size() - 1);
+            nextCursor = last.getScore() + "_" + last.getId();
+        }
+
+        log.debug("[코스 검색] q={}, lat={}, lng={}, results={}", q, latitude, longitude, views.size());
+        return CourseSearchPageResponse.builder()
+                .courses(views.stream().map(CourseSearchResponse::from).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 커서 "값_id" 의 값 부분
+     */
+    private static double cursorValue(String cursor) {
+        try {
+            return Double.parseDouble(cursor.substring(0, cursor.indexOf('_')));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서 "값_id" 의 id 부분
+     */
+    private static String cursorId(String cursor) {
+        try {
+            return UUID.fromString(cursor.substring(cursor.indexOf('_') + 1)).toString();
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    /**
+     * 페이지 안의 유사 코스 묶기 - 경로가 거의 같은 코스는 앞선(더 가까운) 대표 코스의 id 를 groupId 로 가짐
+     */
+    private List<NearbyCourseResponse> group(List<NearbyCourseView> views) {
+        List<NearbyCourseView> leaders = new ArrayList<>();
+        List<NearbyCourseResponse> responses = new ArrayList<>(views.size());
+        for (NearbyCourseView view : views) {
+            NearbyCourseResponse response = NearbyCourseResponse.from(view);
+            NearbyCourseView leader = leaders.stream()
+                    .filter(l -> courseSimilarityService.isSimilar(l.getRouteSignature(), view.getRouteSignature()))
+                    .findFirst()
+                    .orElse(null);
+            if (leader != null) {
+                response.setGroupId(leader.getId().toString());
+            } else {
+                leaders.add(view);
+            }
+            responses.add(response);
+        }
+        return responses;
+    }
+}
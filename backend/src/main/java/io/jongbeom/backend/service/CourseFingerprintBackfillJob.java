@@ -0,0 +1,74 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 코스 경로 지문 백필 작업
+ *
+ * 지문 도입 이전에 생성된 코스의 MinHash 서명 / LSH 밴드 키를 청크 단위로 계산해 저장합니다.
+ * course.similarity.backfill-on-startup=true 이면 애플리케이션 시작 후 백그라운드에서 실행됩니다.
+ */
+@Component
+public class CourseFingerprintBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseFingerprintBackfillJob.class);
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final CourseRepository courseRepository;
+    private final CourseSimilarityService courseSimilarityService;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+    private final boolean backfillOnStartup;
+
+    public CourseFingerprintBackfillJob(
+            CourseRepository courseRepository,
+            CourseSimilarityService courseSimilarityService,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor,
+            @Value("${course.similarity.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.courseRepository = courseRepository;
+        this.courseSimilarityService = courseSimilarityService;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backgroundJobExecutor.execute(this::backfill);
+        }
+    }
+
+    /**
+     * 백필 실행
+     *
+     * @return 지문이 설정된 코스 수
+     */
+    public int backfill() {
+        List<UUID> courseIds = courseRepository.findIdsWithoutSignature();
+        logger.info("[코스 지문 백필] 시작: courses={}", courseIds.size());
+
+        int count = 0;
+        for (int from = 0; from < courseIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = courseIds.subList(from, Math.min(from + CHUNK_SIZE, courseIds.size()));
+            try {
+                count += courseSimilarityService.fingerprintCourses(chunk);
+            } catch (RuntimeException e) {
+                logger.error("[코스 지문 백필] 청크 처리 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        logger.info("[코스 지문 백필] 완료: courses={}", count);
+        return count;
+    }
+}
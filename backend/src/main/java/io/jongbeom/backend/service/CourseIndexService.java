@@ -0,0 +1,226 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.CourseMarkerResponse;
+import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.event.CourseDeletedEvent;
+import io.jongbeom.backend.event.CourseSavedEvent;
+import io.jongbeom.backend.repository.CourseIndexView;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.util.CourseSpatialIndex;
+import org.locationtech.jts.geom.Envelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 활성 코스 메모리 공간 인덱스 서비스
+ *
+ * 애플리케이션 시작 후 활성 코스의 시작점/경로 bbox 를 한 번 적재하고,
+ * 코스 생성/삭제 커밋 이후 이벤트로 인덱스를 증분 갱신합니다.
+ * 지도 화면(viewport) 조회는 DB 를 거치지 않고 읽기 잠금 아래에서 격자 버킷만 탐색합니다.
+ * 적재가 실패하면 (DB 미기동 등) 1초부터 두 배씩, 최대 1분 간격으로 성공할 때까지 다시 시도합니다.
+ */
+@Service
+public class CourseIndexService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseIndexService.class);
+
+    public static final int MAX_RESULTS = 2000;
+
+    private static final long INITIAL_RETRY_DELAY_MS = 1_000;
+    private static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    private final CourseRepository courseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private CourseSpatialIndex index = new CourseSpatialIndex(16);
+    private boolean loaded;
+
+    /**
+     * 적재 중 들어온 변경 (적재 완료 후 새 인덱스에 다시 적용)
+     */
+    private List<Consumer<CourseSpatialIndex>> pendingChanges = new ArrayList<>();
+
+    public CourseIndexService(
+            CourseRepository courseRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor) {
+        this.courseRepository = courseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.backgroundJobExecutor = backgroundJobExecutor;
+    }
+
+    /**
+     * 조회 기준
+     */
+    public enum ViewportMode {
+        /** 시작점이 화면 안 */
+        START,
+        /** 경로 범위가 화면과 겹침 */
+        BBOX
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        submitLoad(INITIAL_RETRY_DELAY_MS);
+    }
+
+    /**
+     * 백그라운드 적재 요청 (대기열이 가득 차 거절되면 재시도 예약)
+     *
+     * @param retryDelayMs 이번 적재가 실패했을 때 다음 시도까지 대기 시간
+     */
+    private void submitLoad(long retryDelayMs) {
+        if (backgroundJobExecutor.isShutdown()) {
+            return;
+        }
+        try {
+            backgroundJobExecutor.execute(() -> {
+                try {
+                    load();
+                } catch (RuntimeException e) {
+                    retryLoad(retryDelayMs, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            retryLoad(retryDelayMs, e);
+        }
+    }
+
+    private void retryLoad(long delayMs, Exception cause) {
+        logger.error("[코스 인덱스] 적재 실패, {}ms 후 재시도", delayMs, cause);
+        long nextDelayMs = Math.min(delayMs * 2, MAX_RETRY_DELAY_MS);
+        CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS)
+                .execute(() -> submitLoad(nextDelayMs));
+    }
+
+    /**
+     * 활성 코스 전체 적재 후 교체
+     */
+    public void load() {
+        long started = System.nanoTime();
+        CourseSpatialIndex loading = new CourseSpatialIndex(1024);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<CourseIndexView> views = courseRepository.streamActiveForIndex()) {
+                views.forEach(view -> loading.put(view.getId(),
+                        view.getStartLongitude(), view.getStartLatitude(),
+                        view.getMinLongitude(), view.getMinLatitude(),
+                        view.getMaxLongitude(), view.getMaxLatitude(),
+                        view.getDistance()));
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(change -> change.accept(loading));
+            pendingChanges = null;
+            index = loading;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("[코스 인덱스] 적재 완료: courses={}, elapsedMs={}",
+                loading.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * 코스 생성 커밋 후 인덱스 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseSaved(CourseSavedEvent event) {
+        Course course = event.course();
+        if (course.getStartPoint() == null || course.getRoute() == null) {
+            return;
+        }
+
+        UUID id = course.getId();
+        double lng = course.getStartPoint().getX();
+        double lat = course.getStartPoint().getY();
+        Envelope bbox = course.getRoute().getEnvelopeInternal();
+        int length = course.getDistance();
+
+        applyChange(target -> target.put(id, lng, lat,
+                bbox.getMinX(), bbox.getMinY(), bbox.getMaxX(), bbox.getMaxY(), length));
+    }
+
+    /**
+     * 코스 삭제 커밋 후 인덱스 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        UUID id = event.course().getId();
+        applyChange(target -> target.remove(id));
+    }
+
+    /**
+     * 화면 범위 코스 조회
+     *
+     * @param west 서쪽 경도
+     * @param south 남쪽 위도
+     * @param east 동쪽 경도
+     * @param north 북쪽 위도
+     * @param mode 조회 기준
+     * @param minLength 최소 코스 길이 (미터, null 이면 제한 없음)
+     * @param maxLength 최대 코스 길이 (미터, null 이면 제한 없음)
+     * @param limit 최대 결과 수
+     */
+    public List<CourseMarkerResponse> findInViewport(double west, double south, double east, double north,
+                                                     ViewportMode mode, Integer minLength, Integer maxLength, int limit) {
+        if (west > east || south > north || west < -180 || east > 180 || south < -90 || north > 90) {
+            throw new IllegalArgumentException("화면 범위가 올바르지 않습니다.");
+        }
+        int min = minLength != null ? minLength : 0;
+        int max = maxLength != null ? maxLength : Integer.MAX_VALUE;
+        int size = Math.max(1, Math.min(limit, MAX_RESULTS));
+
+        List<CourseSpatialIndex.Entry> entries;
+        lock.readLock().lock();
+        try {
+            if (!loaded) {
+                throw new RejectedExecutionException("코스 인덱스를 적재하는 중입니다.");
+            }
+            entries = mode == ViewportMode.BBOX
+                    ? index.queryBoundingBoxes(west, south, east, north, min, max, size)
+                    : index.queryStartPoints(west, south, east, north, min, max, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return entries.stream().map(CourseMarkerResponse::from).toList();
+    }
+
+    private void applyChange(Consumer<CourseSpatialIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (!loaded) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.util.RouteNormalizer;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코스 경로 입력 검증 / 정규화
+ *
+ * 코스 저장과 경로 기반 조회 전에 GeoJSON 을 한 곳에서 처리합니다.
+ * - 크기 제한: 파싱 전 문자 수, 파싱 후 꼭짓점 / 경유지 수, 경로 길이 / 범위(bbox)
+ * - 좌표 범위 검증, 소수점 6자리 맞춤, 연속 중복 / 스파이크 제거 (RouteNormalizer)
+ * - 정규화된 경로로 거리(미터)를 다시 계산 (클라이언트가 보낸 거리는 사용하지 않음)
+ *
+ * GeoJsonReader 는 상태가 없으므로 인스턴스 하나를 공유합니다.
+ */
+@Component
+public class CourseIngestNormalizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseIngestNormalizer.class);
+
+    private final GeometryFactory geometryFactory =
+            new GeometryFactory(new PrecisionModel(RouteNormalizer.SCALE), 4326);
+    private final GeoJsonReader reader = new GeoJsonReader(geometryFactory);
+
+    private final int maxGeoJsonLength;
+    private final int maxVertices;
+    private final int maxWaypoints;
+    private final double maxLengthMeters;
+    private final double maxExtentDegrees;
+
+    public CourseIngestNormalizer(
+            @Value("${course.ingest.max-geojson-length:2000000}") int maxGeoJsonLength,
+            @Value("${course.ingest.max-vertices:20000}") int maxVertices,
+            @Value("${course.ingest.max-waypoints:100}") int maxWaypoints,
+            @Value("${course.ingest.max-length-meters:300000}") double maxLengthMeters,
+            @Value("${course.ingest.max-extent-degrees:3.0}") double maxExtentDegrees) {
+        this.maxGeoJsonLength = maxGeoJsonLength;
+        this.maxVertices = maxVertices;
+        this.maxWaypoints = maxWaypoints;
+        this.maxLengthMeters = maxLengthMeters;
+        this.maxExtentDegrees = maxExtentDegrees;
+    }
+
+    /**
+     * 정규화된 코스 경로
+     *
+     * @param route 경로 (SRID 4326)
+     * @param waypoints 경유지 (SRID 4326)
+     * @param distance 경로 길이 (미터)
+     */
+    public record NormalizedCourse(LineString route, MultiPoint waypoints, int distance) {
+    }
+
+    /**
+     * 코스 경로 / 경유지 정규화
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 제한을 넘을 때
+     */
+    public NormalizedCourse normalize(String routeGeoJson, String waypointsGeoJson) {
+        RouteNormalizer.Result route = normalizeCoordinates(routeGeoJson);
+        MultiPoint waypoints = normalizeWaypoints(waypointsGeoJson);
+        return new NormalizedCourse(
+                geometryFactory.createLineString(route.coordinates()), waypoints, (int) Math.round(route.length()));
+    }
+
+    /**
+     * 경로 GeoJSON(LineString) 정규화
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 제한을 넘을 때
+     */
+    public LineString normalizeRoute(String routeGeoJson) {
+        return geometryFactory.createLineString(normalizeCoordinates(routeGeoJson).coordinates());
+    }
+
+    private RouteNormalizer.Result normalizeCoordinates(String routeGeoJson) {
+        Geometry geometry = read(routeGeoJson, "경로");
+        if (!(geometry instanceof LineString line) || line.isEmpty()) {
+            throw new IllegalArgumentException("경로는 GeoJSON LineString 이어야 합니다.");
+        }
+        if (line.getNumPoints() > maxVertices) {
+            throw new IllegalArgumentException("경로 좌표가 너무 많습니다. (최대 " + maxVertices + "개)");
+        }
+        Coordinate[] coordinates = line.getCoordinates();
+        for (Coordinate c : coordinates) {
+            if (!RouteNormalizer.isValid(c)) {
+                throw new IllegalArgumentException("경로에 잘못된 좌표가 있습니다: " + c.x + ", " + c.y);
+            }
+        }
+
+        RouteNormalizer.Result result = RouteNormalizer.normalize(coordinates);
+        if (result.coordinates().length < 2) {
+            throw new IllegalArgumentException("경로에는 서로 다른 좌표가 2개 이상 필요합니다.");
+        }
+        if (result.length() > maxLengthMeters) {
+            throw new IllegalArgumentException(
+                    "경로가 너무 깁니다. (최대 " + Math.round(maxLengthMeters / 1000) + "km)");
+        }
+        Envelope bbox = new Envelope();
+        for (Coordinate c : result.coordinates()) {
+            bbox.expandToInclude(c);
+        }
+        if (bbox.getWidth() > maxExtentDegrees || bbox.getHeight() > maxExtentDegrees) {
+            throw new IllegalArgumentException("경로 범위가 너무 넓습니다. (가로/세로 최대 " + maxExtentDegrees + "°)");
+        }
+        if (result.duplicates() > 0 || result.spikes() > 0) {
+            logger.debug("[코스 정규화] 좌표 {} → {} (중복 {}, 스파이크 {})",
+                    coordinates.length, result.coordinates().length, result.duplicates(), result.spikes());
+        }
+        return result;
+    }
+
+    /**
+     * 경유지 GeoJSON(MultiPoint) 정규화 (좌표 맞춤 + 연속 중복 제거)
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 제한을 넘을 때
+     */
+    public MultiPoint normalizeWaypoints(String waypointsGeoJson) {
+        Geometry geometry = read(waypointsGeoJson, "경유지");
+        if (!(geometry instanceof MultiPoint multiPoint)) {
+            throw new IllegalArgumentException("경유지는 GeoJSON MultiPoint 이어야 합니다.");
+        }
+        if (multiPoint.getNumGeometries() > maxWaypoints) {
+            throw new IllegalArgumentException("경유지가 너무 많습니다. (최대 " + maxWaypoints + "개)");
+        }
+
+        List<Point> points = new ArrayList<>(multiPoint.getNumGeometries());
+        Coordinate last = null;
+        for (Coordinate raw : multiPoint.getCoordinates()) {
+            if (!RouteNormalizer.isValid(raw)) {
+                throw new IllegalArgumentException("경유지에 잘못된 좌표가 있습니다: " + raw.x + ", " + raw.y);
+            }
+            Coordinate c = RouteNormalizer.snap(raw);
+            if (last != null && last.equals2D(c)) {
+                continue;
+            }
+            points.add(geometryFactory.createPoint(c));
+            last = c;
+        }
+        return geometryFactory.createMultiPoint(points.toArray(new Point[0]));
+    }
+
+    private Geometry read(String geoJson, String label) {
+        if (geoJson == null || geoJson.isBlank()) {
+            throw new IllegalArgumentException(label + " 정보는 필수입니다.");
+        }
+        if (geoJson.length() > maxGeoJsonLength) {
+            throw new IllegalArgumentException(label + " GeoJSON 이 너무 큽니다. (최대 " + maxGeoJsonLength + "자)");
+        }
+        try {
+            return reader.read(geoJson);
+        } catch (ParseException | RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 GeoJSON 형식입니다: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.CourseLeaderboardResponse;
+import io.jongbeom.backend.dto.LeaderboardEntryResponse;
+import io.jongbeom.backend.entity.CourseBestTime;
+import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.event.RunningRecordDeletedEvent;
+import io.jongbeom.backend.event.RunningRecordSavedEvent;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.CourseBestTimeRepository;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 코스 리더보드 서비스
+ *
+ * 기록 저장 시 course_best_times(코스별 사용자 최고 기록)를 갱신하고,
+ * 코스별 상위 K개와 조회된 "내 순위"를 크기가 제한된 LRU 캐시에 보관합니다.
+ * 캐시는 기록 저장/삭제 트랜잭션 커밋 후 해당 코스 단위로 무효화됩니다.
+ * 코스를 충분히 따라 달린 기록(courseCoverage >= min-coverage)만 순위에 포함됩니다.
+ * 최고 기록 갱신은 INSERT ... ON CONFLICT DO UPDATE ... WHERE 더 빠를 때 한 문장으로 처리하여
+ * 같은 사용자의 동시 저장에서도 고유 제약 위반이나 덮어쓰기가 없습니다.
+ */
+@Service
+public class CourseLeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseLeaderboardService.class);
+
+    /**
+     * 코스당 캐시하는 "내 순위" 최대 개수
+     */
+    private static final int MAX_CACHED_RANKS = 1000;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO course_best_times (id, course_id, profile_id, duration, record_id, achieved_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, LOCALTIMESTAMP) " +
+            "ON CONFLICT (course_id, profile_id) DO UPDATE SET " +
+            "duration = EXCLUDED.duration, " +
+            "record_id = EXCLUDED.record_id, " +
+            "achieved_at = EXCLUDED.achieved_at, " +
+            "updated_at = EXCLUDED.updated_at " +
+            "WHERE EXCLUDED.duration < course_best_times.duration";
+
+    private final CourseBestTimeRepository courseBestTimeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RunningRecordRepository runningRecordRepository;
+    private final CourseRepository courseRepository;
+    private final int topSize;
+    private final double minCoverage;
+
+    /**
+     * courseId → 리더보드 (접근 순서 LRU)
+     */
+    private final LinkedHashMap<UUID, Leaderboard> cache;
+
+    /**
+     * 무효화 세대 - 조회 도중 무효화가 일어나면 결과를 캐시에 넣지 않음
+     */
+    private long generation;
+
+    public CourseLeaderboardService(
+            CourseBestTimeRepository courseBestTimeRepository,
+            JdbcTemplate jdbcTemplate,
+            RunningRecordRepository runningRecordRepository,
+            CourseRepository courseRepository,
+            @Value("${leaderboard.top-size:100}") int topSize,
+            @Value("${leaderboard.cache-courses:1000}") int cacheCourses,
+            @Value("${leaderboard.min-coverage:90}") double minCoverage) {
+        this.courseBestTimeRepository = courseBestTimeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.runningRecordRepository = runningRecordRepository;
+        this.courseRepository = courseRepository;
+        this.topSize = topSize;
+        this.minCoverage = minCoverage;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Leaderboard> eldest) {
+                return size() > cacheCourses;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 코스 리더보드
+     *
+     * @param top 상위 K개 (순위순)
+     * @param totalRunners 전체 참가자 수
+     * @param ranks profileId → 내 기록 (기록이 없으면 Optional.empty())
+     */
+    private record Leaderboard(List<LeaderboardEntryResponse> top, long totalRunners,
+                               Map<UUID, Optional<LeaderboardEntryResponse>> ranks) {
+    }
+
+    /**
+     * 새로 저장된 기록들로 사용자의 코스 최고 기록 갱신
+     *
+     * @param profile 사용자 (참조 프록시 가능)
+     * @param records 저장된 러닝 기록 목록 (코스 준수도 계산 완료)
+     */
+    @Transactional
+    public void applyRecords(Profile profile, List<RunningRecord> records) {
+        Map<UUID, RunningRecord> fastest = new HashMap<>();
+        for (RunningRecord record : records) {
+            if (!isQualified(record)) {
+                continue;
+            }
+            fastest.merge(record.getCourse().getId(), record,
+                    (a, b) -> b.getDuration() < a.getDuration() ? b : a);
+        }
+        if (fastest.isEmpty()) {
+            return;
+        }
+
+        // 기록 INSERT 를 먼저 내보내야 record_id 외래 키를 참조할 수 있음
+        runningRecordRepository.flush();
+
+        List<RunningRecord> candidates = new ArrayList<>(fastest.values());
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, candidates, candidates.size(), (ps, record) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, record.getCourse().getId());
+            ps.setObject(3, profile.getId());
+            ps.setInt(4, record.getDuration());
+            ps.setLong(5, record.getId());
+            ps.setObject(6, record.getStartTime());
+        });
+
+        int changed = Arrays.stream(counts).flatMapToInt(Arrays::stream).sum();
+        if (changed > 0) {
+            logger.info("[리더보드] 갱신: profileId={}, courses={}", profile.getId(), changed);
+        }
+    }
+
+    /**
+     * 삭제될 기록이 보유한 코스 최고 기록을 차순위 기록으로 대체 (기록 삭제 전에 호출)
+     *
+     * @param record 삭제될 러닝 기록
+     */
+    @Transactional
+    public void onRecordDeleted(RunningRecord record) {
+        courseBestTimeRepository.findByRecordIdForUpdate(record.getId()).ifPresent(bestTime -> {
+            List<RunningRecord> next = runningRecordRepository.findFastestOnCourse(
+                    bestTime.getCourse().getId(), bestTime.getProfile().getId(),
+                    record.getId(), minCoverage, PageRequest.of(0, 1));
+
+            if (next.isEmpty()) {
+                courseBestTimeRepository.delete(bestTime);
+            } else {
+                RunningRecord nextRecord = next.get(0);
+                bestTime.setDuration(nextRecord.getDuration());
+                bestTime.setRecord(nextRecord);
+                bestTime.setAchievedAt(nextRecord.getStartTime());
+            }
+        });
+    }
+
+    /**
+     * 코스 리더보드 조회 (상위 K 및 내 순위는 캐시 우선)
+     *
+     * @param profileId 조회하는 사용자 ID
+     * @param courseId 코스 ID
+     * @param limit 상위 몇 명까지 (최대 top-size)
+     */
+    @Transactional(readOnly = true)
+    public CourseLeaderboardResponse getLeaderboard(UUID profileId, String courseId, int limit) {
+        UUID id = UUID.fromString(courseId);
+        if (!courseRepository.existsById(id)) {
+            throw new ResourceNotFoundException("코스를 찾을 수 없습니다.");
+        }
+
+        Leaderboard leaderboard = getOrLoad(id);
+        Optional<LeaderboardEntryResponse> myEntry = leaderboard.ranks().get(profileId);
+        if (myEntry == null) {
+            myEntry = loadMyEntry(id, profileId);
+            if (leaderboard.ranks().size() < MAX_CACHED_RANKS) {
+                leaderboard.ranks().put(profileId, myEntry);
+            }
+        }
+
+        List<LeaderboardEntryResponse> top = leaderboard.top();
+        return CourseLeaderboardResponse.builder()
+                .courseId(id)
+                .totalRunners(leaderboard.totalRunners())
+                .entries(top.subList(0, Math.min(Math.max(limit, 0), top.size())))
+                .myEntry(myEntry.orElse(null))
+                .build();
+    }
+
+    /**
+     * 기록 저장 커밋 후 해당 코스 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnRecordsSaved(RunningRecordSavedEvent event) {
+        invalidate(event.records().stream()
+                .filter(this::isQualified)
+                .map(record -> record.getCourse().getId())
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * 기록 삭제 커밋 후 해당 코스 캐시 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictOnRecordDeleted(RunningRecordDeletedEvent event) {
+        RunningRecord record = event.record();
+        if (record.getCourse() != null) {
+            invalidate(Set.of(record.getCourse().getId()));
+        }
+    }
+
+    private boolean isQualified(RunningRecord record) {
+        return record.getCourse() != null
+                && record.getDuration() != null
+                && record.getCourseCoverage() != null
+                && record.getCourseCoverage() >= minCoverage;
+    }
+
+    private Leaderboard getOrLoad(UUID courseId) {
+        long loadGeneration;
+        synchronized (cache) {
+            Leaderboard cached = cache.get(courseId);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        List<CourseBestTime> bestTimes = courseBestTimeRepository.findTopByCourseId(courseId, PageRequest.of(0, topSize));
+        List<LeaderboardEntryResponse> top = new ArrayList<>(bestTimes.size());
+        Map<UUID, Optional<LeaderboardEntryResponse>> ranks = new ConcurrentHashMap<>();
+        for (int i = 0; i < bestTimes.size(); i++) {
+            top.add(LeaderboardEntryResponse.of(i + 1, bestTimes.get(i)));
+            ranks.put(bestTimes.get(i).getProfile().getId(),
+                    Optional.of(LeaderboardEntryResponse.ofOwner(i + 1, bestTimes.get(i))));
+        }
+
+        long totalRunners = bestTimes.size() < topSize
+                ? bestTimes.size()
+                : courseBestTimeRepository.countByCourseId(courseId);
+        Leaderboard loaded = new Leaderboard(List.copyOf(top), totalRunners, ranks);
+
+        synchronized (cache) {
+            if (loadGeneration == generation) {
+                cache.put(courseId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 상위 K 밖의 내 순위 계산 (인덱스 범위 COUNT)
+     */
+    private Optional<LeaderboardEntryResponse> loadMyEntry(UUID courseId, UUID profileId) {
+        return courseBestTimeRepository.findByCourseIdAndProfileId(courseId, profileId)
+                .map(bestTime -> LeaderboardEntryResponse.ofOwner(
+                        courseBestTimeRepository.countAhead(courseId, bestTime.getDuration(), bestTime.getAchievedAt()) + 1,
+                        bestTime));
+    }
+
+    private void invalidate(Set<UUID> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        synchronized (cache) {
+            generation++;
+            courseIds.stream().filter(Objects::nonNull).forEach(cache::remove);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.PopularCourseResponse;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.event.RunningRecordSavedEvent;
+import io.jongbeom.backend.repository.CoursePopularityRepository;
+import io.jongbeom.backend.util.StripedCounterTable;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코스 인기도 카운터 서비스
+ *
+ * 코스 상세 조회 / 공유 링크 열람 / 러닝 기록 저장 시 메모리 카운터(StripedCounterTable)만 올리고,
+ * 단일 스레드가 flush-interval 마다 증가분을 batch-size 단위 JDBC 배치 UPSERT 로 한 트랜잭션에 저장합니다.
+ * 저장에 실패하면 증가분을 되돌려 다음 주기에 다시 시도하고, 종료 시 남은 값을 한 번 더 저장합니다.
+ * (커밋 응답 유실 시 중복 반영될 수 있음 - at-least-once)
+ */
+@Service
+public class CoursePopularityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoursePopularityService.class);
+
+    private static final int VIEW = 0;
+    private static final int SHARE_OPEN = 1;
+    private static final int RUN = 2;
+
+    private static final int MAX_LIMIT = 100;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO course_popularity (course_id, view_count, share_open_count, run_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, LOCALTIMESTAMP) " +
+            "ON CONFLICT (course_id) DO UPDATE SET " +
+            "view_count = course_popularity.view_count + EXCLUDED.view_count, " +
+            "share_open_count = course_popularity.share_open_count + EXCLUDED.share_open_count, " +
+            "run_count = course_popularity.run_count + EXCLUDED.run_count, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final CoursePopularityRepository coursePopularityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledThreadPoolExecutor flushExecutor;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+
+    private final StripedCounterTable<UUID> counters = new StripedCounterTable<>(3);
+
+    public CoursePopularityService(
+            CoursePopularityRepository coursePopularityRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("popularityFlushExecutor") ScheduledThreadPoolExecutor flushExecutor,
+            @Value("${course.popularity.flush-interval-ms:10000}") long flushIntervalMillis,
+            @Value("${course.popularity.batch-size:500}") int batchSize) {
+        this.coursePopularityRepository = coursePopularityRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushExecutor = flushExecutor;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        flushExecutor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        flushSafely();
+    }
+
+    /**
+     * 코스 상세 조회 1회
+     */
+    public void recordView(UUID courseId) {
+        counters.increment(courseId, VIEW);
+    }
+
+    /**
+     * 공유 링크 열람 1회
+     */
+    public void recordShareOpen(UUID courseId) {
+        counters.increment(courseId, SHARE_OPEN);
+    }
+
+    /**
+     * 기록 저장 커밋 후 코스별 러닝 횟수 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordsSaved(RunningRecordSavedEvent event) {
+        for (RunningRecord record : event.records()) {
+            if (record.getCourse() != null) {
+                counters.increment(record.getCourse().getId(), RUN);
+            }
+        }
+    }
+
+    /**
+     * 인기 코스 조회 (마지막 저장 시점 기준)
+     *
+     * @param limit 최대 개수 (1 ~ 100)
+     */
+    @Transactional(readOnly = true)
+    public List<PopularCourseResponse> getPopular(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return coursePopularityRepository.findPopular(PageRequest.of(0, size)).stream()
+                .map(PopularCourseResponse::from)
+                .toList();
+    }
+
+    /**
+     * 쌓인 증가분 저장
+     *
+     * @return 저장한 코스 수
+     */
+    public int flush() {
+        Map<UUID, long[]> deltas = counters.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 인스턴스가 여러 대일 때 행 잠금 순서를 맞춰 교착을 피함
+        List<UUID> courseIds = new ArrayList<>(deltas.keySet());
+        courseIds.sort(null);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int from = 0; from < courseIds.size(); from += batchSize) {
+                    List<UUID> chunk = courseIds.subList(from, Math.min(from + batchSize, courseIds.size()));
+                    jdbcTemplate.batchUpdate(UPSERT_SQL, chunk, chunk.size(), (ps, courseId) -> {
+                        long[] values = deltas.get(courseId);
+                        ps.setObject(1, courseId);
+                        ps.setLong(2, values[VIEW]);
+                        ps.setLong(3, values[SHARE_OPEN]);
+                        ps.setLong(4, values[RUN]);
+                    });
+                }
+            });
+        } catch (RuntimeException e) {
+            counters.restore(deltas);
+            throw e;
+        }
+
+        logger.debug("[코스 인기도] 저장 완료: courses={}", courseIds.size());
+        return courseIds.size();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            logger.warn("[코스 인기도] 저장 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+}
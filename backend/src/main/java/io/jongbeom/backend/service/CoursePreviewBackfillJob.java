@@ -0,0 +1,77 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.repository.CourseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 코스 미리보기 백필 작업
+ *
+ * 미리보기 경로 / 썸네일 키 컬럼 추가 이전에 생성된 코스의 값을 청크 단위로 계산해 저장합니다.
+ * course.preview.backfill-on-startup=true 이면 애플리케이션 시작 후 백그라운드에서 실행됩니다.
+ */
+@Component
+public class CoursePreviewBackfillJob implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoursePreviewBackfillJob.class);
+
+    private static final int CHUNK_SIZE = 200;
+
+    private final CourseRepository courseRepository;
+    private final CourseService courseService;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+    private final boolean backfillOnStartup;
+
+    public CoursePreviewBackfillJob(
+            CourseRepository courseRepository,
+            CourseService courseService,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor,
+            @Value("${course.preview.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.courseRepository = courseRepository;
+        this.courseService = courseService;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfillOnStartup) {
+            backgroundJobExecutor.execute(this::backfill);
+        }
+    }
+
+    /**
+     * 백필 실행
+     *
+     * @return 미리보기가 설정된 코스 수
+     */
+    public int backfill() {
+        List<UUID> courseIds = courseRepository.findIdsWithoutPreview();
+        if (courseIds.isEmpty()) {
+            return 0;
+        }
+        logger.info("[코스 미리보기 백필] 시작: courses={}", courseIds.size());
+
+        int count = 0;
+        for (int from = 0; from < courseIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = courseIds.subList(from, Math.min(from + CHUNK_SIZE, courseIds.size()));
+            try {
+                count += courseService.backfillPreviews(chunk);
+            } catch (RuntimeException e) {
+                logger.error("[코스 미리보기 백필] 청크 처리 실패: {}", e.getMessage(), e);
+            }
+        }
+
+        logger.info("[코스 미리보기 백필] 완료: courses={}", count);
+        return count;
+    }
+}
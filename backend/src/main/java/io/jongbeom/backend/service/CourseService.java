@@ -2,21 +2,26 @@ package io.jongbeom.backend.service;
 
 import io.jongbeom.backend.dto.CourseRequest;
 import io.jongbeom.backend.dto.CourseResponse;
+import io.jongbeom.backend.dto.CourseSummaryResponse;
 import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.entity.ElevationProfile;
 import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.event.CourseDeletedEvent;
+import io.jongbeom.backend.event.CourseSavedEvent;
 import io.jongbeom.backend.exception.ResourceNotFoundException;
 import io.jongbeom.backend.repository.CourseRepository;
 import io.jongbeom.backend.repository.ProfileRepository;
+import io.jongbeom.backend.util.CourseThumbnailRenderer;
+import io.jongbeom.backend.util.RoutePreview;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.geom.MultiPoint;
-import org.locationtech.jts.io.ParseException;
-import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.security.SecureRandom;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -26,118 +31,132 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CourseService {
 
-    private static final String SHARE_CODE_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-    private static final int SHARE_CODE_LENGTH = 8;
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final int MAX_SHARE_CODE_ATTEMPTS = 5;
 
     private final CourseRepository courseRepository;
     private final ProfileRepository profileRepository;
-
-    /**
-     * 고유한 8자리 shareCode 생성 (영문 대문자 + 숫자)
-     */
-    private String generateUniqueShareCode() {
-        String shareCode;
-        int maxAttempts = 10;
-        int attempts = 0;
-
-        do {
-            StringBuilder sb = new StringBuilder(SHARE_CODE_LENGTH);
-            for (int i = 0; i < SHARE_CODE_LENGTH; i++) {
-                sb.append(SHARE_CODE_CHARS.charAt(SECURE_RANDOM.nextInt(SHARE_CODE_CHARS.length())));
-            }
-            shareCode = sb.toString();
-            attempts++;
-
-            if (attempts >= maxAttempts) {
-                throw new IllegalStateException("고유한 공유 코드를 생성할 수 없습니다.");
-            }
-        } while (courseRepository.existsByShareCode(shareCode));
-
-        return shareCode;
-    }
+    private final ShareCodeGenerator shareCodeGenerator;
+    private final CourseSimilarityService courseSimilarityService;
+    private final CourseIngestNormalizer courseIngestNormalizer;
+    private final ElevationService elevationService;
+    private final CoursePopularityService coursePopularityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 코스 생성
+     *
+     * 경로 정규화 / 고도 계산은 한 번만 하고, 저장은 공유 코드마다 별도 트랜잭션으로 실행합니다.
+     * 공유 코드가 기존 코드(이전 방식의 무작위 코드 등)와 충돌하면 다음 순번의 코드로 다시 저장합니다.
      */
-    @Transactional
-    public CourseResponse createCourse(String email, CourseRequest request) {
-        log.info("[코스 생성] 시작: email={}, name={}", email, request.getName());
-
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+    public CourseResponse createCourse(UUID profileId, CourseRequest request) {
+        log.info("[코스 생성] 시작: profileId={}, name={}", profileId, request.getName());
 
-        try {
-            GeoJsonReader reader = new GeoJsonReader();
-
-            // GeoJSON 문자열을 JTS Geometry로 파싱
-            LineString route = (LineString) reader.read(request.getRouteGeoJson());
-            MultiPoint waypoints = (MultiPoint) reader.read(request.getWaypointsGeoJson());
-
-            // SRID 설정 (WGS84 = 4326)
-            route.setSRID(4326);
-            waypoints.setSRID(4326);
+        // 경로 검증 / 정규화 (크기 제한, 중복·스파이크 제거, 거리 재계산)
+        CourseIngestNormalizer.NormalizedCourse normalized =
+                courseIngestNormalizer.normalize(request.getRouteGeoJson(), request.getWaypointsGeoJson());
+        ElevationProfile elevation = elevationService.profile(normalized.route());
 
+        for (int attempt = 1; ; attempt++) {
             // 고유한 shareCode 생성
-            String shareCode = generateUniqueShareCode();
-
-            Course course = Course.builder()
-                    .name(request.getName())
-                    .route(route)
-                    .waypoints(waypoints)
-                    .distance(request.getDistance())
-                    .duration(request.getDuration())
-                    .profile(profile)
-                    .isActive(true)
-                    .shareCode(shareCode)
-                    .build();
-
-            Course savedCourse = courseRepository.save(course);
-
-            log.info("[코스 생성] 완료: id={}", savedCourse.getId());
-
-            return CourseResponse.from(savedCourse);
-        } catch (ParseException e) {
-            log.error("[코스 생성] GeoJSON 파싱 실패: {}", e.getMessage());
-            throw new IllegalArgumentException("잘못된 GeoJSON 형식입니다: " + e.getMessage());
+            String shareCode = shareCodeGenerator.nextCode();
+            try {
+                return transactionTemplate.execute(status ->
+                        saveCourse(profileId, request, normalized, elevation, shareCode));
+            } catch (DataIntegrityViolationException e) {
+                if (!ShareCodeGenerator.isConflict(e) || attempt >= MAX_SHARE_CODE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("[코스 생성] 공유 코드 충돌, 다음 코드로 재시도: shareCode={}, attempt={}", shareCode, attempt);
+            }
         }
     }
 
+    private CourseResponse saveCourse(
+            UUID profileId,
+            CourseRequest request,
+            CourseIngestNormalizer.NormalizedCourse normalized,
+            ElevationProfile elevation,
+            String shareCode) {
+        Profile profile = profileRepository.getReferenceById(profileId);
+        LineString route = normalized.route();
+
+        Course course = Course.builder()
+                .name(request.getName())
+                .route(route)
+                .startPoint(route.getStartPoint())
+                .previewPolyline(RoutePreview.of(route, RoutePreview.DEFAULT_MAX_POINTS))
+                .thumbnailKey(CourseThumbnailRenderer.contentKey(route))
+                .elevation(elevation)
+                .waypoints(normalized.waypoints())
+                .distance(normalized.distance())
+                .duration(request.getDuration())
+                .profile(profile)
+                .isActive(true)
+                .shareCode(shareCode)
+                .build();
+
+        // 경로 지문 (유사 코스 검색용)
+        courseSimilarityService.fingerprint(course);
+
+        // 공유 코드 충돌을 이 트랜잭션 안에서 확인하도록 바로 INSERT
+        Course savedCourse = courseRepository.saveAndFlush(course);
+        eventPublisher.publishEvent(new CourseSavedEvent(savedCourse));
+
+        log.info("[코스 생성] 완료: id={}, distance={} (요청 {})",
+                savedCourse.getId(), normalized.distance(), request.getDistance());
+
+        return CourseResponse.from(savedCourse);
+    }
+
     /**
-     * 사용자의 모든 코스 조회
+     * 사용자의 모든 코스 조회 (목록용, 전체 경로 대신 미리보기 경로 포함)
+     *
+     * 미리보기는 코스 생성 시 한 번 계산해 저장합니다.
+     * 컬럼 추가 이전에 생성된 코스는 CoursePreviewBackfillJob 이 채웁니다. (그 전까지는 미리보기 없이 반환)
      */
     @Transactional(readOnly = true)
-    public List<CourseResponse> getMyCourses(String email) {
-        log.info("[코스 목록 조회] email={}", email);
-
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-
-        List<Course> courses = courseRepository.findByProfileAndIsActiveTrueOrderByCreatedAtDesc(profile);
+    public List<CourseSummaryResponse> getMyCourses(UUID profileId) {
+        log.info("[코스 목록 조회] profileId={}", profileId);
 
-        return courses.stream()
-                .map(CourseResponse::from)
+        return courseRepository.findListByProfileId(profileId).stream()
+                .map(view -> CourseSummaryResponse.of(view, view.getPreviewPolyline(), view.getThumbnailKey()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 미리보기 경로 / 썸네일 키가 없는 코스에 값 설정 (백필 청크 단위)
+     */
+    @Transactional
+    public int backfillPreviews(List<UUID> courseIds) {
+        int count = 0;
+        for (Course course : courseRepository.findAllById(courseIds)) {
+            if (course.getRoute() != null
+                    && (course.getPreviewPolyline() == null || course.getThumbnailKey() == null)) {
+                course.setPreviewPolyline(RoutePreview.of(course.getRoute(), RoutePreview.DEFAULT_MAX_POINTS));
+                course.setThumbnailKey(CourseThumbnailRenderer.contentKey(course.getRoute()));
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * 특정 코스 조회
      */
     @Transactional(readOnly = true)
-    public CourseResponse getCourseById(String email, String courseId) {
-        log.info("[코스 상세 조회] email={}, courseId={}", email, courseId);
-
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+    public CourseResponse getCourseById(UUID profileId, String courseId) {
+        log.info("[코스 상세 조회] profileId={}, courseId={}", profileId, courseId);
 
         Course course = courseRepository.findById(UUID.fromString(courseId))
                 .orElseThrow(() -> new ResourceNotFoundException("코스를 찾을 수 없습니다."));
 
         // 본인의 코스인지 확인
-        if (!course.getProfile().getId().equals(profile.getId())) {
+        if (!course.getProfile().getId().equals(profileId)) {
             throw new ResourceNotFoundException("접근 권한이 없습니다.");
         }
 
+        coursePopularityService.recordView(course.getId());
         return CourseResponse.from(course);
     }
 
@@ -145,22 +164,20 @@ public class CourseService {
      * 코스 삭제 (논리 삭제)
      */
     @Transactional
-    public void deleteCourse(String email, String courseId) {
-        log.info("[코스 삭제] email={}, courseId={}", email, courseId);
-
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
+    public void deleteCourse(UUID profileId, String courseId) {
+        log.info("[코스 삭제] profileId={}, courseId={}", profileId, courseId);
 
         Course course = courseRepository.findById(UUID.fromString(courseId))
                 .orElseThrow(() -> new ResourceNotFoundException("코스를 찾을 수 없습니다."));
 
         // 본인의 코스인지 확인
-        if (!course.getProfile().getId().equals(profile.getId())) {
+        if (!course.getProfile().getId().equals(profileId)) {
             throw new ResourceNotFoundException("접근 권한이 없습니다.");
         }
 
         course.setIsActive(false);
         courseRepository.save(course);
+        eventPublisher.publishEvent(new CourseDeletedEvent(course));
 
         log.info("[코스 삭제] 완료: courseId={}", courseId);
     }
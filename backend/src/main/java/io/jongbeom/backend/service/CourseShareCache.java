@@ -0,0 +1,117 @@
+package io.jongbeom.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jongbeom.backend.dto.CourseResponse;
+import io.jongbeom.backend.event.CourseDeletedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 공유 코드 코스 조회 캐시
+ *
+ * 공개 API(GET /api/courses/share/{shareCode}) 응답을 직렬화된 JSON 바이트와 강한 ETag 로 보관합니다.
+ * 캐시 적중 시 DB 조회와 GeoJSON/JSON 직렬화를 모두 생략하며,
+ * 코스 삭제(비활성화) 커밋 후 해당 공유 코드를 무효화합니다.
+ */
+@Component
+public class CourseShareCache {
+
+    private final CourseService courseService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * shareCode → 직렬화된 응답 (접근 순서 LRU)
+     */
+    private final LinkedHashMap<String, SharedCourse> cache;
+
+    /**
+     * 무효화 세대 - 조회 도중 무효화가 일어나면 결과를 캐시에 넣지 않음
+     */
+    private long generation;
+
+    public CourseShareCache(
+            CourseService courseService,
+            ObjectMapper objectMapper,
+            @Value("${course.share-cache.max-entries:10000}") int maxEntries) {
+        this.courseService = courseService;
+        this.objectMapper = objectMapper;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SharedCourse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 직렬화된 공유 코스 응답
+     *
+     * @param courseId 코스 ID
+     * @param json CourseResponse JSON 바이트
+     * @param eTag 강한 ETag (따옴표 포함)
+     */
+    public record SharedCourse(UUID courseId, byte[] json, String eTag) {
+    }
+
+    /**
+     * 공유 코드로 코스 조회 (캐시 우선)
+     *
+     * @throws io.jongbeom.backend.exception.ResourceNotFoundException 활성 코스가 없을 때
+     */
+    public SharedCourse get(String shareCode) {
+        long loadGeneration;
+        synchronized (cache) {
+            SharedCourse cached = cache.get(shareCode);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        CourseResponse response = courseService.getCourseByShareCode(shareCode);
+        SharedCourse loaded = serialize(response);
+
+        synchronized (cache) {
+            if (loadGeneration == generation) {
+                cache.put(shareCode, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 코스 삭제 커밋 후 공유 코드 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        String shareCode = event.course().getShareCode();
+        if (shareCode == null) {
+            return;
+        }
+        synchronized (cache) {
+            generation++;
+            cache.remove(shareCode);
+        }
+    }
+
+    private SharedCourse serialize(CourseResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String eTag = "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+            return new SharedCourse(UUID.fromString(response.getId()), json, eTag);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("코스 응답 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.SimilarCourseResponse;
+import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.repository.SimilarCourseView;
+import io.jongbeom.backend.util.RouteFingerprint;
+import org.locationtech.jts.geom.LineString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 유사 코스 검색 서비스
+ *
+ * 코스 생성 시 경로 지문(MinHash 서명 + LSH 밴드 키)을 저장하고,
+ * 밴드 키 인덱스로 후보만 골라 서명 유사도를 비교합니다. (전체 코스 비교 없음)
+ */
+@Service
+public class CourseSimilarityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseSimilarityService.class);
+
+    /**
+     * 서명을 비교할 최대 후보 수
+     */
+    private static final int MAX_CANDIDATES = 500;
+
+    private final CourseRepository courseRepository;
+    private final CourseIngestNormalizer courseIngestNormalizer;
+    private final double threshold;
+    private final int maxResults;
+
+    public CourseSimilarityService(
+            CourseRepository courseRepository,
+            CourseIngestNormalizer courseIngestNormalizer,
+            @Value("${course.similarity.threshold:0.6}") double threshold,
+            @Value("${course.similarity.max-results:20}") int maxResults) {
+        this.courseRepository = courseRepository;
+        this.courseIngestNormalizer = courseIngestNormalizer;
+        this.threshold = threshold;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * 코스에 경로 지문 설정 (저장은 호출한 트랜잭션에서)
+     */
+    public void fingerprint(Course course) {
+        int[] signature = RouteFingerprint.signature(course.getRoute());
+        course.setRouteSignature(RouteFingerprint.toBytes(signature));
+        course.getFingerprintBands().clear();
+        for (long key : RouteFingerprint.bandKeys(signature)) {
+            course.getFingerprintBands().add(key);
+        }
+    }
+
+    /**
+     * 두 서명이 유사 코스 기준을 넘는지 확인 (서명이 없으면 false)
+     */
+    public boolean isSimilar(byte[] a, byte[] b) {
+        if (a == null || b == null) {
+            return false;
+        }
+        return RouteFingerprint.similarity(RouteFingerprint.fromBytes(a), RouteFingerprint.fromBytes(b)) >= threshold;
+    }
+
+    /**
+     * 내 코스와 유사한 코스 조회
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarCourseResponse> findSimilar(UUID profileId, String courseId) {
+        Course course = courseRepository.findById(UUID.fromString(courseId))
+                .orElseThrow(() -> new ResourceNotFoundException("코스를 찾을 수 없습니다."));
+
+        if (!course.getProfile().getId().equals(profileId)) {
+            throw new ResourceNotFoundException("접근 권한이 없습니다.");
+        }
+        if (course.getRoute() == null) {
+            return List.of();
+        }
+
+        int[] signature = course.getRouteSignature() != null
+                ? RouteFingerprint.fromBytes(course.getRouteSignature())
+                : RouteFingerprint.signature(course.getRoute());
+        return match(signature, course.getId());
+    }
+
+    /**
+     * 경로와 유사한 코스 조회 (저장 전 중복 확인, 기존 경로 재사용)
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarCourseResponse> findSimilarToRoute(String routeGeoJson) {
+        LineString route = courseIngestNormalizer.normalizeRoute(routeGeoJson);
+        return match(RouteFingerprint.signature(route), null);
+    }
+
+    /**
+     * 지문이 없는 코스에 지문 설정 (백필 청크 단위)
+     */
+    @Transactional
+    public int fingerprintCourses(List<UUID> courseIds) {
+        int count = 0;
+        for (Course course : courseRepository.findAllById(courseIds)) {
+            if (course.getRoute() != null && course.getRouteSignature() == null) {
+                fingerprint(course);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<SimilarCourseResponse> match(int[] signature, UUID excludeId) {
+        Set<Long> bandKeys = Arrays.stream(RouteFingerprint.bandKeys(signature)).boxed().collect(Collectors.toSet());
+        List<SimilarCourseView> candidates =
+                courseRepository.findSimilarCandidates(bandKeys, PageRequest.of(0, MAX_CANDIDATES));
+
+        List<SimilarCourseResponse> results = new ArrayList<>();
+        for (SimilarCourseView candidate : candidates) {
+            if (candidate.getId().equals(excludeId)) {
+                continue;
+            }
+            double similarity = RouteFingerprint.similarity(signature, RouteFingerprint.fromBytes(candidate.getRouteSignature()));
+            if (similarity >= threshold) {
+                results.add(SimilarCourseResponse.of(candidate, similarity));
+            }
+        }
+        results.sort(Comparator.comparing(SimilarCourseResponse::getSimilarity).reversed());
+
+        logger.debug("[유사 코스] candidates={}, matches={}", candidates.size(), results.size());
+        return results.size() > maxResults ? results.subList(0, maxResults) : results;
+    }
+}
@@ -0,0 +1,148 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.event.CourseDeletedEvent;
+import io.jongbeom.backend.event.CourseSavedEvent;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.util.CourseThumbnailRenderer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.regex.Pattern;
+
+/**
+ * 코스 썸네일 서비스
+ *
+ * 코스 생성 커밋 후 썸네일 PNG 를 백그라운드에서 렌더링해 콘텐츠 주소 디스크 캐시
+ * ({cache-dir}/{키 앞 2자}/{키}.png)에 저장합니다. 키가 경로 내용으로 정해지므로 파일은 바뀌지 않고,
+ * 클라이언트는 오래 캐시할 수 있습니다. 파일이 없으면(렌더링 전, 캐시 디렉터리 유실) 요청 시 렌더링합니다.
+ */
+@Service
+public class CourseThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseThumbnailService.class);
+
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final CourseRepository courseRepository;
+    private final ThreadPoolExecutor thumbnailExecutor;
+    private final Path root;
+
+    public CourseThumbnailService(
+            CourseRepository courseRepository,
+            @Qualifier("thumbnailExecutor") ThreadPoolExecutor thumbnailExecutor,
+            @Value("${course.thumbnail.cache-dir:${java.io.tmpdir}/runrun-thumbnails}") String cacheDir) throws IOException {
+        this.courseRepository = courseRepository;
+        this.thumbnailExecutor = thumbnailExecutor;
+        this.root = Path.of(cacheDir);
+
+        Files.createDirectories(root);
+    }
+
+    /**
+     * 코스 생성 커밋 후 썸네일 렌더링 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseSaved(CourseSavedEvent event) {
+        Course course = event.course();
+        String key = course.getThumbnailKey();
+        if (key == null || course.getRoute() == null || Files.exists(path(key))) {
+            return;
+        }
+
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    store(key, CourseThumbnailRenderer.render(course.getRoute()));
+                } catch (RuntimeException e) {
+                    logger.error("[코스 썸네일] 렌더링 실패: courseId={}", course.getId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 첫 요청 시 렌더링되므로 건너뜀
+            logger.warn("[코스 썸네일] 렌더링 대기열 가득 참, 요청 시 렌더링: courseId={}", course.getId());
+        }
+    }
+
+    /**
+     * 코스 삭제 커밋 후 더 이상 쓰이지 않는 썸네일 파일 삭제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        String key = event.course().getThumbnailKey();
+        if (key == null) {
+            return;
+        }
+
+        try {
+            thumbnailExecutor.execute(() -> {
+                if (!courseRepository.existsByThumbnailKeyAndIsActiveTrue(key)) {
+                    deleteQuietly(path(key));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warn("[코스 썸네일] 삭제 대기열 가득 참, 파일 유지: key={}", key);
+        }
+    }
+
+    /**
+     * 썸네일 PNG 조회 (캐시에 없으면 렌더링 후 저장)
+     *
+     * @param key 콘텐츠 키
+     */
+    public byte[] getThumbnail(String key) {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new ResourceNotFoundException("썸네일을 찾을 수 없습니다.");
+        }
+
+        Path path = path(key);
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            // 캐시 미스 → 아래에서 렌더링
+        }
+
+        Course course = courseRepository.findFirstByThumbnailKeyAndIsActiveTrue(key)
+                .orElseThrow(() -> new ResourceNotFoundException("썸네일을 찾을 수 없습니다."));
+        byte[] png = CourseThumbnailRenderer.render(course.getRoute());
+        store(key, png);
+        logger.debug("[코스 썸네일] 요청 시 렌더링: key={}", key);
+        return png;
+    }
+
+    private void store(String key, byte[] png) {
+        Path path = path(key);
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "thumbnail", ".tmp");
+            Files.write(temp, png);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("[코스 썸네일] 캐시 저장 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("[코스 썸네일] 캐시 삭제 실패: {}", path);
+        }
+    }
+
+    private Path path(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key + ".png");
+    }
+}
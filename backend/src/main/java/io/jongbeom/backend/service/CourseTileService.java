@@ -0,0 +1,168 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.event.CourseDeletedEvent;
+import io.jongbeom.backend.event.CourseSavedEvent;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.util.TileMath;
+import org.locationtech.jts.geom.Envelope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 코스 벡터 타일 서비스 (Mapbox Vector Tile)
+ *
+ * PostGIS ST_AsMVT 로 타일 단위 코스 경로를 생성하고 메모리 LRU 캐시에 보관합니다.
+ * 경로는 줌 레벨의 화면 1픽셀 크기로 단순화하므로 응답 크기는 코스 수가 아니라 보이는 타일 수에 비례합니다.
+ * 코스 생성/삭제 커밋 후에는 해당 경로와 겹치는 캐시 타일만 무효화합니다.
+ */
+@Service
+public class CourseTileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CourseTileService.class);
+
+    /**
+     * EPSG:3857 적도 둘레 (미터)
+     */
+    private static final double EARTH_CIRCUMFERENCE = 2 * Math.PI * 6378137;
+
+    /**
+     * ST_AsMVT 타일 좌표 범위 / 타일 가장자리 여유 (타일 좌표 단위)
+     */
+    private static final int EXTENT = 4096;
+    private static final int BUFFER = 64;
+
+    private final CourseRepository courseRepository;
+    private final int minZoom;
+    private final int maxZoom;
+
+    /**
+     * 타일 키(z, x, y) → MVT 바이트 (접근 순서 LRU)
+     */
+    private final LinkedHashMap<Long, byte[]> cache;
+
+    /**
+     * 무효화 세대 - 생성 도중 무효화가 일어나면 결과를 캐시에 넣지 않음
+     */
+    private long generation;
+
+    public CourseTileService(
+            CourseRepository courseRepository,
+            @Value("${course.tiles.min-zoom:8}") int minZoom,
+            @Value("${course.tiles.max-zoom:18}") int maxZoom,
+            @Value("${course.tiles.cache-max-entries:5000}") int maxEntries) {
+        if (minZoom < 0 || maxZoom > 24 || minZoom > maxZoom) {
+            throw new IllegalArgumentException("course.tiles 줌 범위가 올바르지 않습니다.");
+        }
+        this.courseRepository = courseRepository;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 벡터 타일 조회
+     *
+     * @return MVT 바이트 (코스가 없으면 빈 배열)
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < minZoom || z > maxZoom || !TileMath.isValidTile(z, x, y)) {
+            throw new ResourceNotFoundException("코스 타일을 찾을 수 없습니다.");
+        }
+
+        long key = key(z, x, y);
+        long loadGeneration;
+        synchronized (cache) {
+            byte[] cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            loadGeneration = generation;
+        }
+
+        double tileMeters = EARTH_CIRCUMFERENCE / (1L << z);
+        byte[] tile = courseRepository.findCourseTile(z, x, y,
+                tileMeters / TileMath.TILE_SIZE, tileMeters * BUFFER / EXTENT);
+        if (tile == null) {
+            tile = new byte[0];
+        }
+
+        synchronized (cache) {
+            if (loadGeneration == generation) {
+                cache.put(key, tile);
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * 코스 생성 커밋 후 겹치는 타일 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseSaved(CourseSavedEvent event) {
+        invalidate(event.course());
+    }
+
+    /**
+     * 코스 삭제 커밋 후 겹치는 타일 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCourseDeleted(CourseDeletedEvent event) {
+        invalidate(event.course());
+    }
+
+    private void invalidate(Course course) {
+        if (course.getRoute() == null) {
+            return;
+        }
+        Envelope bbox = course.getRoute().getEnvelopeInternal();
+
+        // 줌별 경로 bbox 의 타일 범위 (타일 여유 BUFFER 포함)
+        double margin = (double) TileMath.TILE_SIZE * BUFFER / EXTENT;
+        int[][] ranges = new int[maxZoom + 1][];
+        for (int z = minZoom; z <= maxZoom; z++) {
+            ranges[z] = new int[]{
+                    (int) Math.floor((TileMath.pixelX(bbox.getMinX(), z) - margin) / TileMath.TILE_SIZE),
+                    (int) Math.floor((TileMath.pixelY(bbox.getMaxY(), z) - margin) / TileMath.TILE_SIZE),
+                    (int) Math.floor((TileMath.pixelX(bbox.getMaxX(), z) + margin) / TileMath.TILE_SIZE),
+                    (int) Math.floor((TileMath.pixelY(bbox.getMinY(), z) + margin) / TileMath.TILE_SIZE)
+            };
+        }
+
+        int removed = 0;
+        synchronized (cache) {
+            generation++;
+            Iterator<Long> iterator = cache.keySet().iterator();
+            while (iterator.hasNext()) {
+                long key = iterator.next();
+                int z = (int) (key >>> 50);
+                int x = (int) ((key >>> 25) & 0x1FFFFFF);
+                int y = (int) (key & 0x1FFFFFF);
+                int[] range = ranges[z];
+                if (x >= range[0] && x <= range[2] && y >= range[1] && y <= range[3]) {
+                    iterator.remove();
+                    removed++;
+                }
+            }
+        }
+        logger.debug("[코스 타일] 무효화: courseId={}, tiles={}", course.getId(), removed);
+    }
+
+    private static long key(int z, int x, int y) {
+        return ((long) z << 50) | ((long) x << 25) | y;
+    }
+}
@@ -0,0 +1,52 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.ElevationProfile;
+import io.jongbeom.backend.util.DemElevationModel;
+import io.jongbeom.backend.util.ElevationProfileCalculator;
+import org.locationtech.jts.geom.LineString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 고도 서비스 (로컬 DEM)
+ *
+ * elevation.dem-dir 의 SRTM .hgt 타일로 경로 고도 프로필을 계산합니다. 외부 고도 API 를 사용하지 않으며,
+ * 디렉터리가 설정되지 않았거나 해당 지역 타일이 없으면 고도 정보 없이 저장됩니다.
+ */
+@Service
+public class ElevationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ElevationService.class);
+
+    private final DemElevationModel model;
+
+    public ElevationService(
+            @Value("${elevation.dem-dir:}") String demDir,
+            @Value("${elevation.max-open-tiles:16}") int maxOpenTiles) {
+        if (demDir.isBlank() || !Files.isDirectory(Path.of(demDir))) {
+            this.model = null;
+            logger.info("[고도] DEM 디렉터리 없음, 고도 계산 비활성화: dem-dir={}", demDir);
+        } else {
+            this.model = new DemElevationModel(Path.of(demDir), maxOpenTiles);
+            logger.info("[고도] DEM 사용: dem-dir={}", demDir);
+        }
+    }
+
+    /**
+     * 경로 고도 프로필 계산
+     *
+     * @return 고도 프로필, DEM 이 없거나 고도를 알 수 없으면 null
+     */
+    public ElevationProfile profile(LineString route) {
+        if (model == null || route == null) {
+            return null;
+        }
+        ElevationProfileCalculator.Result result = ElevationProfileCalculator.calculate(route, model);
+        return result != null ? ElevationProfile.of(result) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package io.jongbeom.backend.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 히트맵 전체 재구성 작업
+ *
+ * heatmap.rebuild-on-startup=true 이면 애플리케이션 시작 후 백그라운드에서 실행됩니다.
+ * (최초 도입 시, 또는 base-zoom 변경 후)
+ * 타일이 러너별 타일 없이 경로 수로 집계되어 있으면 (러너 수 집계 도입 전 데이터) 설정과 관계없이 재구성합니다.
+ */
+@Component
+public class HeatmapRebuildJob implements ApplicationRunner {
+
+    private final HeatmapService heatmapService;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+    private final boolean rebuildOnStartup;
+
+    public HeatmapRebuildJob(
+            HeatmapService heatmapService,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor,
+            @Value("${heatmap.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.heatmapService = heatmapService;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        backgroundJobExecutor.execute(() -> {
+            if (rebuildOnStartup || heatmapService.needsRebuild()) {
+                heatmapService.rebuild();
+            }
+        });
+    }
+}
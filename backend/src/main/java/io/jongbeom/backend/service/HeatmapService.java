@@ -0,0 +1,480 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.HeatmapProfileTile;
+import io.jongbeom.backend.entity.HeatmapTile;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.event.RunningRecordDeletedEvent;
+import io.jongbeom.backend.event.RunningRecordSavedEvent;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.HeatmapProfileTileRepository;
+import io.jongbeom.backend.repository.HeatmapTileRepository;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.util.DeltaVarintCodec;
+import io.jongbeom.backend.util.HeatmapGrid;
+import io.jongbeom.backend.util.TileMath;
+import org.locationtech.jts.geom.LineString;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 커뮤니티 히트맵 서비스
+ *
+ * 모든 러닝 기록 경로를 기준 줌(base-zoom) 타일의 64x64 격자로 집계해 칸마다 지나간 서로 다른 러너 수를
+ * heatmap_tiles 에 저장하고, 요청된 줌 레벨의 PNG 타일을 렌더링하여 디스크 캐시(HeatmapTileCache)에 보관합니다.
+ * 러너 수가 min-count 미만인 칸은 그리지 않으므로 한 사람이 같은 길을 여러 번 달려도 공개 타일에 나타나지 않습니다.
+ * - 러너별 칸 통과 횟수는 heatmap_profile_tiles 에 두고, 0 ↔ 1 이상으로 바뀌는 칸만 러너 수를 갱신
+ * - 증분 갱신: 기록 저장/삭제 커밋 이후 heatmapExecutor(단일 스레드)에서 해당 타일만 수정
+ * - 전체 재구성: 러너를 청크로 나눠 analysisExecutor 에서 병렬 래스터화 후 병합
+ */
+@Service
+public class HeatmapService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeatmapService.class);
+
+    private static final int CELLS = HeatmapGrid.BINS * HeatmapGrid.BINS;
+    private static final int CHUNK_SIZE = 50;
+
+    private final HeatmapTileRepository heatmapTileRepository;
+    private final HeatmapProfileTileRepository heatmapProfileTileRepository;
+    private final RunningRecordRepository runningRecordRepository;
+    private final HeatmapTileCache tileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor heatmapExecutor;
+    private final ThreadPoolExecutor analysisExecutor;
+    private final int baseZoom;
+    private final int minZoom;
+    private final int maxZoom;
+    private final int minCount;
+    private final int saturationCount;
+
+    public HeatmapService(
+            HeatmapTileRepository heatmapTileRepository,
+            HeatmapProfileTileRepository heatmapProfileTileRepository,
+            RunningRecordRepository runningRecordRepository,
+            HeatmapTileCache tileCache,
+            TransactionTemplate transactionTemplate,
+            @Qualifier("heatmapExecutor") ThreadPoolExecutor heatmapExecutor,
+            @Qualifier("analysisExecutor") ThreadPoolExecutor analysisExecutor,
+            @Value("${heatmap.base-zoom:14}") int baseZoom,
+            @Value("${heatmap.min-zoom:10}") int minZoom,
+            @Value("${heatmap.max-zoom:16}") int maxZoom,
+            @Value("${heatmap.min-count:2}") int minCount,
+            @Value("${heatmap.saturation-count:50}") int saturationCount) {
+        if (minZoom > baseZoom || maxZoom < baseZoom || (HeatmapGrid.BINS >> (maxZoom - baseZoom)) < 1) {
+            throw new IllegalStateException("히트맵 줌 설정이 올바르지 않습니다.");
+        }
+        this.heatmapTileRepository = heatmapTileRepository;
+        this.heatmapProfileTileRepository = heatmapProfileTileRepository;
+        this.runningRecordRepository = runningRecordRepository;
+        this.tileCache = tileCache;
+        this.transactionTemplate = transactionTemplate;
+        this.heatmapExecutor = heatmapExecutor;
+        this.analysisExecutor = analysisExecutor;
+        this.baseZoom = baseZoom;
+        this.minZoom = minZoom;
+        this.maxZoom = maxZoom;
+        this.minCount = minCount;
+        this.saturationCount = saturationCount;
+    }
+
+    /**
+     * 기록 저장 커밋 후 증분 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordsSaved(RunningRecordSavedEvent event) {
+        Map<UUID, List<LineString>> routes = new LinkedHashMap<>();
+        for (RunningRecord record : event.records()) {
+            if (record.getActualRoute() != null) {
+                routes.computeIfAbsent(record.getProfile().getId(), id -> new ArrayList<>())
+                        .add(record.getActualRoute());
+            }
+        }
+        if (!routes.isEmpty()) {
+            heatmapExecutor.execute(() -> applyRoutes(routes, 1));
+        }
+    }
+
+    /**
+     * 기록 삭제 커밋 후 증분 갱신 (경로 카운트 차감)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordDeleted(RunningRecordDeletedEvent event) {
+        LineString route = event.record().getActualRoute();
+        if (route != null) {
+            UUID profileId = event.record().getProfile().getId();
+            heatmapExecutor.execute(() -> applyRoutes(Map.of(profileId, List.of(route)), -1));
+        }
+    }
+
+    /**
+     * 히트맵 전체 재구성
+     *
+     * 래스터화는 analysisExecutor 에서 병렬로, 저장은 heatmapExecutor 에서 증분 갱신과 순서대로 수행합니다.
+     *
+     * @return 저장된 타일 수
+     */
+    public int rebuild() {
+        List<UUID> profileIds = runningRecordRepository.findProfileIdsWithRoute();
+        logger.info("[히트맵] 전체 재구성 시작: runners={}", profileIds.size());
+
+        List<CompletableFuture<RasterizedChunk>> futures = new ArrayList<>();
+        for (int from = 0; from < profileIds.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = profileIds.subList(from, Math.min(from + CHUNK_SIZE, profileIds.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> rasterize(chunk), analysisExecutor));
+        }
+
+        HeatmapGrid grid = new HeatmapGrid(baseZoom);
+        List<HeatmapProfileTile> profileTiles = new ArrayList<>();
+        for (CompletableFuture<RasterizedChunk> future : futures) {
+            RasterizedChunk chunk = future.join();
+            grid.merge(chunk.runners());
+            profileTiles.addAll(chunk.profileTiles());
+        }
+
+        CompletableFuture.runAsync(() -> replaceAll(grid, profileTiles), heatmapExecutor).join();
+
+        logger.info("[히트맵] 전체 재구성 완료: runners={}, tiles={}", profileIds.size(), grid.tiles().size());
+        return grid.tiles().size();
+    }
+
+    /**
+     * 러너별 타일이 없는 이전 형식(경로 수)으로 집계되어 있으면 true (시작 시 재구성 필요)
+     */
+    public boolean needsRebuild() {
+        return heatmapProfileTileRepository.count() == 0 && heatmapTileRepository.count() > 0;
+    }
+
+    /**
+     * 히트맵 PNG 타일 조회 (디스크 캐시 우선)
+     *
+     * @param z 줌 레벨
+     * @param x 타일 X
+     * @param y 타일 Y
+     * @return PNG 바이트
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < minZoom || z > maxZoom || !TileMath.isValidTile(z, x, y)) {
+            throw new ResourceNotFoundException("히트맵 타일을 찾을 수 없습니다.");
+        }
+
+        byte[] cached = tileCache.get(z, x, y);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = tileCache.generation();
+        byte[] png = encodePng(render(z, x, y));
+        tileCache.put(z, x, y, png, generation);
+        return png;
+    }
+
+    /**
+     * 재구성 청크 결과
+     *
+     * @param runners 칸별 러너 수
+     * @param profileTiles 러너별 타일
+     */
+    private record RasterizedChunk(HeatmapGrid runners, List<HeatmapProfileTile> profileTiles) {
+    }
+
+    /**
+     * 러너 청크 단위 래스터화 (재구성 작업 스레드)
+     */
+    private RasterizedChunk rasterize(List<UUID> profileIds) {
+        HeatmapGrid runners = new HeatmapGrid(baseZoom);
+        List<HeatmapProfileTile> profileTiles = new ArrayList<>();
+        for (UUID profileId : profileIds) {
+            HeatmapGrid grid = new HeatmapGrid(baseZoom);
+            runningRecordRepository.findRoutesByProfileId(profileId).forEach(grid::addRoute);
+            runners.mergeRunner(grid);
+            for (Map.Entry<Long, int[]> entry : grid.tiles().entrySet()) {
+                HeatmapProfileTile tile = HeatmapProfileTile.builder()
+                        .profileId(profileId)
+                        .tileKey(entry.getKey())
+                        .build();
+                setPasses(tile, entry.getValue());
+                profileTiles.add(tile);
+            }
+        }
+        return new RasterizedChunk(runners, profileTiles);
+    }
+
+    /**
+     * 경로를 러너별 타일에 더하거나 빼고, 러너 수가 바뀐 칸을 기존 타일에 반영 (heatmapExecutor 에서만 호출)
+     */
+    private void applyRoutes(Map<UUID, List<LineString>> routesByProfile, int sign) {
+        Map<Long, int[]> delta = new HashMap<>();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<UUID, List<LineString>> routes : routesByProfile.entrySet()) {
+                    applyRunnerRoutes(routes.getKey(), routes.getValue(), sign, delta);
+                }
+
+                Map<Long, HeatmapTile> existing = new HashMap<>();
+                for (HeatmapTile tile : heatmapTileRepository.findAllById(delta.keySet())) {
+                    existing.put(tile.getTileKey(), tile);
+                }
+
+                List<HeatmapTile> changed = new ArrayList<>(delta.size());
+                for (Map.Entry<Long, int[]> entry : delta.entrySet()) {
+                    HeatmapTile tile = existing.get(entry.getKey());
+                    int[] counts = tile != null ? decode(tile.getCounts()) : new int[CELLS];
+                    int[] bins = entry.getValue();
+                    for (int i = 0; i < CELLS; i++) {
+                        counts[i] = Math.max(0, counts[i] + bins[i]);
+                    }
+
+                    if (tile == null) {
+                        tile = HeatmapTile.builder()
+                                .tileKey(entry.getKey())
+                                .tileX(HeatmapGrid.keyX(entry.getKey()))
+                                .tileY(HeatmapGrid.keyY(entry.getKey()))
+                                .build();
+                    }
+                    tile.setCounts(encode(counts));
+                    changed.add(tile);
+                }
+                heatmapTileRepository.saveAll(changed);
+            });
+        } catch (RuntimeException e) {
+            logger.error("[히트맵] 증분 갱신 실패: runners={}, {}", routesByProfile.size(), e.getMessage(), e);
+            return;
+        }
+
+        for (long key : delta.keySet()) {
+            tileCache.invalidate(baseZoom, HeatmapGrid.keyX(key), HeatmapGrid.keyY(key), minZoom, maxZoom);
+        }
+    }
+
+    /**
+     * 한 러너의 칸별 통과 횟수 갱신 후 러너 수 변화량을 delta 에 누적
+     */
+    private void applyRunnerRoutes(UUID profileId, List<LineString> routes, int sign, Map<Long, int[]> delta) {
+        HeatmapGrid grid = new HeatmapGrid(baseZoom);
+        routes.forEach(grid::addRoute);
+
+        Map<Long, HeatmapProfileTile> existing = new HashMap<>();
+        for (HeatmapProfileTile tile : heatmapProfileTileRepository.findByProfileIdAndTileKeyIn(
+                profileId, grid.tiles().keySet())) {
+            existing.put(tile.getTileKey(), tile);
+        }
+
+        List<HeatmapProfileTile> changed = new ArrayList<>();
+        List<HeatmapProfileTile> emptied = new ArrayList<>();
+        for (Map.Entry<Long, int[]> entry : grid.tiles().entrySet()) {
+            HeatmapProfileTile tile = existing.get(entry.getKey());
+            int[] passes = tile != null ? getPasses(tile) : new int[CELLS];
+            int[] runners = delta.computeIfAbsent(entry.getKey(), k -> new int[CELLS]);
+            int[] bins = entry.getValue();
+            boolean empty = true;
+            for (int i = 0; i < CELLS; i++) {
+                int before = passes[i];
+                passes[i] = Math.max(0, before + sign * bins[i]);
+                runners[i] += (passes[i] > 0 ? 1 : 0) - (before > 0 ? 1 : 0);
+                empty &= passes[i] == 0;
+            }
+
+            if (empty) {
+                if (tile != null) {
+                    emptied.add(tile);
+                }
+                continue;
+            }
+            if (tile == null) {
+                tile = HeatmapProfileTile.builder()
+                        .profileId(profileId)
+                        .tileKey(entry.getKey())
+                        .build();
+            }
+            setPasses(tile, passes);
+            changed.add(tile);
+        }
+        heatmapProfileTileRepository.saveAll(changed);
+        heatmapProfileTileRepository.deleteAll(emptied);
+    }
+
+    /**
+     * 타일 전체 교체 (heatmapExecutor 에서만 호출)
+     */
+    private void replaceAll(HeatmapGrid grid, List<HeatmapProfileTile> profileTiles) {
+        transactionTemplate.executeWithoutResult(status -> {
+            heatmapTileRepository.deleteAllTiles();
+            heatmapProfileTileRepository.deleteAllTiles();
+            heatmapProfileTileRepository.saveAll(profileTiles);
+
+            List<HeatmapTile> tiles = new ArrayList<>(grid.tiles().size());
+            for (Map.Entry<Long, int[]> entry : grid.tiles().entrySet()) {
+                tiles.add(HeatmapTile.builder()
+                        .tileKey(entry.getKey())
+                        .tileX(HeatmapGrid.keyX(entry.getKey()))
+                        .tileY(HeatmapGrid.keyY(entry.getKey()))
+                        .counts(encode(entry.getValue()))
+                        .build());
+            }
+            heatmapTileRepository.saveAll(tiles);
+        });
+        tileCache.clear();
+    }
+
+    /**
+     * 요청 타일의 픽셀별 밀도 계산
+     *
+     * 기준 줌보다 낮으면 여러 기준 타일의 칸을 픽셀로 축소(최댓값),
+     * 높으면 기준 타일 하나의 칸을 여러 픽셀로 확대합니다.
+     */
+    private int[] render(int z, int x, int y) {
+        int size = TileMath.TILE_SIZE;
+        int[] pixels = new int[size * size];
+
+        if (z <= baseZoom) {
+            int shift = baseZoom - z;
+            int minX = x << shift;
+            int minY = y << shift;
+            int span = HeatmapGrid.BINS << shift;
+
+            for (HeatmapTile tile : heatmapTileRepository.findInRange(
+                    minX, minX + (1 << shift) - 1, minY, minY + (1 << shift) - 1)) {
+                int[] counts = decode(tile.getCounts());
+                int offsetX = (tile.getTileX() - minX) * HeatmapGrid.BINS;
+                int offsetY = (tile.getTileY() - minY) * HeatmapGrid.BINS;
+
+                for (int by = 0; by < HeatmapGrid.BINS; by++) {
+                    int py = (int) ((long) (offsetY + by) * size / span);
+                    for (int bx = 0; bx < HeatmapGrid.BINS; bx++) {
+                        int count = counts[by * HeatmapGrid.BINS + bx];
+                        if (count == 0) {
+                            continue;
+                        }
+                        int px = (int) ((long) (offsetX + bx) * size / span);
+                        int index = py * size + px;
+                        pixels[index] = Math.max(pixels[index], count);
+                    }
+                }
+            }
+        } else {
+            int shift = z - baseZoom;
+            int tileX = x >> shift;
+            int tileY = y >> shift;
+            HeatmapTile tile = heatmapTileRepository.findById(HeatmapGrid.key(tileX, tileY)).orElse(null);
+            if (tile == null) {
+                return pixels;
+            }
+
+            int[] counts = decode(tile.getCounts());
+            int binsPerTile = HeatmapGrid.BINS >> shift;
+            int offsetX = (x & ((1 << shift) - 1)) * binsPerTile;
+            int offsetY = (y & ((1 << shift) - 1)) * binsPerTile;
+
+            for (int py = 0; py < size; py++) {
+                int by = offsetY + py * binsPerTile / size;
+                for (int px = 0; px < size; px++) {
+                    int bx = offsetX + px * binsPerTile / size;
+                    pixels[py * size + px] = counts[by * HeatmapGrid.BINS + bx];
+                }
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * 밀도 → PNG (로그 스케일 색상, 러너 수가 min-count 미만인 칸은 투명 처리)
+     */
+    private byte[] encodePng(int[] pixels) {
+        int size = TileMath.TILE_SIZE;
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        double logSaturation = Math.log1p(saturationCount);
+
+        int[] argb = new int[pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            int count = pixels[i];
+            if (count < minCount) {
+                continue;
+            }
+            double t = Math.min(1.0, Math.log1p(count) / logSaturation);
+            int alpha = (int) (96 + 159 * t);
+            int green = (int) (255 * t);
+            int blue = (int) (160 * Math.max(0, t - 0.6) / 0.4);
+            argb[i] = (alpha << 24) | (255 << 16) | (green << 8) | blue;
+        }
+        image.setRGB(0, 0, size, size, argb, 0, size);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(int[] counts) {
+        long[] values = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            values[i] = counts[i];
+        }
+        return DeltaVarintCodec.encode(values);
+    }
+
+    /**
+     * 러너별 칸 통과 횟수 저장 (0 이 아닌 칸만: 칸 번호 목록 뒤에 횟수 목록)
+     */
+    private static void setPasses(HeatmapProfileTile tile, int[] passes) {
+        int cellCount = 0;
+        for (int pass : passes) {
+            if (pass > 0) {
+                cellCount++;
+            }
+        }
+        long[] values = new long[cellCount * 2];
+        int n = 0;
+        for (int i = 0; i < passes.length; i++) {
+            if (passes[i] > 0) {
+                values[n] = i;
+                values[cellCount + n] = passes[i];
+                n++;
+            }
+        }
+        tile.setCellCount(cellCount);
+        tile.setCells(DeltaVarintCodec.encode(values));
+    }
+
+    private static int[] getPasses(HeatmapProfileTile tile) {
+        int cellCount = tile.getCellCount();
+        long[] values = DeltaVarintCodec.decode(tile.getCells(), cellCount * 2);
+        int[] passes = new int[CELLS];
+        for (int n = 0; n < cellCount; n++) {
+            passes[(int) values[n]] = (int) values[cellCount + n];
+        }
+        return passes;
+    }
+
+    private static int[] decode(byte[] data) {
+        long[] values = DeltaVarintCodec.decode(data, CELLS);
+        int[] counts = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            counts[i] = (int) values[i];
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,181 @@
+package io.jongbeom.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 히트맵 PNG 디스크 캐시
+ *
+ * {cache-dir}/heatmap-tiles/{z}/{x}/{y}.png 에 렌더링 결과를 저장하고, 전체 크기가 max-bytes 를 넘으면
+ * 가장 오래 사용되지 않은 타일부터 삭제합니다. (LRU)
+ * 캐시는 DB 밀도 데이터로 언제든 다시 만들 수 있으므로 시작 시 비웁니다.
+ * cache-dir 는 다른 용도와 공유될 수 있으므로 이 캐시가 소유한 heatmap-tiles 하위 디렉터리만 지웁니다.
+ */
+@Component
+public class HeatmapTileCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeatmapTileCache.class);
+
+    private static final String TILE_DIR = "heatmap-tiles";
+
+    private final Path root;
+    private final long maxBytes;
+
+    /**
+     * 타일 경로 → 파일 크기 (접근 순서)
+     */
+    private final LinkedHashMap<Path, Long> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * 무효화 세대 - 렌더링 도중 무효화가 일어나면 결과를 캐시에 저장하지 않음
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public HeatmapTileCache(
+            @Value("${heatmap.cache-dir:${java.io.tmpdir}/runrun-heatmap}") String cacheDir,
+            @Value("${heatmap.cache-max-bytes:268435456}") long maxBytes) throws IOException {
+        this.root = Path.of(cacheDir).resolve(TILE_DIR);
+        this.maxBytes = maxBytes;
+
+        FileSystemUtils.deleteRecursively(root);
+        Files.createDirectories(root);
+    }
+
+    /**
+     * 현재 무효화 세대 (렌더링 시작 전에 읽어둠)
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 캐시된 타일 조회
+     *
+     * @return PNG 바이트 (없으면 null)
+     */
+    public byte[] get(int z, int x, int y) {
+        Path path = path(z, x, y);
+        synchronized (this) {
+            if (entries.get(path) == null) {
+                return null;
+            }
+        }
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            remove(path);
+            return null;
+        }
+    }
+
+    /**
+     * 타일 저장 (렌더링 시작 이후 무효화가 있었으면 저장하지 않음)
+     *
+     * @param renderGeneration 렌더링 시작 시점의 세대
+     */
+    public void put(int z, int x, int y, byte[] png, long renderGeneration) {
+        Path path = path(z, x, y);
+        try {
+            Files.createDirectories(path.getParent());
+            Path temp = Files.createTempFile(path.getParent(), "tile", ".tmp");
+            Files.write(temp, png);
+
+            synchronized (this) {
+                if (renderGeneration != generation.get()) {
+                    Files.deleteIfExists(temp);
+                    return;
+                }
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                Long previous = entries.put(path, (long) png.length);
+                totalBytes += png.length - (previous != null ? previous : 0);
+                evict();
+            }
+        } catch (IOException e) {
+            logger.warn("[히트맵] 타일 캐시 저장 실패: {} ({})", path, e.getMessage());
+        }
+    }
+
+    /**
+     * 기준 줌 타일이 바뀌었을 때 해당 타일과 모든 줌 레벨의 겹치는 타일 삭제
+     *
+     * @param baseZoom 기준 줌
+     * @param tileX 기준 줌 타일 X
+     * @param tileY 기준 줌 타일 Y
+     * @param minZoom 최소 줌
+     * @param maxZoom 최대 줌
+     */
+    public synchronized void invalidate(int baseZoom, int tileX, int tileY, int minZoom, int maxZoom) {
+        generation.incrementAndGet();
+
+        for (int z = minZoom; z <= maxZoom; z++) {
+            if (z <= baseZoom) {
+                int shift = baseZoom - z;
+                remove(path(z, tileX >> shift, tileY >> shift));
+            } else {
+                int shift = z - baseZoom;
+                int size = 1 << shift;
+                for (int dx = 0; dx < size; dx++) {
+                    for (int dy = 0; dy < size; dy++) {
+                        remove(path(z, (tileX << shift) + dx, (tileY << shift) + dy));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 캐시 삭제 (재구성 후)
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        for (Path path : entries.keySet()) {
+            deleteQuietly(path);
+        }
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    private synchronized void remove(Path path) {
+        Long size = entries.remove(path);
+        if (size != null) {
+            totalBytes -= size;
+            deleteQuietly(path);
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Path, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<Path, Long> eldest = iterator.next();
+            totalBytes -= eldest.getValue();
+            deleteQuietly(eldest.getKey());
+            iterator.remove();
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("[히트맵] 타일 캐시 삭제 실패: {}", path);
+        }
+    }
+
+    private Path path(int z, int x, int y) {
+        return root.resolve(Integer.toString(z)).resolve(Integer.toString(x)).resolve(y + ".png");
+    }
+}
@@ -5,7 +5,9 @@ import java.time.ZoneOffset;
 import java.util.Date;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.UUID;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -15,6 +17,7 @@ import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.security.Keys;
 
 import javax.crypto.SecretKey;
@@ -25,6 +28,13 @@ public class JwtService {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtService.class);
 
+    /**
+     * 토큰 종류 클레임 (Access Token 과 Refresh Token 을 서로 대신 쓰지 못하게 구분)
+     */
+    public static final String TOKEN_TYPE_CLAIM = "typ";
+    public static final String ACCESS_TOKEN_TYPE = "access";
+    public static final String REFRESH_TOKEN_TYPE = "refresh";
+
     @Value("${jwt.secret-key:your-secret-key-min-256-bits-long-for-hs256-algorithm}")
     private String secretKey;
 
@@ -36,7 +46,21 @@ public class JwtService {
 
     @Value("${jwt.algorithm:HS256}")
     private String algorithm;
-    
+
+    /**
+     * 서명 키 / 파서 (불변, 스레드 안전 - 시작 시 한 번만 생성)
+     */
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
     /**
      * JWT Access Token 생성
      *
@@ -55,13 +79,12 @@ public class JwtService {
         }
 
         toEncode.put("iat", Date.from(LocalDateTime.now().toInstant(ZoneOffset.UTC)));
-
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        toEncode.put(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE);
 
         String encodedJwt = Jwts.builder()
                 .claims(toEncode)
                 .expiration(expire)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
 
         return encodedJwt;
@@ -75,10 +98,7 @@ public class JwtService {
      */
     public Claims verifyToken(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-            Claims payload = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
+            Claims payload = parser
                     .parseSignedClaims(token)
                     .getPayload();
             return payload;
@@ -94,6 +114,8 @@ public class JwtService {
     /**
      * JWT Refresh Token 생성
      *
+     * 같은 초에 발급해도 토큰이 겹치지 않도록 jti(무작위 UUID)를 넣습니다. (refresh_tokens.token_hash 고유)
+     *
      * @param data 토큰에 포함할 데이터 (user_id, email 등)
      * @return JWT Refresh Token 문자열
      */
@@ -102,19 +124,30 @@ public class JwtService {
 
         Date expire = Date.from(LocalDateTime.now().plusDays(refreshTokenExpireDays).toInstant(ZoneOffset.UTC));
         toEncode.put("iat", Date.from(LocalDateTime.now().toInstant(ZoneOffset.UTC)));
-
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        toEncode.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE);
 
         String encodedJwt = Jwts.builder()
                 .claims(toEncode)
+                .id(UUID.randomUUID().toString())
                 .expiration(expire)
-                .signWith(key)
+                .signWith(signingKey)
                 .compact();
 
         logger.info("[JWT] Refresh Token 생성 완료 (만료: {}일)", refreshTokenExpireDays);
         return encodedJwt;
     }
 
+    /**
+     * 토큰 종류 확인
+     *
+     * @param claims 검증된 페이로드
+     * @param type 기대하는 종류 (ACCESS_TOKEN_TYPE / REFRESH_TOKEN_TYPE)
+     * @return typ 클레임이 type 과 같으면 true (typ 가 없는 이전 토큰은 false)
+     */
+    public static boolean isTokenType(Claims claims, String type) {
+        return type.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
     /**
      * JWT 토큰 디코딩 (검증 포함)
      *
@@ -124,10 +157,7 @@ public class JwtService {
      * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public Claims decodeToken(String token) throws ExpiredJwtException, JwtException {
-        SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-        Claims payload = Jwts.parser()
-                .verifyWith(key)
-                .build()
+        Claims payload = parser
                 .parseSignedClaims(token)
                 .getPayload();
         return payload;
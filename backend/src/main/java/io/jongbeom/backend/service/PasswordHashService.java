@@ -0,0 +1,142 @@
+package io.jongbeom.backend.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비밀번호 해시 서비스
+ *
+ * BCrypt 해시 / 검증을 passwordHashExecutor(CPU 코어 수 스레드, 제한된 대기열)에서 실행합니다.
+ * 로그인이 몰려도 BCrypt 가 쓰는 CPU 는 풀 크기로 제한되어 다른 API 가 굶지 않고,
+ * 대기열이 가득 차거나 timeout-ms 안에 끝나지 않으면 RejectedExecutionException(503)으로 바로 거절합니다.
+ *
+ * 시간 초과 후 취소해도 이미 시작한 BCrypt 는 멈출 수 없으므로, 버려질 계산을 시작하지 않도록 합니다.
+ * - 최근 해시 소요 시간(EWMA)으로 timeout 안에 끝낼 수 있는 만큼만 대기열에 받음
+ *   (threads × (timeout / 평균 - 1), queue-capacity 가 상한)
+ * - 작업 시작 시 남은 시간이 평균 소요 시간보다 짧으면 해시하지 않고 거절
+ */
+@Service
+public class PasswordHashService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor hashExecutor;
+    private final long timeoutMillis;
+
+    /**
+     * 최근 해시 소요 시간 (EWMA, ns) - 시작 시 한 번 측정한 값에서 출발
+     */
+    private final AtomicLong averageHashNanos = new AtomicLong(TimeUnit.MILLISECONDS.toNanos(100));
+
+    public PasswordHashService(
+            PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashExecutor") ThreadPoolExecutor hashExecutor,
+            @Value("${auth.password.timeout-ms:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.hashExecutor = hashExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @PostConstruct
+    void calibrate() {
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            passwordEncoder.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        averageHashNanos.set(fastest);
+        logger.info("[비밀번호 해시] 해시 1회 {}ms, 대기열 허용량 {}",
+                TimeUnit.NANOSECONDS.toMillis(averageHashNanos.get()), admissibleQueueSize());
+    }
+
+    /**
+     * 비밀번호 해시 생성
+     *
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 시간 안에 끝나지 않았을 때
+     */
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증
+     *
+     * @throws RejectedExecutionException 대기열이 가득 찼거나 시간 안에 끝나지 않았을 때
+     */
+    public boolean matches(String rawPassword, String passwordHash) {
+        return run(() -> passwordEncoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 현재 설정보다 낮아 다시 해시해야 하는지 (해시 계산 없음)
+     */
+    public boolean needsRehash(String passwordHash) {
+        return passwordEncoder.upgradeEncoding(passwordHash);
+    }
+
+    private <T> T run(Callable<T> task) {
+        if (hashExecutor.getQueue().size() >= admissibleQueueSize()) {
+            throw new RejectedExecutionException("비밀번호 확인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<T> future = hashExecutor.submit(() -> {
+            long start = System.nanoTime();
+            if (deadline - start < expectedHashNanos()) {
+                // 호출자가 이미 포기했거나 시간 안에 끝낼 수 없음 - 계산하지 않음
+                throw new RejectedExecutionException("비밀번호 확인이 지연되고 있습니다.");
+            }
+            T result = task.call();
+            long elapsed = System.nanoTime() - start;
+            averageHashNanos.updateAndGet(average -> average + (elapsed - average) / 8);
+            return result;
+        });
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("[비밀번호 해시] 시간 초과: timeout={}ms, queued={}", timeoutMillis, hashExecutor.getQueue().size());
+            throw new RejectedExecutionException("비밀번호 확인이 지연되고 있습니다.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("비밀번호 확인이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    /**
+     * timeout 안에 끝낼 수 있는 대기 작업 수 (대기 + 자기 차례 해시 = (대기 / 스레드 + 1) × 평균)
+     */
+    private long admissibleQueueSize() {
+        long perThread = TimeUnit.MILLISECONDS.toNanos(timeoutMillis) / Math.max(1, expectedHashNanos()) - 1;
+        return Math.max(1, perThread) * hashExecutor.getMaximumPoolSize();
+    }
+
+    /**
+     * 판단에 쓰는 예상 해시 시간 (일시적으로 튄 측정값 때문에 대기 없는 요청까지 거절하지 않도록 timeout 절반이 상한)
+     */
+    private long expectedHashNanos() {
+        return Math.min(averageHashNanos.get(), TimeUnit.MILLISECONDS.toNanos(timeoutMillis) / 2);
+    }
+}
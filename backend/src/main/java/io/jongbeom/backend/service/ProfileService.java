@@ -2,10 +2,12 @@ package io.jongbeom.backend.service;
 
 import io.jongbeom.backend.dto.ProfileResponse;
 import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.event.ProfileDeactivatedEvent;
 import io.jongbeom.backend.exception.UserNotFoundException;
 import io.jongbeom.backend.repository.ProfileRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,9 +19,11 @@ public class ProfileService {
     private static final Logger logger = LoggerFactory.getLogger(ProfileService.class);
 
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProfileService(ProfileRepository profileRepository) {
+    public ProfileService(ProfileRepository profileRepository, ApplicationEventPublisher eventPublisher) {
         this.profileRepository = profileRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -111,6 +115,7 @@ public class ProfileService {
 
         profile.setIsActive(false);
         profileRepository.save(profile);
+        eventPublisher.publishEvent(new ProfileDeactivatedEvent(profile.getId()));
 
         logger.info("[회원 비활성화] 완료: {} (ID: {})", profile.getEmail(), profile.getId());
     }
@@ -0,0 +1,218 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.entity.RefreshToken;
+import io.jongbeom.backend.exception.InvalidTokenException;
+import io.jongbeom.backend.repository.RefreshTokenRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 저장소 서비스
+ *
+ * 토큰은 refresh_tokens 테이블에 SHA-256 해시로 저장되며 기기(deviceId)마다 따로 유지됩니다.
+ * - 갱신할 때마다 새 토큰을 발급하고 이전 토큰은 교체 처리 (rotation)
+ * - 교체된 토큰이 reuse-grace-seconds 안에 다시 오면 클라이언트 재시도로 보고 같은 family 로 새 토큰 발급
+ * - 그 이후 reuse-detection-hours 안에 다시 오면 탈취로 보고 같은 family 를 모두 삭제
+ * - 만료된 토큰은 purge-interval 마다 purge-batch-size 단위로 삭제
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int MAX_DEVICE_ID_LENGTH = 64;
+
+    private static final String PURGE_SQL =
+            "DELETE FROM refresh_tokens WHERE id IN " +
+            "(SELECT id FROM refresh_tokens WHERE expires_at < NOW() LIMIT ?)";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtService jwtService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledThreadPoolExecutor purgeExecutor;
+    private final long reuseDetectionHours;
+    private final long reuseGraceSeconds;
+    private final long purgeIntervalMinutes;
+    private final int purgeBatchSize;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtService jwtService,
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("refreshTokenPurgeExecutor") ScheduledThreadPoolExecutor purgeExecutor,
+            @Value("${auth.refresh-token.reuse-detection-hours:24}") long reuseDetectionHours,
+            @Value("${auth.refresh-token.reuse-grace-seconds:10}") long reuseGraceSeconds,
+            @Value("${auth.refresh-token.purge-interval-minutes:60}") long purgeIntervalMinutes,
+            @Value("${auth.refresh-token.purge-batch-size:1000}") int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtService = jwtService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.purgeExecutor = purgeExecutor;
+        this.reuseDetectionHours = reuseDetectionHours;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+        this.purgeIntervalMinutes = purgeIntervalMinutes;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    /**
+     * 토큰 교체 결과
+     *
+     * @param profile 토큰 소유 회원
+     * @param refreshToken 새로 발급한 Refresh Token
+     */
+    public record Rotation(Profile profile, String refreshToken) {
+    }
+
+    @PostConstruct
+    void start() {
+        purgeExecutor.scheduleWithFixedDelay(this::purgeSafely, 0, purgeIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    /**
+     * 새 로그인 세션의 Refresh Token 발급
+     *
+     * deviceId 를 보내면 같은 기기의 기존 세션을 대신하고, 없으면 새 기기로 취급합니다.
+     *
+     * @param profile 회원
+     * @param deviceId 기기 ID (선택)
+     * @return Refresh Token
+     */
+    @Transactional
+    public String issue(Profile profile, String deviceId) {
+        String device;
+        if (deviceId == null || deviceId.isBlank()) {
+            device = UUID.randomUUID().toString();
+        } else {
+            if (deviceId.length() > MAX_DEVICE_ID_LENGTH) {
+                throw new IllegalArgumentException("기기 ID가 너무 깁니다. (최대 " + MAX_DEVICE_ID_LENGTH + "자)");
+            }
+            device = deviceId;
+            refreshTokenRepository.deleteByDevice(profile.getId(), device);
+        }
+        return create(profile, device, UUID.randomUUID());
+    }
+
+    /**
+     * Refresh Token 교체
+     *
+     * 방금 교체된 토큰이 다시 오면 (갱신 응답을 받지 못한 클라이언트의 재시도, 여러 탭의 동시 갱신)
+     * 이전에 발급한 토큰은 평문을 저장하지 않아 돌려줄 수 없으므로 같은 family 로 새 토큰을 하나 더 발급합니다.
+     * 재사용이 감지되어 family 를 삭제한 경우에도 삭제는 커밋됩니다.
+     *
+     * @param refreshToken 클라이언트가 보낸 Refresh Token
+     * @return 회원 + 새 Refresh Token
+     * @throws InvalidTokenException 유효하지 않거나 만료 / 재사용된 토큰
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String refreshToken) {
+        Claims claims = jwtService.verifyToken(refreshToken);
+        if (claims == null || !JwtService.isTokenType(claims, JwtService.REFRESH_TOKEN_TYPE)) {
+            logger.warn("[토큰 갱신] 유효하지 않은 Refresh Token");
+            throw new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
+        }
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                .orElseThrow(() -> {
+                    logger.warn("[토큰 갱신] DB에 없는 Refresh Token");
+                    return new InvalidTokenException("유효하지 않은 Refresh Token입니다.");
+                });
+
+        OffsetDateTime now = OffsetDateTime.now();
+        if (stored.getExpiresAt().isBefore(now)) {
+            logger.warn("[토큰 갱신] 만료된 Refresh Token: device={}", stored.getDeviceId());
+            throw new InvalidTokenException("만료된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
+        OffsetDateTime retainUntil = now.plusHours(reuseDetectionHours);
+        if (retainUntil.isAfter(stored.getExpiresAt())) {
+            retainUntil = stored.getExpiresAt();
+        }
+        if (refreshTokenRepository.markRotated(stored.getId(), now, retainUntil) == 0) {
+            OffsetDateTime rotatedAt = refreshTokenRepository.findRotatedAtById(stored.getId()).orElse(null);
+            if (rotatedAt != null && !rotatedAt.plusSeconds(reuseGraceSeconds).isBefore(now)) {
+                logger.info("[토큰 갱신] 교체 직후 재요청 - 같은 세션으로 재발급: device={}", stored.getDeviceId());
+                Profile profile = stored.getProfile();
+                return new Rotation(profile, create(profile, stored.getDeviceId(), stored.getFamilyId()));
+            }
+
+            int revoked = refreshTokenRepository.deleteFamily(stored.getFamilyId());
+            logger.warn("[토큰 갱신] 이미 사용된 Refresh Token 재사용 감지 - 세션 폐기: device={}, 삭제 {}건",
+                    stored.getDeviceId(), revoked);
+            throw new InvalidTokenException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
+        Profile profile = stored.getProfile();
+        String next = create(profile, stored.getDeviceId(), stored.getFamilyId());
+        return new Rotation(profile, next);
+    }
+
+    /**
+     * 만료된 토큰 배치 삭제 (배치마다 별도 트랜잭션)
+     *
+     * @return 삭제된 토큰 수
+     */
+    public int purgeExpired() {
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, purgeBatchSize);
+            total += deleted;
+        } while (deleted == purgeBatchSize);
+
+        if (total > 0) {
+            logger.info("[Refresh Token] 만료 토큰 {}건 삭제", total);
+        }
+        return total;
+    }
+
+    private void purgeSafely() {
+        try {
+            purgeExpired();
+        } catch (Exception e) {
+            logger.error("[Refresh Token] 만료 토큰 삭제 실패", e);
+        }
+    }
+
+    private String create(Profile profile, String deviceId, UUID familyId) {
+        Map<String, Object> tokenData = new HashMap<>();
+        tokenData.put("user_id", profile.getId().toString());
+        tokenData.put("email", profile.getEmail());
+
+        String token = jwtService.createRefreshToken(tokenData);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(token))
+                .profile(profile)
+                .deviceId(deviceId)
+                .familyId(familyId)
+                .expiresAt(OffsetDateTime.of(jwtService.getRefreshTokenExpiresAt(), ZoneOffset.UTC))
+                .build());
+        return token;
+    }
+
+    private static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
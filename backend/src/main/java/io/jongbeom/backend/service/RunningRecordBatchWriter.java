@@ -0,0 +1,153 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.RunningRecordRequest;
+import io.jongbeom.backend.entity.Course;
+import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.entity.RunningRecordSamples;
+import io.jongbeom.backend.event.RunningRecordSavedEvent;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.repository.ProfileRepository;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.repository.RunningRecordSamplesRepository;
+import io.jongbeom.backend.util.TimedTrack;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 러닝 기록 일괄 저장기
+ *
+ * 여러 기록을 한 트랜잭션에서 저장합니다. (기록 가져오기, 비동기 저장 큐)
+ * - Profile 은 조회 없이 참조(getReferenceById)만 사용
+ * - Course 는 배치 전체에 대해 한 번의 IN 조회
+ * - 시퀀스 ID + hibernate.jdbc.batch_size 로 INSERT 가 JDBC 배치로 묶임
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RunningRecordBatchWriter {
+
+    private final RunningRecordRepository runningRecordRepository;
+    private final RunningRecordSamplesRepository samplesRepository;
+    private final ProfileRepository profileRepository;
+    private final CourseRepository courseRepository;
+    private final RunningRecordService runningRecordService;
+    private final RunningRecordSamplesService samplesService;
+    private final BestEffortService bestEffortService;
+    private final CourseLeaderboardService courseLeaderboardService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일괄 저장 항목
+     *
+     * @param handle 비동기 저장 핸들 (없으면 null)
+     * @param profileId 러닝한 사용자 ID
+     * @param request 러닝 기록 요청
+     */
+    public record Entry(UUID handle, UUID profileId, RunningRecordRequest request) {
+    }
+
+    /**
+     * 한 사용자의 러닝 기록 일괄 저장
+     *
+     * @param profileId 러닝한 사용자 ID
+     * @param requests 러닝 기록 요청 목록
+     * @return 저장된 러닝 기록 목록
+     */
+    @Transactional
+    public List<RunningRecord> writeBatch(UUID profileId, List<RunningRecordRequest> requests) {
+        List<Entry> entries = new ArrayList<>(requests.size());
+        for (RunningRecordRequest request : requests) {
+            entries.add(new Entry(null, profileId, request));
+        }
+        return writeEntries(entries);
+    }
+
+    /**
+     * 여러 사용자의 러닝 기록 일괄 저장 (비동기 저장 큐 배출용)
+     *
+     * 최고 기록/리더보드 갱신은 사용자별로 묶어서 수행합니다.
+     *
+     * @param entries 저장 항목 목록
+     * @return 저장된 러닝 기록 목록 (entries 와 같은 순서)
+     */
+    @Transactional
+    public List<RunningRecord> writeEntries(List<Entry> entries) {
+        Map<UUID, Profile> profiles = new LinkedHashMap<>();
+        List<RunningRecordRequest> requests = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            profiles.computeIfAbsent(entry.profileId(), profileRepository::getReferenceById);
+            requests.add(entry.request());
+        }
+        Map<UUID, Course> courses = findCourses(requests);
+
+        List<RunningRecord> records = new ArrayList<>(entries.size());
+        List<TimedTrack> tracks = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            RunningRecordRequest request = entry.request();
+            TimedTrack track = TimedTrack.of(request.getRouteCoordinates(), request.getRouteTimestamps());
+            Course course = request.getCourseId() != null ? courses.get(request.getCourseId()) : null;
+
+            RunningRecord record = runningRecordService.buildRecord(profiles.get(entry.profileId()), course, request, track);
+            record.setIngestHandle(entry.handle());
+            records.add(record);
+            tracks.add(track);
+        }
+
+        List<RunningRecord> savedRecords = runningRecordRepository.saveAll(records);
+
+        List<RunningRecordSamples> samples = new ArrayList<>();
+        for (int i = 0; i < savedRecords.size(); i++) {
+            if (tracks.get(i) != null) {
+                samples.add(samplesService.buildSamples(savedRecords.get(i), tracks.get(i), requests.get(i)));
+            }
+        }
+        samplesRepository.saveAll(samples);
+
+        Map<UUID, List<RunningRecord>> byProfile = new LinkedHashMap<>();
+        for (int i = 0; i < savedRecords.size(); i++) {
+            byProfile.computeIfAbsent(entries.get(i).profileId(), id -> new ArrayList<>()).add(savedRecords.get(i));
+        }
+        for (Map.Entry<UUID, List<RunningRecord>> group : byProfile.entrySet()) {
+            Profile profile = profiles.get(group.getKey());
+            bestEffortService.applyRecords(profile, group.getValue());
+            courseLeaderboardService.applyRecords(profile, group.getValue());
+        }
+        eventPublisher.publishEvent(new RunningRecordSavedEvent(savedRecords));
+
+        log.info("[RunningRecord] 일괄 저장 완료 - profiles: {}, records: {}", profiles.size(), savedRecords.size());
+        return savedRecords;
+    }
+
+    /**
+     * 배치에 포함된 코스를 한 번에 조회
+     */
+    private Map<UUID, Course> findCourses(List<RunningRecordRequest> requests) {
+        Set<UUID> courseIds = new HashSet<>();
+        for (RunningRecordRequest request : requests) {
+            if (request.getCourseId() != null) {
+                courseIds.add(request.getCourseId());
+            }
+        }
+
+        Map<UUID, Course> courses = new HashMap<>();
+        if (!courseIds.isEmpty()) {
+            for (Course course : courseRepository.findAllById(courseIds)) {
+                courses.put(course.getId(), course);
+            }
+        }
+        return courses;
+    }
+}
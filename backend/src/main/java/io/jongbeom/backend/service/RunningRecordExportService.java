@@ -0,0 +1,171 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.activity.ActivityTrack;
+import io.jongbeom.backend.activity.GeoJsonTrackWriter;
+import io.jongbeom.backend.activity.GpxWriter;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.entity.RunningRecordSamples;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.util.DeltaVarintCodec;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 러닝 기록 전체 내보내기 서비스
+ *
+ * 사용자의 기록을 DB 커서로 한 건씩 읽어 ZIP 항목(GPX 또는 GeoJSON)으로 바로 출력합니다.
+ * 처리한 엔티티는 즉시 영속성 컨텍스트에서 분리하므로 기록 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RunningRecordExportService {
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final RunningRecordRepository runningRecordRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 내보내기 형식
+     */
+    public enum ExportFormat {
+        GPX(".gpx"),
+        GEOJSON(".geojson");
+
+        private final String extension;
+
+        ExportFormat(String extension) {
+            this.extension = extension;
+        }
+
+        public static ExportFormat from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 러닝 기록 전체를 ZIP 으로 출력
+     *
+     * @param profileId 사용자 ID
+     * @param format 내보내기 형식
+     * @param out 출력 스트림 (HTTP 응답)
+     * @return 내보낸 기록 수
+     */
+    @Transactional(readOnly = true)
+    public int exportRecords(UUID profileId, ExportFormat format, OutputStream out) throws IOException {
+        log.info("[기록 내보내기] 시작: profileId={}, format={}", profileId, format);
+
+        GpxWriter gpxWriter = new GpxWriter();
+        GeoJsonTrackWriter geoJsonWriter = new GeoJsonTrackWriter();
+        int count = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        Writer writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+
+        try (Stream<Object[]> rows = runningRecordRepository.streamWithSamplesByProfileId(profileId)) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                RunningRecord record = (RunningRecord) row[0];
+                RunningRecordSamples samples = (RunningRecordSamples) row[1];
+
+                if (record.getActualRoute() != null) {
+                    ActivityTrack track = toTrack(record, samples);
+
+                    zip.putNextEntry(new ZipEntry(fileName(record, format)));
+                    if (format == ExportFormat.GPX) {
+                        gpxWriter.write(track, writer);
+                    } else {
+                        geoJsonWriter.write(track, properties(record), writer);
+                    }
+                    writer.flush();
+                    zip.closeEntry();
+                    count++;
+                }
+
+                // 커서로 읽은 엔티티가 영속성 컨텍스트에 쌓이지 않도록 분리
+                entityManager.detach(record);
+                if (samples != null) {
+                    entityManager.detach(samples);
+                }
+            }
+        }
+
+        zip.finish();
+        zip.flush();
+
+        log.info("[기록 내보내기] 완료: profileId={}, records={}", profileId, count);
+        return count;
+    }
+
+    /**
+     * 러닝 기록 + 샘플을 트랙으로 변환
+     */
+    private ActivityTrack toTrack(RunningRecord record, RunningRecordSamples samples) {
+        Coordinate[] coordinates = record.getActualRoute().getCoordinates();
+        int size = coordinates.length;
+
+        // 샘플 포인트 수가 경로와 다르면 좌표만 내보냄
+        boolean useSamples = samples != null && samples.getPointCount() == size;
+        long[] elapsed = useSamples ? DeltaVarintCodec.decode(samples.getTimeData(), size) : null;
+        long[] altitudes = useSamples ? decode(samples.getAltitudeData(), size) : null;
+        long[] heartRates = useSamples ? decode(samples.getHeartRateData(), size) : null;
+        long[] cadences = useSamples ? decode(samples.getCadenceData(), size) : null;
+
+        ActivityTrack track = new ActivityTrack();
+        track.setName(record.getMemo());
+        for (int i = 0; i < size; i++) {
+            track.addPoint(
+                    coordinates[i].getX(),
+                    coordinates[i].getY(),
+                    elapsed != null ? samples.getStartTimestamp() + elapsed[i] : -1,
+                    altitudes != null ? altitudes[i] / 10.0 : Double.NaN,
+                    heartRates != null ? (int) heartRates[i] : 0,
+                    cadences != null ? (int) cadences[i] : 0);
+        }
+        return track;
+    }
+
+    private long[] decode(byte[] data, int size) {
+        return data != null ? DeltaVarintCodec.decode(data, size) : null;
+    }
+
+    private Map<String, Object> properties(RunningRecord record) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("id", record.getId());
+        properties.put("startTime", record.getStartTime());
+        properties.put("endTime", record.getEndTime());
+        properties.put("distance", record.getDistance());
+        properties.put("duration", record.getDuration());
+        properties.put("avgPace", record.getAvgPace());
+        properties.put("avgHeartRate", record.getAvgHeartRate());
+        properties.put("calories", record.getCalories());
+        return properties;
+    }
+
+    private String fileName(RunningRecord record, ExportFormat format) {
+        return record.getStartTime().format(FILE_NAME_FORMATTER) + "-" + record.getId() + format.extension;
+    }
+}
@@ -0,0 +1,383 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.activity.ActivityFormat;
+import io.jongbeom.backend.activity.ActivityTrack;
+import io.jongbeom.backend.dto.RunningRecordImportResponse;
+import io.jongbeom.backend.dto.RunningRecordRequest;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.util.TimedTrack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * 러닝 기록 일괄 가져오기 서비스
+ *
+ * 업로드된 ZIP 아카이브의 GPX/TCX/FIT 파일을 파싱 풀에서 병렬로 스트리밍 파싱하고,
+ * batch-size 단위로 모아 RunningRecordBatchWriter 로 저장합니다.
+ * 작업은 백그라운드에서 실행되며 진행 상황은 작업 ID 로 조회합니다.
+ *
+ * 파일 하나당 압축 해제 크기(max-entry-bytes), 압축률(max-compression-ratio), 포인트 수(max-points)를 제한하여
+ * 압축 폭탄이나 비정상적으로 큰 트랙이 공유 파싱 풀의 메모리를 소진하지 않게 합니다.
+ */
+@Service
+public class RunningRecordImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningRecordImportService.class);
+
+    private static final int MAX_ERRORS = 20;
+    private static final long FINISHED_JOB_RETENTION_SECONDS = 3600;
+
+    private final RunningRecordBatchWriter batchWriter;
+    private final ThreadPoolExecutor parserExecutor;
+    private final ThreadPoolExecutor backgroundJobExecutor;
+    private final int batchSize;
+    private final int maxEntries;
+    private final long maxEntryBytes;
+    private final int maxCompressionRatio;
+    private final int maxPoints;
+
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    public RunningRecordImportService(
+            RunningRecordBatchWriter batchWriter,
+            @Qualifier("activityParserExecutor") ThreadPoolExecutor parserExecutor,
+            @Qualifier("backgroundJobExecutor") ThreadPoolExecutor backgroundJobExecutor,
+            @Value("${running-record.import.batch-size:50}") int batchSize,
+            @Value("${running-record.import.max-entries:2000}") int maxEntries,
+            @Value("${running-record.import.max-entry-bytes:52428800}") long maxEntryBytes,
+            @Value("${running-record.import.max-compression-ratio:100}") int maxCompressionRatio,
+            @Value("${running-record.import.max-points:200000}") int maxPoints) {
+        this.batchWriter = batchWriter;
+        this.parserExecutor = parserExecutor;
+        this.backgroundJobExecutor = backgroundJobExecutor;
+        this.batchSize = batchSize;
+        this.maxEntries = maxEntries;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxCompressionRatio = maxCompressionRatio;
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * 가져오기 작업 시작
+     *
+     * @param profileId 사용자 ID
+     * @param file GPX/TCX/FIT 파일이 담긴 ZIP 아카이브
+     * @return 작업 상태 (PENDING)
+     */
+    public RunningRecordImportResponse startImport(UUID profileId, MultipartFile file) {
+        logger.info("[기록 가져오기] 시작: profileId={}, file={}, size={}", profileId, file.getOriginalFilename(), file.getSize());
+
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 파일이 비어 있습니다.");
+        }
+
+        evictFinishedJobs();
+
+        // 요청이 끝나면 MultipartFile 이 정리되므로 임시 파일로 복사
+        Path archive;
+        try {
+            archive = Files.createTempFile("record-import-", ".zip");
+            file.transferTo(archive);
+        } catch (IOException e) {
+            throw new IllegalStateException("업로드 파일 저장 실패: " + e.getMessage(), e);
+        }
+
+        ImportJob job = new ImportJob(profileId);
+        jobs.put(job.id, job);
+
+        try {
+            backgroundJobExecutor.execute(() -> runImport(job, profileId, archive));
+        } catch (RuntimeException e) {
+            jobs.remove(job.id);
+            deleteQuietly(archive);
+            throw e;
+        }
+
+        return job.toResponse();
+    }
+
+    /**
+     * 가져오기 작업 상태 조회
+     *
+     * @param profileId 사용자 ID
+     * @param jobId 작업 ID
+     * @return 작업 상태
+     */
+    public RunningRecordImportResponse getImportStatus(UUID profileId, UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.profileId.equals(profileId)) {
+            throw new ResourceNotFoundException("가져오기 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    /**
+     * 가져오기 작업 실행 (backgroundJobExecutor 스레드)
+     */
+    private void runImport(ImportJob job, UUID profileId, Path archive) {
+        job.status = ImportStatus.RUNNING;
+
+        try (ZipFile zip = new ZipFile(archive.toFile())) {
+            List<? extends ZipEntry> entries = zip.stream()
+                    .filter(entry -> !entry.isDirectory() && ActivityFormat.fromFileName(entry.getName()) != null)
+                    .limit(maxEntries)
+                    .toList();
+            job.totalFiles = entries.size();
+
+            CompletionService<ActivityTrack> completionService = new ExecutorCompletionService<>(parserExecutor);
+            List<RunningRecordRequest> batch = new ArrayList<>(batchSize);
+            int pending = 0;
+
+            for (ZipEntry entry : entries) {
+                completionService.submit(() -> parseEntry(zip, entry));
+                pending++;
+
+                // 완료된 파싱 결과를 즉시 수거하여 메모리 사용량을 제한
+                Future<ActivityTrack> done;
+                while ((done = completionService.poll()) != null) {
+                    pending--;
+                    collect(job, done, batch, profileId);
+                }
+            }
+
+            while (pending > 0) {
+                pending--;
+                collect(job, completionService.take(), batch, profileId);
+            }
+            flush(job, batch, profileId);
+
+            job.status = ImportStatus.COMPLETED;
+            logger.info("[기록 가져오기] 완료: jobId={}, imported={}, failed={}",
+                    job.id, job.importedRecords.get(), job.failedFiles.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("가져오기 작업이 중단되었습니다.");
+        } catch (Exception e) {
+            logger.error("[기록 가져오기] 실패: jobId={}, {}", job.id, e.getMessage(), e);
+            job.fail("가져오기 실패: " + e.getMessage());
+        } finally {
+            job.finishedAt = OffsetDateTime.now();
+            deleteQuietly(archive);
+        }
+    }
+
+    /**
+     * 아카이브 항목 하나를 스트리밍 파싱 (activityParserExecutor 스레드)
+     *
+     * 압축 해제 크기는 선언된 크기와 관계없이 실제로 읽은 바이트로 제한합니다.
+     * (max-entry-bytes 와 압축 크기 x max-compression-ratio 중 작은 값)
+     */
+    private ActivityTrack parseEntry(ZipFile zip, ZipEntry entry) throws IOException {
+        ActivityFormat format = ActivityFormat.fromFileName(entry.getName());
+        long limit = maxEntryBytes;
+        if (entry.getCompressedSize() > 0) {
+            limit = Math.min(limit, entry.getCompressedSize() * maxCompressionRatio);
+        }
+        if (entry.getSize() > limit) {
+            throw new IOException(entry.getName() + ": 파일이 너무 크거나 압축률이 비정상입니다.");
+        }
+
+        try (InputStream in = new LimitedInputStream(zip.getInputStream(entry), limit)) {
+            return format.newParser(maxPoints).parse(in);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IOException(entry.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수가 limit 을 넘으면 IOException 을 던지는 스트림
+     */
+    private static final class LimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count(skipped);
+            return skipped;
+        }
+
+        private void count(long n) throws IOException {
+            count += n;
+            if (count > limit) {
+                throw new IOException("파일이 너무 크거나 압축률이 비정상입니다. (압축 해제 최대 " + limit + "바이트)");
+            }
+        }
+    }
+
+    private void collect(ImportJob job, Future<ActivityTrack> future, List<RunningRecordRequest> batch, UUID profileId) {
+        try {
+            ActivityTrack track = future.get();
+            if (track.size() < 2) {
+                job.addError("GPS 포인트가 부족한 파일이 있습니다.");
+            } else {
+                batch.add(toRequest(track));
+                if (batch.size() >= batchSize) {
+                    flush(job, batch, profileId);
+                }
+            }
+        } catch (ExecutionException e) {
+            job.addError(e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.addError("파싱이 중단되었습니다.");
+        }
+        job.processedFiles.incrementAndGet();
+    }
+
+    private void flush(ImportJob job, List<RunningRecordRequest> batch, UUID profileId) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchWriter.writeBatch(profileId, batch);
+        job.importedRecords.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * 파싱된 트랙을 러닝 기록 요청으로 변환 (거리/페이스/속도는 트랙에서 계산)
+     */
+    private RunningRecordRequest toRequest(ActivityTrack track) {
+        List<List<Double>> coordinates = track.coordinates();
+        List<Long> timestamps = track.timestampList();
+        TimedTrack timedTrack = TimedTrack.of(coordinates, timestamps);
+
+        double distance = timedTrack != null ? timedTrack.totalDistance() : 0.0;
+        int duration = (int) ((track.lastTimestamp() - track.firstTimestamp()) / 1000);
+        String name = track.getName();
+
+        return RunningRecordRequest.builder()
+                .startTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(track.firstTimestamp()), ZoneOffset.UTC))
+                .endTime(LocalDateTime.ofInstant(Instant.ofEpochMilli(track.lastTimestamp()), ZoneOffset.UTC))
+                .distance(distance)
+                .duration(duration)
+                .avgPace(distance > 0 ? duration / (distance / 1000) : 0.0)
+                .avgSpeed(duration > 0 ? distance / duration : 0.0)
+                .routeCoordinates(coordinates)
+                .routeTimestamps(timestamps)
+                .routeAltitudes(track.altitudeList())
+                .routeHeartRates(track.heartRateList())
+                .routeCadences(track.cadenceList())
+                .avgHeartRate(track.averageHeartRate())
+                .memo(name != null && name.length() > 500 ? name.substring(0, 500) : name)
+                .build();
+    }
+
+    private void evictFinishedJobs() {
+        OffsetDateTime threshold = OffsetDateTime.now().minusSeconds(FINISHED_JOB_RETENTION_SECONDS);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("[기록 가져오기] 임시 파일 삭제 실패: {}", path);
+        }
+    }
+
+    private enum ImportStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * 가져오기 작업 진행 상태 (메모리 보관)
+     */
+    private static class ImportJob {
+        private final UUID id = UUID.randomUUID();
+        private final UUID profileId;
+        private final OffsetDateTime createdAt = OffsetDateTime.now();
+        private final AtomicInteger processedFiles = new AtomicInteger();
+        private final AtomicInteger importedRecords = new AtomicInteger();
+        private final AtomicInteger failedFiles = new AtomicInteger();
+        private final List<String> errors = Collections.synchronizedList(new ArrayList<>());
+        private volatile ImportStatus status = ImportStatus.PENDING;
+        private volatile int totalFiles;
+        private volatile OffsetDateTime finishedAt;
+
+        private ImportJob(UUID profileId) {
+            this.profileId = profileId;
+        }
+
+        private void addError(String message) {
+            failedFiles.incrementAndGet();
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        private void fail(String message) {
+            status = ImportStatus.FAILED;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(message);
+            }
+        }
+
+        private RunningRecordImportResponse toResponse() {
+            return RunningRecordImportResponse.builder()
+                    .jobId(id)
+                    .status(status.name())
+                    .totalFiles(totalFiles)
+                    .processedFiles(processedFiles.get())
+                    .importedRecords(importedRecords.get())
+                    .failedFiles(failedFiles.get())
+                    .errors(List.copyOf(errors))
+                    .createdAt(createdAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
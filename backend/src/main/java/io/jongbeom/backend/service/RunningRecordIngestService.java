@@ -0,0 +1,338 @@
+package io.jongbeom.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jongbeom.backend.dto.RunningRecordIngestResponse;
+import io.jongbeom.backend.dto.RunningRecordRequest;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.util.SegmentedJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 러닝 기록 비동기 저장 서비스
+ *
+ * 요청을 검증한 뒤 로컬 디스크 큐(SegmentedJournal)에 기록하고 핸들을 바로 반환합니다.
+ * 단일 작성 스레드가 flush-interval 마다(또는 batch-size 만큼 쌓이면) 큐를 비우며
+ * RunningRecordBatchWriter 로 batch-size 단위의 다건 INSERT 트랜잭션을 실행합니다.
+ * 재시작 시 남은 세그먼트를 다시 처리하며, 이미 저장된 핸들(ingest_handle)은 건너뜁니다.
+ * 읽을 수 없는 엔트리(이전 버전 형식 등)는 dead-letter 디렉터리에 원문 그대로 옮기고 계속 진행합니다.
+ */
+@Service
+public class RunningRecordIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RunningRecordIngestService.class);
+
+    private static final long FINISHED_STATUS_RETENTION_SECONDS = 3600;
+    private static final String DEAD_LETTER_DIR = "dead-letter";
+
+    private final CourseRepository courseRepository;
+    private final RunningRecordRepository runningRecordRepository;
+    private final RunningRecordBatchWriter batchWriter;
+    private final ObjectMapper objectMapper;
+    private final ScheduledThreadPoolExecutor ingestExecutor;
+    private final Path queueDir;
+    private final boolean fsync;
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalMillis;
+
+    private final Map<UUID, IngestStatus> statuses = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    private SegmentedJournal journal;
+
+    public RunningRecordIngestService(
+            CourseRepository courseRepository,
+            RunningRecordRepository runningRecordRepository,
+            RunningRecordBatchWriter batchWriter,
+            ObjectMapper objectMapper,
+            @Qualifier("recordIngestExecutor") ScheduledThreadPoolExecutor ingestExecutor,
+            @Value("${running-record.ingest.queue-dir:${app.data-dir:./data}/ingest-queue}") String queueDir,
+            @Value("${running-record.ingest.fsync:true}") boolean fsync,
+            @Value("${running-record.ingest.batch-size:50}") int batchSize,
+            @Value("${running-record.ingest.max-pending:10000}") int maxPending,
+            @Value("${running-record.ingest.flush-interval-ms:200}") long flushIntervalMillis) {
+        this.courseRepository = courseRepository;
+        this.runningRecordRepository = runningRecordRepository;
+        this.batchWriter = batchWriter;
+        this.objectMapper = objectMapper;
+        this.ingestExecutor = ingestExecutor;
+        this.queueDir = Path.of(queueDir);
+        this.fsync = fsync;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * 큐 엔트리 (디스크에 JSON 으로 저장, 이전 버전 엔트리의 email 필드는 무시)
+     */
+    private record QueuedRecord(UUID handle, UUID profileId, RunningRecordRequest request) {
+    }
+
+    /**
+     * 핸들별 처리 상태 (메모리, 완료 후 retention 동안만 유지)
+     */
+    private record IngestStatus(UUID profileId, String status, Long recordId, String error, OffsetDateTime finishedAt) {
+
+        static IngestStatus queued(UUID profileId) {
+            return new IngestStatus(profileId, "QUEUED", null, null, null);
+        }
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        journal = new SegmentedJournal(queueDir, fsync);
+        ingestExecutor.scheduleWithFixedDelay(this::drainSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("[비동기 저장] 큐 시작: dir={}, pendingSegments={}", queueDir, journal.seal().size());
+    }
+
+    @PreDestroy
+    void stop() throws IOException {
+        ingestExecutor.shutdown();
+        drainSafely();
+        journal.close();
+    }
+
+    /**
+     * 러닝 기록 비동기 저장 요청
+     *
+     * @param profileId 사용자 ID
+     * @param request 러닝 기록 요청
+     * @return 저장 핸들 (QUEUED)
+     */
+    public RunningRecordIngestResponse enqueue(UUID profileId, RunningRecordRequest request) {
+        validate(request);
+
+        if (request.getCourseId() != null && !courseRepository.existsById(request.getCourseId())) {
+            throw new ResourceNotFoundException("코스를 찾을 수 없습니다.");
+        }
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("저장 대기 중인 러닝 기록이 너무 많습니다.");
+        }
+
+        UUID handle = UUID.randomUUID();
+        statuses.put(handle, IngestStatus.queued(profileId));
+        try {
+            journal.append(objectMapper.writeValueAsBytes(new QueuedRecord(handle, profileId, request)));
+        } catch (IOException e) {
+            statuses.remove(handle);
+            pending.decrementAndGet();
+            throw new UncheckedIOException("러닝 기록 큐 저장 실패", e);
+        }
+
+        if (journal.activeEntries() >= batchSize && drainScheduled.compareAndSet(false, true)) {
+            ingestExecutor.execute(this::drainSafely);
+        }
+
+        logger.info("[비동기 저장] 접수: profileId={}, handle={}", profileId, handle);
+        return RunningRecordIngestResponse.builder()
+                .handle(handle)
+                .status("QUEUED")
+                .build();
+    }
+
+    /**
+     * 비동기 저장 상태 조회
+     *
+     * 메모리 상태가 만료되었거나 재시작 후에는 저장된 기록에서 핸들로 조회합니다.
+     */
+    public RunningRecordIngestResponse getStatus(UUID profileId, UUID handle) {
+        IngestStatus status = statuses.get(handle);
+        if (status != null) {
+            if (!status.profileId().equals(profileId)) {
+                throw new ResourceNotFoundException("저장 요청을 찾을 수 없습니다.");
+            }
+            return RunningRecordIngestResponse.builder()
+                    .handle(handle)
+                    .status(status.status())
+                    .recordId(status.recordId())
+                    .error(status.error())
+                    .build();
+        }
+
+        RunningRecord record = runningRecordRepository.findByIngestHandle(handle)
+                .filter(r -> r.getProfile().getId().equals(profileId))
+                .orElseThrow(() -> new ResourceNotFoundException("저장 요청을 찾을 수 없습니다."));
+        return RunningRecordIngestResponse.builder()
+                .handle(handle)
+                .status("SAVED")
+                .recordId(record.getId())
+                .build();
+    }
+
+    private void validate(RunningRecordRequest request) {
+        if (request.getStartTime() == null || request.getEndTime() == null
+                || request.getDistance() == null || request.getDuration() == null) {
+            throw new IllegalArgumentException("러닝 기록의 필수 값이 없습니다.");
+        }
+        List<List<Double>> coordinates = request.getRouteCoordinates();
+        if (coordinates != null) {
+            for (List<Double> point : coordinates) {
+                if (point == null || point.size() < 2 || point.get(0) == null || point.get(1) == null) {
+                    throw new IllegalArgumentException("경로 좌표 형식이 올바르지 않습니다.");
+                }
+            }
+        }
+    }
+
+    private void drainSafely() {
+        drainScheduled.set(false);
+        try {
+            drain();
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleWithFixedDelay 가 중단되므로 기록만 남김 (다음 주기에 재시도)
+            logger.error("[비동기 저장] 큐 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 닫힌 세그먼트를 순서대로 batch-size 단위 트랜잭션으로 저장
+     */
+    private void drain() throws IOException {
+        drainLock.lock();
+        try {
+            evictFinishedStatuses();
+
+            for (Path segment : journal.seal()) {
+                List<QueuedRecord> queued = new ArrayList<>();
+                List<byte[]> unreadable = new ArrayList<>();
+                for (byte[] payload : SegmentedJournal.read(segment)) {
+                    try {
+                        queued.add(objectMapper.readValue(payload, QueuedRecord.class));
+                    } catch (IOException e) {
+                        logger.error("[비동기 저장] 읽을 수 없는 엔트리를 dead-letter 로 이동: segment={}, {}",
+                                segment.getFileName(), e.getMessage());
+                        unreadable.add(payload);
+                    }
+                }
+                if (!unreadable.isEmpty()) {
+                    writeDeadLetters(segment, unreadable);
+                }
+
+                for (int from = 0; from < queued.size(); from += batchSize) {
+                    writeChunk(queued.subList(from, Math.min(from + batchSize, queued.size())));
+                }
+                journal.delete(segment);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * 읽을 수 없는 엔트리를 dead-letter/{세그먼트 이름} 에 한 줄씩 기록 (세그먼트 삭제 전에 디스크 반영)
+     */
+    private void writeDeadLetters(Path segment, List<byte[]> payloads) throws IOException {
+        Path dir = queueDir.resolve(DEAD_LETTER_DIR);
+        Files.createDirectories(dir);
+        try (FileChannel channel = FileChannel.open(dir.resolve(segment.getFileName()),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            for (byte[] payload : payloads) {
+                ByteBuffer line = ByteBuffer.allocate(payload.length + 1);
+                line.put(payload).put((byte) '\n').flip();
+                while (line.hasRemaining()) {
+                    channel.write(line);
+                }
+            }
+            channel.force(false);
+        }
+    }
+
+    private void writeChunk(List<QueuedRecord> chunk) {
+        // 재시작 후 재처리 시 이미 커밋된 항목 제외
+        Set<UUID> handles = new HashSet<>();
+        chunk.forEach(queued -> handles.add(queued.handle()));
+        Set<UUID> existing = new HashSet<>(runningRecordRepository.findExistingIngestHandles(handles));
+
+        List<QueuedRecord> toWrite = chunk.stream()
+                .filter(queued -> !existing.contains(queued.handle()))
+                .toList();
+        if (toWrite.isEmpty()) {
+            return;
+        }
+
+        try {
+            complete(toWrite, batchWriter.writeEntries(toWrite.stream().map(this::toEntry).toList()));
+        } catch (RuntimeException e) {
+            // 배치 실패 시 한 건씩 저장하여 문제 항목만 실패 처리
+            logger.warn("[비동기 저장] 배치 저장 실패, 개별 저장으로 재시도: size={}, {}", toWrite.size(), e.getMessage());
+            for (QueuedRecord queued : toWrite) {
+                try {
+                    complete(List.of(queued), batchWriter.writeEntries(List.of(toEntry(queued))));
+                } catch (RuntimeException single) {
+                    if (isTransient(single)) {
+                        // DB 연결 문제 등은 세그먼트를 남겨두고 다음 주기에 재시도
+                        throw single;
+                    }
+                    logger.error("[비동기 저장] 저장 실패: handle={}, {}", queued.handle(), single.getMessage());
+                    finish(queued, new IngestStatus(queued.profileId(), "FAILED", null, single.getMessage(), OffsetDateTime.now()));
+                }
+            }
+        }
+    }
+
+    private boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private void complete(List<QueuedRecord> queued, List<RunningRecord> saved) {
+        for (int i = 0; i < queued.size(); i++) {
+            finish(queued.get(i), new IngestStatus(
+                    queued.get(i).profileId(), "SAVED", saved.get(i).getId(), null, OffsetDateTime.now()));
+        }
+    }
+
+    private void finish(QueuedRecord queued, IngestStatus status) {
+        statuses.put(queued.handle(), status);
+        pending.updateAndGet(count -> Math.max(0, count - 1));
+    }
+
+    private RunningRecordBatchWriter.Entry toEntry(QueuedRecord queued) {
+        return new RunningRecordBatchWriter.Entry(queued.handle(), queued.profileId(), queued.request());
+    }
+
+    private void evictFinishedStatuses() {
+        OffsetDateTime threshold = OffsetDateTime.now().minusSeconds(FINISHED_STATUS_RETENTION_SECONDS);
+        statuses.values().removeIf(status -> status.finishedAt() != null && status.finishedAt().isBefore(threshold));
+    }
+}
@@ -0,0 +1,163 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.dto.RunningRecordRequest;
+import io.jongbeom.backend.dto.RunningRecordSamplesResponse;
+import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.entity.RunningRecordSamples;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
+import io.jongbeom.backend.repository.RunningRecordSamplesRepository;
+import io.jongbeom.backend.util.DeltaVarintCodec;
+import io.jongbeom.backend.util.TimedTrack;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 러닝 기록 샘플 서비스
+ *
+ * 포인트별 시간/고도/심박수/케이던스를 컬럼 단위로 압축 저장하고,
+ * 차트용으로 구간 + 다운샘플링 디코딩을 제공합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RunningRecordSamplesService {
+
+    private static final int DEFAULT_MAX_POINTS = 500;
+    private static final int MAX_POINTS_LIMIT = 5000;
+
+    private final RunningRecordSamplesRepository samplesRepository;
+
+    /**
+     * 샘플 저장 (러닝 기록 저장과 같은 트랜잭션에서 호출)
+     *
+     * @param record 저장된 러닝 기록
+     * @param track 시간 정보가 포함된 트랙
+     * @param request 러닝 기록 요청 (고도/심박수/케이던스)
+     */
+    @Transactional
+    public void saveSamples(RunningRecord record, TimedTrack track, RunningRecordRequest request) {
+        RunningRecordSamples samples = samplesRepository.save(buildSamples(record, track, request));
+        log.info("[RunningRecord] 샘플 저장 완료 - ID: {}, points: {}, bytes: {}",
+                record.getId(), samples.getPointCount(), samples.getTimeData().length);
+    }
+
+    /**
+     * 샘플 엔티티 생성 (저장하지 않음 - 일괄 저장용)
+     *
+     * @param record 러닝 기록
+     * @param track 시간 정보가 포함된 트랙
+     * @param request 러닝 기록 요청 (고도/심박수/케이던스)
+     * @return 샘플 엔티티
+     */
+    public RunningRecordSamples buildSamples(RunningRecord record, TimedTrack track, RunningRecordRequest request) {
+        int size = track.size();
+        long start = track.timestamp(0);
+
+        long[] elapsed = new long[size];
+        for (int i = 0; i < size; i++) {
+            elapsed[i] = track.timestamp(i) - start;
+        }
+
+        return RunningRecordSamples.builder()
+                .record(record)
+                .pointCount(size)
+                .startTimestamp(start)
+                .timeData(DeltaVarintCodec.encode(elapsed))
+                .altitudeData(encodeColumn(request.getRouteAltitudes(), size, 10.0))
+                .heartRateData(encodeColumn(request.getRouteHeartRates(), size, 1.0))
+                .cadenceData(encodeColumn(request.getRouteCadences(), size, 1.0))
+                .build();
+    }
+
+    /**
+     * 샘플 조회 (구간 + 다운샘플링)
+     *
+     * 본인 기록만 조회할 수 있으며, 다른 사용자의 기록은 없는 기록과 같이 404 로 응답합니다.
+     *
+     * @param profileId 사용자 ID
+     * @param recordId 러닝 기록 ID
+     * @param from 시작 인덱스 (기본값: 0)
+     * @param to 끝 인덱스 (미포함, 기본값: 전체)
+     * @param maxPoints 최대 반환 포인트 수 (기본값: 500)
+     */
+    @Transactional(readOnly = true)
+    public RunningRecordSamplesResponse getSamples(
+            UUID profileId, Long recordId, Integer from, Integer to, Integer maxPoints) {
+        RunningRecordSamples samples = samplesRepository.findByRecordIdAndProfileId(recordId, profileId)
+                .orElseThrow(() -> new ResourceNotFoundException("샘플 데이터가 없는 러닝 기록입니다: " + recordId));
+
+        int total = samples.getPointCount();
+        int start = from != null ? Math.max(0, Math.min(from, total)) : 0;
+        int end = to != null ? Math.max(start, Math.min(to, total)) : total;
+        int limit = maxPoints != null ? Math.max(1, Math.min(maxPoints, MAX_POINTS_LIMIT)) : DEFAULT_MAX_POINTS;
+        int step = Math.max(1, (end - start + limit - 1) / limit);
+
+        long[] altitudesDm = decodeColumn(samples.getAltitudeData(), start, end, step);
+        double[] altitudes = null;
+        if (altitudesDm != null) {
+            altitudes = new double[altitudesDm.length];
+            for (int i = 0; i < altitudesDm.length; i++) {
+                altitudes[i] = altitudesDm[i] / 10.0;
+            }
+        }
+
+        return RunningRecordSamplesResponse.builder()
+                .recordId(recordId)
+                .totalPoints(total)
+                .from(start)
+                .step(step)
+                .startTimestamp(samples.getStartTimestamp())
+                .elapsed(decodeColumn(samples.getTimeData(), start, end, step))
+                .altitudes(altitudes)
+                .heartRates(decodeColumn(samples.getHeartRateData(), start, end, step))
+                .cadences(decodeColumn(samples.getCadenceData(), start, end, step))
+                .build();
+    }
+
+    /**
+     * 샘플 삭제 (러닝 기록 삭제 전 호출)
+     */
+    @Transactional
+    public void deleteSamples(Long recordId) {
+        if (samplesRepository.existsById(recordId)) {
+            samplesRepository.deleteById(recordId);
+        }
+    }
+
+    /**
+     * 포인트별 값 목록을 정수 컬럼으로 인코딩
+     *
+     * 누락된 값(null)은 직전 값(앞부분은 첫 측정값)으로 채우며, 값이 하나도 없거나 길이가 맞지 않으면 null을 반환합니다.
+     */
+    private byte[] encodeColumn(List<? extends Number> values, int size, double scale) {
+        if (values == null || values.size() != size) {
+            return null;
+        }
+
+        Number first = values.stream().filter(v -> v != null).findFirst().orElse(null);
+        if (first == null) {
+            return null;
+        }
+
+        long[] column = new long[size];
+        long last = Math.round(first.doubleValue() * scale);
+        for (int i = 0; i < size; i++) {
+            Number value = values.get(i);
+            if (value != null) {
+                last = Math.round(value.doubleValue() * scale);
+            }
+            column[i] = last;
+        }
+
+        return DeltaVarintCodec.encode(column);
+    }
+
+    private long[] decodeColumn(byte[] data, int from, int to, int step) {
+        return data != null ? DeltaVarintCodec.decodeRange(data, from, to, step) : null;
+    }
+}
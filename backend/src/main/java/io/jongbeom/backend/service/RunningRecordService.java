@@ -5,19 +5,28 @@ import io.jongbeom.backend.dto.RunningRecordResponse;
 import io.jongbeom.backend.entity.Course;
 import io.jongbeom.backend.entity.Profile;
 import io.jongbeom.backend.entity.RunningRecord;
+import io.jongbeom.backend.event.RunningRecordDeletedEvent;
+import io.jongbeom.backend.event.RunningRecordSavedEvent;
+import io.jongbeom.backend.exception.ResourceNotFoundException;
 import io.jongbeom.backend.repository.CourseRepository;
 import io.jongbeom.backend.repository.ProfileRepository;
 import io.jongbeom.backend.repository.RunningRecordRepository;
+import io.jongbeom.backend.util.BestEffortCalculator;
+import io.jongbeom.backend.util.CourseAdherenceCalculator;
+import io.jongbeom.backend.util.SplitCalculator;
+import io.jongbeom.backend.util.TimedTrack;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +40,11 @@ public class RunningRecordService {
     private final RunningRecordRepository runningRecordRepository;
     private final ProfileRepository profileRepository;
     private final CourseRepository courseRepository;
+    private final RunningRecordSamplesService samplesService;
+    private final BestEffortService bestEffortService;
+    private final CourseLeaderboardService courseLeaderboardService;
+    private final ElevationService elevationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // GeometryFactory (SRID 4326 = WGS84)
     private final GeometryFactory geometryFactory =
@@ -40,12 +54,11 @@ public class RunningRecordService {
      * 러닝 기록 저장
      */
     @Transactional
-    public RunningRecordResponse createRecord(String email, RunningRecordRequest request) {
-        log.info("[RunningRecord] 러닝 기록 저장 시작 - Email: {}", email);
+    public RunningRecordResponse createRecord(UUID profileId, RunningRecordRequest request) {
+        log.info("[RunningRecord] 러닝 기록 저장 시작 - ProfileId: {}", profileId);
 
         // Profile 조회
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Profile not found: " + email));
+        Profile profile = profileRepository.getReferenceById(profileId);
 
         // Course 조회 (optional)
         Course course = null;
@@ -55,32 +68,31 @@ public class RunningRecordService {
                             "Course not found: " + request.getCourseId()));
         }
 
-        // 좌표 배열을 LineString으로 변환
-        LineString actualRoute = null;
-        if (request.getRouteCoordinates() != null && !request.getRouteCoordinates().isEmpty()) {
-            actualRoute = createLineString(request.getRouteCoordinates());
+        // 타임스탬프가 있으면 1km 구간 기록 및 포인트별 샘플 생성
+        TimedTrack track = TimedTrack.of(request.getRouteCoordinates(), request.getRouteTimestamps());
+        if (track == null && request.getRouteTimestamps() != null) {
+            log.warn("[RunningRecord] 경로 타임스탬프가 좌표와 맞지 않아 구간 기록 생략 - ProfileId: {}", profileId);
         }
 
-        // 엔티티 생성
-        RunningRecord record = RunningRecord.builder()
-                .profile(profile)
-                .course(course)
-                .startTime(request.getStartTime())
-                .endTime(request.getEndTime())
-                .distance(request.getDistance())
-                .duration(request.getDuration())
-                .avgPace(request.getAvgPace())
-                .avgSpeed(request.getAvgSpeed())
-                .actualRoute(actualRoute)
-                .memo(request.getMemo())
-                .weather(request.getWeather())
-                .calories(request.getCalories())
-                .avgHeartRate(request.getAvgHeartRate())
-                .build();
+        RunningRecord record = buildRecord(profile, course, request, track);
 
         RunningRecord savedRecord = runningRecordRepository.save(record);
         log.info("[RunningRecord] 러닝 기록 저장 완료 - ID: {}", savedRecord.getId());
 
+        // 포인트별 샘플 (시간/고도/심박수/케이던스) 압축 저장
+        if (track != null) {
+            samplesService.saveSamples(savedRecord, track, request);
+        }
+
+        // 거리별 최고 기록 갱신
+        bestEffortService.applyRecords(profile, List.of(savedRecord));
+
+        // 코스 리더보드 갱신
+        courseLeaderboardService.applyRecords(profile, List.of(savedRecord));
+
+        // 커밋 이후 후처리 (히트맵 등)
+        eventPublisher.publishEvent(new RunningRecordSavedEvent(List.of(savedRecord)));
+
         return RunningRecordResponse.fromEntity(savedRecord);
     }
 
@@ -88,9 +100,8 @@ public class RunningRecordService {
      * 내 러닝 기록 목록 조회
      */
     @Transactional(readOnly = true)
-    public List<RunningRecordResponse> getMyRecords(String email) {
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Profile not found: " + email));
+    public List<RunningRecordResponse> getMyRecords(UUID profileId) {
+        Profile profile = profileRepository.getReferenceById(profileId);
 
         List<RunningRecord> records = runningRecordRepository
                 .findByProfileOrderByCreatedAtDesc(profile);
@@ -101,32 +112,35 @@ public class RunningRecordService {
     }
 
     /**
-     * 러닝 기록 상세 조회
+     * 러닝 기록 상세 조회 (본인 기록만, 다른 회원의 기록은 없는 기록과 같이 404)
      */
     @Transactional(readOnly = true)
-    public RunningRecordResponse getRecordById(Long recordId) {
-        RunningRecord record = runningRecordRepository.findById(recordId)
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "Running record not found: " + recordId));
+    public RunningRecordResponse getRecordById(UUID profileId, Long recordId) {
+        RunningRecord record = runningRecordRepository.findByIdAndProfileId(recordId, profileId)
+                .orElseThrow(() -> new ResourceNotFoundException("러닝 기록을 찾을 수 없습니다: " + recordId));
 
-        return RunningRecordResponse.fromEntity(record);
+        return RunningRecordResponse.fromEntityWithDetails(record);
     }
 
     /**
      * 러닝 기록 삭제
      */
     @Transactional
-    public void deleteRecord(String email, Long recordId) {
+    public void deleteRecord(UUID profileId, Long recordId) {
         RunningRecord record = runningRecordRepository.findById(recordId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "Running record not found: " + recordId));
 
         // 본인의 기록인지 확인
-        if (!record.getProfile().getEmail().equals(email)) {
+        if (!record.getProfile().getId().equals(profileId)) {
             throw new IllegalArgumentException("Not authorized to delete this record");
         }
 
+        bestEffortService.onRecordDeleted(record);
+        courseLeaderboardService.onRecordDeleted(record);
+        samplesService.deleteSamples(recordId);
         runningRecordRepository.delete(record);
+        eventPublisher.publishEvent(new RunningRecordDeletedEvent(record));
         log.info("[RunningRecord] 러닝 기록 삭제 완료 - ID: {}", recordId);
     }
 
@@ -134,9 +148,8 @@ public class RunningRecordService {
      * 사용자 통계 조회
      */
     @Transactional(readOnly = true)
-    public RunningStatistics getStatistics(String email) {
-        Profile profile = profileRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("Profile not found: " + email));
+    public RunningStatistics getStatistics(UUID profileId) {
+        Profile profile = profileRepository.getReferenceById(profileId);
 
         Double totalDistance = runningRecordRepository.getTotalDistanceByProfile(profile);
         Long totalDuration = runningRecordRepository.getTotalDurationByProfile(profile);
@@ -149,6 +162,59 @@ public class RunningRecordService {
                 .build();
     }
 
+    /**
+     * 요청 DTO로 러닝 기록 엔티티 생성 (저장하지 않음)
+     *
+     * @param profile 러닝한 사용자
+     * @param course 사용한 코스 (nullable)
+     * @param request 러닝 기록 요청
+     * @param track 시간 정보가 포함된 트랙 (nullable - 있으면 구간/최고 기록 계산)
+     * @return 러닝 기록 엔티티
+     */
+    public RunningRecord buildRecord(Profile profile, Course course, RunningRecordRequest request, TimedTrack track) {
+        // 좌표 배열을 LineString으로 변환
+        LineString actualRoute = null;
+        if (request.getRouteCoordinates() != null && !request.getRouteCoordinates().isEmpty()) {
+            actualRoute = createLineString(request.getRouteCoordinates());
+        }
+
+        // 엔티티 생성
+        RunningRecord record = RunningRecord.builder()
+                .profile(profile)
+                .course(course)
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .distance(request.getDistance())
+                .duration(request.getDuration())
+                .avgPace(request.getAvgPace())
+                .avgSpeed(request.getAvgSpeed())
+                .actualRoute(actualRoute)
+                .elevation(elevationService.profile(actualRoute))
+                .memo(request.getMemo())
+                .weather(request.getWeather())
+                .calories(request.getCalories())
+                .avgHeartRate(request.getAvgHeartRate())
+                .build();
+
+        if (track != null) {
+            record.setSplits(SplitCalculator.calculate(track));
+            record.setEfforts(BestEffortCalculator.calculate(track));
+        }
+
+        // 코스를 따라 달린 경우 코스 준수도 계산
+        if (course != null) {
+            CourseAdherenceCalculator.Result adherence =
+                    CourseAdherenceCalculator.calculate(course.getRoute(), actualRoute, track);
+            if (adherence != null) {
+                record.setCourseCoverage(adherence.coverage());
+                record.setCourseMaxDeviation(adherence.maxDeviation());
+                record.setOffRouteIntervals(adherence.offRouteIntervals());
+            }
+        }
+
+        return record;
+    }
+
     /**
      * 좌표 배열을 LineString으로 변환
      */
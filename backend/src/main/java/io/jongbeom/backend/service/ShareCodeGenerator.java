@@ -0,0 +1,105 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.repository.CourseRepository;
+import io.jongbeom.backend.util.FeistelPermutation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 코스 공유 코드 생성기
+ *
+ * DB 시퀀스(course_share_code_seq, INCREMENT BY BLOCK_SIZE)에서 노드별로 순번 블록을 미리 받아두고,
+ * 순번을 36^8 범위의 Feistel 순열로 섞은 뒤 8자리 영문 대문자+숫자로 인코딩합니다.
+ * 순번이 겹치지 않으므로 존재 여부 확인(existsByShareCode) 없이도 코드가 충돌하지 않으며,
+ * DB 왕복은 BLOCK_SIZE 개 발급마다 한 번(nextval)뿐입니다.
+ *
+ * 순열 키(course.share-code.secret)가 바뀌면 같은 순번이 다른 코드가 되어 기존 코드와 겹칠 수 있고,
+ * 이전 방식의 무작위 코드와도 겹칠 수 있으므로 저장 시 share_code 고유 제약 위반은
+ * isConflict 로 판별해 다음 코드로 다시 시도합니다. (CourseService.createCourse)
+ * 키가 설정되지 않으면 개발용 고정 키를 쓰며, prod 프로필에서는 시작을 거부합니다.
+ */
+@Component
+public class ShareCodeGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShareCodeGenerator.class);
+
+    private static final String CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int LENGTH = 8;
+
+    /**
+     * 36^8
+     */
+    static final long CODE_SPACE = 2_821_109_907_456L;
+
+    /**
+     * 노드별 사전 할당 블록 크기 (sql/add_course_share_code_sequence.sql 의 INCREMENT BY 와 같아야 함)
+     */
+    static final int BLOCK_SIZE = 100;
+
+    /**
+     * 개발 환경용 순열 키 (SHARE_CODE_SECRET 미설정 시)
+     */
+    private static final String DEV_SECRET = "runrun-dev-share-code-secret";
+
+    private final CourseRepository courseRepository;
+    private final FeistelPermutation permutation;
+
+    private long next;
+    private long blockEnd;
+
+    public ShareCodeGenerator(
+            CourseRepository courseRepository,
+            Environment environment,
+            @Value("${course.share-code.secret:}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            if (environment.acceptsProfiles(Profiles.of("prod"))) {
+                throw new IllegalStateException("course.share-code.secret(SHARE_CODE_SECRET) 설정이 필요합니다.");
+            }
+            logger.warn("[공유 코드] SHARE_CODE_SECRET 미설정 - 개발용 키 사용");
+            secret = DEV_SECRET;
+        }
+        this.courseRepository = courseRepository;
+        this.permutation = new FeistelPermutation(CODE_SPACE, secret);
+    }
+
+    /**
+     * 고유한 8자리 공유 코드 발급
+     */
+    public synchronized String nextCode() {
+        if (next >= blockEnd) {
+            long start = courseRepository.nextShareCodeBlock();
+            if (start + BLOCK_SIZE > CODE_SPACE) {
+                throw new IllegalStateException("공유 코드 공간이 모두 사용되었습니다.");
+            }
+            next = start;
+            blockEnd = start + BLOCK_SIZE;
+            logger.debug("[공유 코드] 블록 할당: {} ~ {}", start, blockEnd - 1);
+        }
+        return encode(permutation.permute(next++));
+    }
+
+    /**
+     * 순열 값 → 8자리 코드
+     */
+    static String encode(long value) {
+        char[] code = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARS.charAt((int) (value % CHARS.length()));
+            value /= CHARS.length();
+        }
+        return new String(code);
+    }
+
+    /**
+     * share_code 고유 제약 위반인지 확인 (PostgreSQL: Key (share_code)=(...) already exists)
+     */
+    static boolean isConflict(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains("share_code");
+    }
+}
@@ -0,0 +1,84 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.BestEffortType;
+import io.jongbeom.backend.entity.RunningEffort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 거리별 최고 구간 기록 계산기
+ *
+ * 누적 거리/시간 배열 위에서 투 포인터 슬라이딩 윈도우로
+ * 목표 거리 이상을 덮는 가장 짧은 시간 구간을 O(n) 에 찾습니다.
+ * 구간 시작점은 두 포인트 사이에서 선형 보간하여 정확히 목표 거리가 되도록 맞춥니다.
+ */
+public final class BestEffortCalculator {
+
+    private BestEffortCalculator() {
+    }
+
+    /**
+     * 트랙 길이 이하의 모든 측정 거리에 대해 최고 구간 기록 계산
+     *
+     * @param track 시간 정보가 포함된 트랙
+     * @return 거리별 최고 구간 기록 (트랙보다 긴 거리는 제외)
+     */
+    public static List<RunningEffort> calculate(TimedTrack track) {
+        List<RunningEffort> efforts = new ArrayList<>();
+        if (track == null || track.size() < 2) {
+            return efforts;
+        }
+
+        for (BestEffortType type : BestEffortType.values()) {
+            double best = bestTime(track, type.getDistance());
+            if (!Double.isNaN(best)) {
+                efforts.add(new RunningEffort(type, best));
+            }
+        }
+        return efforts;
+    }
+
+    /**
+     * 목표 거리를 가장 빨리 달린 구간의 소요 시간
+     *
+     * @param track 시간 정보가 포함된 트랙
+     * @param target 목표 거리 (미터)
+     * @return 소요 시간 (초, 트랙이 목표 거리보다 짧으면 NaN)
+     */
+    public static double bestTime(TimedTrack track, double target) {
+        int size = track.size();
+        if (track.totalDistance() < target) {
+            return Double.NaN;
+        }
+
+        double best = Double.MAX_VALUE;
+        int start = 0;
+
+        for (int end = 1; end < size; end++) {
+            double endDistance = track.cumulativeDistance(end);
+            if (endDistance < target) {
+                continue;
+            }
+
+            // start 를 목표 거리를 유지하는 한 최대한 앞으로 이동
+            while (start + 1 < end && endDistance - track.cumulativeDistance(start + 1) >= target) {
+                start++;
+            }
+
+            // 구간 시작 위치(endDistance - target)를 start ~ start+1 사이에서 보간
+            double startPosition = endDistance - target;
+            double segmentStart = track.cumulativeDistance(start);
+            double segmentLength = track.cumulativeDistance(start + 1) - segmentStart;
+            double ratio = segmentLength > 0 ? (startPosition - segmentStart) / segmentLength : 0;
+            double startTime = track.timestamp(start) + ratio * (track.timestamp(start + 1) - track.timestamp(start));
+
+            double elapsed = (track.timestamp(end) - startTime) / 1000.0;
+            if (elapsed < best) {
+                best = elapsed;
+            }
+        }
+
+        return best;
+    }
+}
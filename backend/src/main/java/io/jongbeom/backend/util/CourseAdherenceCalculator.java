@@ -0,0 +1,217 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.OffRouteInterval;
+import org.locationtech.jts.algorithm.Distance;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코스 준수도 계산기
+ *
+ * 코스 경로와 실제 러닝 경로를 코스 시작점 기준 평면 좌표(미터)로 투영한 뒤,
+ * 두 경로의 선분을 각각 STRtree 에 넣어 최근접 거리를 구합니다.
+ * - 코스 커버율: 코스를 10m 간격으로 샘플링하여 러닝 경로에서 허용 거리 이내인 샘플 비율
+ * - 최대 이탈 거리: 러닝 포인트에서 코스까지 거리의 최댓값 (단방향 Hausdorff 거리)
+ * - 이탈 구간: 허용 거리를 벗어난 연속 포인트 구간 (짧은 GPS 튐은 제외)
+ */
+public final class CourseAdherenceCalculator {
+
+    /**
+     * 코스 위로 인정하는 거리 (미터, GPS 오차 + 도로 폭)
+     */
+    public static final double TOLERANCE = 30.0;
+
+    /**
+     * 커버율 계산 시 코스 샘플 간격 (미터)
+     */
+    private static final double SAMPLE_SPACING = 10.0;
+
+    /**
+     * 이보다 짧은 이탈 구간은 GPS 튐으로 보고 무시 (미터)
+     */
+    private static final double MIN_INTERVAL_DISTANCE = 50.0;
+
+    private static final ItemDistance SEGMENT_DISTANCE = (a, b) -> {
+        Coordinate[] s1 = (Coordinate[]) a.getItem();
+        Coordinate[] s2 = (Coordinate[]) b.getItem();
+        return Distance.segmentToSegment(s1[0], s1[1], s2[0], s2[1]);
+    };
+
+    private CourseAdherenceCalculator() {
+    }
+
+    /**
+     * 계산 결과
+     *
+     * @param coverage 코스 커버율 (%)
+     * @param maxDeviation 최대 이탈 거리 (미터)
+     * @param offRouteIntervals 이탈 구간 목록
+     */
+    public record Result(double coverage, double maxDeviation, List<OffRouteInterval> offRouteIntervals) {
+    }
+
+    /**
+     * 코스 준수도 계산
+     *
+     * @param courseRoute 코스 경로 (WGS84)
+     * @param actualRoute 실제 러닝 경로 (WGS84)
+     * @param track 시간 정보 (없거나 경로와 길이가 다르면 이탈 시각은 null)
+     * @return 계산 결과 (경로가 없거나 2점 미만이면 null)
+     */
+    public static Result calculate(LineString courseRoute, LineString actualRoute, TimedTrack track) {
+        if (courseRoute == null || actualRoute == null
+                || courseRoute.getNumPoints() < 2 || actualRoute.getNumPoints() < 2) {
+            return null;
+        }
+
+        double originLat = courseRoute.getCoordinateN(0).getY();
+        double metersPerDegreeY = Math.toRadians(1) * GeoUtils.EARTH_RADIUS;
+        double metersPerDegreeX = metersPerDegreeY * Math.cos(Math.toRadians(originLat));
+
+        Coordinate[] course = project(courseRoute, metersPerDegreeX, metersPerDegreeY);
+        Coordinate[] run = project(actualRoute, metersPerDegreeX, metersPerDegreeY);
+        if (track != null && track.size() != run.length) {
+            track = null;
+        }
+
+        STRtree courseIndex = buildIndex(course);
+        STRtree runIndex = buildIndex(run);
+
+        double coverage = coverage(course, runIndex);
+
+        // 러닝 포인트별 코스까지 거리 및 이탈 구간
+        List<OffRouteInterval> intervals = new ArrayList<>();
+        double maxDeviation = 0;
+        double cumulative = 0;
+        int offStart = -1;
+        double offStartDistance = 0;
+        double offMax = 0;
+
+        for (int i = 0; i < run.length; i++) {
+            if (i > 0) {
+                cumulative += run[i - 1].distance(run[i]);
+            }
+            double deviation = distanceToIndex(run[i], courseIndex);
+            maxDeviation = Math.max(maxDeviation, deviation);
+
+            if (deviation > TOLERANCE) {
+                if (offStart < 0) {
+                    offStart = i;
+                    offStartDistance = cumulative;
+                    offMax = 0;
+                }
+                offMax = Math.max(offMax, deviation);
+            } else if (offStart >= 0) {
+                addInterval(intervals, track, offStart, i, offStartDistance, cumulative, offMax);
+                offStart = -1;
+            }
+        }
+        if (offStart >= 0) {
+            addInterval(intervals, track, offStart, run.length - 1, offStartDistance, cumulative, offMax);
+        }
+
+        return new Result(coverage, maxDeviation, intervals);
+    }
+
+    /**
+     * 코스를 일정 간격으로 샘플링하여 러닝 경로 근처에 있는 비율 (%)
+     */
+    private static double coverage(Coordinate[] course, STRtree runIndex) {
+        int samples = 0;
+        int covered = 0;
+
+        for (int i = 1; i < course.length; i++) {
+            Coordinate a = course[i - 1];
+            Coordinate b = course[i];
+            int steps = Math.max(1, (int) Math.ceil(a.distance(b) / SAMPLE_SPACING));
+            for (int s = (i == 1 ? 0 : 1); s <= steps; s++) {
+                double t = (double) s / steps;
+                Coordinate sample = new Coordinate(a.x + (b.x - a.x) * t, a.y + (b.y - a.y) * t);
+                samples++;
+                if (isWithinTolerance(sample, runIndex)) {
+                    covered++;
+                }
+            }
+        }
+        return samples > 0 ? covered * 100.0 / samples : 0.0;
+    }
+
+    /**
+     * 허용 거리 안의 선분이 있는지 확인 (범위 질의만 사용)
+     */
+    private static boolean isWithinTolerance(Coordinate point, STRtree index) {
+        Envelope search = new Envelope(point);
+        search.expandBy(TOLERANCE);
+        for (Object item : index.query(search)) {
+            Coordinate[] segment = (Coordinate[]) item;
+            if (Distance.pointToSegment(point, segment[0], segment[1]) <= TOLERANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포인트에서 인덱스된 경로까지의 최단 거리
+     *
+     * 대부분의 포인트는 허용 거리 범위 질의로 끝나고, 벗어난 포인트만 최근접 탐색을 수행합니다.
+     */
+    private static double distanceToIndex(Coordinate point, STRtree index) {
+        Envelope search = new Envelope(point);
+        search.expandBy(TOLERANCE);
+
+        double nearest = Double.MAX_VALUE;
+        for (Object item : index.query(search)) {
+            Coordinate[] segment = (Coordinate[]) item;
+            nearest = Math.min(nearest, Distance.pointToSegment(point, segment[0], segment[1]));
+        }
+        if (nearest <= TOLERANCE) {
+            return nearest;
+        }
+
+        Coordinate[] query = {point, point};
+        Coordinate[] segment = (Coordinate[]) index.nearestNeighbour(new Envelope(point), query, SEGMENT_DISTANCE);
+        return Distance.pointToSegment(point, segment[0], segment[1]);
+    }
+
+    private static void addInterval(List<OffRouteInterval> intervals, TimedTrack track,
+                                    int startIndex, int endIndex,
+                                    double startDistance, double endDistance, double maxDeviation) {
+        if (endDistance - startDistance < MIN_INTERVAL_DISTANCE) {
+            return;
+        }
+
+        Double startOffset = null;
+        Double endOffset = null;
+        if (track != null) {
+            startOffset = (track.timestamp(startIndex) - track.timestamp(0)) / 1000.0;
+            endOffset = (track.timestamp(endIndex) - track.timestamp(0)) / 1000.0;
+        }
+        intervals.add(new OffRouteInterval(startDistance, endDistance, startOffset, endOffset, maxDeviation));
+    }
+
+    private static STRtree buildIndex(Coordinate[] points) {
+        STRtree index = new STRtree();
+        for (int i = 1; i < points.length; i++) {
+            Coordinate[] segment = {points[i - 1], points[i]};
+            index.insert(new Envelope(segment[0], segment[1]), segment);
+        }
+        index.build();
+        return index;
+    }
+
+    private static Coordinate[] project(LineString line, double metersPerDegreeX, double metersPerDegreeY) {
+        Coordinate[] source = line.getCoordinates();
+        Coordinate[] projected = new Coordinate[source.length];
+        for (int i = 0; i < source.length; i++) {
+            projected[i] = new Coordinate(source[i].getX() * metersPerDegreeX, source[i].getY() * metersPerDegreeY);
+        }
+        return projected;
+    }
+}
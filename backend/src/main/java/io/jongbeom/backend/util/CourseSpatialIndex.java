@@ -0,0 +1,332 @@
+package io.jongbeom.backend.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * 코스 시작점 / 경로 범위(bbox) 메모리 공간 인덱스
+ *
+ * 코스 정보는 슬롯 번호로 접근하는 기본형 배열에 저장하고, 격자 버킷에는 슬롯 번호(int)만 담습니다.
+ * - 시작점 격자: 0.01° (약 1km) 셀
+ * - bbox 격자: 0.1° (약 10km) 셀, 코스 bbox 가 걸치는 모든 셀에 등록
+ *   (걸치는 셀이 MAX_BBOX_CELLS 를 넘는 넓은 코스는 격자 대신 별도 목록에 두고 조회마다 전부 확인)
+ * 삭제된 슬롯은 재사용합니다. 스레드 안전하지 않으므로 호출자가 동기화해야 합니다.
+ */
+public final class CourseSpatialIndex {
+
+    private static final double START_CELL = 0.01;
+    private static final double BBOX_CELL = 0.1;
+
+    /**
+     * 시작점 격자 셀이 이보다 많이 걸치는 넓은 화면은 bbox 격자로 조회
+     */
+    private static final int MAX_START_CELLS = 4096;
+
+    /**
+     * 코스 하나가 등록될 수 있는 최대 bbox 셀 수 (약 3°×3°)
+     */
+    static final int MAX_BBOX_CELLS = 1024;
+
+    private long[] idHigh = new long[0];
+    private long[] idLow = new long[0];
+    private double[] startLng = new double[0];
+    private double[] startLat = new double[0];
+    private double[] minLng = new double[0];
+    private double[] minLat = new double[0];
+    private double[] maxLng = new double[0];
+    private double[] maxLat = new double[0];
+    private int[] lengths = new int[0];
+
+    private int slotCount;
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final Map<Long, int[]> startCells = new HashMap<>();
+    private final Map<Long, int[]> bboxCells = new HashMap<>();
+
+    /**
+     * 격자에 넣지 않은 넓은 코스 슬롯 (bucket 과 같은 형식: [0] = 개수)
+     */
+    private int[] wideSlots = new int[5];
+
+    /**
+     * 조회 결과
+     *
+     * @param id 코스 ID
+     * @param startLongitude 시작점 경도
+     * @param startLatitude 시작점 위도
+     * @param length 코스 길이 (미터)
+     */
+    public record Entry(UUID id, double startLongitude, double startLatitude, int length) {
+    }
+
+    public CourseSpatialIndex(int expectedSize) {
+        grow(Math.max(16, expectedSize));
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * 코스 추가 (이미 있으면 교체)
+     */
+    public void put(UUID id, double lng, double lat,
+                    double bboxMinLng, double bboxMinLat, double bboxMaxLng, double bboxMaxLat, int length) {
+        remove(id);
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == lengths.length) {
+                grow(lengths.length * 2);
+            }
+            slot = slotCount++;
+        }
+
+        idHigh[slot] = id.getMostSignificantBits();
+        idLow[slot] = id.getLeastSignificantBits();
+        startLng[slot] = lng;
+        startLat[slot] = lat;
+        minLng[slot] = bboxMinLng;
+        minLat[slot] = bboxMinLat;
+        maxLng[slot] = bboxMaxLng;
+        maxLat[slot] = bboxMaxLat;
+        lengths[slot] = length;
+        slots.put(id, slot);
+
+        addToBucket(startCells, cellKey(cell(lng, START_CELL), cell(lat, START_CELL)), slot);
+        if (isWide(slot)) {
+            wideSlots = append(wideSlots, slot);
+        } else {
+            forEachBboxCell(slot, key -> addToBucket(bboxCells, key, slot));
+        }
+    }
+
+    /**
+     * 코스 제거
+     *
+     * @return 제거 여부
+     */
+    public boolean remove(UUID id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return false;
+        }
+
+        removeFromBucket(startCells, cellKey(cell(startLng[slot], START_CELL), cell(startLat[slot], START_CELL)), slot);
+        if (isWide(slot)) {
+            removeSlot(wideSlots, slot);
+        } else {
+            forEachBboxCell(slot, key -> removeFromBucket(bboxCells, key, slot));
+        }
+
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeSlots.length * 2));
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    /**
+     * 시작점이 화면 범위 안에 있는 코스
+     *
+     * @param limit 최대 결과 수
+     * @param minLength 최소 길이 (미터)
+     * @param maxLength 최대 길이 (미터)
+     */
+    public List<Entry> queryStartPoints(double west, double south, double east, double north,
+                                        int minLength, int maxLength, int limit) {
+        List<Entry> results = new ArrayList<>();
+        long cellsX = cell(east, START_CELL) - cell(west, START_CELL) + 1;
+        long cellsY = cell(north, START_CELL) - cell(south, START_CELL) + 1;
+
+        if (cellsX * cellsY > MAX_START_CELLS) {
+            // 넓은 화면: bbox 격자에서 시작점이 속한 셀로만 판정 (중복 없음)
+            scanCells(bboxCells, BBOX_CELL, west, south, east, north, (slot, cx, cy) -> {
+                if (cell(startLng[slot], BBOX_CELL) == cx && cell(startLat[slot], BBOX_CELL) == cy
+                        && containsStart(slot, west, south, east, north)) {
+                    addIfMatches(results, slot, minLength, maxLength);
+                }
+                return results.size() < limit;
+            });
+            for (int i = 1; i <= wideSlots[0] && results.size() < limit; i++) {
+                if (containsStart(wideSlots[i], west, south, east, north)) {
+                    addIfMatches(results, wideSlots[i], minLength, maxLength);
+                }
+            }
+            return results;
+        }
+
+        scanCells(startCells, START_CELL, west, south, east, north, (slot, cx, cy) -> {
+            if (containsStart(slot, west, south, east, north)) {
+                addIfMatches(results, slot, minLength, maxLength);
+            }
+            return results.size() < limit;
+        });
+        return results;
+    }
+
+    /**
+     * 경로 범위(bbox)가 화면 범위와 겹치는 코스
+     */
+    public List<Entry> queryBoundingBoxes(double west, double south, double east, double north,
+                                          int minLength, int maxLength, int limit) {
+        List<Entry> results = new ArrayList<>();
+        long queryMinX = cell(west, BBOX_CELL);
+        long queryMinY = cell(south, BBOX_CELL);
+
+        scanCells(bboxCells, BBOX_CELL, west, south, east, north, (slot, cx, cy) -> {
+            // 코스 bbox 와 화면이 겹치는 첫 셀에서만 보고하여 중복 제거
+            long firstX = Math.max(cell(minLng[slot], BBOX_CELL), queryMinX);
+            long firstY = Math.max(cell(minLat[slot], BBOX_CELL), queryMinY);
+            if (cx == firstX && cy == firstY
+                    && minLng[slot] <= east && maxLng[slot] >= west
+                    && minLat[slot] <= north && maxLat[slot] >= south) {
+                addIfMatches(results, slot, minLength, maxLength);
+            }
+            return results.size() < limit;
+        });
+        for (int i = 1; i <= wideSlots[0] && results.size() < limit; i++) {
+            int slot = wideSlots[i];
+            if (minLng[slot] <= east && maxLng[slot] >= west
+                    && minLat[slot] <= north && maxLat[slot] >= south) {
+                addIfMatches(results, slot, minLength, maxLength);
+            }
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface SlotVisitor {
+        /**
+         * @return 계속 탐색할지 여부
+         */
+        boolean visit(int slot, long cellX, long cellY);
+    }
+
+    private void scanCells(Map<Long, int[]> cells, double cellSize,
+                           double west, double south, double east, double north, SlotVisitor visitor) {
+        long minX = cell(west, cellSize);
+        long maxX = cell(east, cellSize);
+        long minY = cell(south, cellSize);
+        long maxY = cell(north, cellSize);
+
+        if ((maxX - minX + 1) * (maxY - minY + 1) > cells.size()) {
+            // 화면 셀 수가 채워진 셀 수보다 많으면 채워진 셀만 순회
+            for (Map.Entry<Long, int[]> entry : cells.entrySet()) {
+                long cx = entry.getKey() >> 32;
+                long cy = (int) (long) entry.getKey();
+                if (cx < minX || cx > maxX || cy < minY || cy > maxY) {
+                    continue;
+                }
+                int[] bucket = entry.getValue();
+                for (int i = 1; i <= bucket[0]; i++) {
+                    if (!visitor.visit(bucket[i], cx, cy)) {
+                        return;
+                    }
+                }
+            }
+            return;
+        }
+
+        for (long cx = minX; cx <= maxX; cx++) {
+            for (long cy = minY; cy <= maxY; cy++) {
+                int[] bucket = cells.get(cellKey(cx, cy));
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 1; i <= bucket[0]; i++) {
+                    if (!visitor.visit(bucket[i], cx, cy)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean containsStart(int slot, double west, double south, double east, double north) {
+        return startLng[slot] >= west && startLng[slot] <= east
+                && startLat[slot] >= south && startLat[slot] <= north;
+    }
+
+    private void addIfMatches(List<Entry> results, int slot, int minLength, int maxLength) {
+        if (lengths[slot] >= minLength && lengths[slot] <= maxLength) {
+            results.add(new Entry(new UUID(idHigh[slot], idLow[slot]), startLng[slot], startLat[slot], lengths[slot]));
+        }
+    }
+
+    private boolean isWide(int slot) {
+        long cellsX = cell(maxLng[slot], BBOX_CELL) - cell(minLng[slot], BBOX_CELL) + 1;
+        long cellsY = cell(maxLat[slot], BBOX_CELL) - cell(minLat[slot], BBOX_CELL) + 1;
+        return cellsX * cellsY > MAX_BBOX_CELLS;
+    }
+
+    private void forEachBboxCell(int slot, LongConsumer action) {
+        for (long cx = cell(minLng[slot], BBOX_CELL); cx <= cell(maxLng[slot], BBOX_CELL); cx++) {
+            for (long cy = cell(minLat[slot], BBOX_CELL); cy <= cell(maxLat[slot], BBOX_CELL); cy++) {
+                action.accept(cellKey(cx, cy));
+            }
+        }
+    }
+
+    private static void addToBucket(Map<Long, int[]> cells, long key, int slot) {
+        int[] bucket = cells.get(key);
+        cells.put(key, append(bucket != null ? bucket : new int[5], slot));
+    }
+
+    private static void removeFromBucket(Map<Long, int[]> cells, long key, int slot) {
+        int[] bucket = cells.get(key);
+        if (bucket == null) {
+            return;
+        }
+        removeSlot(bucket, slot);
+        if (bucket[0] == 0) {
+            cells.remove(key);
+        }
+    }
+
+    private static int[] append(int[] bucket, int slot) {
+        if (bucket[0] + 1 == bucket.length) {
+            bucket = Arrays.copyOf(bucket, bucket.length * 2);
+        }
+        bucket[++bucket[0]] = slot;
+        return bucket;
+    }
+
+    private static void removeSlot(int[] bucket, int slot) {
+        for (int i = 1; i <= bucket[0]; i++) {
+            if (bucket[i] == slot) {
+                bucket[i] = bucket[bucket[0]--];
+                break;
+            }
+        }
+    }
+
+    private static long cell(double degrees, double cellSize) {
+        return (long) Math.floor(degrees / cellSize);
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    private void grow(int capacity) {
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        startLng = Arrays.copyOf(startLng, capacity);
+        startLat = Arrays.copyOf(startLat, capacity);
+        minLng = Arrays.copyOf(minLng, capacity);
+        minLat = Arrays.copyOf(minLat, capacity);
+        maxLng = Arrays.copyOf(maxLng, capacity);
+        maxLat = Arrays.copyOf(maxLat, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+    }
+}
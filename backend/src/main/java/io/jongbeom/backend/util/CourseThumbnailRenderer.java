@@ -0,0 +1,137 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 코스 썸네일 PNG 렌더링
+ *
+ * 경로를 Web Mercator 로 투영해 정사각형 이미지 가운데에 맞추고,
+ * 무채색 배경 위에 경로선과 시작/도착 점을 그립니다. (지도 타일 없음)
+ */
+public final class CourseThumbnailRenderer {
+
+    /**
+     * 썸네일 크기 (픽셀, 정사각형)
+     */
+    public static final int SIZE = 256;
+
+    /**
+     * 렌더링 방식이 바뀌면 올려서 콘텐츠 키(캐시 파일 이름)가 달라지게 함
+     */
+    private static final int VERSION = 1;
+
+    private static final int PADDING = 24;
+    private static final int PROJECTION_ZOOM = 20;
+
+    private static final Color BACKGROUND = new Color(0xF2, 0xF2, 0xEF);
+    private static final Color ROUTE = new Color(0x3B, 0x82, 0xF6);
+    private static final Color START = new Color(0x22, 0xC5, 0x5E);
+    private static final Color END = new Color(0xEF, 0x44, 0x44);
+
+    private CourseThumbnailRenderer() {
+    }
+
+    /**
+     * 콘텐츠 키 (렌더링 버전 + 경로 좌표의 SHA-256, 16진수 64자)
+     *
+     * 같은 경로(공유 코드로 복사한 코스 등)는 같은 키를 가지므로 썸네일 파일을 함께 사용합니다.
+     */
+    public static String contentKey(LineString route) {
+        Coordinate[] coordinates = route.getCoordinates();
+        ByteBuffer buffer = ByteBuffer.allocate(8 + coordinates.length * 16);
+        buffer.putInt(VERSION).putInt(SIZE);
+        for (Coordinate c : coordinates) {
+            buffer.putDouble(c.x).putDouble(c.y);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 경로 → PNG
+     */
+    public static byte[] render(LineString route) {
+        Coordinate[] coordinates = route.getCoordinates();
+        int n = coordinates.length;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int i = 0; i < n; i++) {
+            xs[i] = TileMath.pixelX(coordinates[i].x, PROJECTION_ZOOM);
+            ys[i] = TileMath.pixelY(coordinates[i].y, PROJECTION_ZOOM);
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+
+        // 가로/세로 중 긴 쪽에 맞추고 가운데 정렬 (가로세로 비율 유지)
+        double extent = Math.max(Math.max(maxX - minX, maxY - minY), 1e-9);
+        double scale = (SIZE - 2.0 * PADDING) / extent;
+        double offsetX = (SIZE - (maxX - minX) * scale) / 2 - minX * scale;
+        double offsetY = (SIZE - (maxY - minY) * scale) / 2 - minY * scale;
+
+        BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            g.setColor(BACKGROUND);
+            g.fillRect(0, 0, SIZE, SIZE);
+
+            Path2D.Double path = new Path2D.Double();
+            path.moveTo(xs[0] * scale + offsetX, ys[0] * scale + offsetY);
+            for (int i = 1; i < n; i++) {
+                path.lineTo(xs[i] * scale + offsetX, ys[i] * scale + offsetY);
+            }
+            g.setColor(ROUTE);
+            g.setStroke(new BasicStroke(4f, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
+            g.draw(path);
+
+            drawDot(g, END, xs[n - 1] * scale + offsetX, ys[n - 1] * scale + offsetY);
+            drawDot(g, START, xs[0] * scale + offsetX, ys[0] * scale + offsetY);
+        } finally {
+            g.dispose();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void drawDot(Graphics2D g, Color color, double x, double y) {
+        double radius = 6;
+        Ellipse2D.Double dot = new Ellipse2D.Double(x - radius, y - radius, radius * 2, radius * 2);
+        g.setColor(color);
+        g.fill(dot);
+        g.setColor(Color.WHITE);
+        g.setStroke(new BasicStroke(2f));
+        g.draw(dot);
+    }
+}
@@ -0,0 +1,100 @@
+package io.jongbeom.backend.util;
+
+import java.util.Arrays;
+
+/**
+ * 델타 + ZigZag + Varint 정수 열 인코더/디코더
+ *
+ * GPS 샘플(시간, 고도, 심박수, 케이던스)은 인접 값의 차이가 작기 때문에
+ * 차이값을 가변 길이 정수로 저장하면 대부분 1바이트로 표현됩니다.
+ * 디코딩은 필요한 구간까지만 순회하며, 간격(step)을 지정해 다운샘플링할 수 있습니다.
+ */
+public final class DeltaVarintCodec {
+
+    private DeltaVarintCodec() {
+    }
+
+    /**
+     * 정수 열 인코딩
+     *
+     * @param values 원본 값 배열
+     * @return 인코딩된 바이트 배열
+     */
+    public static byte[] encode(long[] values) {
+        byte[] buffer = new byte[Math.max(16, values.length * 2)];
+        int position = 0;
+        long previous = 0;
+
+        for (long value : values) {
+            long delta = value - previous;
+            long zigzag = (delta << 1) ^ (delta >> 63);
+            previous = value;
+
+            // 최대 10바이트 필요
+            if (position + 10 > buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+
+        return Arrays.copyOf(buffer, position);
+    }
+
+    /**
+     * 전체 디코딩
+     *
+     * @param data 인코딩된 바이트 배열
+     * @param count 값 개수
+     * @return 원본 값 배열
+     */
+    public static long[] decode(byte[] data, int count) {
+        return decodeRange(data, 0, count, 1);
+    }
+
+    /**
+     * 구간 디코딩 (다운샘플링 포함)
+     *
+     * @param data 인코딩된 바이트 배열
+     * @param from 시작 인덱스 (포함)
+     * @param to 끝 인덱스 (미포함)
+     * @param step 샘플 간격 (1 = 전체)
+     * @return from 부터 step 간격으로 추출한 값 배열
+     */
+    public static long[] decodeRange(byte[] data, int from, int to, int step) {
+        if (from < 0 || to < from || step < 1) {
+            throw new IllegalArgumentException("잘못된 디코딩 구간입니다: from=" + from + ", to=" + to + ", step=" + step);
+        }
+
+        long[] result = new long[(to - from + step - 1) / step];
+        int position = 0;
+        int resultIndex = 0;
+        long value = 0;
+
+        for (int index = 0; index < to; index++) {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (position >= data.length) {
+                    throw new IllegalArgumentException("인코딩된 데이터가 값 개수보다 짧습니다.");
+                }
+                b = data[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+
+            if (index >= from && (index - from) % step == 0) {
+                result[resultIndex++] = value;
+            }
+        }
+
+        return result;
+    }
+}
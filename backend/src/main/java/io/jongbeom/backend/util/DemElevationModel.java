@@ -0,0 +1,124 @@
+package io.jongbeom.backend.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로컬 DEM(SRTM .hgt) 고도 조회
+ *
+ * 위경도 1도 단위 타일 파일(N37E127.hgt 등, big-endian int16, 1201x1201 또는 3601x3601)을
+ * 메모리 매핑해 필요한 칸만 읽고, 주변 4칸을 이중선형 보간합니다. (결측 칸 제외)
+ * 매핑한 타일은 최대 maxOpenTiles 개까지 LRU 로 보관합니다. 외부 API 를 사용하지 않습니다.
+ */
+public final class DemElevationModel implements ElevationProfileCalculator.Sampler {
+
+    private static final short VOID = Short.MIN_VALUE;
+
+    /**
+     * 파일이 없는 타일 표시 (매번 파일 존재 여부를 확인하지 않도록)
+     */
+    private static final Tile MISSING = new Tile(null, 0);
+
+    private final Path directory;
+    private final LinkedHashMap<Integer, Tile> tiles;
+
+    private record Tile(ByteBuffer data, int size) {
+    }
+
+    /**
+     * @param directory .hgt 파일 디렉터리
+     * @param maxOpenTiles 동시에 매핑해 둘 최대 타일 수
+     */
+    public DemElevationModel(Path directory, int maxOpenTiles) {
+        this.directory = directory;
+        this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Tile> eldest) {
+                return size() > maxOpenTiles;
+            }
+        };
+    }
+
+    /**
+     * 고도 조회
+     *
+     * @return 고도 (미터), 타일이 없거나 주변이 대부분 결측 칸이면 NaN
+     */
+    @Override
+    public double elevation(double latitude, double longitude) {
+        int tileLat = (int) Math.floor(latitude);
+        int tileLng = (int) Math.floor(longitude);
+        Tile tile = tile(tileLat, tileLng);
+        if (tile.data() == null) {
+            return Double.NaN;
+        }
+
+        // 0행이 북쪽 가장자리
+        int last = tile.size() - 1;
+        double row = (tileLat + 1 - latitude) * last;
+        double col = (longitude - tileLng) * last;
+        int r0 = Math.min((int) row, last - 1);
+        int c0 = Math.min((int) col, last - 1);
+        double dr = row - r0;
+        double dc = col - c0;
+
+        // 결측 칸은 제외하고 가중치를 다시 나눔 (유효 가중치가 절반 미만이면 NaN)
+        double[] weights = {(1 - dr) * (1 - dc), (1 - dr) * dc, dr * (1 - dc), dr * dc};
+        short[] heights = {sample(tile, r0, c0), sample(tile, r0, c0 + 1), sample(tile, r0 + 1, c0), sample(tile, r0 + 1, c0 + 1)};
+        double sum = 0;
+        double weight = 0;
+        for (int i = 0; i < 4; i++) {
+            if (heights[i] != VOID) {
+                sum += heights[i] * weights[i];
+                weight += weights[i];
+            }
+        }
+        return weight >= 0.5 ? sum / weight : Double.NaN;
+    }
+
+    private static short sample(Tile tile, int row, int col) {
+        return tile.data().getShort((row * tile.size() + col) * 2);
+    }
+
+    private synchronized Tile tile(int tileLat, int tileLng) {
+        int key = (tileLat + 90) * 360 + (tileLng + 180);
+        Tile tile = tiles.get(key);
+        if (tile == null) {
+            tile = open(tileLat, tileLng);
+            tiles.put(key, tile);
+        }
+        return tile;
+    }
+
+    private Tile open(int tileLat, int tileLng) {
+        Path path = directory.resolve(fileName(tileLat, tileLng));
+        if (!Files.isRegularFile(path)) {
+            return MISSING;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            int size = (int) Math.round(Math.sqrt(length / 2.0));
+            if ((long) size * size * 2 != length) {
+                return MISSING;
+            }
+            return new Tile(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), size);
+        } catch (IOException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * SRTM 타일 파일 이름 (남서쪽 모서리 기준, 예: N37E127.hgt, S01W001.hgt)
+     */
+    static String fileName(int tileLat, int tileLng) {
+        return String.format("%s%02d%s%03d.hgt",
+                tileLat >= 0 ? "N" : "S", Math.abs(tileLat),
+                tileLng >= 0 ? "E" : "W", Math.abs(tileLng));
+    }
+}
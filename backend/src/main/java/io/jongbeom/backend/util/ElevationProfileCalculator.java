@@ -0,0 +1,205 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.Arrays;
+
+/**
+ * 경로 고도 프로필 계산 (누적 상승/하강, 최대 경사도)
+ *
+ * 경로를 SAMPLE_STEP 간격으로 고도 샘플링하고 이동 평균으로 DEM 잡음을 줄인 뒤,
+ * 극값(봉우리/골) 사이 변화가 HYSTERESIS 이상인 오르내림만 상승/하강으로 누적합니다.
+ * 프로필은 PROFILE_INTERVAL 간격 고도이며 경사도는 이 구간 단위로 계산합니다. (끝의 남는 구간 제외)
+ */
+public final class ElevationProfileCalculator {
+
+    /**
+     * 프로필 고도 간격 (미터)
+     */
+    public static final double PROFILE_INTERVAL = 100;
+
+    private static final double SAMPLE_STEP = 25;
+    private static final int SMOOTHING_RADIUS = 2;
+    private static final double HYSTERESIS = 3;
+
+    private ElevationProfileCalculator() {
+    }
+
+    /**
+     * 위경도 → 고도 조회 (미터, 알 수 없으면 NaN)
+     */
+    @FunctionalInterface
+    public interface Sampler {
+        double elevation(double latitude, double longitude);
+    }
+
+    /**
+     * 계산 결과
+     *
+     * @param gain 누적 상승 (미터)
+     * @param loss 누적 하강 (미터)
+     * @param maxGrade 최대 오르막 경사도 (%, PROFILE_INTERVAL 구간 기준)
+     * @param profile PROFILE_INTERVAL 간격 고도 (미터, 0m 지점부터)
+     */
+    public record Result(double gain, double loss, double maxGrade, double[] profile) {
+    }
+
+    /**
+     * 고도 프로필 계산
+     *
+     * @return 결과, 경로가 없거나 절반 이상 지점의 고도를 알 수 없으면 null
+     */
+    public static Result calculate(LineString route, Sampler sampler) {
+        if (route == null || route.getNumPoints() < 2) {
+            return null;
+        }
+
+        // 1. 경로를 따라 샘플링
+        Coordinate[] coordinates = route.getCoordinates();
+        double[] distances = new double[64];
+        double[] elevations = new double[64];
+        int count = 0;
+        double traveled = 0;
+        for (int i = 0; i < coordinates.length - 1; i++) {
+            Coordinate from = coordinates[i];
+            Coordinate to = coordinates[i + 1];
+            double length = GeoUtils.haversine(from.y, from.x, to.y, to.x);
+            int steps = Math.max(1, (int) Math.ceil(length / SAMPLE_STEP));
+            for (int s = 0; s < steps; s++) {
+                double t = (double) s / steps;
+                if (count == distances.length) {
+                    distances = Arrays.copyOf(distances, count * 2);
+                    elevations = Arrays.copyOf(elevations, count * 2);
+                }
+                distances[count] = traveled + length * t;
+                elevations[count] = sampler.elevation(from.y + (to.y - from.y) * t, from.x + (to.x - from.x) * t);
+                count++;
+            }
+            traveled += length;
+        }
+        Coordinate end = coordinates[coordinates.length - 1];
+        distances = Arrays.copyOf(distances, count + 1);
+        elevations = Arrays.copyOf(elevations, count + 1);
+        distances[count] = traveled;
+        elevations[count] = sampler.elevation(end.y, end.x);
+        count++;
+
+        // 2. 결측 고도 보간
+        if (!fillGaps(elevations)) {
+            return null;
+        }
+
+        // 3. 이동 평균
+        double[] smoothed = smooth(elevations);
+
+        // 4. 누적 상승/하강 (극값 사이 변화가 HYSTERESIS 이상인 오르내림만)
+        double gain = 0;
+        double loss = 0;
+        double anchor = smoothed[0];
+        double extreme = smoothed[0];
+        int trend = 0;
+        for (int i = 1; i < count; i++) {
+            double value = smoothed[i];
+            if (trend == 0) {
+                if (Math.abs(value - anchor) >= HYSTERESIS) {
+                    trend = value > anchor ? 1 : -1;
+                    extreme = value;
+                }
+            } else if (trend > 0) {
+                if (value > extreme) {
+                    extreme = value;
+                } else if (extreme - value >= HYSTERESIS) {
+                    gain += extreme - anchor;
+                    anchor = extreme;
+                    extreme = value;
+                    trend = -1;
+                }
+            } else {
+                if (value < extreme) {
+                    extreme = value;
+                } else if (value - extreme >= HYSTERESIS) {
+                    loss += anchor - extreme;
+                    anchor = extreme;
+                    extreme = value;
+                    trend = 1;
+                }
+            }
+        }
+        if (trend > 0) {
+            gain += extreme - anchor;
+        } else if (trend < 0) {
+            loss += anchor - extreme;
+        }
+
+        // 5. 구간 고도 프로필 + 최대 경사도
+        int intervals = (int) Math.floor(traveled / PROFILE_INTERVAL);
+        double[] profile = new double[intervals + 1];
+        int index = 0;
+        for (int p = 0; p <= intervals; p++) {
+            double target = p * PROFILE_INTERVAL;
+            while (index < count - 2 && distances[index + 1] < target) {
+                index++;
+            }
+            double span = distances[index + 1] - distances[index];
+            double t = span > 0 ? Math.max(0, Math.min(1, (target - distances[index]) / span)) : 0;
+            profile[p] = smoothed[index] + (smoothed[index + 1] - smoothed[index]) * t;
+        }
+
+        double maxGrade = 0;
+        for (int p = 1; p < profile.length; p++) {
+            maxGrade = Math.max(maxGrade, (profile[p] - profile[p - 1]) / PROFILE_INTERVAL * 100);
+        }
+
+        return new Result(gain, loss, maxGrade, profile);
+    }
+
+    /**
+     * NaN 을 앞뒤 유효 값으로 선형 보간 (양 끝은 가장 가까운 유효 값)
+     *
+     * @return 유효 값이 절반 이상이면 true
+     */
+    private static boolean fillGaps(double[] values) {
+        int valid = 0;
+        for (double value : values) {
+            if (!Double.isNaN(value)) {
+                valid++;
+            }
+        }
+        if (valid * 2 < values.length) {
+            return false;
+        }
+
+        int previous = -1;
+        for (int i = 0; i <= values.length; i++) {
+            if (i < values.length && Double.isNaN(values[i])) {
+                continue;
+            }
+            for (int k = previous + 1; k < i; k++) {
+                if (previous < 0) {
+                    values[k] = values[i];
+                } else if (i == values.length) {
+                    values[k] = values[previous];
+                } else {
+                    values[k] = values[previous] + (values[i] - values[previous]) * (k - previous) / (i - previous);
+                }
+            }
+            previous = i;
+        }
+        return true;
+    }
+
+    private static double[] smooth(double[] values) {
+        double[] smoothed = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            int from = Math.max(0, i - SMOOTHING_RADIUS);
+            int to = Math.min(values.length - 1, i + SMOOTHING_RADIUS);
+            double sum = 0;
+            for (int k = from; k <= to; k++) {
+                sum += values[k];
+            }
+            smoothed[i] = sum / (to - from + 1);
+        }
+        return smoothed;
+    }
+}
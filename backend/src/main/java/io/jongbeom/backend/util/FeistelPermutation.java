@@ -0,0 +1,84 @@
+package io.jongbeom.backend.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * [0, domain) 범위의 키 기반 순열 (Feistel 네트워크 + cycle walking)
+ *
+ * domain 이상인 2^(2*halfBits) 범위에서 균형 Feistel 로 암호화하고,
+ * 결과가 domain 밖이면 다시 암호화하여 범위 안의 값이 나올 때까지 반복합니다.
+ * 서로 다른 입력은 항상 서로 다른 출력으로 대응되므로 순번을 넣으면 충돌 없는 난수형 값을 얻습니다.
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 8;
+
+    private final long domain;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    /**
+     * @param domain 값 범위 크기 (2 이상)
+     * @param secret 순열 키
+     */
+    public FeistelPermutation(long domain, String secret) {
+        if (domain < 2) {
+            throw new IllegalArgumentException("domain must be >= 2");
+        }
+        int bits = 64 - Long.numberOfLeadingZeros(domain - 1);
+        this.domain = domain;
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = buffer.getInt(i * 4 % digest.length) ^ ((long) i << 40);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 순열 적용
+     *
+     * @param value [0, domain) 범위의 값
+     * @return [0, domain) 범위의 대응 값
+     */
+    public long permute(long value) {
+        if (value < 0 || value >= domain) {
+            throw new IllegalArgumentException("value out of range: " + value);
+        }
+        long result = value;
+        do {
+            result = encrypt(result);
+        } while (result >= domain);
+        return result;
+    }
+
+    private long encrypt(long value) {
+        long left = (value >>> halfBits) & halfMask;
+        long right = value & halfMask;
+        for (long key : roundKeys) {
+            long next = left ^ (mix(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    /**
+     * 라운드 함수 (splitmix64 finalizer)
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,39 @@
+package io.jongbeom.backend.util;
+
+/**
+ * 지리적 계산 유틸리티
+ *
+ * GPS 좌표 기반의 거리 계산 등 공통 함수 모음 (frontend utils/geoUtils.ts 와 동일한 공식)
+ */
+public final class GeoUtils {
+
+    /**
+     * 지구 반지름 (미터)
+     */
+    public static final double EARTH_RADIUS = 6371e3;
+
+    private GeoUtils() {
+    }
+
+    /**
+     * 두 지점 간 거리 계산 (Haversine formula)
+     *
+     * @param lat1 첫 번째 지점 위도
+     * @param lon1 첫 번째 지점 경도
+     * @param lat2 두 번째 지점 위도
+     * @param lon2 두 번째 지점 경도
+     * @return 거리 (미터)
+     */
+    public static double haversine(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double dPhi = Math.toRadians(lat2 - lat1);
+        double dLambda = Math.toRadians(lon2 - lon1);
+
+        double sinPhi = Math.sin(dPhi / 2);
+        double sinLambda = Math.sin(dLambda / 2);
+        double a = sinPhi * sinPhi + Math.cos(phi1) * Math.cos(phi2) * sinLambda * sinLambda;
+
+        return 2 * EARTH_RADIUS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,153 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 히트맵 밀도 격자 (기준 줌 레벨)
+ *
+ * 기준 줌의 타일 하나를 BINS x BINS 칸으로 나누고, 칸마다 지나간 경로 수를 셉니다.
+ * 한 경로는 같은 칸을 여러 번 지나도 1회로 계산합니다. (느린 러너/정지 구간 가중 방지)
+ * 러너별 격자를 mergeRunner() 로 합치면 칸마다 지나간 러너 수가 됩니다.
+ */
+public class HeatmapGrid {
+
+    /**
+     * 타일 한 변의 칸 수 (칸 하나 = 4px)
+     */
+    public static final int BINS = 64;
+
+    /**
+     * 한 세그먼트가 이보다 많은 칸을 건너뛰면 GPS 튐으로 보고 무시
+     */
+    private static final int MAX_SEGMENT_BINS = 500;
+
+    private final int zoom;
+    private final Map<Long, int[]> tiles = new HashMap<>();
+
+    public HeatmapGrid(int zoom) {
+        this.zoom = zoom;
+    }
+
+    /**
+     * 경로를 격자에 래스터화
+     *
+     * @param route 경로 (WGS84)
+     */
+    public void addRoute(LineString route) {
+        if (route == null || route.getNumPoints() == 0) {
+            return;
+        }
+
+        Set<Long> visited = new HashSet<>();
+        double binSize = (double) TileMath.TILE_SIZE / BINS;
+        Coordinate[] coordinates = route.getCoordinates();
+
+        long prevX = (long) (TileMath.pixelX(coordinates[0].getX(), zoom) / binSize);
+        long prevY = (long) (TileMath.pixelY(coordinates[0].getY(), zoom) / binSize);
+        visited.add(key(prevX, prevY));
+
+        for (int i = 1; i < coordinates.length; i++) {
+            long x = (long) (TileMath.pixelX(coordinates[i].getX(), zoom) / binSize);
+            long y = (long) (TileMath.pixelY(coordinates[i].getY(), zoom) / binSize);
+
+            if (Math.abs(x - prevX) <= MAX_SEGMENT_BINS && Math.abs(y - prevY) <= MAX_SEGMENT_BINS) {
+                drawLine(prevX, prevY, x, y, visited);
+            } else {
+                visited.add(key(x, y));
+            }
+            prevX = x;
+            prevY = y;
+        }
+
+        for (long binKey : visited) {
+            long binX = binKey >>> 32;
+            long binY = binKey & 0xFFFFFFFFL;
+            int[] bins = tiles.computeIfAbsent(key(binX / BINS, binY / BINS), k -> new int[BINS * BINS]);
+            bins[(int) (binY % BINS) * BINS + (int) (binX % BINS)]++;
+        }
+    }
+
+    /**
+     * 다른 격자를 합산 (병렬 재구성 시 스레드별 결과 병합)
+     */
+    public void merge(HeatmapGrid other) {
+        for (Map.Entry<Long, int[]> entry : other.tiles.entrySet()) {
+            int[] target = tiles.get(entry.getKey());
+            if (target == null) {
+                tiles.put(entry.getKey(), entry.getValue().clone());
+            } else {
+                int[] source = entry.getValue();
+                for (int i = 0; i < source.length; i++) {
+                    target[i] += source[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 러너의 격자를 러너 1명으로 합산 (칸 값이 0 보다 크면 1)
+     */
+    public void mergeRunner(HeatmapGrid runner) {
+        for (Map.Entry<Long, int[]> entry : runner.tiles.entrySet()) {
+            int[] target = tiles.computeIfAbsent(entry.getKey(), k -> new int[BINS * BINS]);
+            int[] source = entry.getValue();
+            for (int i = 0; i < source.length; i++) {
+                if (source[i] > 0) {
+                    target[i]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * 타일별 칸 카운트 (key = tileX << 32 | tileY)
+     */
+    public Map<Long, int[]> tiles() {
+        return tiles;
+    }
+
+    public static long key(long x, long y) {
+        return (x << 32) | (y & 0xFFFFFFFFL);
+    }
+
+    public static int keyX(long key) {
+        return (int) (key >>> 32);
+    }
+
+    public static int keyY(long key) {
+        return (int) (key & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Bresenham 직선으로 두 칸 사이를 채움
+     */
+    private void drawLine(long x0, long y0, long x1, long y1, Set<Long> visited) {
+        long dx = Math.abs(x1 - x0);
+        long dy = -Math.abs(y1 - y0);
+        long sx = x0 < x1 ? 1 : -1;
+        long sy = y0 < y1 ? 1 : -1;
+        long err = dx + dy;
+
+        while (true) {
+            visited.add(key(x0, y0));
+            if (x0 == x1 && y0 == y1) {
+                break;
+            }
+            long e2 = 2 * err;
+            if (e2 >= dy) {
+                err += dy;
+                x0 += sx;
+            }
+            if (e2 <= dx) {
+                err += dx;
+                y0 += sy;
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 경로 지문 (MinHash + LSH)
+ *
+ * 경로를 SAMPLE_STEP 간격으로 따라가며 지나는 geohash 셀(정밀도 7, 약 150m) 순서열을 만들고,
+ * 연속한 SHINGLE_SIZE 개 셀을 shingle 로 삼아 MinHash 서명을 계산합니다.
+ * shingle 은 정방향/역방향 중 작은 해시를 쓰므로 같은 코스를 반대로 달려도 같은 지문이 됩니다.
+ * 서명을 BANDS 개 구간으로 나눈 밴드 키가 하나라도 같은 코스만 후보로 비교합니다. (LSH)
+ */
+public final class RouteFingerprint {
+
+    /**
+     * MinHash 서명 길이 (= BANDS * ROWS)
+     */
+    public static final int SIGNATURE_SIZE = 64;
+
+    /**
+     * LSH 밴드 수 / 밴드당 행 수 - 유사도 약 0.5 이상에서 후보가 될 확률이 급격히 커짐 ((1/16)^(1/4))
+     */
+    public static final int BANDS = 16;
+    private static final int ROWS = SIGNATURE_SIZE / BANDS;
+
+    private static final int GEOHASH_PRECISION = 7;
+    private static final double SAMPLE_STEP = 30;
+    private static final int SHINGLE_SIZE = 3;
+
+    private static final long[] SEEDS = new long[SIGNATURE_SIZE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            seed = mix(seed + i);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private RouteFingerprint() {
+    }
+
+    /**
+     * MinHash 서명 계산
+     */
+    public static int[] signature(LineString route) {
+        Set<Long> shingles = shingles(route);
+        int[] signature = new int[SIGNATURE_SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (long shingle : shingles) {
+            for (int i = 0; i < SIGNATURE_SIZE; i++) {
+                int h = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * LSH 밴드 키 (밴드 번호 포함, 서로 다른 밴드의 키는 겹치지 않음)
+     */
+    public static long[] bandKeys(int[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long h = band;
+            for (int row = 0; row < ROWS; row++) {
+                h = mix(h * 31 + signature[band * ROWS + row]);
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    /**
+     * 추정 Jaccard 유사도 (서명에서 값이 같은 위치의 비율)
+     */
+    public static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < SIGNATURE_SIZE; i++) {
+            if (a[i] == b[i]) {
+                same++;
+            }
+        }
+        return (double) same / SIGNATURE_SIZE;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * 4);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    public static int[] fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[bytes.length / 4];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+
+    /**
+     * 경로가 지나는 geohash 셀 순서열의 shingle 해시 집합
+     */
+    static Set<Long> shingles(LineString route) {
+        long[] cells = cellSequence(route);
+        Set<Long> shingles = new HashSet<>();
+        if (cells.length < SHINGLE_SIZE) {
+            for (long cell : cells) {
+                shingles.add(mix(cell));
+            }
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= cells.length; i++) {
+            long forward = 0;
+            long backward = 0;
+            for (int k = 0; k < SHINGLE_SIZE; k++) {
+                forward = mix(forward * 31 + cells[i + k]);
+                backward = mix(backward * 31 + cells[i + SHINGLE_SIZE - 1 - k]);
+            }
+            shingles.add(Math.min(forward, backward));
+        }
+        return shingles;
+    }
+
+    /**
+     * 경로를 SAMPLE_STEP 간격으로 따라가며 지나는 셀 순서 (연속 중복 제거)
+     */
+    static long[] cellSequence(LineString route) {
+        Coordinate[] coordinates = route.getCoordinates();
+        long[] cells = new long[16];
+        int count = 0;
+        long last = -1;
+
+        for (int i = 0; i < coordinates.length; i++) {
+            Coordinate from = coordinates[i];
+            int steps = 1;
+            Coordinate to = null;
+            if (i + 1 < coordinates.length) {
+                to = coordinates[i + 1];
+                double length = GeoUtils.haversine(from.y, from.x, to.y, to.x);
+                steps = Math.max(1, (int) Math.ceil(length / SAMPLE_STEP));
+            }
+            for (int s = 0; s < steps; s++) {
+                double t = (double) s / steps;
+                double lat = to == null ? from.y : from.y + (to.y - from.y) * t;
+                double lng = to == null ? from.x : from.x + (to.x - from.x) * t;
+                long cell = geohash(lat, lng);
+                if (cell != last) {
+                    if (count == cells.length) {
+                        cells = Arrays.copyOf(cells, count * 2);
+                    }
+                    cells[count++] = cell;
+                    last = cell;
+                }
+            }
+        }
+        return Arrays.copyOf(cells, count);
+    }
+
+    /**
+     * geohash (비트 인터리빙, 정밀도 GEOHASH_PRECISION 자 = 5*정밀도 비트)
+     */
+    static long geohash(double latitude, double longitude) {
+        double minLat = -90, maxLat = 90, minLng = -180, maxLng = 180;
+        long bits = 0;
+        int total = GEOHASH_PRECISION * 5;
+        for (int i = 0; i < total; i++) {
+            bits <<= 1;
+            if (i % 2 == 0) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    bits |= 1;
+                    minLng = mid;
+                } else {
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    bits |= 1;
+                    minLat = mid;
+                } else {
+                    maxLat = mid;
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
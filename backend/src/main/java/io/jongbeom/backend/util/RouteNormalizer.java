@@ -0,0 +1,131 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코스 경로 정규화
+ *
+ * 다음을 순서대로 처리하며, 스파이크 제거와 길이 계산은 같은 순회에서 함께 합니다.
+ * - 좌표를 소수점 6자리(약 0.1m)로 맞춤 (저장 크기 / 비교 일관성)
+ * - 맞춘 뒤 같은 좌표가 연속되면 하나만 남김
+ * - 스파이크 제거: 한 꼭짓점만 튀어나갔다가 (150° 이상 꺾여) 돌아오고, 앞뒤 진행 방향은 그대로인 경우
+ *   반환점(앞뒤 진행 방향이 반대)은 실제 왕복 코스이므로 남깁니다.
+ * - 남은 좌표로 Haversine 길이 누적
+ */
+public final class RouteNormalizer {
+
+    /**
+     * 좌표 정밀도 (소수점 6자리)
+     */
+    public static final double SCALE = 1e6;
+
+    /**
+     * 스파이크 판정 꺾임 기준: 양쪽 변 사이 각이 30° 이하 (cos 30°)
+     */
+    private static final double SPIKE_COS = Math.cos(Math.toRadians(30));
+
+    private RouteNormalizer() {
+    }
+
+    /**
+     * 정규화 결과
+     *
+     * @param coordinates 정규화된 좌표
+     * @param length 경로 길이 (미터)
+     * @param duplicates 제거된 중복 좌표 수
+     * @param spikes 제거된 스파이크 수
+     */
+    public record Result(Coordinate[] coordinates, double length, int duplicates, int spikes) {
+    }
+
+    /**
+     * 좌표를 SCALE 정밀도로 맞춤 (Z 값은 버림)
+     */
+    public static Coordinate snap(Coordinate c) {
+        return new Coordinate(Math.round(c.x * SCALE) / SCALE, Math.round(c.y * SCALE) / SCALE);
+    }
+
+    /**
+     * 유효한 WGS84 경위도인지 확인
+     */
+    public static boolean isValid(Coordinate c) {
+        return Double.isFinite(c.x) && Double.isFinite(c.y)
+                && c.x >= -180 && c.x <= 180 && c.y >= -90 && c.y <= 90;
+    }
+
+    /**
+     * 경로 정규화
+     *
+     * @param input 원본 좌표 (경도, 위도)
+     */
+    public static Result normalize(Coordinate[] input) {
+        // 정밀도 맞춤 + 연속 중복 제거
+        List<Coordinate> points = new ArrayList<>(input.length);
+        int duplicates = 0;
+        for (Coordinate raw : input) {
+            Coordinate c = snap(raw);
+            if (!points.isEmpty() && points.get(points.size() - 1).equals2D(c)) {
+                duplicates++;
+                continue;
+            }
+            points.add(c);
+        }
+
+        // 스파이크 제거 (다음 두 좌표를 미리 보고 결정) + 길이 누적
+        List<Coordinate> kept = new ArrayList<>(points.size());
+        int spikes = 0;
+        double length = 0;
+        int n = points.size();
+        for (int i = 0; i < n; i++) {
+            Coordinate c = points.get(i);
+            int size = kept.size();
+            if (size >= 2 && i + 2 < n
+                    && isSpike(kept.get(size - 2), kept.get(size - 1), c, points.get(i + 1), points.get(i + 2))) {
+                spikes++;
+                continue;
+            }
+            if (size > 0) {
+                Coordinate last = kept.get(size - 1);
+                if (last.equals2D(c)) {
+                    duplicates++;
+                    continue;
+                }
+                length += GeoUtils.haversine(last.y, last.x, c.y, c.x);
+            }
+            kept.add(c);
+        }
+
+        return new Result(kept.toArray(new Coordinate[0]), length, duplicates, spikes);
+    }
+
+    /**
+     * before → a → b → c → after 에서 b 가 스파이크인지
+     *
+     * a→b 와 b→c 가 거의 반대 방향(b 에서 150° 이상 꺾임)이고,
+     * 진입 방향(before→a)과 진출 방향(c→after)이 같은 쪽이면 b 만 튀어나간 것으로 봅니다.
+     */
+    static boolean isSpike(Coordinate before, Coordinate a, Coordinate b, Coordinate c, Coordinate after) {
+        double cosLat = Math.cos(Math.toRadians(b.y));
+        double bax = (a.x - b.x) * cosLat;
+        double bay = a.y - b.y;
+        double bcx = (c.x - b.x) * cosLat;
+        double bcy = c.y - b.y;
+        double ba = Math.hypot(bax, bay);
+        double bc = Math.hypot(bcx, bcy);
+        if (ba == 0 || bc == 0) {
+            return false;
+        }
+        if ((bax * bcx + bay * bcy) / (ba * bc) < SPIKE_COS) {
+            return false;
+        }
+
+        double inX = (a.x - before.x) * cosLat;
+        double inY = a.y - before.y;
+        double outX = (after.x - c.x) * cosLat;
+        double outY = after.y - c.y;
+        return inX * outX + inY * outY > 0;
+    }
+}
@@ -0,0 +1,86 @@
+package io.jongbeom.backend.util;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+/**
+ * 코스 목록용 미리보기 경로 생성
+ *
+ * 경로를 Douglas-Peucker 로 최대 maxPoints 개 이하로 단순화한 뒤
+ * Encoded Polyline (정밀도 1e-5, 위도/경도 순) 문자열로 인코딩합니다.
+ */
+public final class RoutePreview {
+
+    /**
+     * 목록 미리보기 기본 최대 포인트 수
+     */
+    public static final int DEFAULT_MAX_POINTS = 64;
+
+    private static final double PRECISION = 1e5;
+
+    private RoutePreview() {
+    }
+
+    /**
+     * 미리보기 Encoded Polyline 생성
+     *
+     * @param route     코스 경로 (WGS84)
+     * @param maxPoints 최대 포인트 수 (2 이상)
+     * @return Encoded Polyline, 경로가 없으면 null
+     */
+    public static String of(LineString route, int maxPoints) {
+        if (route == null || route.isEmpty()) {
+            return null;
+        }
+        return encode(simplify(route, maxPoints));
+    }
+
+    /**
+     * 포인트 수가 maxPoints 이하가 될 때까지 허용 오차를 두 배씩 늘려가며 단순화 (시작/끝점 유지)
+     */
+    static Coordinate[] simplify(LineString route, int maxPoints) {
+        Coordinate[] coordinates = route.getCoordinates();
+        if (coordinates.length <= maxPoints) {
+            return coordinates;
+        }
+
+        Envelope envelope = route.getEnvelopeInternal();
+        double diagonal = Math.hypot(envelope.getWidth(), envelope.getHeight());
+        double tolerance = Math.max(diagonal / 1000, 1e-7);
+
+        while (coordinates.length > maxPoints) {
+            coordinates = DouglasPeuckerSimplifier.simplify(route, tolerance).getCoordinates();
+            tolerance *= 2;
+        }
+        return coordinates;
+    }
+
+    /**
+     * Encoded Polyline 인코딩 (Google Polyline Algorithm)
+     */
+    static String encode(Coordinate[] coordinates) {
+        StringBuilder sb = new StringBuilder(coordinates.length * 8);
+        long prevLat = 0;
+        long prevLng = 0;
+        for (Coordinate c : coordinates) {
+            long lat = Math.round(c.y * PRECISION);
+            long lng = Math.round(c.x * PRECISION);
+            encodeValue(lat - prevLat, sb);
+            encodeValue(lng - prevLng, sb);
+            prevLat = lat;
+            prevLng = lng;
+        }
+        return sb.toString();
+    }
+
+    private static void encodeValue(long value, StringBuilder sb) {
+        long v = value < 0 ? ~(value << 1) : value << 1;
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
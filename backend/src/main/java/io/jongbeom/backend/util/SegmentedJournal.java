@@ -0,0 +1,208 @@
+package io.jongbeom.backend.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일 기반 추가 전용(append-only) 디스크 큐
+ *
+ * 항목은 [길이(4)][CRC32(4)][데이터] 형식으로 현재(active) 세그먼트 끝에 기록됩니다.
+ * 소비자는 seal() 로 현재 세그먼트를 닫고 닫힌 세그먼트를 순서대로 읽은 뒤,
+ * 처리가 끝난 세그먼트를 delete() 합니다.
+ * 비정상 종료로 마지막 항목이 잘린 경우 읽기 시 해당 항목부터 무시합니다.
+ *
+ * fsync=true 이면 그룹 커밋으로 동기화합니다. 기록은 저널 락 안에서 하고 force 는 락 밖에서 하므로,
+ * 한 스레드가 force 하는 동안 다른 스레드들이 기록을 이어 붙이고, 다음 force 한 번이
+ * 그때까지 기록된 항목을 모두 디스크에 반영합니다. (이미 반영된 항목의 호출자는 force 없이 반환)
+ */
+public final class SegmentedJournal implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentedJournal.class);
+
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER_SIZE = 8;
+
+    private final Path directory;
+    private final boolean fsync;
+    private final List<Path> sealed = new ArrayList<>();
+    private final Object forceLock = new Object();
+
+    private long nextSequence;
+    private FileChannel active;
+    private Path activePath;
+    private int activeEntries;
+    private long written;
+    private volatile long forced;
+
+    /**
+     * 디렉터리를 열고 이전 실행에서 남은 세그먼트를 닫힌 세그먼트로 등록
+     *
+     * @param directory 세그먼트 디렉터리
+     * @param fsync 항목마다 디스크 동기화 여부
+     */
+    public SegmentedJournal(Path directory, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> sequenceOf(path) >= 0)
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .forEach(sealed::add);
+        }
+        nextSequence = sealed.isEmpty() ? 0 : sequenceOf(sealed.get(sealed.size() - 1)) + 1;
+    }
+
+    /**
+     * 항목 추가 (fsync=true 이면 디스크 기록 후 반환)
+     */
+    public void append(byte[] payload) throws IOException {
+        long ticket = write(payload);
+        if (fsync) {
+            awaitDurable(ticket);
+        }
+    }
+
+    private synchronized long write(byte[] payload) throws IOException {
+        if (active == null) {
+            activePath = directory.resolve(PREFIX + String.format("%019d", nextSequence++) + SUFFIX);
+            active = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        while (buffer.hasRemaining()) {
+            active.write(buffer);
+        }
+        activeEntries++;
+        return ++written;
+    }
+
+    /**
+     * ticket 번째 항목까지 디스크에 반영될 때까지 대기 (그룹 커밋)
+     *
+     * forceLock → 저널 락 순서로만 잡습니다. (seal / close 도 같은 순서)
+     */
+    private void awaitDurable(long ticket) throws IOException {
+        synchronized (forceLock) {
+            if (forced >= ticket) {
+                return;
+            }
+            FileChannel channel;
+            long target;
+            synchronized (this) {
+                channel = active;
+                target = written;
+            }
+            if (channel != null) {
+                channel.force(false);
+            }
+            forced = target;
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 처리 대기 중인 세그먼트 목록 반환 (오래된 순)
+     */
+    public List<Path> seal() throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (active != null) {
+                    active.force(false);
+                    active.close();
+                    sealed.add(activePath);
+                    active = null;
+                    activePath = null;
+                    activeEntries = 0;
+                }
+                forced = written;
+                return List.copyOf(sealed);
+            }
+        }
+    }
+
+    /**
+     * 처리가 끝난 세그먼트 삭제
+     */
+    public synchronized void delete(Path segment) throws IOException {
+        sealed.remove(segment);
+        Files.deleteIfExists(segment);
+    }
+
+    /**
+     * 현재 세그먼트의 항목 수 (아직 seal 되지 않은 항목)
+     */
+    public synchronized int activeEntries() {
+        return activeEntries;
+    }
+
+    /**
+     * 세그먼트의 항목 읽기 (잘리거나 손상된 꼬리는 무시)
+     */
+    public static List<byte[]> read(Path segment) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segment));
+        List<byte[]> entries = new ArrayList<>();
+
+        while (data.remaining() >= HEADER_SIZE) {
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < 0 || length > data.remaining()) {
+                logger.warn("[저널] 잘린 항목 무시: segment={}, offset={}", segment.getFileName(), data.position() - HEADER_SIZE);
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            data.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                logger.warn("[저널] 손상된 항목 무시: segment={}, offset={}", segment.getFileName(), data.position() - length - HEADER_SIZE);
+                break;
+            }
+            entries.add(payload);
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                if (active != null) {
+                    active.force(false);
+                    active.close();
+                    active = null;
+                }
+                forced = written;
+            }
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
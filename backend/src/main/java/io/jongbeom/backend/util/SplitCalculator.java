@@ -0,0 +1,70 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.RunningSplit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 1km 구간 기록(splits) 계산기
+ *
+ * 누적 거리가 1km 경계를 지나는 시각을 두 GPS 포인트 사이에서 선형 보간하여
+ * 트랙을 한 번만 순회하면서 구간별 소요 시간을 계산합니다.
+ */
+public final class SplitCalculator {
+
+    /**
+     * 구간 길이 (미터)
+     */
+    public static final double SPLIT_DISTANCE = 1000.0;
+
+    /**
+     * 마지막 잔여 구간으로 인정할 최소 거리 (미터) - GPS 노이즈 제외
+     */
+    private static final double MIN_LAST_SPLIT_DISTANCE = 10.0;
+
+    private SplitCalculator() {
+    }
+
+    /**
+     * 구간 기록 계산
+     *
+     * @param track 시간 정보가 포함된 트랙
+     * @return 구간 기록 목록 (1km 단위, 마지막 구간은 잔여 거리)
+     */
+    public static List<RunningSplit> calculate(TimedTrack track) {
+        List<RunningSplit> splits = new ArrayList<>();
+        if (track == null || track.size() < 2) {
+            return splits;
+        }
+
+        double nextBoundary = SPLIT_DISTANCE;
+        double lastCrossingTime = track.timestamp(0);
+
+        for (int i = 1; i < track.size(); i++) {
+            double prevDistance = track.cumulativeDistance(i - 1);
+            double currDistance = track.cumulativeDistance(i);
+            long prevTime = track.timestamp(i - 1);
+            long currTime = track.timestamp(i);
+
+            // GPS 공백 구간이 길면 한 세그먼트가 여러 경계를 지날 수 있음
+            while (currDistance >= nextBoundary) {
+                double ratio = (nextBoundary - prevDistance) / (currDistance - prevDistance);
+                double crossingTime = prevTime + ratio * (currTime - prevTime);
+
+                splits.add(new RunningSplit(SPLIT_DISTANCE, (crossingTime - lastCrossingTime) / 1000.0));
+
+                lastCrossingTime = crossingTime;
+                nextBoundary += SPLIT_DISTANCE;
+            }
+        }
+
+        double remaining = track.totalDistance() - (nextBoundary - SPLIT_DISTANCE);
+        if (remaining >= MIN_LAST_SPLIT_DISTANCE) {
+            double lastTime = track.timestamp(track.size() - 1);
+            splits.add(new RunningSplit(remaining, (lastTime - lastCrossingTime) / 1000.0));
+        }
+
+        return splits;
+    }
+}
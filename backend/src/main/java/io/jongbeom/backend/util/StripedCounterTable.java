@@ -0,0 +1,132 @@
+package io.jongbeom.backend.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 다중 카운터 테이블 (메모리)
+ *
+ * 키마다 카운터 종류 수만큼 LongAdder 를 두어, 여러 스레드가 같은 키를 동시에 올려도
+ * 락이나 CAS 경합 없이 스레드별 셀에 더합니다. drain() 은 각 셀을 원자적으로 0 으로 바꾸며 읽으므로
+ * 배출과 동시에 들어온 증가분은 다음 배출에 포함되고 유실되지 않습니다.
+ *
+ * 한 배출 주기 동안 증가가 없던 키는 다음 drain() 에서 제거합니다.
+ * 제거와 겹친 증가는 떨어져 나간 행에 남을 수 있으므로, 제거한 쪽은 제거 직후 그 행을 한 번 더 비워 배출에 포함하고,
+ * 증가한 쪽은 더한 뒤 행이 떨어져 나갔으면 그 칸을 비워 새 행에 다시 더합니다.
+ * 셀 단위로 원자적으로 비우므로 각 증가분은 정확히 한 번만 배출됩니다.
+ *
+ * @param <K> 키 타입
+ */
+public class StripedCounterTable<K> {
+
+    private final int width;
+    private final ConcurrentHashMap<K, LongAdder[]> counters = new ConcurrentHashMap<>();
+
+    /**
+     * @param width 키당 카운터 종류 수
+     */
+    public StripedCounterTable(int width) {
+        if (width <= 0) {
+            throw new IllegalArgumentException("width must be positive: " + width);
+        }
+        this.width = width;
+    }
+
+    /**
+     * 카운터 1 증가
+     *
+     * @param key 키
+     * @param slot 카운터 종류 (0 ~ width-1)
+     */
+    public void increment(K key, int slot) {
+        add(key, slot, 1);
+    }
+
+    /**
+     * 카운터에 delta 더하기
+     */
+    public void add(K key, int slot, long delta) {
+        LongAdder[] row = counters.get(key);
+        if (row == null) {
+            row = counters.computeIfAbsent(key, k -> newRow());
+        }
+        row[slot].add(delta);
+        if (counters.get(key) != row) {
+            // drain() 이 그 사이 행을 제거함: 아직 배출되지 않은 값을 새 행으로 옮김
+            long moved = row[slot].sumThenReset();
+            if (moved != 0) {
+                add(key, slot, moved);
+            }
+        }
+    }
+
+    /**
+     * 현재까지 쌓인 값을 꺼내고 0 으로 초기화 (증가가 없던 키는 제거)
+     *
+     * @return 0 이 아닌 값이 있는 키 → 카운터 종류별 증가분
+     */
+    public Map<K, long[]> drain() {
+        Map<K, long[]> deltas = new HashMap<>();
+        for (Map.Entry<K, LongAdder[]> entry : counters.entrySet()) {
+            LongAdder[] row = entry.getValue();
+            long[] values = new long[width];
+            boolean nonZero = sumThenReset(row, values);
+            if (!nonZero && counters.remove(entry.getKey(), row)) {
+                // 제거 직전에 들어온 증가분 회수
+                nonZero = sumThenReset(row, values);
+            }
+            if (nonZero) {
+                deltas.put(entry.getKey(), values);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 꺼낸 값을 되돌려 놓기 (저장 실패 시 다음 배출에서 다시 시도)
+     */
+    public void restore(Map<K, long[]> deltas) {
+        for (Map.Entry<K, long[]> entry : deltas.entrySet()) {
+            long[] values = entry.getValue();
+            for (int slot = 0; slot < width; slot++) {
+                if (values[slot] != 0) {
+                    add(entry.getKey(), slot, values[slot]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 아직 배출되지 않은 값 (조회용, 초기화하지 않음)
+     */
+    public long pending(K key, int slot) {
+        LongAdder[] row = counters.get(key);
+        return row != null ? row[slot].sum() : 0;
+    }
+
+    /**
+     * 등록된 키 수 (조회용)
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    private boolean sumThenReset(LongAdder[] row, long[] values) {
+        boolean nonZero = false;
+        for (int slot = 0; slot < width; slot++) {
+            values[slot] += row[slot].sumThenReset();
+            nonZero |= values[slot] != 0;
+        }
+        return nonZero;
+    }
+
+    private LongAdder[] newRow() {
+        LongAdder[] row = new LongAdder[width];
+        for (int slot = 0; slot < width; slot++) {
+            row[slot] = new LongAdder();
+        }
+        return row;
+    }
+}
@@ -0,0 +1,71 @@
+package io.jongbeom.backend.util;
+
+/**
+ * Web Mercator(EPSG:3857) 타일 좌표 계산
+ *
+ * 지도 타일(256px) 기준의 전역 픽셀 좌표로 변환합니다.
+ */
+public final class TileMath {
+
+    public static final int TILE_SIZE = 256;
+
+    /**
+     * Web Mercator 에서 표현 가능한 최대 위도
+     */
+    private static final double MAX_LATITUDE = 85.05112878;
+
+    private TileMath() {
+    }
+
+    /**
+     * 경도 → 전역 픽셀 X
+     *
+     * @param longitude 경도
+     * @param zoom 줌 레벨
+     */
+    public static double pixelX(double longitude, int zoom) {
+        return (longitude + 180.0) / 360.0 * worldSize(zoom);
+    }
+
+    /**
+     * 위도 → 전역 픽셀 Y
+     *
+     * @param latitude 위도
+     * @param zoom 줌 레벨
+     */
+    public static double pixelY(double latitude, int zoom) {
+        double lat = Math.toRadians(Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude)));
+        double y = (1 - Math.log(Math.tan(lat) + 1 / Math.cos(lat)) / Math.PI) / 2;
+        return y * worldSize(zoom);
+    }
+
+    /**
+     * 전역 픽셀 X → 경도
+     */
+    public static double longitude(double pixelX, int zoom) {
+        return pixelX / worldSize(zoom) * 360.0 - 180.0;
+    }
+
+    /**
+     * 전역 픽셀 Y → 위도
+     */
+    public static double latitude(double pixelY, int zoom) {
+        double n = Math.PI - 2 * Math.PI * pixelY / worldSize(zoom);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    /**
+     * 줌 레벨의 전체 지도 크기 (픽셀)
+     */
+    public static double worldSize(int zoom) {
+        return (double) TILE_SIZE * (1L << zoom);
+    }
+
+    /**
+     * 타일 좌표가 해당 줌 레벨 범위 안인지 확인
+     */
+    public static boolean isValidTile(int zoom, int x, int y) {
+        long tiles = 1L << zoom;
+        return zoom >= 0 && x >= 0 && y >= 0 && x < tiles && y < tiles;
+    }
+}
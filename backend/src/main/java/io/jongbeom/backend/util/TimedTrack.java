@@ -0,0 +1,112 @@
+package io.jongbeom.backend.util;
+
+import java.util.List;
+
+/**
+ * 시간 정보가 포함된 GPS 트랙
+ *
+ * 좌표/시간/누적 거리를 원시 배열로 보관하여
+ * 구간 기록(splits) 계산 등에서 한 번의 순회로 처리할 수 있도록 합니다.
+ */
+public final class TimedTrack {
+
+    private final double[] longitudes;
+    private final double[] latitudes;
+    private final long[] timestamps;          // epoch millis
+    private final double[] cumulativeDistance; // 미터
+
+    private TimedTrack(double[] longitudes, double[] latitudes, long[] timestamps) {
+        this.longitudes = longitudes;
+        this.latitudes = latitudes;
+        this.timestamps = timestamps;
+        this.cumulativeDistance = new double[longitudes.length];
+
+        for (int i = 1; i < longitudes.length; i++) {
+            cumulativeDistance[i] = cumulativeDistance[i - 1] + GeoUtils.haversine(
+                    latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
+        }
+    }
+
+    /**
+     * 좌표 배열과 타임스탬프 배열로 트랙 생성
+     *
+     * @param coordinates [ [lng, lat], ... ]
+     * @param timestamps 각 좌표의 측정 시각 (epoch millis)
+     * @return 트랙 (길이가 맞지 않거나 시간이 역행하면 null)
+     */
+    public static TimedTrack of(List<List<Double>> coordinates, List<Long> timestamps) {
+        if (coordinates == null || timestamps == null
+                || coordinates.size() < 2 || coordinates.size() != timestamps.size()) {
+            return null;
+        }
+
+        int size = coordinates.size();
+        double[] lons = new double[size];
+        double[] lats = new double[size];
+        long[] times = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            List<Double> coord = coordinates.get(i);
+            Long time = timestamps.get(i);
+            if (coord == null || coord.size() < 2 || time == null) {
+                return null;
+            }
+            if (i > 0 && time < times[i - 1]) {
+                return null;
+            }
+            lons[i] = coord.get(0);
+            lats[i] = coord.get(1);
+            times[i] = time;
+        }
+
+        return new TimedTrack(lons, lats, times);
+    }
+
+    /**
+     * 원시 배열로 트랙 생성 (저장된 샘플 복원용)
+     *
+     * @param longitudes 경도 배열
+     * @param latitudes 위도 배열
+     * @param timestamps 측정 시각 배열 (epoch millis)
+     * @return 트랙 (길이가 맞지 않거나 시간이 역행하면 null)
+     */
+    public static TimedTrack of(double[] longitudes, double[] latitudes, long[] timestamps) {
+        if (longitudes.length < 2 || longitudes.length != latitudes.length
+                || longitudes.length != timestamps.length) {
+            return null;
+        }
+        for (int i = 1; i < timestamps.length; i++) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                return null;
+            }
+        }
+        return new TimedTrack(longitudes, latitudes, timestamps);
+    }
+
+    public int size() {
+        return longitudes.length;
+    }
+
+    public double longitude(int index) {
+        return longitudes[index];
+    }
+
+    public double latitude(int index) {
+        return latitudes[index];
+    }
+
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    public double cumulativeDistance(int index) {
+        return cumulativeDistance[index];
+    }
+
+    /**
+     * 트랙 전체 거리 (미터)
+     */
+    public double totalDistance() {
+        return cumulativeDistance[cumulativeDistance.length - 1];
+    }
+}
@@ -0,0 +1,147 @@
+package io.jongbeom.backend.activity;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActivityParserTest {
+
+    @Test
+    void testParseGpx() throws Exception {
+        String gpx = """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1"
+                     xmlns:gpxtpx="http://www.garmin.com/xmlschemas/TrackPointExtension/v1">
+                  <trk><name>Morning Run</name><trkseg>
+                    <trkpt lat="37.5" lon="127.0"><ele>10.5</ele><time>2025-01-01T00:00:00Z</time>
+                      <extensions><gpxtpx:TrackPointExtension><gpxtpx:hr>140</gpxtpx:hr><gpxtpx:cad>85</gpxtpx:cad></gpxtpx:TrackPointExtension></extensions>
+                    </trkpt>
+                    <trkpt lat="37.501" lon="127.001"><time>2025-01-01T00:00:05.500Z</time></trkpt>
+                    <trkpt lat="37.502" lon="127.002"></trkpt>
+                  </trkseg></trk>
+                </gpx>
+                """;
+
+        ActivityTrack track = new GpxParser().parse(stream(gpx));
+
+        assertEquals("Morning Run", track.getName());
+        assertEquals(2, track.size());
+        assertEquals(List.of(127.0, 37.5), track.coordinates().get(0));
+        assertEquals(Instant.parse("2025-01-01T00:00:05.500Z").toEpochMilli(), track.lastTimestamp());
+        assertEquals(10.5, track.altitudeList().get(0));
+        assertNull(track.altitudeList().get(1));
+        assertEquals(140, track.averageHeartRate());
+    }
+
+    @Test
+    void testParseTcx() throws Exception {
+        String tcx = """
+                <TrainingCenterDatabase xmlns="http://www.garmin.com/xmlschemas/TrainingCenterDatabase/v2">
+                  <Activities><Activity Sport="Running"><Lap><Track>
+                    <Trackpoint><Time>2025-01-01T00:00:00Z</Time>
+                      <Position><LatitudeDegrees>37.5</LatitudeDegrees><LongitudeDegrees>127.0</LongitudeDegrees></Position>
+                      <AltitudeMeters>20.0</AltitudeMeters><HeartRateBpm><Value>150</Value></HeartRateBpm><Cadence>90</Cadence>
+                    </Trackpoint>
+                    <Trackpoint><Time>2025-01-01T00:00:01Z</Time><HeartRateBpm><Value>151</Value></HeartRateBpm></Trackpoint>
+                    <Trackpoint><Time>2025-01-01T00:00:02Z</Time>
+                      <Position><LatitudeDegrees>37.501</LatitudeDegrees><LongitudeDegrees>127.001</LongitudeDegrees></Position>
+                    </Trackpoint>
+                  </Track></Lap></Activity></Activities>
+                </TrainingCenterDatabase>
+                """;
+
+        ActivityTrack track = new TcxParser().parse(stream(tcx));
+
+        assertEquals(2, track.size());
+        assertEquals(150, track.heartRateList().get(0));
+        assertEquals(90, track.cadenceList().get(0));
+        assertEquals(20.0, track.altitudeList().get(0));
+    }
+
+    @Test
+    void testParseFit() throws Exception {
+        // Given: record 메시지 정의 + 일반 데이터 1건 + 압축 타임스탬프 데이터 1건
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write(0x40);                    // definition, local 0
+        data.write(new byte[]{0, 0, 20, 0}); // reserved, little endian, global 20 (record)
+        data.write(5);                       // field count
+        data.write(new byte[]{(byte) 253, 4, (byte) 0x86});
+        data.write(new byte[]{0, 4, (byte) 0x85});
+        data.write(new byte[]{1, 4, (byte) 0x85});
+        data.write(new byte[]{2, 2, (byte) 0x84});
+        data.write(new byte[]{3, 1, 2});
+
+        long fitTime = 1_000_000_000L;
+        data.write(0x00);                    // data, local 0
+        writeLe(data, fitTime, 4);
+        writeLe(data, degreesToSemicircles(37.5), 4);
+        writeLe(data, degreesToSemicircles(127.0), 4);
+        writeLe(data, (10 + 500) * 5, 2);     // altitude 10m
+        data.write(140);
+
+        data.write(0x80 | ((int) (fitTime + 3) & 0x1F)); // compressed timestamp, local 0 (+3s)
+        writeLe(data, 0xFFFFFFFFL, 4);       // timestamp 필드 invalid → 압축 헤더 값 사용
+        writeLe(data, degreesToSemicircles(37.501), 4);
+        writeLe(data, degreesToSemicircles(127.001), 4);
+        writeLe(data, 0xFFFF, 2);
+        data.write(0xFF);
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        file.write(new byte[]{12, 0x10, 0, 0});
+        writeLe(file, data.size(), 4);
+        file.write(".FIT".getBytes(StandardCharsets.US_ASCII));
+        file.write(data.toByteArray());
+        file.write(new byte[]{0, 0}); // CRC
+
+        // When
+        ActivityTrack track = new FitParser().parse(new ByteArrayInputStream(file.toByteArray()));
+
+        // Then
+        assertEquals(2, track.size());
+        assertEquals(37.5, track.coordinates().get(0).get(1), 1e-6);
+        assertEquals(127.001, track.coordinates().get(1).get(0), 1e-6);
+        assertEquals((fitTime + 631065600L) * 1000, track.firstTimestamp());
+        assertEquals(3000, track.lastTimestamp() - track.firstTimestamp());
+        assertEquals(10.0, track.altitudeList().get(0), 1e-6);
+        assertEquals(140, track.heartRateList().get(0));
+        assertNull(track.heartRateList().get(1));
+    }
+
+    @Test
+    void testPointLimit() {
+        // Given: 포인트 3개짜리 GPX
+        String gpx = """
+                <gpx version="1.1" xmlns="http://www.topografix.com/GPX/1/1"><trk><trkseg>
+                  <trkpt lat="37.5" lon="127.0"><time>2025-01-01T00:00:00Z</time></trkpt>
+                  <trkpt lat="37.501" lon="127.001"><time>2025-01-01T00:00:01Z</time></trkpt>
+                  <trkpt lat="37.502" lon="127.002"><time>2025-01-01T00:00:02Z</time></trkpt>
+                </trkseg></trk></gpx>
+                """;
+
+        // When & Then: 최대 2개로 제한하면 실패, 3개면 성공
+        IOException e = assertThrows(IOException.class, () -> ActivityFormat.GPX.newParser(2).parse(stream(gpx)));
+        assertTrue(e.getMessage().contains("최대 2개"));
+        assertDoesNotThrow(() -> ActivityFormat.GPX.newParser(3).parse(stream(gpx)));
+    }
+
+    private static ByteArrayInputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long degreesToSemicircles(double degrees) {
+        return Math.round(degrees * 2147483648.0 / 180.0);
+    }
+
+    private static void writeLe(ByteArrayOutputStream out, long value, int size) {
+        for (int i = 0; i < size; i++) {
+            out.write((int) (value >> (8 * i)) & 0xFF);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.jongbeom.backend.security;
+
+import io.jongbeom.backend.event.ProfileDeactivatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final UUID PROFILE_A = UUID.randomUUID();
+    private static final UUID PROFILE_B = UUID.randomUUID();
+
+    @Test
+    void testExpiredEntryIsNotReturned() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+        cache.put("expired", verified(PROFILE_A, -1_000));
+        cache.put("valid", verified(PROFILE_A, 60_000));
+
+        // When & Then: 만료된 항목은 조회 시 제거
+        assertNull(cache.get("expired"));
+        assertEquals(PROFILE_A, cache.get("valid").user().profileId());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFullCacheSkipsNewTokens() {
+        // Given: 유효한 토큰으로 가득 찬 캐시
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        cache.put("a", verified(PROFILE_A, 60_000));
+        cache.put("b", verified(PROFILE_A, 60_000));
+
+        // When
+        cache.put("c", verified(PROFILE_A, 60_000));
+
+        // Then: 새 토큰은 캐시하지 않고 기존 항목 유지
+        assertNull(cache.get("c"));
+        assertNotNull(cache.get("a"));
+        assertNotNull(cache.get("b"));
+    }
+
+    @Test
+    void testFullCacheSweepsExpiredEntries() {
+        // Given: 만료된 항목이 섞인 가득 찬 캐시
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 0);
+        cache.put("expired", verified(PROFILE_A, -1_000));
+        cache.put("valid", verified(PROFILE_A, 60_000));
+
+        // When
+        cache.put("new", verified(PROFILE_A, 60_000));
+
+        // Then: 만료 항목을 정리하고 새 토큰 저장
+        assertNotNull(cache.get("new"));
+        assertNotNull(cache.get("valid"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testSweepIsRateLimited() {
+        // Given: 가득 찬 상태에서 한 번 정리가 실행된 캐시
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, 60_000);
+        cache.put("a", verified(PROFILE_A, 60_000));
+        cache.put("b", verified(PROFILE_B, 60_000));
+        cache.put("c", verified(PROFILE_A, 60_000));
+        assertNull(cache.get("c"));
+
+        cache.onProfileDeactivated(new ProfileDeactivatedEvent(PROFILE_B));
+        cache.put("expired", verified(PROFILE_A, -1_000));
+
+        // When: 정리 간격 안에 다시 가득 찬 상태로 저장
+        cache.put("d", verified(PROFILE_A, 60_000));
+
+        // Then: 정리를 건너뛰므로 만료 항목이 남고 새 토큰은 캐시하지 않음
+        assertEquals(2, cache.size());
+        assertNull(cache.get("d"));
+    }
+
+    @Test
+    void testProfileDeactivationEvictsOnlyThatProfile() {
+        // Given
+        VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+        cache.put("a1", verified(PROFILE_A, 60_000));
+        cache.put("a2", verified(PROFILE_A, 60_000));
+        cache.put("b1", verified(PROFILE_B, 60_000));
+
+        // When
+        cache.onProfileDeactivated(new ProfileDeactivatedEvent(PROFILE_A));
+
+        // Then
+        assertNull(cache.get("a1"));
+        assertNull(cache.get("a2"));
+        assertNotNull(cache.get("b1"));
+    }
+
+    private static VerifiedTokenCache.VerifiedToken verified(UUID profileId, long ttlMillis) {
+        return new VerifiedTokenCache.VerifiedToken(
+                new AuthenticatedUser(profileId, "runner@example.com"),
+                System.currentTimeMillis() + ttlMillis);
+    }
+}
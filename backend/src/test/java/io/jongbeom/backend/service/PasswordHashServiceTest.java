@@ -0,0 +1,115 @@
+package io.jongbeom.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordHashServiceTest {
+
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor hashExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = mock(PasswordEncoder.class);
+        hashExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(64));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hashExecutor.shutdownNow();
+    }
+
+    @Test
+    void testEncodeRunsOnHashExecutor() {
+        // Given
+        when(passwordEncoder.encode("password")).thenAnswer(invocation -> Thread.currentThread().getName());
+        PasswordHashService service = new PasswordHashService(passwordEncoder, hashExecutor, 1000);
+
+        // When
+        String hashedOn = service.encode("password");
+
+        // Then: 호출 스레드가 아닌 해시 풀에서 계산
+        assertNotEquals(Thread.currentThread().getName(), hashedOn);
+    }
+
+    @Test
+    void testRejectsWhenQueueExceedsAdmissibleSize() {
+        // Given: 예상 해시 100ms, timeout 1000ms, 스레드 1개 → 대기열 허용량 (1000 / 100 - 1) × 1 = 9
+        PasswordHashService service = new PasswordHashService(passwordEncoder, hashExecutor, 1000);
+        hashExecutor.execute(this::awaitRelease);
+        for (int i = 0; i < 9; i++) {
+            hashExecutor.execute(() -> { });
+        }
+
+        // When & Then: 대기열에 넣지 않고 바로 거절
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class, () -> service.encode("password"));
+        assertTrue(e.getMessage().contains("요청이 많습니다"));
+        assertEquals(9, hashExecutor.getQueue().size());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void testSkipsHashWhenDeadlineCannotBeMet() throws Exception {
+        // Given: 예상 해시 100ms, timeout 300ms, 앞선 작업이 250ms 동안 스레드를 점유
+        PasswordHashService service = new PasswordHashService(passwordEncoder, hashExecutor, 300);
+        hashExecutor.execute(() -> sleep(250));
+
+        // When & Then: 차례가 왔을 때 남은 시간(약 50ms)이 예상 해시 시간보다 짧으면 계산하지 않음
+        assertThrows(RejectedExecutionException.class, () -> service.matches("password", "hash"));
+        hashExecutor.shutdown();
+        assertTrue(hashExecutor.awaitTermination(1, TimeUnit.SECONDS));
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void testTimeoutCancelsRunningHash() throws Exception {
+        // Given: timeout 안에 끝나지 않는 해시
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "hash";
+        });
+        PasswordHashService service = new PasswordHashService(passwordEncoder, hashExecutor, 200);
+
+        // When
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class, () -> service.encode("password"));
+
+        // Then: 503 으로 거절하고 실행 중인 작업은 취소(인터럽트)
+        assertTrue(e.getMessage().contains("지연되고 있습니다"));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package io.jongbeom.backend.service;
+
+import io.jongbeom.backend.entity.Profile;
+import io.jongbeom.backend.entity.RefreshToken;
+import io.jongbeom.backend.exception.InvalidTokenException;
+import io.jongbeom.backend.repository.RefreshTokenRepository;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private static final String TOKEN = "refresh-token";
+    private static final String NEXT_TOKEN = "next-refresh-token";
+
+    private RefreshTokenRepository refreshTokenRepository;
+    private JwtService jwtService;
+    private JdbcTemplate jdbcTemplate;
+    private RefreshTokenService service;
+
+    private Profile profile;
+    private RefreshToken stored;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = mock(RefreshTokenRepository.class);
+        jwtService = mock(JwtService.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new RefreshTokenService(refreshTokenRepository, jwtService, jdbcTemplate,
+                mock(ScheduledThreadPoolExecutor.class), 24, 10, 60, 3);
+
+        profile = Profile.builder().id(UUID.randomUUID()).email("runner@example.com").build();
+        stored = RefreshToken.builder()
+                .id(1L)
+                .profile(profile)
+                .deviceId("device-1")
+                .familyId(UUID.randomUUID())
+                .expiresAt(OffsetDateTime.now().plusDays(30))
+                .build();
+
+        when(jwtService.verifyToken(TOKEN)).thenReturn(
+                Jwts.claims().add(JwtService.TOKEN_TYPE_CLAIM, JwtService.REFRESH_TOKEN_TYPE).build());
+        when(jwtService.createRefreshToken(any())).thenReturn(NEXT_TOKEN);
+        when(jwtService.getRefreshTokenExpiresAt()).thenReturn(LocalDateTime.now().plusDays(30));
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void testRotateIssuesTokenInSameFamily() {
+        // Given
+        when(refreshTokenRepository.markRotated(eq(1L), any(), any())).thenReturn(1);
+
+        // When
+        RefreshTokenService.Rotation rotation = service.rotate(TOKEN);
+
+        // Then
+        assertEquals(NEXT_TOKEN, rotation.refreshToken());
+        assertSame(profile, rotation.profile());
+        RefreshToken saved = savedToken();
+        assertEquals(stored.getFamilyId(), saved.getFamilyId());
+        assertEquals("device-1", saved.getDeviceId());
+        verify(refreshTokenRepository, never()).deleteFamily(any());
+    }
+
+    @Test
+    void testRotateReissuesWithinGraceWindow() {
+        // Given: 2초 전에 교체된 토큰 (grace 10초)
+        when(refreshTokenRepository.markRotated(eq(1L), any(), any())).thenReturn(0);
+        when(refreshTokenRepository.findRotatedAtById(1L)).thenReturn(Optional.of(OffsetDateTime.now().minusSeconds(2)));
+
+        // When
+        RefreshTokenService.Rotation rotation = service.rotate(TOKEN);
+
+        // Then: 클라이언트 재시도로 보고 같은 family 로 재발급
+        assertEquals(NEXT_TOKEN, rotation.refreshToken());
+        assertEquals(stored.getFamilyId(), savedToken().getFamilyId());
+        verify(refreshTokenRepository, never()).deleteFamily(any());
+    }
+
+    @Test
+    void testRotateRevokesFamilyOnReuseAfterGraceWindow() {
+        // Given: 1분 전에 교체된 토큰
+        when(refreshTokenRepository.markRotated(eq(1L), any(), any())).thenReturn(0);
+        when(refreshTokenRepository.findRotatedAtById(1L)).thenReturn(Optional.of(OffsetDateTime.now().minusMinutes(1)));
+
+        // When & Then: 탈취로 보고 family 삭제 후 거절
+        assertThrows(InvalidTokenException.class, () -> service.rotate(TOKEN));
+        verify(refreshTokenRepository).deleteFamily(stored.getFamilyId());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void testRotateRejectsAccessToken() {
+        // Given
+        when(jwtService.verifyToken(TOKEN)).thenReturn(
+                Jwts.claims().add(JwtService.TOKEN_TYPE_CLAIM, JwtService.ACCESS_TOKEN_TYPE).build());
+
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> service.rotate(TOKEN));
+        verify(refreshTokenRepository, never()).findByTokenHash(any());
+    }
+
+    @Test
+    void testRotateRejectsExpiredToken() {
+        // Given
+        stored.setExpiresAt(OffsetDateTime.now().minusMinutes(1));
+
+        // When & Then
+        assertThrows(InvalidTokenException.class, () -> service.rotate(TOKEN));
+        verify(refreshTokenRepository, never()).markRotated(anyLong(), any(), any());
+    }
+
+    @Test
+    void testFamilyDeleteIsCommittedOnRejection() throws Exception {
+        // 재사용 감지로 family 를 삭제하고 InvalidTokenException 을 던져도 삭제는 롤백되지 않아야 함
+        Transactional transactional = RefreshTokenService.class.getMethod("rotate", String.class)
+                .getAnnotation(Transactional.class);
+
+        assertNotNull(transactional);
+        assertTrue(Arrays.asList(transactional.noRollbackFor()).contains(InvalidTokenException.class));
+    }
+
+    @Test
+    void testPurgeExpiredRepeatsWhileBatchIsFull() {
+        // Given: 배치 크기 3, 3건 → 3건 → 1건 삭제
+        when(jdbcTemplate.update(anyString(), eq(3))).thenReturn(3, 3, 1);
+
+        // When
+        int total = service.purgeExpired();
+
+        // Then: 마지막 배치가 가득 차지 않으면 중단
+        assertEquals(7, total);
+        verify(jdbcTemplate, times(3)).update(anyString(), eq(3));
+    }
+
+    private RefreshToken savedToken() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,52 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.BestEffortType;
+import io.jongbeom.backend.entity.RunningEffort;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BestEffortCalculatorTest {
+
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * GeoUtils.EARTH_RADIUS;
+
+    @Test
+    void testFindsFastestWindow() {
+        // Given: 3km, 100m 간격 - 처음/마지막 1km 는 6:00/km, 가운데 1km 는 4:00/km
+        List<List<Double>> coords = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        long time = 0;
+        for (int i = 0; i <= 30; i++) {
+            coords.add(List.of(127.0, 37.0 + (i * 100) / METERS_PER_DEGREE));
+            times.add(time);
+            time += (i >= 10 && i < 20) ? 24_000 : 36_000;
+        }
+        TimedTrack track = TimedTrack.of(coords, times);
+
+        // When
+        double best = BestEffortCalculator.bestTime(track, 1000);
+
+        // Then: 가운데 구간 240초
+        assertEquals(240.0, best, 0.5);
+    }
+
+    @Test
+    void testInterpolatesWindowStart() {
+        // Given: 1.5km 를 2개 포인트로 (일정 페이스 300초/km)
+        List<List<Double>> coords = List.of(
+                List.of(127.0, 37.0),
+                List.of(127.0, 37.0 + 1500 / METERS_PER_DEGREE));
+        TimedTrack track = TimedTrack.of(coords, List.of(0L, 450_000L));
+
+        // When
+        List<RunningEffort> efforts = BestEffortCalculator.calculate(track);
+
+        // Then: 1km 만 계산되고, 구간 시작점 보간으로 정확히 300초
+        assertEquals(1, efforts.size());
+        assertEquals(BestEffortType.ONE_K, efforts.get(0).getEffortType());
+        assertEquals(300.0, efforts.get(0).getDuration(), 0.5);
+    }
+}
@@ -0,0 +1,97 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.OffRouteInterval;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseAdherenceCalculatorTest {
+
+    // 위도 1도 ≈ 111,195m (EARTH_RADIUS 기준)
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * GeoUtils.EARTH_RADIUS;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Test
+    void testRunOnCourse() {
+        // Given: 북쪽으로 1km 코스, 5m 옆으로 평행하게 달림
+        LineString course = northLine(0, 1000, 0);
+        LineString run = northLine(0, 1000, 5);
+
+        // When
+        CourseAdherenceCalculator.Result result = CourseAdherenceCalculator.calculate(course, run, null);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(100.0, result.coverage(), 0.001);
+        assertEquals(5.0, result.maxDeviation(), 0.5);
+        assertTrue(result.offRouteIntervals().isEmpty());
+    }
+
+    @Test
+    void testPartialCoverage() {
+        // Given: 1km 코스 중 앞 500m 만 달림
+        LineString course = northLine(0, 1000, 0);
+        LineString run = northLine(0, 500, 0);
+
+        // When
+        CourseAdherenceCalculator.Result result = CourseAdherenceCalculator.calculate(course, run, null);
+
+        // Then: 500m + 허용 거리(30m) 정도 커버
+        assertEquals(53.0, result.coverage(), 2.0);
+    }
+
+    @Test
+    void testOffRouteInterval() {
+        // Given: 400~600m 구간에서 코스 동쪽 100m 로 우회
+        LineString course = northLine(0, 1000, 0);
+        List<Coordinate> points = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i <= 100; i++) {
+            double north = i * 10;
+            double east = (north > 400 && north < 600) ? 100 : 0;
+            points.add(coordinate(north, east));
+            times.add(i * 3_000L);
+        }
+        LineString run = geometryFactory.createLineString(points.toArray(new Coordinate[0]));
+        TimedTrack track = TimedTrack.of(
+                points.stream().map(c -> List.of(c.x, c.y)).toList(), times);
+
+        // When
+        CourseAdherenceCalculator.Result result = CourseAdherenceCalculator.calculate(course, run, track);
+
+        // Then
+        assertEquals(100.0, result.maxDeviation(), 0.5);
+        assertEquals(1, result.offRouteIntervals().size());
+        OffRouteInterval interval = result.offRouteIntervals().get(0);
+        assertTrue(interval.getStartDistance() > 400 && interval.getStartDistance() < 520);
+        assertTrue(interval.getEndDistance() > interval.getStartDistance() + 200);
+        assertEquals(123.0, interval.getStartOffset(), 0.001);
+        assertNotNull(interval.getEndOffset());
+    }
+
+    @Test
+    void testReturnsNullWithoutRoute() {
+        assertNull(CourseAdherenceCalculator.calculate(null, northLine(0, 100, 0), null));
+    }
+
+    private LineString northLine(double fromMeters, double toMeters, double eastMeters) {
+        List<Coordinate> points = new ArrayList<>();
+        for (double north = fromMeters; north <= toMeters; north += 10) {
+            points.add(coordinate(north, eastMeters));
+        }
+        return geometryFactory.createLineString(points.toArray(new Coordinate[0]));
+    }
+
+    private Coordinate coordinate(double northMeters, double eastMeters) {
+        double lat = 37.5 + northMeters / METERS_PER_DEGREE;
+        double lon = 127.0 + eastMeters / (METERS_PER_DEGREE * Math.cos(Math.toRadians(37.5)));
+        return new Coordinate(lon, lat);
+    }
+}
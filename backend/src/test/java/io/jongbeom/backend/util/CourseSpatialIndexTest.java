@@ -0,0 +1,123 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseSpatialIndexTest {
+
+    @Test
+    void testStartPointQuery() {
+        // Given: 서울 2개, 부산 1개
+        CourseSpatialIndex index = new CourseSpatialIndex(4);
+        UUID seoul1 = UUID.randomUUID();
+        UUID seoul2 = UUID.randomUUID();
+        UUID busan = UUID.randomUUID();
+        index.put(seoul1, 127.00, 37.50, 127.00, 37.50, 127.02, 37.52, 3000);
+        index.put(seoul2, 127.05, 37.55, 127.04, 37.55, 127.06, 37.57, 10000);
+        index.put(busan, 129.07, 35.17, 129.07, 35.17, 129.09, 35.19, 5000);
+
+        // When
+        List<CourseSpatialIndex.Entry> all = index.queryStartPoints(126.9, 37.4, 127.1, 37.6, 0, Integer.MAX_VALUE, 100);
+        List<CourseSpatialIndex.Entry> shortOnly = index.queryStartPoints(126.9, 37.4, 127.1, 37.6, 0, 5000, 100);
+
+        // Then
+        assertEquals(2, all.size());
+        assertEquals(1, shortOnly.size());
+        assertEquals(seoul1, shortOnly.get(0).id());
+    }
+
+    @Test
+    void testWideViewportReturnsEachCourseOnce() {
+        // Given: 여러 bbox 셀에 걸친 긴 코스
+        CourseSpatialIndex index = new CourseSpatialIndex(4);
+        UUID id = UUID.randomUUID();
+        index.put(id, 127.00, 37.50, 126.80, 37.30, 127.30, 37.70, 42195);
+
+        // When: 전국 범위
+        List<CourseSpatialIndex.Entry> starts = index.queryStartPoints(124, 33, 132, 39, 0, Integer.MAX_VALUE, 100);
+        List<CourseSpatialIndex.Entry> boxes = index.queryBoundingBoxes(124, 33, 132, 39, 0, Integer.MAX_VALUE, 100);
+
+        // Then
+        assertEquals(1, starts.size());
+        assertEquals(1, boxes.size());
+    }
+
+    @Test
+    void testBoundingBoxOverlapsViewport() {
+        // Given: 시작점은 화면 밖이지만 경로가 화면을 지나감
+        CourseSpatialIndex index = new CourseSpatialIndex(4);
+        UUID id = UUID.randomUUID();
+        index.put(id, 127.00, 37.50, 127.00, 37.50, 127.10, 37.60, 15000);
+
+        // When
+        List<CourseSpatialIndex.Entry> starts = index.queryStartPoints(127.05, 37.55, 127.08, 37.58, 0, Integer.MAX_VALUE, 100);
+        List<CourseSpatialIndex.Entry> boxes = index.queryBoundingBoxes(127.05, 37.55, 127.08, 37.58, 0, Integer.MAX_VALUE, 100);
+
+        // Then
+        assertTrue(starts.isEmpty());
+        assertEquals(1, boxes.size());
+    }
+
+    @Test
+    void testRemoveAndReuseSlot() {
+        // Given
+        CourseSpatialIndex index = new CourseSpatialIndex(1);
+        UUID removed = UUID.randomUUID();
+        UUID added = UUID.randomUUID();
+        index.put(removed, 127.00, 37.50, 127.00, 37.50, 127.01, 37.51, 1000);
+
+        // When
+        assertTrue(index.remove(removed));
+        index.put(added, 127.00, 37.50, 127.00, 37.50, 127.01, 37.51, 2000);
+
+        // Then
+        List<CourseSpatialIndex.Entry> results = index.queryBoundingBoxes(126.9, 37.4, 127.1, 37.6, 0, Integer.MAX_VALUE, 100);
+        assertEquals(1, index.size());
+        assertEquals(1, results.size());
+        assertEquals(added, results.get(0).id());
+        assertFalse(index.remove(removed));
+    }
+
+    @Test
+    void testNegativeCoordinates() {
+        // Given: 서반구/남반구
+        CourseSpatialIndex index = new CourseSpatialIndex(4);
+        UUID id = UUID.randomUUID();
+        index.put(id, -58.38, -34.60, -58.40, -34.62, -58.36, -34.58, 5000);
+
+        // When
+        List<CourseSpatialIndex.Entry> results = index.queryStartPoints(-58.5, -34.7, -58.3, -34.5, 0, Integer.MAX_VALUE, 10);
+
+        // Then
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    void testWideCourseIsKeptOutOfGrid() {
+        // Given: 지구 전체에 걸친 bbox (격자에 넣으면 650만 셀)
+        CourseSpatialIndex index = new CourseSpatialIndex(4);
+        UUID wide = UUID.randomUUID();
+        UUID local = UUID.randomUUID();
+        index.put(wide, -180, -90, -180, -90, 180, 90, 42195);
+        index.put(local, 127.00, 37.50, 127.00, 37.50, 127.02, 37.52, 3000);
+
+        // When
+        List<CourseSpatialIndex.Entry> overlapping = index.queryBoundingBoxes(126.9, 37.4, 127.1, 37.6, 0, Integer.MAX_VALUE, 10);
+        List<CourseSpatialIndex.Entry> starts = index.queryStartPoints(-180, -90, 180, 90, 0, Integer.MAX_VALUE, 10);
+
+        // Then: 넓은 코스도 한 번씩 조회됨
+        assertEquals(2, overlapping.size());
+        assertEquals(2, starts.size());
+
+        // When: 제거
+        assertTrue(index.remove(wide));
+
+        // Then
+        assertEquals(List.of(local), index.queryBoundingBoxes(126.9, 37.4, 127.1, 37.6, 0, Integer.MAX_VALUE, 10)
+                .stream().map(CourseSpatialIndex.Entry::id).toList());
+    }
+}
@@ -0,0 +1,69 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseThumbnailRendererTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Test
+    void testRenderProducesSquarePngWithRoute() throws IOException {
+        // Given: 동서 방향 1km 경로
+        LineString route = line(127.000, 37.500, 127.006, 37.501, 127.012, 37.500);
+
+        // When
+        byte[] png = CourseThumbnailRenderer.render(route);
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+
+        // Then: 가운데 행에 배경색이 아닌 픽셀(경로)이 있어야 함
+        assertEquals(CourseThumbnailRenderer.SIZE, image.getWidth());
+        assertEquals(CourseThumbnailRenderer.SIZE, image.getHeight());
+        int background = image.getRGB(0, 0);
+        boolean drawn = false;
+        for (int x = 0; x < image.getWidth() && !drawn; x++) {
+            drawn = image.getRGB(x, image.getHeight() / 2) != background;
+        }
+        assertTrue(drawn);
+    }
+
+    @Test
+    void testContentKeyDependsOnlyOnRoute() {
+        // Given
+        LineString route = line(127.000, 37.500, 127.010, 37.505);
+        LineString copy = line(127.000, 37.500, 127.010, 37.505);
+        LineString other = line(127.000, 37.500, 127.010, 37.506);
+
+        // Then: 같은 경로는 같은 키, 다른 경로는 다른 키
+        String key = CourseThumbnailRenderer.contentKey(route);
+        assertTrue(key.matches("[0-9a-f]{64}"));
+        assertEquals(key, CourseThumbnailRenderer.contentKey(copy));
+        assertNotEquals(key, CourseThumbnailRenderer.contentKey(other));
+    }
+
+    @Test
+    void testRenderSinglePointRoute() {
+        // Given: 시작점과 끝점이 같은 경로 (범위 0)
+        LineString route = line(127.0, 37.5, 127.0, 37.5);
+
+        // Then
+        assertTrue(CourseThumbnailRenderer.render(route).length > 0);
+    }
+
+    private LineString line(double... lngLat) {
+        Coordinate[] coordinates = new Coordinate[lngLat.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lngLat[i * 2], lngLat[i * 2 + 1]);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+}
@@ -0,0 +1,104 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeltaVarintCodecTest {
+
+    @Test
+    void testRoundTrip() {
+        // Given: 증가/감소/큰 값이 섞인 열
+        long[] values = {0, 1000, 2000, 2990, 1500, -300, Long.MAX_VALUE / 2, 42};
+
+        // When
+        byte[] encoded = DeltaVarintCodec.encode(values);
+
+        // Then
+        assertArrayEquals(values, DeltaVarintCodec.decode(encoded, values.length));
+    }
+
+    @Test
+    void testCompactForSmoothSeries() {
+        // Given: 1초 간격 타임스탬프 (1시간)
+        long[] elapsed = new long[3600];
+        for (int i = 0; i < elapsed.length; i++) {
+            elapsed[i] = i * 1000L;
+        }
+
+        // When
+        byte[] encoded = DeltaVarintCodec.encode(elapsed);
+
+        // Then: 첫 값(0)은 1바이트, 이후 포인트당 2바이트 (델타 1000 → zigzag 2000)
+        assertEquals(2 * elapsed.length - 1, encoded.length);
+    }
+
+    @Test
+    void testDecodeRangeWithStep() {
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 100 + i * 3;
+        }
+        byte[] encoded = DeltaVarintCodec.encode(values);
+
+        long[] range = DeltaVarintCodec.decodeRange(encoded, 10, 20, 4);
+
+        assertArrayEquals(new long[]{values[10], values[14], values[18]}, range);
+    }
+
+    @Test
+    void testExtremeValuesRoundTrip() {
+        // Given: 델타가 long 범위를 넘어 감싸지는 값 (MIN ↔ MAX, 0 ↔ MIN)
+        long[] values = {Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, 0, Long.MIN_VALUE,
+                -1, Long.MAX_VALUE, 1, Long.MAX_VALUE, Long.MAX_VALUE};
+
+        // When
+        byte[] encoded = DeltaVarintCodec.encode(values);
+
+        // Then
+        assertArrayEquals(values, DeltaVarintCodec.decode(encoded, values.length));
+    }
+
+    @Test
+    void testZigZagVarintLengthBoundaries() {
+        // Given: 델타 → zigzag 값이 7비트 경계에 걸치는 경우
+        // 63 → 126, -64 → 127 (1바이트) / 64 → 128, -65 → 129 (2바이트)
+        // 8191 → 16382 (2바이트) / 8192 → 16384 (3바이트)
+        assertEquals(1, DeltaVarintCodec.encode(new long[]{0}).length);
+        assertEquals(1, DeltaVarintCodec.encode(new long[]{63}).length);
+        assertEquals(1, DeltaVarintCodec.encode(new long[]{-64}).length);
+        assertEquals(2, DeltaVarintCodec.encode(new long[]{64}).length);
+        assertEquals(2, DeltaVarintCodec.encode(new long[]{-65}).length);
+        assertEquals(2, DeltaVarintCodec.encode(new long[]{8191}).length);
+        assertEquals(3, DeltaVarintCodec.encode(new long[]{8192}).length);
+
+        // 최대 길이: zigzag 가 64비트 전부를 쓰는 델타는 10바이트
+        assertEquals(10, DeltaVarintCodec.encode(new long[]{Long.MIN_VALUE}).length);
+        assertEquals(10, DeltaVarintCodec.encode(new long[]{Long.MAX_VALUE}).length);
+    }
+
+    @Test
+    void testNegativeDeltasRoundTrip() {
+        // Given: 감소하는 열과 경계 부근의 음수 델타
+        long[] values = {0, -1, -2, -65, -129, -8321, -8322, -1_000_000, -1_000_001, 0};
+
+        // When
+        byte[] encoded = DeltaVarintCodec.encode(values);
+
+        // Then
+        assertArrayEquals(values, DeltaVarintCodec.decode(encoded, values.length));
+    }
+
+    @Test
+    void testTruncatedDataIsRejected() {
+        // Given: 마지막 값의 연속 바이트가 잘린 데이터
+        byte[] encoded = DeltaVarintCodec.encode(new long[]{1, Long.MAX_VALUE});
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length - 1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> DeltaVarintCodec.decode(truncated, 2));
+        assertThrows(IllegalArgumentException.class, () -> DeltaVarintCodec.decode(encoded, 3));
+    }
+}
@@ -0,0 +1,92 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElevationProfileCalculatorTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testUphillThenDownhill() {
+        // Given: 동쪽으로 약 1km 오르막(+50m) 후 같은 길로 되돌아오는 경로
+        LineString route = line(127.0, 37.5, 127.0113, 37.5, 127.0, 37.5);
+        ElevationProfileCalculator.Sampler sampler = (lat, lng) -> (lng - 127.0) / 0.0113 * 50;
+
+        // When
+        ElevationProfileCalculator.Result result = ElevationProfileCalculator.calculate(route, sampler);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(50, result.gain(), 5);
+        assertEquals(50, result.loss(), 5);
+        assertEquals(5, result.maxGrade(), 1);
+        assertEquals(20, result.profile().length, 1);
+    }
+
+    @Test
+    void testFlatNoiseIsIgnored() {
+        // Given: 평지에서 ±1m 잡음
+        LineString route = line(127.0, 37.5, 127.02, 37.5);
+        ElevationProfileCalculator.Sampler sampler = (lat, lng) -> 10 + Math.sin(lng * 100_000);
+
+        // When
+        ElevationProfileCalculator.Result result = ElevationProfileCalculator.calculate(route, sampler);
+
+        // Then: 히스테리시스 미만 변화는 누적하지 않음
+        assertNotNull(result);
+        assertEquals(0, result.gain(), 0.001);
+        assertEquals(0, result.loss(), 0.001);
+    }
+
+    @Test
+    void testUnknownElevationReturnsNull() {
+        LineString route = line(127.0, 37.5, 127.01, 37.5);
+        assertNull(ElevationProfileCalculator.calculate(route, (lat, lng) -> Double.NaN));
+    }
+
+    @Test
+    void testDemInterpolatesAndHandlesMissingTile() throws IOException {
+        // Given: 3x3 칸 타일 (북→남 행 순서), 한 칸은 결측
+        short[] heights = {
+                100, 200, 300,
+                0, 100, 200,
+                0, 0, Short.MIN_VALUE
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(heights.length * 2);
+        for (short h : heights) {
+            buffer.putShort(h);
+        }
+        Files.write(dir.resolve("N37E127.hgt"), buffer.array());
+        DemElevationModel model = new DemElevationModel(dir, 4);
+
+        // Then
+        assertEquals(100, model.elevation(37.999999, 127.0), 0.01);  // 북서 모서리
+        assertEquals(150, model.elevation(37.999999, 127.25), 0.01); // 북쪽 행 보간
+        assertEquals(100, model.elevation(37.5, 127.5), 1e-9);      // 가운데
+        assertTrue(Double.isNaN(model.elevation(37.1, 127.9)));     // 결측 칸 주변
+        assertTrue(Double.isNaN(model.elevation(36.5, 127.5)));     // 타일 없음
+        assertEquals("S01W001.hgt", DemElevationModel.fileName(-1, -1));
+    }
+
+    private LineString line(double... lngLat) {
+        Coordinate[] coordinates = new Coordinate[lngLat.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lngLat[i * 2], lngLat[i * 2 + 1]);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+}
@@ -0,0 +1,102 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeistelPermutationTest {
+
+    @Test
+    void testBijectionOnSmallDomain() {
+        // Given: 2의 거듭제곱이 아닌 범위 (cycle walking 경로 포함)
+        int domain = 1000;
+        FeistelPermutation permutation = new FeistelPermutation(domain, "secret");
+
+        // When
+        boolean[] seen = new boolean[domain];
+        for (int i = 0; i < domain; i++) {
+            long value = permutation.permute(i);
+            assertTrue(value >= 0 && value < domain);
+            assertFalse(seen[(int) value], "중복 출력: " + value);
+            seen[(int) value] = true;
+        }
+
+        // Then: 모든 값이 정확히 한 번씩 나와야 함
+        for (boolean s : seen) {
+            assertTrue(s);
+        }
+    }
+
+    @Test
+    void testBijectionOnEdgeDomains() {
+        // Given: 최소 범위, 홀수 비트 수, 2의 거듭제곱 바로 위(cycle walking 이 가장 많은 경우), 4의 거듭제곱
+        int[] domains = {2, 3, 17, 1025, 4096};
+        for (String key : new String[]{"secret", "", "다른 키"}) {
+            for (int domain : domains) {
+                FeistelPermutation permutation = new FeistelPermutation(domain, key);
+
+                // When
+                Set<Long> outputs = new HashSet<>();
+                for (int i = 0; i < domain; i++) {
+                    long value = permutation.permute(i);
+                    assertTrue(value >= 0 && value < domain, "범위 밖 출력: domain=" + domain + ", value=" + value);
+                    outputs.add(value);
+                }
+
+                // Then: 모든 입력이 서로 다른 출력으로 대응
+                assertEquals(domain, outputs.size(), "domain=" + domain + ", key=" + key);
+            }
+        }
+    }
+
+    @Test
+    void testRejectsTooSmallDomain() {
+        assertThrows(IllegalArgumentException.class, () -> new FeistelPermutation(1, "secret"));
+    }
+
+    @Test
+    void testSequentialInputsOnShareCodeSpace() {
+        // Given
+        long domain = 2_821_109_907_456L;
+        FeistelPermutation permutation = new FeistelPermutation(domain, "secret");
+
+        // When
+        Set<Long> outputs = new HashSet<>();
+        for (long i = 0; i < 100_000; i++) {
+            long value = permutation.permute(i);
+            assertTrue(value >= 0 && value < domain);
+            outputs.add(value);
+        }
+
+        // Then: 순번이 달라지면 출력도 달라지고, 연속한 순번이 연속한 값이 되지 않아야 함
+        assertEquals(100_000, outputs.size());
+        assertTrue(Math.abs(permutation.permute(1) - permutation.permute(0)) > 1);
+    }
+
+    @Test
+    void testKeyDependence() {
+        // Given
+        FeistelPermutation a = new FeistelPermutation(1_000_000, "key-a");
+        FeistelPermutation b = new FeistelPermutation(1_000_000, "key-b");
+
+        // Then: 같은 키는 같은 결과, 다른 키는 다른 순열
+        assertEquals(a.permute(42), new FeistelPermutation(1_000_000, "key-a").permute(42));
+        int same = 0;
+        for (int i = 0; i < 100; i++) {
+            if (a.permute(i) == b.permute(i)) {
+                same++;
+            }
+        }
+        assertTrue(same < 5);
+    }
+
+    @Test
+    void testRejectsOutOfRange() {
+        FeistelPermutation permutation = new FeistelPermutation(100, "secret");
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(100));
+        assertThrows(IllegalArgumentException.class, () -> permutation.permute(-1));
+    }
+}
@@ -0,0 +1,121 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeatmapGridTest {
+
+    private static final int ZOOM = 14;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Test
+    void testRouteCountedOncePerBin() {
+        // Given: 같은 구간을 세 번 왕복하는 경로
+        LineString route = line(
+                127.0000, 37.5000,
+                127.0050, 37.5000,
+                127.0000, 37.5000,
+                127.0050, 37.5000);
+
+        // When
+        HeatmapGrid grid = new HeatmapGrid(ZOOM);
+        grid.addRoute(route);
+
+        // Then: 지나간 칸은 모두 1
+        int max = grid.tiles().values().stream()
+                .flatMapToInt(Arrays::stream)
+                .max().orElse(0);
+        assertEquals(1, max);
+    }
+
+    @Test
+    void testLineIsContinuous() {
+        // Given: 동서 방향 직선
+        LineString route = line(127.0000, 37.5000, 127.0100, 37.5000);
+
+        // When
+        HeatmapGrid grid = new HeatmapGrid(ZOOM);
+        grid.addRoute(route);
+
+        // Then: 시작~끝 칸 수만큼 빠짐없이 채워짐
+        double binSize = (double) TileMath.TILE_SIZE / HeatmapGrid.BINS;
+        long startBin = (long) (TileMath.pixelX(127.0000, ZOOM) / binSize);
+        long endBin = (long) (TileMath.pixelX(127.0100, ZOOM) / binSize);
+        long filled = grid.tiles().values().stream()
+                .flatMapToInt(Arrays::stream)
+                .filter(count -> count > 0)
+                .count();
+        assertEquals(endBin - startBin + 1, filled);
+    }
+
+    @Test
+    void testMergeSumsCounts() {
+        // Given: 같은 경로를 두 격자에 각각 추가
+        LineString route = line(127.0000, 37.5000, 127.0020, 37.5010);
+        HeatmapGrid first = new HeatmapGrid(ZOOM);
+        HeatmapGrid second = new HeatmapGrid(ZOOM);
+        first.addRoute(route);
+        second.addRoute(route);
+
+        // When
+        first.merge(second);
+
+        // Then
+        for (Map.Entry<Long, int[]> entry : first.tiles().entrySet()) {
+            for (int count : entry.getValue()) {
+                assertTrue(count == 0 || count == 2);
+            }
+        }
+    }
+
+    @Test
+    void testMergeRunnerCountsDistinctRunners() {
+        // Given: 같은 러너가 같은 길을 세 번, 다른 러너가 한 번
+        LineString route = line(127.0000, 37.5000, 127.0020, 37.5010);
+        HeatmapGrid first = new HeatmapGrid(ZOOM);
+        first.addRoute(route);
+        first.addRoute(route);
+        first.addRoute(route);
+        HeatmapGrid second = new HeatmapGrid(ZOOM);
+        second.addRoute(route);
+
+        // When
+        HeatmapGrid runners = new HeatmapGrid(ZOOM);
+        runners.mergeRunner(first);
+        HeatmapGrid single = new HeatmapGrid(ZOOM);
+        single.mergeRunner(first);
+        runners.mergeRunner(second);
+
+        // Then: 통과 횟수와 관계없이 러너 수만 셈
+        assertEquals(1, single.tiles().values().stream().flatMapToInt(Arrays::stream).max().orElse(0));
+        for (int[] counts : runners.tiles().values()) {
+            for (int count : counts) {
+                assertTrue(count == 0 || count == 2);
+            }
+        }
+    }
+
+    @Test
+    void testTileKeyRoundTrip() {
+        long key = HeatmapGrid.key(13_970, 6_344);
+
+        assertEquals(13_970, HeatmapGrid.keyX(key));
+        assertEquals(6_344, HeatmapGrid.keyY(key));
+    }
+
+    private LineString line(double... lonLat) {
+        Coordinate[] coordinates = new Coordinate[lonLat.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(lonLat[i * 2], lonLat[i * 2 + 1]);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+}
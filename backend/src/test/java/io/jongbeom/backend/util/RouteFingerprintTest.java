@@ -0,0 +1,73 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteFingerprintTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Test
+    void testSameRouteInReverseHasSameSignature() {
+        // Given
+        LineString route = loop(127.0, 37.5, 0);
+        LineString reversed = route.reverse();
+
+        // Then: 역방향 경로도 같은 서명
+        assertArrayEquals(RouteFingerprint.signature(route), RouteFingerprint.signature(reversed));
+    }
+
+    @Test
+    void testSlightlyShiftedRouteIsSimilarAndSharesBand() {
+        // Given: 같은 공원 루프를 약 5m 옮겨 그린 경로
+        LineString route = loop(127.0, 37.5, 0);
+        LineString shifted = loop(127.0, 37.5, 0.00005);
+
+        // When
+        int[] a = RouteFingerprint.signature(route);
+        int[] b = RouteFingerprint.signature(shifted);
+
+        // Then: 유사도가 높고 LSH 밴드 키가 하나 이상 겹쳐야 함
+        assertTrue(RouteFingerprint.similarity(a, b) >= 0.6, "similarity=" + RouteFingerprint.similarity(a, b));
+        long[] bandsA = RouteFingerprint.bandKeys(a);
+        long[] bandsB = RouteFingerprint.bandKeys(b);
+        assertTrue(Arrays.stream(bandsA).anyMatch(k -> Arrays.stream(bandsB).anyMatch(l -> l == k)));
+    }
+
+    @Test
+    void testDistantRoutesAreNotSimilar() {
+        // Given: 서로 다른 곳의 루프
+        int[] a = RouteFingerprint.signature(loop(127.0, 37.5, 0));
+        int[] b = RouteFingerprint.signature(loop(126.9, 37.55, 0));
+
+        // Then
+        assertTrue(RouteFingerprint.similarity(a, b) < 0.1);
+    }
+
+    @Test
+    void testSignatureBytesRoundTrip() {
+        int[] signature = RouteFingerprint.signature(loop(127.0, 37.5, 0));
+        assertArrayEquals(signature, RouteFingerprint.fromBytes(RouteFingerprint.toBytes(signature)));
+    }
+
+    /**
+     * 약 1.5km x 1km 사각형 루프
+     */
+    private LineString loop(double lng, double lat, double offset) {
+        double width = 0.017;
+        double height = 0.009;
+        return geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(lng + offset, lat + offset),
+                new Coordinate(lng + width + offset, lat + offset),
+                new Coordinate(lng + width + offset, lat + height + offset),
+                new Coordinate(lng + offset, lat + height + offset),
+                new Coordinate(lng + offset, lat + offset)
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteNormalizerTest {
+
+    @Test
+    void testSnapsAndRemovesConsecutiveDuplicates() {
+        // Given: 맞춘 뒤 같은 좌표가 되는 연속 좌표 포함
+        Coordinate[] input = {
+                new Coordinate(127.00000011, 37.5),
+                new Coordinate(127.00000004, 37.50000002),
+                new Coordinate(127.001, 37.5),
+                new Coordinate(127.001, 37.5)
+        };
+
+        // When
+        RouteNormalizer.Result result = RouteNormalizer.normalize(input);
+
+        // Then
+        assertEquals(2, result.coordinates().length);
+        assertEquals(2, result.duplicates());
+        assertEquals(127.0, result.coordinates()[0].x, 0);
+        assertEquals(37.5, result.coordinates()[0].y, 0);
+    }
+
+    @Test
+    void testRemovesSpikeAndRecomputesLength() {
+        // Given: 동쪽으로 가다가 한 꼭짓점만 북쪽으로 튀었다 돌아옴
+        Coordinate[] input = {
+                new Coordinate(127.000, 37.5),
+                new Coordinate(127.001, 37.5),
+                new Coordinate(127.002, 37.5),
+                new Coordinate(127.0021, 37.505),
+                new Coordinate(127.0022, 37.5),
+                new Coordinate(127.003, 37.5)
+        };
+
+        // When
+        RouteNormalizer.Result result = RouteNormalizer.normalize(input);
+
+        // Then: 스파이크 꼭짓점만 빠지고 길이는 동쪽 직선 거리
+        assertEquals(1, result.spikes());
+        assertEquals(5, result.coordinates().length);
+        double expected = GeoUtils.haversine(37.5, 127.000, 37.5, 127.003);
+        assertEquals(expected, result.length(), 0.5);
+    }
+
+    @Test
+    void testKeepsTurnaroundOfOutAndBackRoute() {
+        // Given: 동쪽으로 갔다가 반환점에서 되돌아오는 왕복 코스
+        Coordinate[] input = {
+                new Coordinate(127.000, 37.5),
+                new Coordinate(127.001, 37.5),
+                new Coordinate(127.002, 37.5),
+                new Coordinate(127.001, 37.50001),
+                new Coordinate(127.000, 37.50001)
+        };
+
+        // When
+        RouteNormalizer.Result result = RouteNormalizer.normalize(input);
+
+        // Then: 반환점 유지
+        assertEquals(0, result.spikes());
+        assertEquals(5, result.coordinates().length);
+        assertTrue(result.length() > 2 * GeoUtils.haversine(37.5, 127.000, 37.5, 127.002) - 1);
+    }
+
+    @Test
+    void testRejectsOutOfRangeCoordinates() {
+        assertTrue(RouteNormalizer.isValid(new Coordinate(127.0, 37.5)));
+        assertFalse(RouteNormalizer.isValid(new Coordinate(37.5, 127.0)));
+        assertFalse(RouteNormalizer.isValid(new Coordinate(Double.NaN, 37.5)));
+    }
+}
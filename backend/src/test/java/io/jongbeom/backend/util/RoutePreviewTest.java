@@ -0,0 +1,62 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutePreviewTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    @Test
+    void testEncodeMatchesPolylineAlgorithm() {
+        // Given: Encoded Polyline Algorithm 문서 예시 (위도/경도)
+        Coordinate[] coordinates = {
+                new Coordinate(-120.2, 38.5),
+                new Coordinate(-120.95, 40.7),
+                new Coordinate(-126.453, 43.252)
+        };
+
+        // When
+        String encoded = RoutePreview.encode(coordinates);
+
+        // Then
+        assertEquals("_p~iF~ps|U_ulLnnqC_mqNvxq`@", encoded);
+    }
+
+    @Test
+    void testSimplifyLimitsPointsAndKeepsEndpoints() {
+        // Given: 1,000개 포인트의 구불구불한 경로
+        Coordinate[] coordinates = new Coordinate[1000];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(127.0 + i * 0.0001, 37.5 + Math.sin(i / 20.0) * 0.002);
+        }
+        LineString route = geometryFactory.createLineString(coordinates);
+
+        // When
+        Coordinate[] simplified = RoutePreview.simplify(route, 64);
+
+        // Then
+        assertTrue(simplified.length <= 64);
+        assertTrue(simplified.length >= 2);
+        assertEquals(coordinates[0], simplified[0]);
+        assertEquals(coordinates[coordinates.length - 1], simplified[simplified.length - 1]);
+    }
+
+    @Test
+    void testShortRouteUnchanged() {
+        // Given
+        LineString route = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(127.0, 37.5),
+                new Coordinate(127.001, 37.501),
+                new Coordinate(127.002, 37.5)
+        });
+
+        // Then
+        assertEquals(3, RoutePreview.simplify(route, 64).length);
+        assertNull(RoutePreview.of(null, 64));
+    }
+}
@@ -0,0 +1,157 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testSealAndReadInOrder() throws IOException {
+        // Given
+        SegmentedJournal journal = new SegmentedJournal(dir, false);
+        journal.append(bytes("a"));
+        journal.append(bytes("b"));
+        List<Path> first = journal.seal();
+        journal.append(bytes("c"));
+
+        // When
+        List<Path> segments = journal.seal();
+
+        // Then: 세그먼트 2개, 순서 유지
+        assertEquals(1, first.size());
+        assertEquals(2, segments.size());
+        assertEquals(List.of("a", "b"), strings(SegmentedJournal.read(segments.get(0))));
+        assertEquals(List.of("c"), strings(SegmentedJournal.read(segments.get(1))));
+        journal.close();
+    }
+
+    @Test
+    void testReopenKeepsUnprocessedSegments() throws IOException {
+        // Given: 첫 세그먼트만 처리하고 종료
+        SegmentedJournal journal = new SegmentedJournal(dir, true);
+        journal.append(bytes("done"));
+        journal.delete(journal.seal().get(0));
+        journal.append(bytes("pending"));
+        journal.close();
+
+        // When: 재시작
+        SegmentedJournal reopened = new SegmentedJournal(dir, true);
+        reopened.append(bytes("new"));
+        List<Path> segments = reopened.seal();
+
+        // Then
+        assertEquals(2, segments.size());
+        assertEquals(List.of("pending"), strings(SegmentedJournal.read(segments.get(0))));
+        assertEquals(List.of("new"), strings(SegmentedJournal.read(segments.get(1))));
+        reopened.close();
+    }
+
+    @Test
+    void testTruncatedTailIsIgnored() throws IOException {
+        // Given: 마지막 항목 기록 도중 종료 (헤더만 있고 데이터 일부 누락)
+        SegmentedJournal journal = new SegmentedJournal(dir, false);
+        journal.append(bytes("complete"));
+        Path segment = journal.seal().get(0);
+        Files.write(segment, new byte[]{0, 0, 0, 10, 1, 2, 3, 4, 'x'}, StandardOpenOption.APPEND);
+
+        // When
+        List<byte[]> entries = SegmentedJournal.read(segment);
+
+        // Then
+        assertEquals(List.of("complete"), strings(entries));
+        journal.close();
+    }
+
+    @Test
+    void testCorruptedTailIsIgnored() throws IOException {
+        // Given: 마지막 항목의 데이터가 CRC 와 맞지 않음 (부분 기록된 페이지)
+        SegmentedJournal journal = new SegmentedJournal(dir, false);
+        journal.append(bytes("first"));
+        journal.append(bytes("second"));
+        Path segment = journal.seal().get(0);
+        byte[] data = Files.readAllBytes(segment);
+        data[data.length - 1] ^= 0x01;
+        Files.write(segment, data);
+
+        // When
+        List<byte[]> entries = SegmentedJournal.read(segment);
+
+        // Then: 손상된 항목부터 무시
+        assertEquals(List.of("first"), strings(entries));
+        journal.close();
+    }
+
+    @Test
+    void testConcurrentSyncedAppendsAreAllKept() throws Exception {
+        // Given: fsync=true 로 여러 스레드가 동시에 추가 (그룹 커밋)
+        SegmentedJournal journal = new SegmentedJournal(dir, true);
+        int threads = 8;
+        int perThread = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    journal.append(bytes(thread + ":" + i));
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // When
+        List<String> entries = new ArrayList<>();
+        for (Path segment : journal.seal()) {
+            entries.addAll(strings(SegmentedJournal.read(segment)));
+        }
+
+        // Then: 모든 항목이 한 번씩, 스레드별 순서 유지
+        assertEquals(threads * perThread, entries.size());
+        assertEquals(threads * perThread, new HashSet<>(entries).size());
+        for (int t = 0; t < threads; t++) {
+            String prefix = t + ":";
+            List<String> own = entries.stream().filter(entry -> entry.startsWith(prefix)).toList();
+            for (int i = 0; i < perThread; i++) {
+                assertEquals(prefix + i, own.get(i));
+            }
+        }
+        journal.close();
+    }
+
+    @Test
+    void testEmptySealReturnsNothing() throws IOException {
+        SegmentedJournal journal = new SegmentedJournal(dir, false);
+
+        assertTrue(journal.seal().isEmpty());
+        journal.close();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private List<String> strings(List<byte[]> entries) {
+        return entries.stream().map(entry -> new String(entry, StandardCharsets.UTF_8)).toList();
+    }
+}
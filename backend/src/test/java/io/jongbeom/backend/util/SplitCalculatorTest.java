@@ -0,0 +1,63 @@
+package io.jongbeom.backend.util;
+
+import io.jongbeom.backend.entity.RunningSplit;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SplitCalculatorTest {
+
+    // 위도 1도 ≈ 111,195m (EARTH_RADIUS 기준)
+    private static final double METERS_PER_DEGREE = Math.toRadians(1) * GeoUtils.EARTH_RADIUS;
+
+    @Test
+    void testConstantPaceSplits() {
+        // Given: 100m 간격, 30초마다 측정 (5:00/km), 총 2.5km
+        List<List<Double>> coords = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i <= 25; i++) {
+            coords.add(List.of(127.0, 37.0 + (i * 100) / METERS_PER_DEGREE));
+            times.add(i * 30_000L);
+        }
+
+        // When
+        List<RunningSplit> splits = SplitCalculator.calculate(TimedTrack.of(coords, times));
+
+        // Then: 1km 2개 + 500m 잔여 구간
+        assertEquals(3, splits.size());
+        assertEquals(1000.0, splits.get(0).getDistance(), 0.001);
+        assertEquals(300.0, splits.get(0).getDuration(), 0.5);
+        assertEquals(300.0, splits.get(1).getDuration(), 0.5);
+        assertEquals(500.0, splits.get(2).getDistance(), 0.5);
+        assertEquals(150.0, splits.get(2).getDuration(), 0.5);
+    }
+
+    @Test
+    void testInterpolatesAcrossGpsGap() {
+        // Given: 한 세그먼트가 2.5km를 건너뜀 (GPS 공백)
+        List<List<Double>> coords = List.of(
+                List.of(127.0, 37.0),
+                List.of(127.0, 37.0 + 2500 / METERS_PER_DEGREE));
+        List<Long> times = List.of(0L, 750_000L);
+
+        // When
+        List<RunningSplit> splits = SplitCalculator.calculate(TimedTrack.of(coords, times));
+
+        // Then: 경계마다 선형 보간된 시각으로 분할
+        assertEquals(3, splits.size());
+        assertEquals(300.0, splits.get(0).getDuration(), 0.5);
+        assertEquals(300.0, splits.get(1).getDuration(), 0.5);
+        assertEquals(150.0, splits.get(2).getDuration(), 0.5);
+    }
+
+    @Test
+    void testMismatchedTimestampsRejected() {
+        List<List<Double>> coords = List.of(List.of(127.0, 37.0), List.of(127.0, 37.001));
+
+        assertNull(TimedTrack.of(coords, List.of(0L)));
+        assertNull(TimedTrack.of(coords, List.of(10L, 5L)));
+    }
+}
@@ -0,0 +1,144 @@
+package io.jongbeom.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedCounterTableTest {
+
+    @Test
+    void testDrainReturnsDeltasAndResets() {
+        // Given
+        StripedCounterTable<String> table = new StripedCounterTable<>(3);
+        table.increment("a", 0);
+        table.increment("a", 0);
+        table.increment("a", 2);
+        table.increment("b", 1);
+
+        // When
+        Map<String, long[]> first = table.drain();
+        Map<String, long[]> second = table.drain();
+
+        // Then: 두 번째 배출은 비어 있음
+        assertArrayEquals(new long[]{2, 0, 1}, first.get("a"));
+        assertArrayEquals(new long[]{0, 1, 0}, first.get("b"));
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void testRestoreAddsBackToNewIncrements() {
+        // Given: 배출 후 저장 실패
+        StripedCounterTable<String> table = new StripedCounterTable<>(2);
+        table.add("a", 0, 5);
+        Map<String, long[]> failed = table.drain();
+        table.increment("a", 0);
+
+        // When
+        table.restore(failed);
+
+        // Then
+        assertEquals(6, table.pending("a", 0));
+        assertArrayEquals(new long[]{6, 0}, table.drain().get("a"));
+    }
+
+    @Test
+    void testConcurrentIncrementsAreNotLostAcrossDrains() throws InterruptedException {
+        // Given: 4개 스레드가 증가하는 동안 계속 배출
+        StripedCounterTable<Integer> table = new StripedCounterTable<>(1);
+        int threads = 4;
+        int perThread = 100_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] drained = new long[1];
+
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                table.drain().values().forEach(values -> drained[0] += values[0]);
+            }
+        });
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    table.increment(i % 8, 0);
+                }
+            }));
+        }
+
+        // When
+        drainer.start();
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        drainer.join();
+        table.drain().values().forEach(values -> drained[0] += values[0]);
+
+        // Then
+        assertEquals((long) threads * perThread, drained[0]);
+    }
+
+    @Test
+    void testIdleKeysAreRemovedOnNextDrain() {
+        // Given
+        StripedCounterTable<String> table = new StripedCounterTable<>(2);
+        table.increment("a", 0);
+        table.increment("b", 1);
+        table.drain();
+
+        // When: "a" 만 다시 증가한 뒤 배출
+        table.increment("a", 1);
+        Map<String, long[]> deltas = table.drain();
+
+        // Then: 증가가 없던 "b" 는 제거됨
+        assertArrayEquals(new long[]{0, 1}, deltas.get("a"));
+        assertFalse(deltas.containsKey("b"));
+        assertEquals(1, table.size());
+        assertEquals(0, table.pending("b", 1));
+    }
+
+    @Test
+    void testConcurrentIncrementsAreNotLostWhileKeysAreRemoved() throws InterruptedException {
+        // Given: 키가 많고 드물게 증가해 배출마다 행이 제거 / 재생성됨
+        StripedCounterTable<Integer> table = new StripedCounterTable<>(1);
+        int threads = 4;
+        int perThread = 200_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] drained = new long[1];
+
+        Thread drainer = new Thread(() -> {
+            while (running.get()) {
+                table.drain().values().forEach(values -> drained[0] += values[0]);
+            }
+        });
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    table.increment((i * 31 + offset) % 4096, 0);
+                }
+            }));
+        }
+
+        // When
+        drainer.start();
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        drainer.join();
+        table.drain().values().forEach(values -> drained[0] += values[0]);
+
+        // Then: 유실 / 중복 없음, 남은 키도 정리됨
+        assertEquals((long) threads * perThread, drained[0]);
+        table.drain();
+        assertEquals(0, table.size());
+    }
+}
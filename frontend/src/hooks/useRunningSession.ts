@@ -338,6 +338,12 @@ export function useRunningSession(
           loc.latitude,
         ]);
 
+        // 좌표별 측정 시각 (epoch millis) - 서버에서 1km 구간 기록 계산에 사용
+        const routeTimestamps = locationHistory.map(loc => loc.timestamp);
+
+        // 좌표별 고도 (미터, 측정 불가 시 null) - 서버에 압축 저장되어 고도 차트에 사용
+        const routeAltitudes = locationHistory.map(loc => loc.altitude);
+
         // 평균 속도 계산 (m/s)
         const avgSpeed = elapsedTime > 0 ? totalDistance / elapsedTime : 0;
 
@@ -365,6 +371,8 @@ export function useRunningSession(
           avgPace,
           avgSpeed,
           routeCoordinates,
+          routeTimestamps,
+          routeAltitudes,
         });
 
         console.log('[RunningSession] 러닝 기록 저장 완료');
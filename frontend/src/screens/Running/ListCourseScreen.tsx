@@ -1,18 +1,18 @@
 import React, {useState} from 'react';
-import {View, Text, StyleSheet, ScrollView, TouchableOpacity, ActivityIndicator, Alert, Modal, TextInput} from 'react-native';
+import {View, Text, StyleSheet, ScrollView, TouchableOpacity, ActivityIndicator, Alert, Modal, TextInput, Image} from 'react-native';
 import Clipboard from '@react-native-clipboard/clipboard';
 import {useNavigation, useFocusEffect} from '@react-navigation/native';
 import type {NativeStackNavigationProp} from '@react-navigation/native-stack';
 import type {RootStackParamList} from '../../types/navigation';
 import {colors, spacing, fontSize, commonStyles, shadows, borderRadius, ADD_COURSE_ICON_PATH} from '../../styles';
 import {SVGIcon} from '../../components/common';
-import {getMyCourses, deleteCourse, geoJsonToWaypoints, createCourse, getCourseByShareCode, type CourseResponse} from '../../services/api/courseApi';
+import {getMyCourses, deleteCourse, createCourse, getCourseByShareCode, getCourseThumbnailUrl, type CourseSummary} from '../../services/api/courseApi';
 
 type ListCourseScreenNav = NativeStackNavigationProp<RootStackParamList, 'ListCourse'>;
 
 export default function ListCourseScreen() {
   const navigation = useNavigation<ListCourseScreenNav>();
-  const [courses, setCourses] = useState<CourseResponse[]>([]);
+  const [courses, setCourses] = useState<CourseSummary[]>([]);
   const [loading, setLoading] = useState(false);
   const [importModalVisible, setImportModalVisible] = useState(false);
   const [shareCodeInput, setShareCodeInput] = useState('');
@@ -193,6 +193,13 @@ export default function ListCourseScreen() {
                     </TouchableOpacity>
                   </View>
                 </View>
+                {course.thumbnailKey && (
+                  <Image
+                    source={{uri: getCourseThumbnailUrl(course.thumbnailKey)}}
+                    style={styles.courseThumbnail}
+                    resizeMode="cover"
+                  />
+                )}
                 <View style={styles.courseInfo}>
                   <View style={styles.infoItem}>
                     <Text style={styles.infoLabel}>거리</Text>
@@ -209,7 +216,7 @@ export default function ListCourseScreen() {
                   <View style={styles.infoItem}>
                     <Text style={styles.infoLabel}>경유지</Text>
                     <Text style={styles.infoValue}>
-                      {geoJsonToWaypoints(course.waypointsGeoJson).length}개
+                      {course.waypointCount}개
                     </Text>
                   </View>
                 </View>
@@ -303,6 +310,12 @@ const styles = StyleSheet.create({
     alignItems: 'center',
     marginBottom: spacing.sm,
   },
+  courseThumbnail: {
+    width: '100%',
+    height: 140,
+    borderRadius: borderRadius.md,
+    marginBottom: spacing.sm,
+  },
   courseName: {
     fontSize: fontSize.lg,
     fontWeight: '600',
@@ -29,7 +29,9 @@ import {SVGIcon} from '../../components/common';
 import KakaoMapWebView from '../../components/map/KakaoMapWebView';
 import {
   getMyCourses,
+  getCourseById,
   CourseResponse,
+  CourseSummary,
   geoJsonToWaypoints,
 } from '../../services/api/courseApi';
 import {saveData, getData, STORAGE_KEYS} from '../../services/storageService';
@@ -44,7 +46,7 @@ export default function RunningHomeScreen() {
   const [selectedCourse, setSelectedCourse] = useState<CourseResponse | null>(
     null,
   );
-  const [courses, setCourses] = useState<CourseResponse[]>([]);
+  const [courses, setCourses] = useState<CourseSummary[]>([]);
   const [isLoading, setIsLoading] = useState(false);
   const [showCourseList, setShowCourseList] = useState(false);
 
@@ -65,6 +67,17 @@ export default function RunningHomeScreen() {
     });
   };
 
+  // 선택한 코스의 전체 경로 불러오기 (목록에는 미리보기 경로만 포함됨)
+  const loadCourseDetail = async (courseId: string) => {
+    try {
+      const detail = await getCourseById(courseId);
+      setSelectedCourse(detail);
+    } catch (error) {
+      console.error('[RunningHome] 코스 상세 로드 실패:', error);
+      Alert.alert('오류', '코스 정보를 불러올 수 없습니다.');
+    }
+  };
+
   // 코스 목록 불러오기
   const loadCourses = async () => {
     setIsLoading(true);
@@ -81,14 +94,14 @@ export default function RunningHomeScreen() {
           // 삭제되었으면 첫 번째 코스를 선택 (있는 경우)
           if (data.length > 0) {
             console.log('[RunningHome] 첫 번째 코스 자동 선택:', data[0].name);
-            setSelectedCourse(data[0]);
+            await loadCourseDetail(data[0].id);
           } else {
             setSelectedCourse(null);
           }
         } else {
           // 코스 데이터 업데이트 (routeGeoJson 등이 변경되었을 수 있음)
           console.log('[RunningHome] 선택된 코스 데이터 업데이트');
-          setSelectedCourse(stillExists);
+          await loadCourseDetail(stillExists.id);
         }
       } else {
         // 선택된 코스가 없으면 저장된 최근 선택 코스 또는 첫 번째 코스를 기본 선택
@@ -99,7 +112,7 @@ export default function RunningHomeScreen() {
               const lastCourse = data.find(c => c.id === lastSelectedId);
               if (lastCourse) {
                 console.log('[RunningHome] 최근 선택 코스 복원:', lastCourse.name);
-                setSelectedCourse(lastCourse);
+                await loadCourseDetail(lastCourse.id);
                 return;
               }
               console.log('[RunningHome] 저장된 코스가 삭제됨, 첫 번째 코스 선택');
@@ -109,7 +122,7 @@ export default function RunningHomeScreen() {
           }
           // 저장된 코스가 없거나 삭제된 경우 첫 번째 코스 선택
           console.log('[RunningHome] 첫 번째 코스 기본 선택:', data[0].name);
-          setSelectedCourse(data[0]);
+          await loadCourseDetail(data[0].id);
         }
       }
     } catch (error) {
@@ -143,10 +156,10 @@ export default function RunningHomeScreen() {
   );
 
   // 코스 선택 핸들러
-  const handleSelectCourse = async (course: CourseResponse) => {
-    setSelectedCourse(course);
+  const handleSelectCourse = async (course: CourseSummary) => {
     setShowCourseList(false);
     console.log('[RunningHome] 코스 선택:', course.name);
+    await loadCourseDetail(course.id);
 
     // 선택한 코스 ID를 AsyncStorage에 저장
     try {
@@ -1,4 +1,5 @@
 import apiClient from './client';
+import {getDeviceId} from '../../utils/storage';
 
 /**
  * 회원가입 요청 타입
@@ -40,7 +41,11 @@ export interface AuthResponse {
  * 회원가입
  */
 export const signup = async (data: SignupRequest): Promise<AuthResponse> => {
-  const response = await apiClient.post<AuthResponse>('/api/auth/signup', data);
+  const deviceId = await getDeviceId();
+  const response = await apiClient.post<AuthResponse>('/api/auth/signup', {
+    ...data,
+    deviceId,
+  });
   return response.data;
 };
 
@@ -48,12 +53,17 @@ export const signup = async (data: SignupRequest): Promise<AuthResponse> => {
  * 로그인
  */
 export const login = async (data: LoginRequest): Promise<AuthResponse> => {
-  const response = await apiClient.post<AuthResponse>('/api/auth/login', data);
+  const deviceId = await getDeviceId();
+  const response = await apiClient.post<AuthResponse>('/api/auth/login', {
+    ...data,
+    deviceId,
+  });
   return response.data;
 };
 
 /**
  * Access Token 갱신
+ * Refresh Token 도 매번 새로 발급되므로 응답의 refreshToken 을 저장해야 합니다.
  */
 export const refreshAccessToken = async (
   refreshToken: string,
@@ -1,5 +1,10 @@
 import axios, {AxiosInstance, InternalAxiosRequestConfig} from 'axios';
-import {getAccessToken, getRefreshToken, setAccessToken} from '../../utils/storage';
+import {
+  getAccessToken,
+  getRefreshToken,
+  setAccessToken,
+  setRefreshToken,
+} from '../../utils/storage';
 import {Platform} from 'react-native';
 
 // API Base URL
@@ -105,10 +110,13 @@ apiClient.interceptors.response.use(
           refreshToken,
         });
 
-        const {accessToken} = response.data;
+        const {accessToken, refreshToken: rotatedRefreshToken} = response.data;
 
-        // 새로운 Access Token 저장
-        await setAccessToken(accessToken);
+        // 새로운 Access Token / Refresh Token 저장 (Refresh Token 은 갱신마다 교체됨)
+        await Promise.all([
+          setAccessToken(accessToken),
+          setRefreshToken(rotatedRefreshToken),
+        ]);
 
         // 대기 중인 요청들 처리
         processQueue(null, accessToken);
@@ -20,6 +20,18 @@ export interface CreateCourseRequest {
   duration: number;
 }
 
+/**
+ * 고도 프로필 타입 (로컬 DEM 기반)
+ */
+export interface ElevationProfile {
+  gain: number; // 누적 상승 (미터)
+  loss: number; // 누적 하강 (미터)
+  maxGrade: number; // 최대 오르막 경사도 (%)
+  interval: number; // 고도 간격 (미터)
+  elevations: number[]; // interval 간격 고도 (미터)
+  grades: number[]; // 구간별 경사도 (%)
+}
+
 /**
  * 코스 응답 타입
  */
@@ -34,6 +46,143 @@ export interface CourseResponse {
   updatedAt: string;
   isActive: boolean;
   shareCode?: string; // 공유용 코드 (영문+숫자)
+  thumbnailKey?: string; // 썸네일 콘텐츠 키, getCourseThumbnailUrl 로 변환
+  elevationProfile?: ElevationProfile; // 고도 정보가 없으면 없음
+}
+
+/**
+ * 코스 목록 항목 타입 (전체 경로 대신 미리보기 경로 포함, 상세는 getCourseById)
+ */
+export interface CourseSummary {
+  id: string;
+  name: string;
+  distance: number;
+  duration: number;
+  waypointCount: number;
+  elevationGain?: number; // 누적 상승 (미터)
+  createdAt: string;
+  updatedAt: string;
+  isActive: boolean;
+  shareCode?: string;
+  previewPolyline?: string; // Encoded Polyline (최대 64개 포인트), decodePolyline 으로 변환
+  thumbnailKey?: string; // 썸네일 콘텐츠 키, getCourseThumbnailUrl 로 변환
+}
+
+/**
+ * 주변 코스 타입 (경로 미포함)
+ */
+export interface NearbyCourse {
+  id: string;
+  name: string;
+  distance: number; // 코스 길이 (미터)
+  duration: number; // 초
+  shareCode?: string;
+  startLongitude: number;
+  startLatitude: number;
+  distanceFromHere: number; // 검색 위치에서 거리 (미터)
+  groupId: string; // 경로가 거의 같은 코스끼리 같은 값 (같은 페이지 안에서)
+}
+
+/**
+ * 코스 검색 결과 타입 (경로 미포함)
+ */
+export interface CourseSearchResult {
+  id: string;
+  name: string;
+  distance: number;
+  duration: number;
+  shareCode?: string;
+  startLongitude: number;
+  startLatitude: number;
+  distanceFromHere?: number; // 위치 없이 검색하면 없음
+}
+
+/**
+ * 코스 검색 페이지 응답 타입
+ */
+export interface CourseSearchPage {
+  courses: CourseSearchResult[];
+  nextCursor?: string; // 마지막 페이지면 없음
+}
+
+/**
+ * 인기 코스 타입 (경로 미포함, 카운트는 서버 저장 주기만큼 늦을 수 있음)
+ */
+export interface PopularCourse {
+  id: string;
+  name: string;
+  distance: number;
+  duration: number;
+  shareCode?: string;
+  thumbnailKey?: string;
+  viewCount: number;
+  shareOpenCount: number;
+  runCount: number;
+}
+
+/**
+ * 유사 코스 타입 (경로는 shareCode로 getCourseByShareCode 사용)
+ */
+export interface SimilarCourse {
+  id: string;
+  name: string;
+  distance: number;
+  duration: number;
+  shareCode?: string;
+  similarity: number; // 추정 경로 유사도 (0~1)
+}
+
+/**
+ * 주변 코스 페이지 응답 타입
+ */
+export interface NearbyCoursePage {
+  courses: NearbyCourse[];
+  nextCursor?: string; // 마지막 페이지면 없음
+}
+
+/**
+ * 주변 코스 검색 조건
+ */
+export interface NearbyCourseQuery {
+  lat: number;
+  lng: number;
+  radius?: number; // 미터 (기본 5000, 최대 50000)
+  minLength?: number; // 미터
+  maxLength?: number; // 미터
+  match?: 'START' | 'ROUTE';
+  cursor?: string;
+  size?: number;
+}
+
+/**
+ * 지도 화면 코스 마커 타입
+ */
+export interface CourseMarker {
+  id: string;
+  startLongitude: number;
+  startLatitude: number;
+  distance: number; // 코스 길이 (미터)
+}
+
+/**
+ * 코스 리더보드 항목 타입
+ */
+export interface LeaderboardEntry {
+  rank: number; // 1부터 시작
+  name: string;
+  duration: number; // 초
+  recordId: number | null; // 내 항목(myEntry)에만 포함
+  achievedAt: string;
+}
+
+/**
+ * 코스 리더보드 응답 타입
+ */
+export interface CourseLeaderboardResponse {
+  courseId: string;
+  totalRunners: number;
+  entries: LeaderboardEntry[];
+  myEntry?: LeaderboardEntry; // 내 기록이 없으면 없음
 }
 
 /**
@@ -70,6 +219,47 @@ export const geoJsonToWaypoints = (geoJson: string): Waypoint[] => {
   }));
 };
 
+/**
+ * Encoded Polyline을 GeoJSON 좌표 배열([경도, 위도])로 변환
+ */
+export const decodePolyline = (encoded: string): number[][] => {
+  const coordinates: number[][] = [];
+  let index = 0;
+  let lat = 0;
+  let lng = 0;
+
+  const next = () => {
+    let result = 0;
+    let shift = 0;
+    let b;
+    do {
+      b = encoded.charCodeAt(index++) - 63;
+      result |= (b & 0x1f) << shift;
+      shift += 5;
+    } while (b >= 0x20);
+    return result & 1 ? ~(result >> 1) : result >> 1;
+  };
+
+  while (index < encoded.length) {
+    lat += next();
+    lng += next();
+    coordinates.push([lng / 1e5, lat / 1e5]);
+  }
+  return coordinates;
+};
+
+/**
+ * 코스 썸네일 이미지 URL (인증 불필요, 내용이 바뀌지 않으므로 이미지 캐시 사용 가능)
+ */
+export const getCourseThumbnailUrl = (thumbnailKey: string): string =>
+  `${apiClient.defaults.baseURL}/api/courses/thumbnails/${thumbnailKey}.png`;
+
+/**
+ * 코스 벡터 타일 URL 템플릿 (Mapbox Vector Tile, 레이어 "courses", 줌 8~18, 인증 헤더 필요)
+ */
+export const getCourseTileUrlTemplate = (): string =>
+  `${apiClient.defaults.baseURL}/tiles/courses/{z}/{x}/{y}.mvt`;
+
 /**
  * 코스 생성
  */
@@ -86,8 +276,8 @@ export const createCourse = async (
 /**
  * 내 코스 목록 조회
  */
-export const getMyCourses = async (): Promise<CourseResponse[]> => {
-  const response = await apiClient.get<CourseResponse[]>('/api/courses');
+export const getMyCourses = async (): Promise<CourseSummary[]> => {
+  const response = await apiClient.get<CourseSummary[]>('/api/courses');
   return response.data;
 };
 
@@ -103,6 +293,107 @@ export const getCourseById = async (
   return response.data;
 };
 
+/**
+ * 주변 코스 검색 (가까운 순)
+ */
+export const getNearbyCourses = async (
+  query: NearbyCourseQuery,
+): Promise<NearbyCoursePage> => {
+  const response = await apiClient.get<NearbyCoursePage>(
+    '/api/courses/nearby',
+    { params: query },
+  );
+  return response.data;
+};
+
+/**
+ * 지도 화면 범위 코스 조회
+ */
+export const getCoursesInViewport = async (params: {
+  west: number;
+  south: number;
+  east: number;
+  north: number;
+  mode?: 'START' | 'BBOX';
+  minLength?: number;
+  maxLength?: number;
+  limit?: number;
+}): Promise<CourseMarker[]> => {
+  const response = await apiClient.get<CourseMarker[]>(
+    '/api/courses/viewport',
+    { params },
+  );
+  return response.data;
+};
+
+/**
+ * 코스 이름 검색 (유사도 순, lat/lng 지정 시 반경 안에서 가까울수록 우선)
+ */
+export const searchCourses = async (params: {
+  q: string;
+  lat?: number;
+  lng?: number;
+  radius?: number; // 미터, 기본 5000
+  cursor?: string;
+  size?: number;
+}): Promise<CourseSearchPage> => {
+  const response = await apiClient.get<CourseSearchPage>(
+    '/api/courses/search',
+    {params},
+  );
+  return response.data;
+};
+
+/**
+ * 인기 코스 조회 (러닝 횟수 → 공유 열람 수 → 조회 수 순)
+ */
+export const getPopularCourses = async (limit = 20): Promise<PopularCourse[]> => {
+  const response = await apiClient.get<PopularCourse[]>(
+    '/api/courses/popular',
+    {params: {limit}},
+  );
+  return response.data;
+};
+
+/**
+ * 내 코스와 경로가 거의 같은 코스 조회
+ */
+export const getSimilarCourses = async (
+  courseId: string,
+): Promise<SimilarCourse[]> => {
+  const response = await apiClient.get<SimilarCourse[]>(
+    `/api/courses/${courseId}/similar`,
+  );
+  return response.data;
+};
+
+/**
+ * 경로와 거의 같은 기존 코스 조회 (저장 / 경로 탐색 전 중복 확인)
+ */
+export const findSimilarCourses = async (
+  routeGeoJson: string,
+): Promise<SimilarCourse[]> => {
+  const response = await apiClient.post<SimilarCourse[]>(
+    '/api/courses/similar',
+    {routeGeoJson},
+  );
+  return response.data;
+};
+
+/**
+ * 코스 리더보드 조회
+ */
+export const getCourseLeaderboard = async (
+  courseId: string,
+  limit = 10,
+): Promise<CourseLeaderboardResponse> => {
+  const response = await apiClient.get<CourseLeaderboardResponse>(
+    `/api/courses/${courseId}/leaderboard`,
+    { params: { limit } },
+  );
+  return response.data;
+};
+
 /**
  * 코스 삭제
  */
@@ -1,4 +1,5 @@
 import apiClient from './client';
+import type {ElevationProfile} from './courseApi';
 
 /**
  * 러닝 기록 요청 타입
@@ -12,6 +13,10 @@ export interface RunningRecordRequest {
   avgPace: number; // 초/km
   avgSpeed: number; // m/s
   routeCoordinates: number[][]; // [[lng, lat], ...]
+  routeTimestamps?: number[]; // 좌표별 측정 시각 (epoch millis)
+  routeAltitudes?: (number | null)[]; // 좌표별 고도 (미터)
+  routeHeartRates?: (number | null)[]; // 좌표별 심박수 (bpm)
+  routeCadences?: (number | null)[]; // 좌표별 케이던스 (spm)
   memo?: string;
   weather?: string;
   calories?: number;
@@ -37,6 +42,49 @@ export interface RunningRecordResponse {
   weather?: string;
   calories?: number;
   avgHeartRate?: number;
+  splits?: RunningSplit[]; // 상세 조회 시에만 포함
+  courseCoverage?: number; // 코스 커버율 (%)
+  courseMaxDeviation?: number; // 코스 최대 이탈 거리 (미터)
+  offRouteIntervals?: OffRouteInterval[]; // 상세 조회 시에만 포함
+  elevationGain?: number; // 누적 상승 (미터)
+  elevationLoss?: number; // 누적 하강 (미터)
+  elevationProfile?: ElevationProfile; // 상세 조회 시에만 포함
+}
+
+/**
+ * 코스 이탈 구간 타입
+ */
+export interface OffRouteInterval {
+  startDistance: number; // 이탈 시작 지점까지 거리 (미터)
+  endDistance: number; // 복귀 지점까지 거리 (미터)
+  startOffset?: number; // 러닝 시작 기준 초
+  endOffset?: number;
+  maxDeviation: number; // 미터
+}
+
+/**
+ * 1km 구간 기록 타입
+ */
+export interface RunningSplit {
+  kilometer: number; // 구간 번호 (1부터)
+  distance: number; // 미터
+  duration: number; // 초
+  pace: number; // 초/km
+}
+
+/**
+ * 러닝 기록 샘플 (차트용 시계열) 타입
+ */
+export interface RunningRecordSamples {
+  recordId: number;
+  totalPoints: number;
+  from: number;
+  step: number;
+  startTimestamp: number; // epoch millis
+  elapsed: number[]; // 밀리초
+  altitudes?: number[]; // 미터
+  heartRates?: number[]; // bpm
+  cadences?: number[]; // spm
 }
 
 /**
@@ -48,6 +96,16 @@ export interface RunningStatistics {
   totalCount: number; // 총 러닝 횟수
 }
 
+/**
+ * 러닝 기록 비동기 저장 상태 타입
+ */
+export interface RunningRecordIngestResponse {
+  handle: string; // UUID
+  status: 'QUEUED' | 'SAVED' | 'FAILED';
+  recordId?: number; // SAVED 인 경우
+  error?: string; // FAILED 인 경우
+}
+
 /**
  * 러닝 기록 저장
  */
@@ -62,6 +120,33 @@ export const createRunningRecord = async (
   return response.data;
 };
 
+/**
+ * 러닝 기록 비동기 저장 (접수 후 핸들 반환)
+ */
+export const createRunningRecordAsync = async (
+  request: RunningRecordRequest,
+): Promise<RunningRecordIngestResponse> => {
+  const response = await apiClient.post<RunningRecordIngestResponse>(
+    '/api/running-records/async',
+    request,
+  );
+
+  return response.data;
+};
+
+/**
+ * 러닝 기록 비동기 저장 상태 조회
+ */
+export const getRunningRecordIngestStatus = async (
+  handle: string,
+): Promise<RunningRecordIngestResponse> => {
+  const response = await apiClient.get<RunningRecordIngestResponse>(
+    `/api/running-records/async/${handle}`,
+  );
+
+  return response.data;
+};
+
 /**
  * 내 러닝 기록 목록 조회
  */
@@ -88,6 +173,21 @@ export const getRunningRecordById = async (
   return response.data;
 };
 
+/**
+ * 러닝 기록 샘플 조회 (maxPoints 이하로 다운샘플링)
+ */
+export const getRunningRecordSamples = async (
+  id: number,
+  maxPoints: number = 500,
+): Promise<RunningRecordSamples> => {
+  const response = await apiClient.get<RunningRecordSamples>(
+    `/api/running-records/${id}/samples`,
+    {params: {maxPoints}},
+  );
+
+  return response.data;
+};
+
 /**
  * 러닝 기록 삭제
  */
@@ -5,6 +5,7 @@ const STORAGE_KEYS = {
   ACCESS_TOKEN: '@runrun_access_token',
   REFRESH_TOKEN: '@runrun_refresh_token',
   USER_PROFILE: '@runrun_user_profile',
+  DEVICE_ID: '@runrun_device_id',
 };
 
 /**
@@ -55,6 +56,27 @@ export const getRefreshToken = async (): Promise<string | null> => {
   }
 };
 
+/**
+ * 기기 ID 조회 (없으면 생성, 로그아웃해도 유지)
+ * 서버는 기기마다 Refresh Token 세션을 따로 관리합니다.
+ */
+export const getDeviceId = async (): Promise<string | undefined> => {
+  try {
+    const stored = await AsyncStorage.getItem(STORAGE_KEYS.DEVICE_ID);
+    if (stored) {
+      return stored;
+    }
+    const deviceId = `${Date.now().toString(36)}-${Math.random()
+      .toString(36)
+      .slice(2, 12)}`;
+    await AsyncStorage.setItem(STORAGE_KEYS.DEVICE_ID, deviceId);
+    return deviceId;
+  } catch (error) {
+    console.error('[Storage] 기기 ID 조회 실패:', error);
+    return undefined;
+  }
+};
+
 /**
  * 사용자 프로필 저장
  */